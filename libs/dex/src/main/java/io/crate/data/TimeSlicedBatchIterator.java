@@ -0,0 +1,162 @@
+/*
+ * Licensed to Crate.io GmbH ("Crate") under one or more contributor
+ * license agreements.  See the NOTICE file distributed with this work for
+ * additional information regarding copyright ownership.  Crate licenses
+ * this file to you under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.  You may
+ * obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * However, if you have executed another commercial license agreement
+ * with Crate these terms will supersede the license and you may use the
+ * software solely pursuant to the terms of the relevant commercial agreement.
+ */
+
+
+package io.crate.data;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.LongSupplier;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.VisibleForTesting;
+
+/**
+ * A BatchIterator which makes its consumer yield the thread once it consumed rows for longer than a time slice.
+ *
+ * <p>
+ * After the time slice elapsed, {@link #moveNext()} returns false and {@link #allLoaded()} false, as if the
+ * end of a batch was reached. {@link #loadNextBatch()} then submits the continuation to the executor, so that
+ * other tasks waiting for the executor can run before the consumer resumes.
+ * </p>
+ *
+ * <p>
+ * If the executor rejects the continuation, the consumer resumes on the current thread.
+ * </p>
+ */
+public final class TimeSlicedBatchIterator<T> extends ForwardingBatchIterator<T> {
+
+    /**
+     * Number of rows between two reads of the clock
+     */
+    private static final int CHECK_INTERVAL = 256;
+
+    private final BatchIterator<T> delegate;
+    private final Executor executor;
+    private final long timeSliceNanos;
+    private final LongSupplier nanoClock;
+    private final int checkInterval;
+
+    private boolean sliceStarted = false;
+    private long sliceStart;
+    private int rowsUntilCheck;
+    private boolean yielded = false;
+    private volatile boolean stopped = false;
+
+    /**
+     * @param timeSliceNanos the time slice; the iterator is returned as is if it's 0 or less
+     */
+    public static <T> BatchIterator<T> wrap(BatchIterator<T> delegate, Executor executor, long timeSliceNanos) {
+        if (timeSliceNanos <= 0) {
+            return delegate;
+        }
+        return new TimeSlicedBatchIterator<>(delegate, executor, timeSliceNanos, System::nanoTime, CHECK_INTERVAL);
+    }
+
+    @VisibleForTesting
+    TimeSlicedBatchIterator(BatchIterator<T> delegate,
+                            Executor executor,
+                            long timeSliceNanos,
+                            LongSupplier nanoClock,
+                            int checkInterval) {
+        this.delegate = delegate;
+        this.executor = executor;
+        this.timeSliceNanos = timeSliceNanos;
+        this.nanoClock = nanoClock;
+        this.checkInterval = checkInterval;
+        this.rowsUntilCheck = checkInterval;
+    }
+
+    @Override
+    protected BatchIterator<T> delegate() {
+        return delegate;
+    }
+
+    @Override
+    public boolean moveNext() {
+        if (yielded) {
+            return false;
+        }
+        // Once closed or killed the delegate must raise the failure
+        if (stopped == false && --rowsUntilCheck <= 0) {
+            rowsUntilCheck = checkInterval;
+            long now = nanoClock.getAsLong();
+            if (sliceStarted == false) {
+                sliceStarted = true;
+                sliceStart = now;
+            } else if (now - sliceStart >= timeSliceNanos) {
+                yielded = true;
+                return false;
+            }
+        }
+        return delegate.moveNext();
+    }
+
+    @Override
+    public void moveToStart() {
+        yielded = false;
+        delegate.moveToStart();
+    }
+
+    @Override
+    public boolean allLoaded() {
+        return yielded == false && delegate.allLoaded();
+    }
+
+    @Override
+    public CompletionStage<?> loadNextBatch() throws Exception {
+        if (yielded == false) {
+            return delegate.loadNextBatch();
+        }
+        CompletableFuture<Void> resumed = new CompletableFuture<>();
+        try {
+            executor.execute(() -> {
+                resume();
+                resumed.complete(null);
+            });
+        } catch (RejectedExecutionException e) {
+            resume();
+            resumed.complete(null);
+        }
+        return resumed;
+    }
+
+    private void resume() {
+        yielded = false;
+        sliceStarted = true;
+        sliceStart = nanoClock.getAsLong();
+    }
+
+    @Override
+    public void close() {
+        stopped = true;
+        yielded = false;
+        delegate.close();
+    }
+
+    @Override
+    public void kill(@NotNull Throwable throwable) {
+        stopped = true;
+        delegate.kill(throwable);
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ * Licensed to Crate.io GmbH ("Crate") under one or more contributor
+ * license agreements.  See the NOTICE file distributed with this work for
+ * additional information regarding copyright ownership.  Crate licenses
+ * this file to you under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.  You may
+ * obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * However, if you have executed another commercial license agreement
+ * with Crate these terms will supersede the license and you may use the
+ * software solely pursuant to the terms of the relevant commercial agreement.
+ */
+
+
+package io.crate.data;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.crate.data.testing.BatchIteratorTester;
+import io.crate.data.testing.BatchIteratorTester.ResultOrder;
+import io.crate.data.testing.BatchSimulatingIterator;
+import io.crate.data.testing.TestingBatchIterators;
+
+class TimeSlicedBatchIteratorTest {
+
+    private static final List<Object[]> EXPECTED_RESULT = IntStream.range(0, 10)
+        .mapToObj(l -> new Object[] {l}).collect(Collectors.toList());
+
+    private ExecutorService executor;
+
+    @BeforeEach
+    public void setUp() {
+        executor = Executors.newFixedThreadPool(2);
+    }
+
+    @AfterEach
+    public void tearDown() throws Exception {
+        executor.shutdown();
+        executor.awaitTermination(5, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Every clock read advances the clock by 1ns, so with a time slice of 1ns the iterator yields on every check
+     */
+    private static <T> BatchIterator<T> yieldingIterator(BatchIterator<T> source,
+                                                         Executor executor,
+                                                         int checkInterval) {
+        AtomicLong clock = new AtomicLong();
+        return new TimeSlicedBatchIterator<>(source, executor, 1, clock::incrementAndGet, checkInterval);
+    }
+
+    @Test
+    void test_time_sliced_batch_iterator() throws Exception {
+        var tester = BatchIteratorTester.forRows(
+            () -> yieldingIterator(TestingBatchIterators.range(0, 10), executor, 2),
+            ResultOrder.EXACT
+        );
+        tester.verifyResultAndEdgeCaseBehaviour(EXPECTED_RESULT);
+    }
+
+    @Test
+    void test_time_sliced_batch_iterator_with_batched_source() throws Exception {
+        var tester = BatchIteratorTester.forRows(
+            () -> yieldingIterator(
+                new BatchSimulatingIterator<>(TestingBatchIterators.range(0, 10), 3, 4, executor),
+                executor,
+                2
+            ),
+            ResultOrder.EXACT
+        );
+        tester.verifyResultAndEdgeCaseBehaviour(EXPECTED_RESULT);
+    }
+
+    @Test
+    void test_yields_to_executor_once_time_slice_elapsed() throws Exception {
+        AtomicInteger submitted = new AtomicInteger();
+        BatchIterator<Row> it = yieldingIterator(
+            TestingBatchIterators.range(0, 10),
+            runnable -> {
+                submitted.incrementAndGet();
+                executor.execute(runnable);
+            },
+            3
+        );
+        List<Object[]> result = it.map(Row::materialize).toList().get(5, TimeUnit.SECONDS);
+        assertThat(result).containsExactlyElementsOf(EXPECTED_RESULT);
+        assertThat(submitted.get()).isEqualTo(3);
+    }
+
+    @Test
+    void test_resumes_on_current_thread_if_executor_rejects() throws Exception {
+        BatchIterator<Row> it = yieldingIterator(
+            TestingBatchIterators.range(0, 10),
+            runnable -> {
+                throw new RejectedExecutionException("rejected");
+            },
+            1
+        );
+        List<Object[]> result = it.map(Row::materialize).toList().get(5, TimeUnit.SECONDS);
+        assertThat(result).containsExactlyElementsOf(EXPECTED_RESULT);
+    }
+
+    @Test
+    void test_zero_time_slice_returns_source() {
+        BatchIterator<Row> source = TestingBatchIterators.range(0, 10);
+        assertThat(TimeSlicedBatchIterator.wrap(source, executor, 0)).isSameAs(source);
+    }
+}
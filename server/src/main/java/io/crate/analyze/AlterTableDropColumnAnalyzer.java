@@ -31,6 +31,7 @@ import io.crate.analyze.expressions.ExpressionAnalyzer;
 import io.crate.analyze.relations.DocTableRelation;
 import io.crate.analyze.relations.NameFieldProvider;
 import io.crate.exceptions.ColumnUnknownException;
+import io.crate.execution.engine.sort.IndexSort;
 import io.crate.metadata.ColumnIdent;
 import io.crate.metadata.CoordinatorTxnCtx;
 import io.crate.metadata.IndexReference;
@@ -131,6 +132,10 @@ public class AlterTableDropColumnAnalyzer {
                 throw new UnsupportedOperationException("Dropping column: " + colToDrop.sqlFqn() + " which " +
                                                         "is part of the 'PARTITIONED BY' columns is not allowed");
             }
+            if (IndexSort.usesColumn(tableInfo.parameters(), colToDrop)) {
+                throw new UnsupportedOperationException("Dropping column: " + colToDrop.sqlFqn() + " which " +
+                                                        "is used in 'sort_by' is not allowed");
+            }
         }
     }
 }
@@ -31,6 +31,7 @@ import org.jetbrains.annotations.Nullable;
 import io.crate.analyze.expressions.ExpressionAnalysisContext;
 import io.crate.analyze.expressions.ExpressionAnalyzer;
 import io.crate.analyze.relations.FieldProvider;
+import io.crate.execution.engine.sort.IndexSort;
 import io.crate.expression.symbol.DynamicReference;
 import io.crate.metadata.ColumnIdent;
 import io.crate.metadata.CoordinatorTxnCtx;
@@ -105,6 +106,10 @@ public class AlterTableRenameColumnAnalyzer {
                     targetCol.getParent()));
         }
 
+        if (IndexSort.usesColumn(tableInfo.parameters(), sourceCol)) {
+            throw new UnsupportedOperationException(
+                "Renaming column: " + sourceCol.sqlFqn() + " which is used in 'sort_by' is not allowed");
+        }
         tableInfo.renameColumn(sourceRef, targetCol);
         return new AnalyzedAlterTableRenameColumn(tableInfo.ident(), sourceRef, targetCol);
     }
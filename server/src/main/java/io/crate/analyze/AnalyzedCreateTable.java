@@ -37,6 +37,7 @@ import org.elasticsearch.common.settings.Settings;
 import io.crate.analyze.TableElementsAnalyzer.RefBuilder;
 import io.crate.common.collections.Lists;
 import io.crate.data.Row;
+import io.crate.execution.engine.sort.IndexSort;
 import io.crate.expression.symbol.Symbol;
 import io.crate.metadata.ColumnIdent;
 import io.crate.metadata.FulltextAnalyzerResolver;
@@ -145,6 +146,10 @@ public record AnalyzedCreateTable(
 
         TableProperties.analyze(
             builder, TableParameters.TABLE_CREATE_PARAMETER_INFO, properties.map(toValue));
+        String sortBy = builder.get(IndexSort.SORT_BY.getKey());
+        if (sortBy != null) {
+            IndexSort.validate(sortBy, references::get);
+        }
 
         Optional<ColumnIdent> optClusteredBy = clusteredBy
             .flatMap(ClusteredBy::column)
@@ -28,6 +28,7 @@ import java.util.List;
 import java.util.Locale;
 
 import org.elasticsearch.common.settings.Setting;
+import org.elasticsearch.common.unit.ByteSizeValue;
 
 import com.fasterxml.jackson.dataformat.csv.CsvSchema;
 
@@ -77,7 +78,7 @@ public final class CopyStatementSettings {
 
     public static final Setting<String> OUTPUT_FORMAT_SETTING = Setting.simpleString(
         "format",
-        Validators.stringValidator("format", "json_object", "json_array"),
+        Validators.stringValidator("format", "json_object", "json_array", "csv"),
         Setting.Property.Dynamic);
 
     public static final Setting<String> INPUT_FORMAT_SETTING = new Setting<>(
@@ -100,6 +101,15 @@ public final class CopyStatementSettings {
 
     public static final Setting<Long> SKIP_NUM_LINES = Setting.longSetting("skip", 0, 0, Setting.Property.Dynamic);
 
+    /**
+     * Size of the byte ranges in which files on shared storage are split across readers.
+     * 0 disables splitting: each file is read as a whole by one reader.
+     */
+    public static final Setting<ByteSizeValue> SPLIT_SIZE_SETTING = Setting.byteSizeSetting(
+        "split_size",
+        ByteSizeValue.ZERO,
+        Setting.Property.Dynamic);
+
     public static final Setting<Character> CSV_COLUMN_SEPARATOR = new Setting<>(
         "delimiter",
         String.valueOf(CsvSchema.DEFAULT_COLUMN_SEPARATOR),
@@ -124,7 +134,9 @@ public final class CopyStatementSettings {
     public static final List<String> COMMON_COPY_TO_SETTINGS = List.of(
         COMPRESSION_SETTING.getKey(),
         OUTPUT_FORMAT_SETTING.getKey(),
-        WAIT_FOR_COMPLETION_SETTING.getKey()
+        WAIT_FOR_COMPLETION_SETTING.getKey(),
+        INPUT_HEADER_SETTINGS.getKey(),
+        CSV_COLUMN_SEPARATOR.getKey()
     );
 
     public static final List<String> COMMON_COPY_FROM_SETTINGS = List.of(
@@ -135,6 +147,7 @@ public final class CopyStatementSettings {
         FAIL_FAST_SETTING.getKey(),
         SHARED_SETTING.getKey(),
         NUM_READERS_SETTING.getKey(),
+        SPLIT_SIZE_SETTING.getKey(),
         BULK_SIZE_SETTING.getKey(),
         NodeFilters.NAME,
         // Settings below are ignored
@@ -37,13 +37,17 @@ import io.crate.expression.operator.GteOperator;
 import io.crate.expression.operator.LtOperator;
 import io.crate.expression.operator.LteOperator;
 import io.crate.expression.operator.Operators;
+import io.crate.expression.operator.any.AnyEqOperator;
 import io.crate.expression.scalar.DateBinFunction;
 import io.crate.expression.scalar.DateTruncFunction;
+import io.crate.expression.scalar.arithmetic.ArithmeticFunctions;
+import io.crate.expression.scalar.arithmetic.ArrayFunction;
 import io.crate.expression.scalar.arithmetic.CeilFunction;
 import io.crate.expression.scalar.arithmetic.FloorFunction;
 import io.crate.expression.scalar.arithmetic.RoundFunction;
 import io.crate.expression.symbol.Function;
 import io.crate.expression.symbol.FunctionCopyVisitor;
+import io.crate.expression.symbol.Literal;
 import io.crate.expression.symbol.RefReplacer;
 import io.crate.expression.symbol.Symbol;
 import io.crate.expression.symbol.SymbolType;
@@ -84,7 +88,14 @@ public final class GeneratedColumnExpander {
      *
      *     input:   ts > $1
      *     output:  ts > $1 and day > date_trunc('day', ts)
+     *
+     *     input:   ts = ANY([$1, $2])
+     *     output:  ts = ANY([$1, $2]) and day = ANY([date_trunc('day', $1), date_trunc('day', $2)])
      * </pre>
+     *
+     * Comparisons within {@code OR} are expanded individually, so that multi-range filters still allow to prune
+     * partitions. Besides scalars with the {@link Scalar.Feature#COMPARISON_REPLACEMENT} feature, range comparisons
+     * are also expanded for a division of the source column by a positive constant, e.g. {@code bucket AS x / 10}.
      */
     public static Symbol maybeExpand(Symbol symbol,
                                      List<GeneratedReference> generatedCols,
@@ -143,10 +154,65 @@ public final class GeneratedColumnExpander {
                     && !otherSide.any(s -> s instanceof GeneratedReference)) {
                     return addComparison(function, reference, otherSide, context);
                 }
+            } else if (function.name().equals(AnyEqOperator.NAME)) {
+                Symbol left = function.arguments().get(0).uncast();
+                Symbol right = function.arguments().get(1);
+                if (left instanceof Reference reference
+                    && right instanceof Literal<?> literal
+                    && literal.value() != null) {
+                    return addAnyEqComparison(function, reference, literal, context);
+                }
             }
             return super.visitFunction(function, context);
         }
 
+        private Symbol addAnyEqComparison(Function function,
+                                          Reference reference,
+                                          Literal<?> comparedAgainst,
+                                          Context context) {
+            ArrayList<GeneratedReference> genColInfos = context.referencedRefsToGeneratedColumn.get(reference);
+            if (genColInfos == null) {
+                return function;
+            }
+            var values = Literal.explodeCollection(comparedAgainst);
+            if (values.isEmpty()) {
+                return function;
+            }
+            List<Function> comparisonsToAdd = new ArrayList<>(genColInfos.size() + 1);
+            comparisonsToAdd.add(function);
+            for (GeneratedReference genColInfo : genColInfos) {
+                if (!(genColInfo.generatedExpression().uncast() instanceof Function)) {
+                    // See createAdditionalComparison
+                    continue;
+                }
+                // x = ANY([a, b]) implies f(x) = ANY([f(a), f(b)]) for any deterministic f
+                List<Symbol> wrappedValues = new ArrayList<>(values.size());
+                for (Literal<?> value : values) {
+                    wrappedValues.add(wrapInGenerationExpression(value, genColInfo).cast(genColInfo.valueType()));
+                }
+                var arrayImpl = context.nodeCtx.functions().get(
+                    null,
+                    ArrayFunction.NAME,
+                    wrappedValues,
+                    SearchPath.pathWithPGCatalogAndDoc()
+                );
+                Function array = new Function(
+                    arrayImpl.signature(),
+                    wrappedValues,
+                    arrayImpl.boundSignature().returnType()
+                );
+                List<Symbol> anyArgs = List.of(genColInfo, array);
+                var anyImpl = context.nodeCtx.functions().get(
+                    null,
+                    AnyEqOperator.NAME,
+                    anyArgs,
+                    SearchPath.pathWithPGCatalogAndDoc()
+                );
+                comparisonsToAdd.add(new Function(anyImpl.signature(), anyArgs, anyImpl.boundSignature().returnType()));
+            }
+            return AndOperator.join(comparisonsToAdd);
+        }
+
 
         private Symbol addComparison(Function function, Reference reference, Symbol comparedAgainst, Context context) {
             ArrayList<GeneratedReference> genColInfos = context.referencedRefsToGeneratedColumn
@@ -190,11 +256,14 @@ public final class GeneratedColumnExpander {
 
                 String operatorName = function.name();
                 if (!operatorName.equals(EqOperator.NAME)) {
-                    if (!generatedFunction.signature().hasFeature(Scalar.Feature.COMPARISON_REPLACEMENT)) {
+                    boolean isDivisionByPositiveConstant = isDivisionByPositiveConstant(generatedFunction);
+                    if (!generatedFunction.signature().hasFeature(Scalar.Feature.COMPARISON_REPLACEMENT)
+                        && !isDivisionByPositiveConstant) {
                         return null;
                     }
                     // rewrite operator
-                    if (ROUNDING_FUNCTIONS.contains(generatedFunction.name())) {
+                    // Integral division truncates; for other types >= is weaker than > but still correct
+                    if (ROUNDING_FUNCTIONS.contains(generatedFunction.name()) || isDivisionByPositiveConstant) {
                         String replacedOperatorName = ROUNDING_FUNCTION_MAPPING.get(operatorName);
                         if (replacedOperatorName != null) {
                             operatorName = replacedOperatorName;
@@ -218,6 +287,21 @@ public final class GeneratedColumnExpander {
             return null;
         }
 
+        /**
+         * {@code x / c} with a positive constant {@code c} is monotonic increasing in {@code x}.
+         * On integral types the division truncates, so it is treated like a rounding function.
+         */
+        private static boolean isDivisionByPositiveConstant(Function function) {
+            if (!function.name().equals(ArithmeticFunctions.Names.DIVIDE)) {
+                return false;
+            }
+            List<Symbol> args = function.arguments();
+            return args.get(0).uncast() instanceof Reference
+                && args.get(1) instanceof Literal<?> divisor
+                && divisor.value() instanceof Number number
+                && number.doubleValue() > 0;
+        }
+
         private Symbol wrapInGenerationExpression(Symbol wrapMeLikeItsHot, GeneratedReference generatedReference) {
             ReplaceIfMatch replaceIfMatch = new ReplaceIfMatch(
                 wrapMeLikeItsHot,
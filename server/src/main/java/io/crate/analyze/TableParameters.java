@@ -38,6 +38,7 @@ import org.elasticsearch.index.IndexModule;
 import org.elasticsearch.index.IndexService;
 import org.elasticsearch.index.IndexSettings;
 import org.elasticsearch.index.MergeSchedulerConfig;
+import org.elasticsearch.index.codec.CrateCodec;
 import org.elasticsearch.index.engine.EngineConfig;
 import org.elasticsearch.index.store.Store;
 
@@ -46,6 +47,7 @@ import io.crate.common.annotations.Immutable;
 import io.crate.common.annotations.ThreadSafe;
 import io.crate.common.collections.Lists;
 import io.crate.common.collections.MapBuilder;
+import io.crate.execution.engine.sort.IndexSort;
 import io.crate.metadata.doc.DocTableInfo;
 import io.crate.metadata.settings.NumberOfReplicas;
 import io.crate.metadata.settings.Validators;
@@ -107,6 +109,8 @@ public class TableParameters {
             EnableAllocationDecider.INDEX_ROUTING_ALLOCATION_ENABLE_SETTING,
             IndexSettings.INDEX_TRANSLOG_SYNC_INTERVAL_SETTING,
             IndexSettings.INDEX_TRANSLOG_DURABILITY_SETTING,
+            IndexSettings.INDEX_TRANSLOG_FORMAT_SETTING,
+            IndexSettings.INDEX_LAZY_OPEN_SETTING,
             ShardsLimitAllocationDecider.INDEX_TOTAL_SHARDS_PER_NODE_SETTING,
             DocTableInfo.TOTAL_COLUMNS_LIMIT,
             UnassignedInfo.INDEX_DELAYED_NODE_LEFT_TIMEOUT_SETTING,
@@ -119,6 +123,10 @@ public class TableParameters {
             IndexMetadata.INDEX_ROUTING_INCLUDE_GROUP_SETTING,
             IndexMetadata.INDEX_ROUTING_EXCLUDE_GROUP_SETTING,
             EngineConfig.INDEX_CODEC_SETTING,
+            CrateCodec.INDEX_VECTOR_HNSW_M_SETTING,
+            CrateCodec.INDEX_VECTOR_HNSW_EF_CONSTRUCTION_SETTING,
+            CrateCodec.INDEX_VECTOR_QUANTIZATION_SETTING,
+            IndexSort.SORT_BY,
             IndexModule.INDEX_STORE_TYPE_SETTING,
             MergeSchedulerConfig.MAX_THREAD_COUNT_SETTING,
             IndexSettings.INDEX_SOFT_DELETES_RETENTION_LEASE_PERIOD_SETTING,
@@ -23,6 +23,7 @@ package io.crate.analyze.repositories;
 
 import io.crate.sql.tree.GenericProperties;
 import org.elasticsearch.common.settings.Setting;
+import org.elasticsearch.repositories.blobstore.BlobStoreRepository;
 import org.elasticsearch.common.unit.ByteSizeUnit;
 import org.elasticsearch.common.unit.ByteSizeValue;
 
@@ -38,7 +39,8 @@ public class TypeSettings {
         "max_restore_bytes_per_sec", Setting.byteSizeSetting(
             "max_restore_bytes_per_sec", new ByteSizeValue(40, ByteSizeUnit.MB), Setting.Property.NodeScope),
         "max_snapshot_bytes_per_sec", Setting.byteSizeSetting(
-            "max_snapshot_bytes_per_sec", new ByteSizeValue(40, ByteSizeUnit.MB), Setting.Property.NodeScope)
+            "max_snapshot_bytes_per_sec", new ByteSizeValue(40, ByteSizeUnit.MB), Setting.Property.NodeScope),
+        BlobStoreRepository.MAX_CONCURRENT_TRANSFERS_SETTING.getKey(), BlobStoreRepository.MAX_CONCURRENT_TRANSFERS_SETTING
     );
 
     private final Map<String, Setting<?>> required;
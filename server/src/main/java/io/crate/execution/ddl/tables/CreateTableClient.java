@@ -31,6 +31,8 @@ import org.elasticsearch.ResourceAlreadyExistsException;
 import org.elasticsearch.Version;
 import org.elasticsearch.client.node.NodeClient;
 import org.elasticsearch.common.settings.Settings;
+import org.elasticsearch.common.xcontent.XContentType;
+import org.elasticsearch.index.IndexSettings;
 import org.jetbrains.annotations.Nullable;
 
 import com.carrotsearch.hppc.IntArrayList;
@@ -64,6 +66,11 @@ public class CreateTableClient {
         Settings.Builder settingsBuilder = Settings.builder()
             .put(createTable.settings());
         settingsBuilder.remove(TableParameters.COLUMN_POLICY.getKey());
+        if (minNodeVersion.before(Version.V_6_0_0)
+            && IndexSettings.INDEX_TRANSLOG_FORMAT_SETTING.get(createTable.settings()) != XContentType.JSON) {
+            throw new UnsupportedOperationException(
+                "All nodes in the cluster must at least have version 6.0.0 to use \"translog.format\" = 'binary'");
+        }
         if (minNodeVersion.onOrAfter(Version.V_5_4_0)) {
             createTableRequest = new CreateTableRequest(
                 relationName,
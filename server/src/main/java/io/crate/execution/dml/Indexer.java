@@ -41,6 +41,8 @@ import java.util.function.Function;
 import org.apache.lucene.document.Document;
 import org.apache.lucene.document.Field;
 import org.elasticsearch.Version;
+import org.elasticsearch.common.xcontent.XContentType;
+import org.elasticsearch.index.IndexSettings;
 import org.elasticsearch.index.mapper.ParsedDocument;
 import org.jetbrains.annotations.Nullable;
 
@@ -118,6 +120,7 @@ public class Indexer {
     private final Function<ColumnIdent, Reference> getRef;
     private final boolean writeOids;
     private final Version tableVersionCreated;
+    private final XContentType translogFormat;
 
     public record IndexColumn<I>(Reference reference, List<? extends I> inputs) {
     }
@@ -520,6 +523,7 @@ public class Indexer {
         }
         this.expressions = ctxForRefs.expressions();
         this.tableVersionCreated = shardVersionCreated;
+        this.translogFormat = IndexSettings.INDEX_TRANSLOG_FORMAT_SETTING.get(table.parameters());
     }
 
     public static <I> List<IndexColumn<I>> buildIndexColumns(Collection<IndexReference> indexReferences,
@@ -742,7 +746,7 @@ public class Indexer {
             synthetic.reset();
         }
 
-        TranslogWriter translogWriter = new XContentTranslogWriter();
+        TranslogWriter translogWriter = new XContentTranslogWriter(translogFormat);
         IndexDocumentBuilder docBuilder = new IndexDocumentBuilder(translogWriter, synthetics::get, columnConstraints, tableVersionCreated);
         Object[] values = item.insertValues();
 
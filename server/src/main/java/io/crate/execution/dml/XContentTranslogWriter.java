@@ -28,10 +28,13 @@ import org.elasticsearch.common.bytes.BytesReference;
 import org.elasticsearch.common.io.stream.BytesStreamOutput;
 import org.elasticsearch.common.xcontent.XContentBuilder;
 import org.elasticsearch.common.xcontent.XContentFactory;
+import org.elasticsearch.common.xcontent.XContentType;
 
 /**
  * A TranslogWriter implementation that writes the transaction log entry as
- * a json map
+ * a json map, or as a SMILE map if created with {@link XContentType#SMILE}.
+ * SMILE encodes numbers in binary and back-references repeated keys,
+ * which results in smaller entries that are cheaper to parse.
  */
 public class XContentTranslogWriter implements TranslogWriter {
 
@@ -39,8 +42,12 @@ public class XContentTranslogWriter implements TranslogWriter {
     private final BytesStreamOutput output = new BytesStreamOutput();
 
     public XContentTranslogWriter() {
+        this(XContentType.JSON);
+    }
+
+    public XContentTranslogWriter(XContentType xContentType) {
         try {
-            this.builder = XContentFactory.json(output);
+            this.builder = XContentFactory.builder(xContentType, output);
             this.builder.startObject();
         } catch (IOException e) {
             throw new UncheckedIOException(e);
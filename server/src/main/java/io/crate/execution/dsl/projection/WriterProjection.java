@@ -66,7 +66,8 @@ public class WriterProjection extends Projection {
 
     public enum OutputFormat {
         JSON_OBJECT,
-        JSON_ARRAY
+        JSON_ARRAY,
+        CSV
     }
 
     private final CompressionType compressionType;
@@ -185,6 +186,8 @@ public class WriterProjection extends Projection {
             Symbol.toStream(entry.getValue(), out);
         }
         out.writeInt(compressionType != null ? compressionType.ordinal() : -1);
+        assert outputFormat != OutputFormat.CSV || out.getVersion().onOrAfter(Version.V_6_0_0)
+            : "COPY TO with format 'csv' must be rejected by the planner if nodes before 6.0.0 are in the cluster";
         out.writeInt(outputFormat.ordinal());
         if (out.getVersion().onOrAfter(Version.V_4_8_0)) {
             Settings.writeSettingsToStream(out, withClauseOptions);
@@ -110,7 +110,7 @@ public class CollectTask implements Task {
                         collectPhase.name(),
                         () -> consumer.accept(it, null)
                     );
-                    collectOperation.launch(runnable, threadPoolName);
+                    collectOperation.launch(runnable, threadPoolName, txnCtx.sessionSettings());
                 } catch (Throwable t) {
                     consumer.accept(null, t);
                 }
@@ -266,6 +266,22 @@ public class CollectTask implements Task {
         return sharedShardContexts;
     }
 
+    /**
+     * Wraps a shard iterator so that its consumer periodically yields the search thread pool.
+     * The consumer resumes with the priority and the resource group of this task.
+     */
+    public BatchIterator<Row> timeSliced(BatchIterator<Row> iterator) {
+        Priority priority = getPriority(collectPhase);
+        return collectOperation.timeSliced(
+            iterator,
+            runnable -> collectOperation.launch(
+                PriorityRunnable.of(priority, collectPhase.name(), runnable),
+                ThreadPool.Names.SEARCH,
+                txnCtx.sessionSettings()
+            )
+        );
+    }
+
     @VisibleForTesting
     static Priority getPriority(CollectPhase phase) {
         if (phase instanceof RoutedCollectPhase routedPhase) {
@@ -21,14 +21,23 @@
 
 package io.crate.execution.engine.collect;
 
+import io.crate.common.unit.TimeValue;
 import io.crate.data.BatchIterator;
 import io.crate.data.Row;
+import io.crate.data.TimeSlicedBatchIterator;
 import io.crate.execution.dsl.phases.CollectPhase;
 import io.crate.execution.engine.collect.sources.CollectSource;
 import io.crate.execution.engine.collect.sources.CollectSourceResolver;
+import io.crate.execution.jobs.ResourceGroup;
+import io.crate.execution.jobs.ResourceGroups;
 import io.crate.metadata.TransactionContext;
+import io.crate.metadata.settings.SessionSettings;
 import org.elasticsearch.common.inject.Inject;
 import org.elasticsearch.common.inject.Singleton;
+import org.elasticsearch.common.settings.ClusterSettings;
+import org.elasticsearch.common.settings.Setting;
+import org.elasticsearch.common.settings.Setting.Property;
+import org.elasticsearch.common.util.concurrent.PrioritizedRunnable;
 import org.elasticsearch.threadpool.ThreadPool;
 
 import java.util.concurrent.CompletableFuture;
@@ -41,13 +50,32 @@ import java.util.concurrent.RejectedExecutionException;
 @Singleton
 public class MapSideDataCollectOperation {
 
+    /**
+     * Time after which the consumer of a shard iterator yields the search thread pool; 0 disables time slicing.
+     */
+    public static final Setting<TimeValue> TIME_SLICE_SETTING = Setting.timeSetting(
+        "workload.time_slice",
+        TimeValue.timeValueMillis(100),
+        TimeValue.ZERO,
+        Property.Dynamic,
+        Property.NodeScope
+    );
+
     private final CollectSourceResolver collectSourceResolver;
     private final ThreadPool threadPool;
+    private final ResourceGroups resourceGroups;
+    private volatile long timeSliceNanos;
 
     @Inject
-    public MapSideDataCollectOperation(CollectSourceResolver collectSourceResolver, ThreadPool threadPool) {
+    public MapSideDataCollectOperation(CollectSourceResolver collectSourceResolver,
+                                       ThreadPool threadPool,
+                                       ResourceGroups resourceGroups,
+                                       ClusterSettings clusterSettings) {
         this.collectSourceResolver = collectSourceResolver;
         this.threadPool = threadPool;
+        this.resourceGroups = resourceGroups;
+        this.timeSliceNanos = clusterSettings.get(TIME_SLICE_SETTING).nanos();
+        clusterSettings.addSettingsUpdateConsumer(TIME_SLICE_SETTING, timeSlice -> timeSliceNanos = timeSlice.nanos());
     }
 
     public CompletableFuture<BatchIterator<Row>> createIterator(TransactionContext txnCtx,
@@ -58,8 +86,26 @@ public class MapSideDataCollectOperation {
         return service.getIterator(txnCtx, collectPhase, collectTask, requiresScroll);
     }
 
-    public void launch(Runnable runnable, String threadPoolName) throws RejectedExecutionException {
+    /**
+     * Runs the collect task. On the search pool tasks are ordered by the cpu shares of their resource group.
+     */
+    public void launch(PrioritizedRunnable runnable,
+                       String threadPoolName,
+                       SessionSettings sessionSettings) throws RejectedExecutionException {
+        if (ThreadPool.Names.SAME.equals(threadPoolName)) {
+            runnable.run();
+            return;
+        }
+        ResourceGroup group = resourceGroups.get(sessionSettings.userName(), sessionSettings.resourceGroup());
         Executor executor = threadPool.executor(threadPoolName);
-        executor.execute(runnable);
+        executor.execute(group.weighted(runnable));
+    }
+
+    /**
+     * Makes the consumer of the iterator yield once it consumed rows for longer than {@link #TIME_SLICE_SETTING}.
+     * It resumes via {@code resumeExecutor}, behind the tasks which queued up in the meantime.
+     */
+    public BatchIterator<Row> timeSliced(BatchIterator<Row> iterator, Executor resumeExecutor) {
+        return TimeSlicedBatchIterator.wrap(iterator, resumeExecutor, timeSliceNanos);
     }
 }
@@ -27,7 +27,6 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
 import java.util.SequencedSet;
 import java.util.UUID;
 import java.util.function.Function;
@@ -36,6 +35,7 @@ import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import org.apache.lucene.index.Term;
+import org.elasticsearch.common.lucene.uid.VersionsAndSeqNoResolver.DocIdAndVersion;
 import org.elasticsearch.index.IndexNotFoundException;
 import org.elasticsearch.index.IndexService;
 import org.elasticsearch.index.VersionType;
@@ -47,6 +47,7 @@ import org.elasticsearch.index.shard.ShardNotFoundException;
 import org.elasticsearch.indices.IndicesService;
 import org.jetbrains.annotations.Nullable;
 
+import io.crate.common.collections.Lists;
 import io.crate.data.BatchIterator;
 import io.crate.data.CompositeBatchIterator;
 import io.crate.data.InMemoryBatchIterator;
@@ -88,34 +89,128 @@ public final class PKLookupOperation {
                                 long primaryTerm,
                                 DocTableInfo table,
                                 List<Symbol> columns) {
+        Engine.Get get = newGet(id, version, versionType, seqNo, primaryTerm);
+        try (Engine.GetResult getResult = shard.get(get)) {
+            var docIdAndVersion = getResult.docIdAndVersion();
+            if (docIdAndVersion == null) {
+                return null;
+            }
+            StoredRowLookup storedRowLookup = StoredRowLookup.create(
+                shard.getVersionCreated(),
+                table,
+                shard.shardId().getIndexName(),
+                columns,
+                getResult.fromTranslog()
+            );
+            return toDoc(shard, id, docIdAndVersion, storedRowLookup);
+        }
+    }
+
+    private static Engine.Get newGet(String id, long version, VersionType versionType, long seqNo, long primaryTerm) {
         Term uidTerm = new Term(SysColumns.Names.ID, Uid.encodeId(id));
-        Engine.Get get = new Engine.Get(id, uidTerm)
+        return new Engine.Get(id, uidTerm)
             .version(version)
             .versionType(versionType)
             .setIfSeqNo(seqNo)
             .setIfPrimaryTerm(primaryTerm);
+    }
 
-        try (Engine.GetResult getResult = shard.get(get)) {
-            var docIdAndVersion = getResult.docIdAndVersion();
-            if (docIdAndVersion == null) {
-                return null;
+    private static Doc toDoc(IndexShard shard, String id, DocIdAndVersion docIdAndVersion, StoredRowLookup storedRowLookup) {
+        try {
+            StoredRow storedRow
+                = storedRowLookup.getStoredRow(new ReaderContext(docIdAndVersion.reader.getContext()), docIdAndVersion.docId);
+            return new Doc(
+                docIdAndVersion.docId,
+                shard.shardId().getIndexName(),
+                id,
+                docIdAndVersion.version,
+                docIdAndVersion.seqNo,
+                docIdAndVersion.primaryTerm,
+                storedRow
+            );
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Looks up the documents for the keys of one shard.
+     * <p>
+     * The keys are resolved with {@link IndexShard#multiGet(List)}, which looks up the ids in sorted order,
+     * walking the terms dictionary of each segment once, and checks the versions of all keys in one pass.
+     * The documents are returned in the order of the keys.
+     * </p>
+     * <p>
+     * The {@link StoredRowLookup} instances, which register the column expressions and
+     * source parsers, are created once per shard instead of once per key.
+     * The rows are materialized while the searcher of the lookup is held, the stored fields of a {@link Doc}
+     * can't be read once it is released. A concurrent refresh may close the segment readers.
+     * </p>
+     */
+    private static final class ShardDocLookup {
+
+        private final IndexShard shard;
+        private final DocTableInfo table;
+        private final List<Symbol> columns;
+
+        @Nullable
+        private StoredRowLookup indexLookup;
+        @Nullable
+        private StoredRowLookup translogLookup;
+
+        ShardDocLookup(IndexShard shard, DocTableInfo table, List<Symbol> columns) {
+            this.shard = shard;
+            this.table = table;
+            this.columns = columns;
+        }
+
+        List<Row> lookup(SequencedSet<PKAndVersion> keys, Function<Doc, Row> resultToRow) {
+            List<PKAndVersion> pkAndVersions = List.copyOf(keys);
+            List<Engine.Get> gets = Lists.map(
+                pkAndVersions,
+                pk -> newGet(pk.id(), pk.version(), VersionType.EXTERNAL, pk.seqNo(), pk.primaryTerm())
+            );
+            List<Row> rows = new ArrayList<>(gets.size());
+            try (Engine.MultiGetResult multiGetResult = shard.multiGet(gets)) {
+                for (int i = 0; i < gets.size(); i++) {
+                    Engine.GetResult getResult = multiGetResult.get(i);
+                    DocIdAndVersion docIdAndVersion = getResult.docIdAndVersion();
+                    if (docIdAndVersion == null) {
+                        continue;
+                    }
+                    Doc doc = toDoc(
+                        shard,
+                        pkAndVersions.get(i).id(),
+                        docIdAndVersion,
+                        storedRowLookup(getResult.fromTranslog())
+                    );
+                    rows.add(new RowN(resultToRow.apply(doc).materialize()));
+                }
             }
-            StoredRowLookup storedRowLookup = StoredRowLookup.create(shard.getVersionCreated(), table, shard.shardId().getIndexName(), columns, getResult.fromTranslog());
-            try {
-                StoredRow storedRow
-                    = storedRowLookup.getStoredRow(new ReaderContext(docIdAndVersion.reader.getContext()), docIdAndVersion.docId);
-                return new Doc(
-                    docIdAndVersion.docId,
-                    shard.shardId().getIndexName(),
-                    id,
-                    docIdAndVersion.version,
-                    docIdAndVersion.seqNo,
-                    docIdAndVersion.primaryTerm,
-                    storedRow
-                );
-            } catch (IOException e) {
-                throw new UncheckedIOException(e);
+            return rows;
+        }
+
+        private StoredRowLookup storedRowLookup(boolean fromTranslog) {
+            if (fromTranslog) {
+                if (translogLookup == null) {
+                    translogLookup = create(true);
+                }
+                return translogLookup;
             }
+            if (indexLookup == null) {
+                indexLookup = create(false);
+            }
+            return indexLookup;
+        }
+
+        private StoredRowLookup create(boolean fromTranslog) {
+            return StoredRowLookup.create(
+                shard.getVersionCreated(),
+                table,
+                shard.shardId().getIndexName(),
+                columns,
+                fromTranslog
+            );
         }
     }
 
@@ -148,23 +243,14 @@ public final class PKLookupOperation {
                 throw new ShardNotFoundException(shardId);
             }
             assert table != null;
-            Stream<Row> rowStream = idsByShardEntry.getValue().stream()
-                .map(pkAndVersion -> lookupDoc(
-                    shard,
-                    pkAndVersion.id(),
-                    pkAndVersion.version(),
-                    VersionType.EXTERNAL,
-                    pkAndVersion.seqNo(),
-                    pkAndVersion.primaryTerm(),
-                    table,
-                    columns
-                ))
-                .filter(Objects::nonNull)
-                .map(resultToRow);
+            ShardDocLookup shardDocLookup = new ShardDocLookup(shard, table, columns);
+            // flatMap defers the lookup until the rows are consumed
+            Stream<Row> rowStream = Stream.of(idsByShardEntry.getValue())
+                .flatMap(keys -> shardDocLookup.lookup(keys, resultToRow).stream());
 
             if (projections.isEmpty()) {
                 final Iterable<Row> rowIterable = requiresScroll
-                    ? rowStream.map(row -> new RowN(row.materialize())).collect(Collectors.toList())
+                    ? rowStream.collect(Collectors.toList())
                     : rowStream::iterator;
                 iterators.add(InMemoryBatchIterator.of(rowIterable, SentinelRow.SENTINEL, true));
             } else {
@@ -185,7 +271,7 @@ public final class PKLookupOperation {
                     memoryManagerSupplier.get(),
                     projectorFactory);
                 final Iterable<Row> rowIterable = requiresScroll && !projectors.providesIndependentScroll()
-                    ? rowStream.map(row -> new RowN(row.materialize())).collect(Collectors.toList())
+                    ? rowStream.collect(Collectors.toList())
                     : rowStream::iterator;
                 iterators.add(projectors.wrap(InMemoryBatchIterator.of(rowIterable, SentinelRow.SENTINEL, true)));
             }
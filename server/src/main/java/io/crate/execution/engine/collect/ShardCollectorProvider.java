@@ -117,7 +117,7 @@ public abstract class ShardCollectorProvider {
             }
             final BatchIterator<Row> iterator;
             if (isOpenIndex && WhereClause.canMatch(collectPhase.where())) {
-                iterator = getUnorderedIterator(collectPhase, requiresScroll, collectTask);
+                iterator = collectTask.timeSliced(getUnorderedIterator(collectPhase, requiresScroll, collectTask));
             } else {
                 iterator = InMemoryBatchIterator.empty(SentinelRow.SENTINEL);
             }
@@ -38,6 +38,24 @@ public interface FileInput extends AutoCloseable {
 
     InputStream getStream(URI uri) throws IOException;
 
+    /**
+     * Returns a stream starting at the given byte offset of the file.
+     * Implementations should override this if they can seek instead of skipping over the leading bytes.
+     */
+    default InputStream getStream(URI uri, long offset) throws IOException {
+        InputStream stream = getStream(uri);
+        stream.skipNBytes(offset);
+        return stream;
+    }
+
+    /**
+     * @return the size of the file in bytes or -1 if it is unknown.
+     *         Only files with a known size can be split across readers.
+     */
+    default long size(URI uri) throws IOException {
+        return -1;
+    }
+
     boolean isGlobbed();
 
     URI uri();
@@ -22,6 +22,10 @@
 package io.crate.execution.engine.collect.files;
 
 import static io.crate.analyze.CopyStatementSettings.FAIL_FAST_SETTING;
+import static io.crate.analyze.CopyStatementSettings.INPUT_FORMAT_SETTING;
+import static io.crate.analyze.CopyStatementSettings.INPUT_HEADER_SETTINGS;
+import static io.crate.analyze.CopyStatementSettings.SKIP_NUM_LINES;
+import static io.crate.analyze.CopyStatementSettings.SPLIT_SIZE_SETTING;
 import static io.crate.common.exceptions.Exceptions.rethrowUnchecked;
 
 import java.io.BufferedReader;
@@ -34,6 +38,7 @@ import java.net.SocketTimeoutException;
 import java.net.URI;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
@@ -67,6 +72,12 @@ import io.crate.data.BatchIterator;
  * </p>
  *
  * <p>
+ * If {@code split_size} is set, files on shared storage which are larger than the split size are not assigned
+ * to a single reader, but split into byte ranges which are distributed across all readers.
+ * See {@link SplitInputStream}.
+ * </p>
+ *
+ * <p>
  * The iterator automatically retries reading on
  * @{link {@link SocketException} or {@link SocketTimeoutException}
  * </p>
@@ -94,13 +105,17 @@ public class FileReadingIterator implements BatchIterator<FileReadingIterator.Li
     private final int readerNumber;
     private final boolean compressed;
     private final boolean failFast;
+    private final long splitSize;
+    private final boolean csvFormat;
+    private final boolean csvHeader;
     private final List<FileInput> fileInputs;
 
     private volatile Throwable killed;
 
     private Iterator<FileInput> fileInputsIterator = null;
     private FileInput currentInput = null;
-    private Iterator<URI> currentInputUriIterator = null;
+    private Iterator<FileSplit> currentInputSplitIterator = null;
+    private FileSplit currentSplit = null;
     private BufferedReader currentReader = null;
 
     @VisibleForTesting
@@ -192,6 +207,10 @@ public class FileReadingIterator implements BatchIterator<FileReadingIterator.Li
         this.cursor = new LineCursor();
         this.shared = shared;
         this.failFast = FAIL_FAST_SETTING.get(withClauseOptions);
+        // Splits start in the middle of a file, skipping lines or reading a header only works at the start of a file
+        this.splitSize = SKIP_NUM_LINES.get(withClauseOptions) > 0 ? 0 : SPLIT_SIZE_SETTING.get(withClauseOptions).getBytes();
+        this.csvFormat = "csv".equalsIgnoreCase(INPUT_FORMAT_SETTING.get(withClauseOptions));
+        this.csvHeader = INPUT_HEADER_SETTINGS.get(withClauseOptions);
         this.numReaders = numReaders;
         this.readerNumber = readerNumber;
         this.scheduler = scheduler;
@@ -243,7 +262,7 @@ public class FileReadingIterator implements BatchIterator<FileReadingIterator.Li
                 cursor.line = line;
                 cursor.failure = null;
                 return true;
-            } else if (currentInputUriIterator != null && currentInputUriIterator.hasNext()) {
+            } else if (currentInputSplitIterator != null && currentInputSplitIterator.hasNext()) {
                 advanceToNextUri(currentInput);
                 return moveNext();
             } else if (fileInputsIterator != null && fileInputsIterator.hasNext()) {
@@ -277,15 +296,19 @@ public class FileReadingIterator implements BatchIterator<FileReadingIterator.Li
 
     private void advanceToNextUri(FileInput fileInput) throws IOException {
         watermark = 0;
-        createReader(fileInput, currentInputUriIterator.next());
+        currentSplit = currentInputSplitIterator.next();
+        createReader(fileInput, currentSplit);
     }
 
     private boolean advanceToNextFileInput() throws IOException {
         currentInput = fileInputsIterator.next();
         List<URI> allUris = currentInput.expandUri();
-        List<URI> filteredUris = allUris.stream().filter(this::shouldBeReadByCurrentNode).toList();
-        if (filteredUris.isEmpty() == false) {
-            currentInputUriIterator = filteredUris.iterator();
+        List<FileSplit> splits = new ArrayList<>();
+        for (URI uri : allUris) {
+            addSplitsToBeReadByCurrentNode(uri, splits);
+        }
+        if (splits.isEmpty() == false) {
+            currentInputSplitIterator = splits.iterator();
             advanceToNextUri(currentInput);
             return true;
         } else if (currentInput.isGlobbed()) {
@@ -304,19 +327,48 @@ public class FileReadingIterator implements BatchIterator<FileReadingIterator.Li
         return false;
     }
 
-    private boolean shouldBeReadByCurrentNode(URI uri) {
+    private void addSplitsToBeReadByCurrentNode(URI uri, List<FileSplit> splits) throws IOException {
         boolean sharedStorage = Objects.requireNonNullElse(shared, currentInput.sharedStorageDefault());
-        if (sharedStorage) {
-            return moduloPredicateImpl(uri, this.readerNumber, this.numReaders);
-        } else {
-            return MATCH_ALL_PREDICATE.test(uri);
+        if (sharedStorage == false) {
+            if (MATCH_ALL_PREDICATE.test(uri)) {
+                splits.add(FileSplit.whole(uri));
+            }
+            return;
+        }
+        long size = isSplittable(uri) ? currentInput.size(uri) : -1;
+        if (size <= splitSize) {
+            if (moduloPredicateImpl(uri, this.readerNumber, this.numReaders)) {
+                splits.add(FileSplit.whole(uri));
+            }
+            return;
+        }
+        long numSplits = (size + splitSize - 1) / splitSize;
+        for (long i = 0; i < numSplits; i++) {
+            if (splitPredicateImpl(uri, i, readerNumber, numReaders)) {
+                long start = i * splitSize;
+                splits.add(new FileSplit(uri, start, Math.min(start + splitSize, size)));
+            }
         }
     }
 
-    private void createReader(FileInput fileInput, URI uri) throws IOException {
-        cursor.uri = uri;
+    private boolean isSplittable(URI uri) {
+        if (splitSize <= 0 || compressed) {
+            return false;
+        }
+        boolean csv = csvFormat || uri.toString().endsWith(".csv");
+        return (csv && csvHeader) == false;
+    }
+
+    private void createReader(FileInput fileInput, FileSplit split) throws IOException {
+        cursor.uri = split.uri();
         cursor.lineNumber = 0;
-        InputStream stream = fileInput.getStream(uri);
+        InputStream stream;
+        if (split.isWholeFile()) {
+            stream = fileInput.getStream(split.uri());
+        } else {
+            InputStream fromStart = fileInput.getStream(split.uri(), Math.max(0, split.start() - 1));
+            stream = new SplitInputStream(fromStart, split.start(), split.end());
+        }
         currentReader = createBufferedReader(stream);
     }
 
@@ -351,7 +403,7 @@ public class FileReadingIterator implements BatchIterator<FileReadingIterator.Li
             if (backOffPolicy.hasNext()) {
                 watermark = watermark == 0 ? cursor.lineNumber + 1 : watermark;
                 closeReader();
-                createReader(currentInput, cursor.uri);
+                createReader(currentInput, currentSplit);
             } else {
                 URI uri = currentInput.uri();
                 LOGGER.error("Timeout during COPY FROM '" + uri.toString() +
@@ -378,7 +430,8 @@ public class FileReadingIterator implements BatchIterator<FileReadingIterator.Li
 
     private void reset() {
         fileInputsIterator = null;
-        currentInputUriIterator = null;
+        currentInputSplitIterator = null;
+        currentSplit = null;
         if (currentInput != null) {
             currentInput.close();
         }
@@ -455,6 +508,33 @@ public class FileReadingIterator implements BatchIterator<FileReadingIterator.Li
         return Math.abs(hash) % numReaders == readerNumber;
     }
 
+    /**
+     * Distributes the splits of a file round-robin across the readers.
+     * The first split is assigned to the same reader as the whole file in {@link #moduloPredicateImpl}.
+     */
+    @VisibleForTesting
+    static boolean splitPredicateImpl(URI input, long splitNumber, int readerNumber, int numReaders) {
+        int hash = input.hashCode();
+        if (hash == Integer.MIN_VALUE) {
+            hash = 0; // Math.abs(Integer.MIN_VALUE) == Integer.MIN_VALUE
+        }
+        return (Math.abs(hash) + splitNumber) % numReaders == readerNumber;
+    }
+
+    /**
+     * Byte range {@code [start, end)} of a file. See {@link SplitInputStream} for how lines are assigned to splits.
+     */
+    record FileSplit(URI uri, long start, long end) {
+
+        static FileSplit whole(URI uri) {
+            return new FileSplit(uri, 0, Long.MAX_VALUE);
+        }
+
+        boolean isWholeFile() {
+            return start == 0 && end == Long.MAX_VALUE;
+        }
+    }
+
     private void raiseIfKilled() {
         if (killed != null) {
             Exceptions.rethrowUnchecked(killed);
@@ -0,0 +1,112 @@
+/*
+ * Licensed to Crate.io GmbH ("Crate") under one or more contributor
+ * license agreements.  See the NOTICE file distributed with this work for
+ * additional information regarding copyright ownership.  Crate licenses
+ * this file to you under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.  You may
+ * obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * However, if you have executed another commercial license agreement
+ * with Crate these terms will supersede the license and you may use the
+ * software solely pursuant to the terms of the relevant commercial agreement.
+ */
+
+package io.crate.execution.engine.collect.files;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Restricts a stream to the lines which start within the byte range {@code [start, end)} of a file.
+ *
+ * <p>
+ * The wrapped stream must be positioned at {@code max(0, start - 1)}. If {@code start > 0} everything up to and
+ * including the first newline is skipped; that line starts before {@code start} and belongs to the previous split.
+ * Once {@code end} is reached, the stream continues until the end of the current line.
+ * Adjacent splits therefore read every line exactly once.
+ * </p>
+ */
+final class SplitInputStream extends InputStream {
+
+    private final InputStream in;
+    private final long end;
+
+    private final byte[] singleByte = new byte[1];
+
+    private long position;
+    private int lastByte = '\n';
+    private boolean skipLeadingPartialLine;
+
+    SplitInputStream(InputStream in, long start, long end) {
+        assert start >= 0 && start < end : "split must not be empty";
+        this.in = new BufferedInputStream(in);
+        this.end = end;
+        this.position = Math.max(0, start - 1);
+        this.skipLeadingPartialLine = start > 0;
+    }
+
+    @Override
+    public int read() throws IOException {
+        int n = read(singleByte, 0, 1);
+        return n == -1 ? -1 : singleByte[0] & 0xFF;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        if (len == 0) {
+            return 0;
+        }
+        if (skipLeadingPartialLine) {
+            skipLeadingPartialLine = false;
+            int value;
+            do {
+                value = in.read();
+                position++;
+            } while (value != -1 && value != '\n');
+            if (value == -1) {
+                return -1;
+            }
+        }
+        if (position < end) {
+            int n = in.read(b, off, (int) Math.min(len, end - position));
+            if (n > 0) {
+                position += n;
+                lastByte = b[off + n - 1];
+            }
+            return n;
+        }
+        if (lastByte == '\n') {
+            return -1;
+        }
+        // Finish the line which started before end
+        int i = 0;
+        while (i < len) {
+            int value = in.read();
+            if (value == -1) {
+                break;
+            }
+            b[off + i] = (byte) value;
+            i++;
+            position++;
+            lastByte = value;
+            if (value == '\n') {
+                break;
+            }
+        }
+        return i == 0 ? -1 : i;
+    }
+
+    @Override
+    public void close() throws IOException {
+        in.close();
+    }
+}
@@ -141,7 +141,7 @@ public class SystemCollectSource implements CollectSource {
             // kill no-op: Can't interrupt remote retrieval;
             // If data is already local, then `CollectingBatchIterator` takes care of kill handling.
             t -> {},
-            () -> tableDefinition.retrieveRecords(txnCtx, user)
+            () -> tableDefinition.retrieveRecords(txnCtx, user, collectPhase.where())
                 .thenApply(records ->
                         recordsToRows(
                             collectPhase,
@@ -21,6 +21,9 @@
 
 package io.crate.execution.engine.export;
 
+import static io.crate.analyze.CopyStatementSettings.CSV_COLUMN_SEPARATOR;
+import static io.crate.analyze.CopyStatementSettings.INPUT_HEADER_SETTINGS;
+
 import java.io.IOException;
 import java.io.OutputStream;
 import java.net.URI;
@@ -38,9 +41,11 @@ import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.stream.Collector;
 
+import org.elasticsearch.common.Strings;
 import org.elasticsearch.common.settings.Settings;
 import org.elasticsearch.common.xcontent.XContentBuilder;
 import org.elasticsearch.common.xcontent.XContentFactory;
+import org.elasticsearch.common.xcontent.json.JsonXContent;
 import org.jetbrains.annotations.Nullable;
 import org.jetbrains.annotations.VisibleForTesting;
 
@@ -102,12 +107,21 @@ public class FileWriterCountCollector implements Collector<Row, long[], Iterable
             throw new UnsupportedFeatureException(String.format(Locale.ENGLISH, "Unknown scheme '%s'", scheme));
         }
         fileOutput = fileOutputFactory.create(uri, withClauseOptions);
-        this.rowWriter = initWriter();
+        this.rowWriter = initWriter(withClauseOptions);
     }
 
-    private RowWriter initWriter() {
+    private RowWriter initWriter(Settings withClauseOptions) {
         try {
-            if (outputFormat.equals(WriterProjection.OutputFormat.JSON_ARRAY)) {
+            if (outputFormat.equals(WriterProjection.OutputFormat.CSV)) {
+                return new CsvRowWriter(
+                    fileOutput,
+                    fileOutput.acquireOutputStream(executor, compressionType),
+                    collectExpressions,
+                    inputs,
+                    INPUT_HEADER_SETTINGS.get(withClauseOptions) ? outputNames : null,
+                    CSV_COLUMN_SEPARATOR.get(withClauseOptions)
+                );
+            } else if (outputFormat.equals(WriterProjection.OutputFormat.JSON_ARRAY)) {
                 return new ColumnRowWriter(fileOutput, fileOutput.acquireOutputStream(executor, compressionType), collectExpressions, inputs);
             } else if (outputNames != null && outputFormat.equals(WriterProjection.OutputFormat.JSON_OBJECT)) {
                 return new ColumnRowObjectWriter(fileOutput, fileOutput.acquireOutputStream(executor, compressionType), collectExpressions, inputs, outputNames);
@@ -284,4 +298,113 @@ public class FileWriterCountCollector implements Collector<Row, long[], Iterable
             }
         }
     }
+
+    /**
+     * Writes one CSV line per row. Object and array values are written as JSON text,
+     * NULL values as an empty field.
+     */
+    static class CsvRowWriter implements RowWriter {
+
+        private final FileOutput fileOutput;
+        private final OutputStream outputStream;
+        private final Iterable<CollectExpression<Row, ?>> collectExpressions;
+        private final List<Input<?>> inputs;
+        private final char delimiter;
+        private final StringBuilder line = new StringBuilder();
+
+        CsvRowWriter(FileOutput fileOutput,
+                     OutputStream outputStream,
+                     Iterable<CollectExpression<Row, ?>> collectExpressions,
+                     List<Input<?>> inputs,
+                     @Nullable List<String> header,
+                     char delimiter) throws IOException {
+            this.fileOutput = fileOutput;
+            this.outputStream = outputStream;
+            this.collectExpressions = collectExpressions;
+            this.inputs = inputs;
+            this.delimiter = delimiter;
+            if (header != null) {
+                for (int i = 0; i < header.size(); i++) {
+                    if (i > 0) {
+                        line.append(delimiter);
+                    }
+                    appendField(header.get(i));
+                }
+                writeLine();
+            }
+        }
+
+        @Override
+        public void write(Row row) {
+            for (CollectExpression<Row, ?> collectExpression : collectExpressions) {
+                collectExpression.setNextRow(row);
+            }
+            try {
+                for (int i = 0; i < inputs.size(); i++) {
+                    if (i > 0) {
+                        line.append(delimiter);
+                    }
+                    Object value = inputs.get(i).value();
+                    if (value == null) {
+                        continue;
+                    }
+                    if (value instanceof CharSequence || value instanceof Number || value instanceof Boolean) {
+                        appendField(value.toString());
+                    } else {
+                        appendField(Strings.toString(JsonXContent.builder().value(value)));
+                    }
+                }
+                writeLine();
+            } catch (IOException e) {
+                throw new UnhandledServerException("Failed to write row to output", e);
+            }
+        }
+
+        private void appendField(String value) {
+            if (needsQuotes(value)) {
+                line.append('"');
+                for (int i = 0; i < value.length(); i++) {
+                    char c = value.charAt(i);
+                    if (c == '"') {
+                        line.append('"');
+                    }
+                    line.append(c);
+                }
+                line.append('"');
+            } else {
+                line.append(value);
+            }
+        }
+
+        /**
+         * Empty strings are quoted to distinguish them from NULL, leading and trailing
+         * whitespace is quoted because COPY FROM trims unquoted values.
+         */
+        private boolean needsQuotes(String value) {
+            if (value.isEmpty()
+                || Character.isWhitespace(value.charAt(0))
+                || Character.isWhitespace(value.charAt(value.length() - 1))) {
+                return true;
+            }
+            for (int i = 0; i < value.length(); i++) {
+                char c = value.charAt(i);
+                if (c == delimiter || c == '"' || c == '\n' || c == '\r') {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private void writeLine() throws IOException {
+            line.append((char) NEW_LINE);
+            outputStream.write(line.toString().getBytes(StandardCharsets.UTF_8));
+            line.setLength(0);
+        }
+
+        @Override
+        public void close() throws IOException {
+            outputStream.close();
+            fileOutput.close();
+        }
+    }
 }
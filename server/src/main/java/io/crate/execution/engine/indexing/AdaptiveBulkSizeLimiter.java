@@ -0,0 +1,82 @@
+/*
+ * Licensed to Crate.io GmbH ("Crate") under one or more contributor
+ * license agreements.  See the NOTICE file distributed with this work for
+ * additional information regarding copyright ownership.  Crate licenses
+ * this file to you under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.  You may
+ * obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * However, if you have executed another commercial license agreement
+ * with Crate these terms will supersede the license and you may use the
+ * software solely pursuant to the terms of the relevant commercial agreement.
+ */
+
+package io.crate.execution.engine.indexing;
+
+import java.util.function.Predicate;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import io.crate.common.concurrent.ConcurrencyLimit;
+import io.crate.execution.jobs.NodeLimits;
+
+/**
+ * Adapts the number of rows per bulk to the load of the target nodes.
+ *
+ * <p>
+ * A bulk is completed once it reaches a size between {@link #minBulkSize} and {@code bulkSize},
+ * relative to how many requests are in flight on the busiest target node compared to its
+ * {@link ConcurrencyLimit}. If the target nodes are idle, rows are sent early in small bulks, so that
+ * reading the source and indexing overlap right from the start. The more the target nodes are saturated,
+ * the more rows are accumulated, which results in fewer but larger requests.
+ * </p>
+ */
+class AdaptiveBulkSizeLimiter implements Predicate<ShardedRequests<?, ?>> {
+
+    private static final Logger LOGGER = LogManager.getLogger(AdaptiveBulkSizeLimiter.class);
+
+    /**
+     * If the target nodes are idle, bulks are sent with {@code bulkSize / MIN_BULK_SIZE_DIVISOR} rows.
+     */
+    static final int MIN_BULK_SIZE_DIVISOR = 10;
+
+    private final NodeLimits nodeLimits;
+    private final int bulkSize;
+    private final int minBulkSize;
+
+    AdaptiveBulkSizeLimiter(NodeLimits nodeLimits, int bulkSize) {
+        this.nodeLimits = nodeLimits;
+        this.bulkSize = bulkSize;
+        this.minBulkSize = Math.max(1, bulkSize / MIN_BULK_SIZE_DIVISOR);
+    }
+
+    @Override
+    public boolean test(ShardedRequests<?, ?> requests) {
+        int numItems = requests.rowSourceInfos.size();
+        // Only check at multiples of the minimum bulk size to avoid looking at the node limits for every row
+        if (numItems == 0 || numItems % minBulkSize != 0) {
+            return false;
+        }
+        double maxUtilization = 0.0;
+        for (ShardLocation shardLocation : requests.itemsByShard.keySet()) {
+            ConcurrencyLimit nodeLimit = nodeLimits.get(shardLocation.nodeId);
+            double utilization = (double) nodeLimit.numInflight() / nodeLimit.getLimit();
+            maxUtilization = Math.max(maxUtilization, utilization);
+        }
+        int targetBulkSize = Math.max(minBulkSize, (int) (bulkSize * Math.min(1.0, maxUtilization)));
+        boolean completeBulk = numItems >= targetBulkSize;
+        if (completeBulk && numItems < bulkSize && LOGGER.isTraceEnabled()) {
+            LOGGER.trace("Completing bulk early with {} rows. Utilization of target nodes is {}", numItems, maxUtilization);
+        }
+        return completeBulk;
+    }
+}
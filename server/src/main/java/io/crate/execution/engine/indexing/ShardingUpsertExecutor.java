@@ -94,6 +94,7 @@ public class ShardingUpsertExecutor
     private final BulkRequestExecutor<ShardUpsertRequest> requestExecutor;
     private final ElasticsearchClient elasticsearchClient;
     private final BulkShardCreationLimiter bulkShardCreationLimiter;
+    private final AdaptiveBulkSizeLimiter adaptiveBulkSizeLimiter;
     private final UpsertResultCollector resultCollector;
     private final boolean isDebugEnabled;
     private final CircuitBreaker queryCircuitBreaker;
@@ -149,6 +150,7 @@ public class ShardingUpsertExecutor
             targetTableNumShards,
             targetTableNumReplicas,
             clusterService.state().nodes().getDataNodes().size());
+        adaptiveBulkSizeLimiter = new AdaptiveBulkSizeLimiter(nodeJobsCounter, bulkSize);
         this.resultCollector = upsertResultContext.getResultCollector();
         isDebugEnabled = LOGGER.isDebugEnabled();
         this.earlyTerminationCondition = earlyTerminationCondition;
@@ -272,7 +274,7 @@ public class ShardingUpsertExecutor
             bulkSize,
             () -> new ShardedRequests<>(requestFactory, ramAccounting),
             grouper,
-            bulkShardCreationLimiter.or(isUsedBytesOverThreshold)
+            bulkShardCreationLimiter.or(isUsedBytesOverThreshold).or(adaptiveBulkSizeLimiter)
         );
         // If IO is involved the source iterator should pause when the target node reaches a concurrent job counter limit.
         // Without IO, we assume that the source iterates over in-memory structures which should be processed as
@@ -0,0 +1,194 @@
+/*
+ * Licensed to Crate.io GmbH ("Crate") under one or more contributor
+ * license agreements.  See the NOTICE file distributed with this work for
+ * additional information regarding copyright ownership.  Crate licenses
+ * this file to you under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.  You may
+ * obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * However, if you have executed another commercial license agreement
+ * with Crate these terms will supersede the license and you may use the
+ * software solely pursuant to the terms of the relevant commercial agreement.
+ */
+
+package io.crate.execution.engine.sort;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.function.Function;
+
+import org.apache.lucene.search.Sort;
+import org.apache.lucene.search.SortField;
+import org.elasticsearch.common.settings.Setting;
+import org.elasticsearch.common.settings.Setting.Property;
+import org.elasticsearch.common.settings.Settings;
+import org.jetbrains.annotations.Nullable;
+
+import io.crate.metadata.ColumnIdent;
+import io.crate.metadata.Reference;
+import io.crate.metadata.doc.DocTableInfo;
+import io.crate.types.ByteType;
+import io.crate.types.CharacterType;
+import io.crate.types.DoubleType;
+import io.crate.types.FloatType;
+import io.crate.types.IntegerType;
+import io.crate.types.LongType;
+import io.crate.types.ShortType;
+import io.crate.types.StringType;
+import io.crate.types.TimestampType;
+
+/**
+ * Index sort of a table, declared using {@code WITH (sort_by = 'ts DESC, x')}.
+ *
+ * <p>
+ * The documents of each segment are stored in the declared order. Lucene early terminates the collection of
+ * a segment if the ORDER BY of a query is a prefix of the index sort and enough rows have been collected.
+ * This requires that the sort fields of the index sort are equal to those generated by {@link LuceneSort},
+ * which is why both use {@link LuceneSort#mappedSortField(Reference, boolean, NullValueOrder)}.
+ * </p>
+ *
+ * <p>
+ * Like in an ORDER BY clause, the default order is ascending and nulls are sorted as if they were larger
+ * than any other value (NULLS LAST for ASC, NULLS FIRST for DESC).
+ * </p>
+ */
+public final class IndexSort {
+
+    public static final Setting<String> SORT_BY = Setting.simpleString(
+        "index.sort_by",
+        IndexSort::parse,
+        Property.IndexScope,
+        Property.Final
+    );
+
+    private static final Set<Integer> SUPPORTED_TYPES = Set.of(
+        ByteType.ID,
+        ShortType.ID,
+        IntegerType.ID,
+        LongType.ID,
+        TimestampType.ID_WITH_TZ,
+        TimestampType.ID_WITHOUT_TZ,
+        FloatType.ID,
+        DoubleType.ID,
+        StringType.ID,
+        CharacterType.ID
+    );
+
+    public record Entry(ColumnIdent column, boolean reverse, boolean nullsFirst) {
+    }
+
+    private IndexSort() {
+    }
+
+    /**
+     * Parses a comma separated list of {@code <column> [ASC | DESC] [NULLS FIRST | NULLS LAST]} items
+     */
+    public static List<Entry> parse(String sortBy) {
+        ArrayList<Entry> entries = new ArrayList<>();
+        if (sortBy.isBlank()) {
+            return entries;
+        }
+        for (String item : sortBy.split(",")) {
+            String[] parts = item.trim().split("\\s+");
+            if (parts[0].isEmpty()) {
+                throw new IllegalArgumentException("Invalid value for argument 'sort_by': '" + sortBy + "'");
+            }
+            ColumnIdent column = ColumnIdent.fromPath(parts[0]);
+            boolean reverse = false;
+            int pos = 1;
+            if (pos < parts.length) {
+                String direction = parts[pos].toUpperCase(Locale.ENGLISH);
+                if (direction.equals("ASC") || direction.equals("DESC")) {
+                    reverse = direction.equals("DESC");
+                    pos++;
+                }
+            }
+            boolean nullsFirst = reverse;
+            if (pos + 1 < parts.length && parts[pos].equalsIgnoreCase("NULLS")) {
+                String nullOrder = parts[pos + 1].toUpperCase(Locale.ENGLISH);
+                switch (nullOrder) {
+                    case "FIRST" -> nullsFirst = true;
+                    case "LAST" -> nullsFirst = false;
+                    default -> throw new IllegalArgumentException(
+                        "Invalid value for argument 'sort_by': '" + sortBy + "'");
+                }
+                pos += 2;
+            }
+            if (pos != parts.length) {
+                throw new IllegalArgumentException("Invalid value for argument 'sort_by': '" + sortBy + "'");
+            }
+            for (Entry entry : entries) {
+                if (entry.column.equals(column)) {
+                    throw new IllegalArgumentException(
+                        "Column `" + column.sqlFqn() + "` must only be used once in 'sort_by'");
+                }
+            }
+            entries.add(new Entry(column, reverse, nullsFirst));
+        }
+        return entries;
+    }
+
+    /**
+     * @throws IllegalArgumentException if a column of the index sort doesn't exist or cannot be used for sorting
+     */
+    public static void validate(String sortBy, Function<ColumnIdent, Reference> getReference) {
+        for (Entry entry : parse(sortBy)) {
+            resolve(entry.column, getReference);
+        }
+    }
+
+    /**
+     * @return true if the index sort declared in the given table parameters uses the column or one of its children.
+     *         Such columns cannot be dropped or renamed, because the index sort refers to them by name.
+     */
+    public static boolean usesColumn(Settings tableParameters, ColumnIdent column) {
+        for (Entry entry : parse(SORT_BY.get(tableParameters))) {
+            if (entry.column.equals(column) || entry.column.isChildOf(column)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return the index sort declared in the given index settings or null if the index is not sorted.
+     */
+    @Nullable
+    public static Sort of(Settings indexSettings, DocTableInfo table) {
+        List<Entry> entries = parse(SORT_BY.get(indexSettings));
+        if (entries.isEmpty()) {
+            return null;
+        }
+        SortField[] sortFields = new SortField[entries.size()];
+        for (int i = 0; i < entries.size(); i++) {
+            Entry entry = entries.get(i);
+            Reference ref = resolve(entry.column, table::getReference);
+            sortFields[i] = LuceneSort.mappedSortField(ref, entry.reverse, NullValueOrder.fromFlag(entry.nullsFirst));
+        }
+        return new Sort(sortFields);
+    }
+
+    private static Reference resolve(ColumnIdent column, Function<ColumnIdent, Reference> getReference) {
+        Reference ref = getReference.apply(column);
+        if (ref == null || !ref.column().equals(column)) {
+            throw new IllegalArgumentException(
+                "Column `" + column.sqlFqn() + "` used in 'sort_by' does not exist");
+        }
+        if (!ref.hasDocValues() || !SUPPORTED_TYPES.contains(ref.valueType().id())) {
+            throw new IllegalArgumentException(
+                "Column `" + column.sqlFqn() + "` of type `" + ref.valueType().getName() +
+                "` cannot be used in 'sort_by'. Only numeric, timestamp and text columns with columnstore are supported");
+        }
+        return ref;
+    }
+}
@@ -34,7 +34,6 @@ import org.apache.lucene.search.SortedNumericSortField;
 import org.apache.lucene.search.SortedSetSelector;
 import org.apache.lucene.search.SortedSetSortField;
 import org.jetbrains.annotations.Nullable;
-import org.jetbrains.annotations.VisibleForTesting;
 
 import io.crate.analyze.OrderBy;
 import io.crate.data.Input;
@@ -179,7 +178,6 @@ public class LuceneSort extends SymbolVisitor<LuceneSort.SortSymbolContext, Sort
         }
     }
 
-    @VisibleForTesting
     static SortField mappedSortField(Reference symbol,
                                      boolean reverse,
                                      NullValueOrder nullValueOrder) {
@@ -134,6 +134,7 @@ public class JobSetup {
     private final MapSideDataCollectOperation collectOperation;
     private final ClusterService clusterService;
     private final CircuitBreakerService circuitBreakerService;
+    private final ResourceGroups resourceGroups;
     private final CountOperation countOperation;
     private final MemoryManagerFactory memoryManagerFactory;
     private final DistributingConsumerFactory distributingConsumerFactory;
@@ -150,6 +151,7 @@ public class JobSetup {
                     MapSideDataCollectOperation collectOperation,
                     ClusterService clusterService,
                     NodeLimits nodeJobsCounter,
+                    ResourceGroups resourceGroups,
                     CircuitBreakerService circuitBreakerService,
                     CountOperation countOperation,
                     ThreadPool threadPool,
@@ -165,6 +167,7 @@ public class JobSetup {
         this.collectOperation = collectOperation;
         this.clusterService = clusterService;
         this.circuitBreakerService = circuitBreakerService;
+        this.resourceGroups = resourceGroups;
         this.countOperation = countOperation;
         this.memoryManagerFactory = memoryManagerFactory;
         this.pkLookupOperation = new PKLookupOperation(indicesService, shardCollectSource);
@@ -188,6 +191,14 @@ public class JobSetup {
         );
     }
 
+    /**
+     * The query circuit breaker, limited to the memory share of the resource group of the job
+     */
+    private CircuitBreaker queryBreaker(SessionSettings sessionSettings) {
+        ResourceGroup group = resourceGroups.get(sessionSettings.userName(), sessionSettings.resourceGroup());
+        return group.breaker(circuitBreakerService.getBreaker(HierarchyCircuitBreakerService.QUERY));
+    }
+
     public List<CompletableFuture<StreamBucket>> prepareOnRemote(SessionSettings sessionInfo,
                                                                  Collection<? extends NodeOperation> nodeOperations,
                                                                  RootTask.Builder contextBuilder,
@@ -200,7 +211,7 @@ public class JobSetup {
             distributingConsumerFactory,
             nodeOperations,
             sharedShardContexts,
-            circuitBreakerService.getBreaker(HierarchyCircuitBreakerService.QUERY)
+            queryBreaker(sessionInfo)
         );
         registerContextPhases(nodeOperations, context);
         LOGGER.trace(
@@ -230,7 +241,7 @@ public class JobSetup {
             distributingConsumerFactory,
             nodeOperations,
             sharedShardContexts,
-            circuitBreakerService.getBreaker(HierarchyCircuitBreakerService.QUERY)
+            queryBreaker(sessionInfo)
         );
         for (var handlerPhase : handlerPhases) {
             context.registerLeaf(handlerPhase.phase(), handlerPhase.consumer());
@@ -0,0 +1,432 @@
+/*
+ * Licensed to Crate.io GmbH ("Crate") under one or more contributor
+ * license agreements.  See the NOTICE file distributed with this work for
+ * additional information regarding copyright ownership.  Crate licenses
+ * this file to you under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.  You may
+ * obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * However, if you have executed another commercial license agreement
+ * with Crate these terms will supersede the license and you may use the
+ * software solely pursuant to the terms of the relevant commercial agreement.
+ */
+
+
+package io.crate.execution.jobs;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.elasticsearch.common.breaker.CircuitBreaker;
+import org.elasticsearch.common.breaker.CircuitBreakingException;
+import org.elasticsearch.common.lease.Releasable;
+import org.elasticsearch.common.settings.Setting;
+import org.elasticsearch.common.settings.Settings;
+import org.elasticsearch.common.unit.ByteSizeValue;
+import org.elasticsearch.common.util.concurrent.EsRejectedExecutionException;
+import org.elasticsearch.common.util.concurrent.PrioritizedRunnable;
+import org.elasticsearch.common.util.concurrent.WrappedRunnable;
+import org.elasticsearch.threadpool.Scheduler;
+import org.elasticsearch.threadpool.ThreadPool;
+import org.jetbrains.annotations.Nullable;
+
+import io.crate.common.annotations.GuardedBy;
+import io.crate.common.unit.TimeValue;
+
+/**
+ * A group of queries sharing admission, memory and CPU limits on a node.
+ *
+ * <ul>
+ *  <li>Admission: At most {@code max_concurrent_queries} queries of the group run at the same time.
+ *  Further queries wait in a queue of {@code queue_size} entries for at most {@code queue_timeout}.</li>
+ *  <li>Memory: The operations of the group can use at most {@code memory_share} of the query circuit breaker.</li>
+ *  <li>CPU: Collect tasks of the group are ordered on the search thread pool using stride scheduling.
+ *  A group with twice the {@code cpu_shares} gets twice as many tasks started if the pool is saturated.</li>
+ * </ul>
+ */
+public final class ResourceGroup {
+
+    static final Setting<Integer> MAX_CONCURRENT_QUERIES = Setting.intSetting("max_concurrent_queries", 0, 0);
+    static final Setting<Integer> QUEUE_SIZE = Setting.intSetting("queue_size", 100, 0);
+    static final Setting<TimeValue> QUEUE_TIMEOUT =
+        Setting.positiveTimeSetting("queue_timeout", TimeValue.timeValueSeconds(30));
+    static final Setting<Double> MEMORY_SHARE = Setting.doubleSetting("memory_share", 1.0, 0.0, 1.0);
+    static final Setting<Integer> CPU_SHARES = Setting.intSetting("cpu_shares", 100, 1, 10_000);
+    static final String USERS = "users";
+
+    static final Set<String> KEYS = Set.of(
+        MAX_CONCURRENT_QUERIES.getKey(),
+        QUEUE_SIZE.getKey(),
+        QUEUE_TIMEOUT.getKey(),
+        MEMORY_SHARE.getKey(),
+        CPU_SHARES.getKey(),
+        USERS
+    );
+
+    /**
+     * Virtual time needed by a task of a group with a single cpu share
+     */
+    private static final long STRIDE = 1L << 20;
+
+    record Config(List<String> users,
+                  int maxConcurrentQueries,
+                  int queueSize,
+                  TimeValue queueTimeout,
+                  double memoryShare,
+                  int cpuShares) {
+
+        static Config of(Settings settings) {
+            return new Config(
+                settings.getAsList(USERS),
+                MAX_CONCURRENT_QUERIES.get(settings),
+                QUEUE_SIZE.get(settings),
+                QUEUE_TIMEOUT.get(settings),
+                MEMORY_SHARE.get(settings),
+                CPU_SHARES.get(settings)
+            );
+        }
+    }
+
+    private final String name;
+    private final ThreadPool threadPool;
+    private final AtomicLong virtualClock;
+    private final AtomicLong usedBytes = new AtomicLong();
+    private final AtomicLong trippedCount = new AtomicLong();
+
+    private volatile Config config;
+
+    @GuardedBy("this")
+    private final ArrayDeque<Waiter> queue = new ArrayDeque<>();
+    @GuardedBy("this")
+    private int running;
+    @GuardedBy("this")
+    private long admitted;
+    @GuardedBy("this")
+    private long rejected;
+    @GuardedBy("this")
+    private long timedOut;
+    @GuardedBy("this")
+    private long pass;
+
+    ResourceGroup(String name, Config config, ThreadPool threadPool, AtomicLong virtualClock) {
+        this.name = name;
+        this.config = config;
+        this.threadPool = threadPool;
+        this.virtualClock = virtualClock;
+    }
+
+    public String name() {
+        return name;
+    }
+
+    Config config() {
+        return config;
+    }
+
+    void config(Config config) {
+        this.config = config;
+        admitWaiting();
+    }
+
+    public List<String> users() {
+        return config.users;
+    }
+
+    public int maxConcurrentQueries() {
+        return config.maxConcurrentQueries;
+    }
+
+    public int queueSize() {
+        return config.queueSize;
+    }
+
+    public TimeValue queueTimeout() {
+        return config.queueTimeout;
+    }
+
+    public double memoryShare() {
+        return config.memoryShare;
+    }
+
+    public int cpuShares() {
+        return config.cpuShares;
+    }
+
+    public synchronized int running() {
+        return running;
+    }
+
+    public synchronized int queued() {
+        return queue.size();
+    }
+
+    public synchronized long admitted() {
+        return admitted;
+    }
+
+    public synchronized long rejected() {
+        return rejected;
+    }
+
+    public synchronized long timedOut() {
+        return timedOut;
+    }
+
+    public long usedBytes() {
+        return usedBytes.get();
+    }
+
+    public long trippedCount() {
+        return trippedCount.get();
+    }
+
+    /**
+     * Admits a query to the group.
+     * The returned future completes with a permit once the query can run; the permit must be closed when the
+     * query finished. It fails with an {@link EsRejectedExecutionException} if the queue is full or if the
+     * query waited longer than the queue timeout. Completing it exceptionally removes a queued query from the queue.
+     */
+    public CompletableFuture<Releasable> acquire() {
+        Config config = this.config;
+        Waiter waiter;
+        synchronized (this) {
+            if (config.maxConcurrentQueries == 0 || running < config.maxConcurrentQueries) {
+                running++;
+                admitted++;
+                return CompletableFuture.completedFuture(new Permit());
+            }
+            if (queue.size() >= config.queueSize) {
+                rejected++;
+                return CompletableFuture.failedFuture(new EsRejectedExecutionException(String.format(
+                    Locale.ENGLISH,
+                    "Resource group [%s] is at its limit of %d concurrent queries and its queue of %d queries is full",
+                    name,
+                    config.maxConcurrentQueries,
+                    config.queueSize
+                ), false));
+            }
+            waiter = new Waiter();
+            queue.add(waiter);
+        }
+        TimeValue queueTimeout = config.queueTimeout;
+        if (queueTimeout.nanos() > 0) {
+            waiter.timeout = threadPool.schedule(() -> onTimeout(waiter, queueTimeout), queueTimeout, ThreadPool.Names.SAME);
+        }
+        // Completing the future exceptionally, e.g. if the query is killed while queued, gives up its place in the queue
+        waiter.future.whenComplete((permit, err) -> {
+            if (err != null) {
+                remove(waiter);
+            }
+        });
+        return waiter.future;
+    }
+
+    private void remove(Waiter waiter) {
+        synchronized (this) {
+            queue.remove(waiter);
+        }
+        Scheduler.Cancellable timeout = waiter.timeout;
+        if (timeout != null) {
+            timeout.cancel();
+        }
+    }
+
+    private void onTimeout(Waiter waiter, TimeValue queueTimeout) {
+        synchronized (this) {
+            if (queue.remove(waiter) == false) {
+                return;
+            }
+            timedOut++;
+        }
+        waiter.future.completeExceptionally(new EsRejectedExecutionException(String.format(
+            Locale.ENGLISH,
+            "Query waited longer than %s in the queue of resource group [%s]",
+            queueTimeout,
+            name
+        ), false));
+    }
+
+    private void release() {
+        synchronized (this) {
+            running--;
+        }
+        admitWaiting();
+    }
+
+    private void admitWaiting() {
+        List<Waiter> toAdmit = new ArrayList<>();
+        synchronized (this) {
+            int maxConcurrentQueries = config.maxConcurrentQueries;
+            while (queue.isEmpty() == false && (maxConcurrentQueries == 0 || running < maxConcurrentQueries)) {
+                toAdmit.add(queue.poll());
+                running++;
+                admitted++;
+            }
+        }
+        for (Waiter waiter : toAdmit) {
+            Scheduler.Cancellable timeout = waiter.timeout;
+            if (timeout != null) {
+                timeout.cancel();
+            }
+            Permit permit = new Permit();
+            try {
+                // Don't run the query on the thread which finished the previous one
+                threadPool.generic().execute(() -> {
+                    if (waiter.future.complete(permit) == false) {
+                        // The query was killed in the meantime
+                        permit.close();
+                    }
+                });
+            } catch (Exception e) {
+                permit.close();
+                waiter.future.completeExceptionally(e);
+            }
+        }
+    }
+
+    /**
+     * Wraps the query circuit breaker to enforce the memory share of the group.
+     * All breakers created for a group account against the same per-group usage.
+     */
+    public CircuitBreaker breaker(CircuitBreaker parent) {
+        return new GroupCircuitBreaker(parent);
+    }
+
+    /**
+     * Returns a runnable with the same priority, ordered by the virtual start time of the group.
+     * Among runnables of the same priority, those with an earlier start time run first. Runnables which are not
+     * weighted, like the tasks continuing queries which already started, run before the weighted ones.
+     */
+    public PrioritizedRunnable weighted(PrioritizedRunnable runnable) {
+        long start;
+        synchronized (this) {
+            // An idle group must not catch up on the time it didn't use.
+            start = Math.max(pass, virtualClock.get());
+            pass = start + STRIDE / config.cpuShares;
+        }
+        return new WeightedRunnable(runnable, start, virtualClock);
+    }
+
+    private static class Waiter {
+
+        private final CompletableFuture<Releasable> future = new CompletableFuture<>();
+
+        @Nullable
+        private volatile Scheduler.Cancellable timeout;
+    }
+
+    private class Permit implements Releasable {
+
+        private final AtomicBoolean released = new AtomicBoolean(false);
+
+        @Override
+        public void close() {
+            if (released.compareAndSet(false, true)) {
+                release();
+            }
+        }
+    }
+
+    private class GroupCircuitBreaker implements CircuitBreaker {
+
+        private final CircuitBreaker parent;
+
+        GroupCircuitBreaker(CircuitBreaker parent) {
+            this.parent = parent;
+        }
+
+        @Override
+        public double addEstimateBytesAndMaybeBreak(long bytes, String label) throws CircuitBreakingException {
+            long newUsed = usedBytes.addAndGet(bytes);
+            long limit = getLimit();
+            if (bytes > 0 && newUsed > limit) {
+                usedBytes.addAndGet(-bytes);
+                trippedCount.incrementAndGet();
+                throw new CircuitBreakingException(String.format(
+                    Locale.ENGLISH,
+                    "[%s] would use %s of resource group [%s], which is larger than its share of %s",
+                    label,
+                    new ByteSizeValue(newUsed),
+                    name,
+                    new ByteSizeValue(limit)
+                ));
+            }
+            try {
+                return parent.addEstimateBytesAndMaybeBreak(bytes, label);
+            } catch (CircuitBreakingException e) {
+                usedBytes.addAndGet(-bytes);
+                throw e;
+            }
+        }
+
+        @Override
+        public long addWithoutBreaking(long bytes) {
+            usedBytes.addAndGet(bytes);
+            return parent.addWithoutBreaking(bytes);
+        }
+
+        @Override
+        public long getUsed() {
+            return usedBytes.get();
+        }
+
+        @Override
+        public long getLimit() {
+            return (long) (parent.getLimit() * config.memoryShare);
+        }
+
+        @Override
+        public long getTrippedCount() {
+            return trippedCount.get();
+        }
+
+        @Override
+        public String getName() {
+            return parent.getName();
+        }
+    }
+
+    static final class WeightedRunnable extends PrioritizedRunnable implements WrappedRunnable {
+
+        private final PrioritizedRunnable runnable;
+        private final long start;
+        private final AtomicLong virtualClock;
+
+        private WeightedRunnable(PrioritizedRunnable runnable, long start, AtomicLong virtualClock) {
+            super(runnable.priority(), runnable.source());
+            this.runnable = runnable;
+            this.start = start;
+            this.virtualClock = virtualClock;
+        }
+
+        @Override
+        public void run() {
+            virtualClock.accumulateAndGet(start, Math::max);
+            runnable.run();
+        }
+
+        @Override
+        protected long virtualStartTime() {
+            return start;
+        }
+
+        @Override
+        public Runnable unwrap() {
+            return runnable;
+        }
+    }
+}
@@ -0,0 +1,164 @@
+/*
+ * Licensed to Crate.io GmbH ("Crate") under one or more contributor
+ * license agreements.  See the NOTICE file distributed with this work for
+ * additional information regarding copyright ownership.  Crate licenses
+ * this file to you under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.  You may
+ * obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * However, if you have executed another commercial license agreement
+ * with Crate these terms will supersede the license and you may use the
+ * software solely pursuant to the terms of the relevant commercial agreement.
+ */
+
+
+package io.crate.execution.jobs;
+
+import java.util.Collection;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.elasticsearch.common.inject.Inject;
+import org.elasticsearch.common.inject.Singleton;
+import org.elasticsearch.common.settings.ClusterSettings;
+import org.elasticsearch.common.settings.Setting;
+import org.elasticsearch.common.settings.Setting.Property;
+import org.elasticsearch.common.settings.Settings;
+import org.elasticsearch.threadpool.ThreadPool;
+import org.jetbrains.annotations.Nullable;
+
+import io.crate.exceptions.UnauthorizedException;
+import io.crate.metadata.settings.CoordinatorSessionSettings;
+import io.crate.role.Role;
+
+/**
+ * Resource groups defined via {@code workload.groups.<name>.<setting>}.
+ *
+ * <p>
+ * Queries run in the group selected by the {@code resource_group} session setting, or else in the first group
+ * (ordered by name) whose {@code users} contain the session user, or else in the {@link #DEFAULT_GROUP}.
+ * The group is resolved on every node from the streamed {@link io.crate.metadata.settings.SessionSettings},
+ * admission control happens only on the handler node.
+ * </p>
+ */
+@Singleton
+public class ResourceGroups {
+
+    public static final String DEFAULT_GROUP = "default";
+
+    public static final Setting<Settings> GROUPS_SETTING = Setting.groupSetting(
+        "workload.groups.",
+        ResourceGroups::validate,
+        Property.Dynamic,
+        Property.NodeScope
+    );
+
+    private final ThreadPool threadPool;
+    private final AtomicLong virtualClock = new AtomicLong();
+    private volatile Map<String, ResourceGroup> groups = Map.of();
+
+    @Inject
+    public ResourceGroups(Settings settings, ClusterSettings clusterSettings, ThreadPool threadPool) {
+        this.threadPool = threadPool;
+        setGroups(GROUPS_SETTING.get(settings));
+        clusterSettings.addSettingsUpdateConsumer(GROUPS_SETTING, this::setGroups);
+    }
+
+    private static void validate(Settings settings) {
+        for (Map.Entry<String, Settings> entry : settings.getAsGroups().entrySet()) {
+            Settings groupSettings = entry.getValue();
+            for (String key : groupSettings.keySet()) {
+                if (ResourceGroup.KEYS.contains(key) == false) {
+                    throw new IllegalArgumentException(String.format(
+                        Locale.ENGLISH,
+                        "Invalid setting [%s] for resource group [%s], supported settings are %s",
+                        key,
+                        entry.getKey(),
+                        ResourceGroup.KEYS
+                    ));
+                }
+            }
+            ResourceGroup.Config.of(groupSettings);
+        }
+    }
+
+    private synchronized void setGroups(Settings settings) {
+        Map<String, Settings> groupSettings = new TreeMap<>(settings.getAsGroups());
+        groupSettings.putIfAbsent(DEFAULT_GROUP, Settings.EMPTY);
+        Map<String, ResourceGroup> oldGroups = groups;
+        Map<String, ResourceGroup> newGroups = new TreeMap<>();
+        for (Map.Entry<String, Settings> entry : groupSettings.entrySet()) {
+            String name = entry.getKey();
+            ResourceGroup.Config config = ResourceGroup.Config.of(entry.getValue());
+            ResourceGroup group = oldGroups.get(name);
+            if (group == null) {
+                group = new ResourceGroup(name, config, threadPool, virtualClock);
+            } else {
+                // Keep the instance, running queries hold on to it
+                group.config(config);
+            }
+            newGroups.put(name, group);
+        }
+        groups = newGroups;
+    }
+
+    public Collection<ResourceGroup> groups() {
+        return groups.values();
+    }
+
+    /**
+     * Returns the group of a query.
+     * Unknown group names fall back to the user mapping; the handler node validates them via
+     * {@link #forSession(CoordinatorSessionSettings)}.
+     */
+    public ResourceGroup get(@Nullable String userName, @Nullable String resourceGroup) {
+        Map<String, ResourceGroup> groups = this.groups;
+        if (resourceGroup != null) {
+            ResourceGroup group = groups.get(resourceGroup);
+            if (group != null) {
+                return group;
+            }
+        }
+        if (userName != null) {
+            for (ResourceGroup group : groups.values()) {
+                if (group.users().contains(userName)) {
+                    return group;
+                }
+            }
+        }
+        return groups.get(DEFAULT_GROUP);
+    }
+
+    /**
+     * Returns the group a query of the session is admitted to.
+     *
+     * @throws IllegalArgumentException if the group set via the session setting doesn't exist.
+     * @throws UnauthorizedException if the group is restricted to other users.
+     */
+    public ResourceGroup forSession(CoordinatorSessionSettings sessionSettings) {
+        Role user = sessionSettings.sessionUser();
+        String resourceGroup = sessionSettings.resourceGroup();
+        if (resourceGroup == null) {
+            return get(user.name(), null);
+        }
+        ResourceGroup group = groups.get(resourceGroup);
+        if (group == null) {
+            throw new IllegalArgumentException("Resource group [" + resourceGroup + "] does not exist");
+        }
+        if (group.users().isEmpty() == false && group.users().contains(user.name()) == false && user.isSuperUser() == false) {
+            throw new UnauthorizedException(
+                "User \"" + user.name() + "\" is not allowed to use resource group [" + resourceGroup + "]");
+        }
+        return group;
+    }
+}
@@ -28,8 +28,10 @@ import java.util.List;
 import org.apache.lucene.search.BooleanClause;
 import org.apache.lucene.search.BooleanQuery;
 import org.apache.lucene.search.Query;
+import org.jetbrains.annotations.Nullable;
 
 import io.crate.data.Input;
+import io.crate.expression.scalar.KnnMatch;
 import io.crate.expression.symbol.Function;
 import io.crate.expression.symbol.Literal;
 import io.crate.expression.symbol.Symbol;
@@ -134,6 +136,10 @@ public class AndOperator extends Operator<Boolean> {
 
     @Override
     public Query toQuery(Function function, Context context) {
+        Query knnQuery = filteredKnnQuery(function, context);
+        if (knnQuery != null) {
+            return knnQuery;
+        }
         BooleanQuery.Builder query = new BooleanQuery.Builder();
         for (Symbol symbol : function.arguments()) {
             query.add(symbol.accept(context.visitor(), context), BooleanClause.Occur.MUST);
@@ -141,6 +147,44 @@ public class AndOperator extends Operator<Boolean> {
         return query.build();
     }
 
+    /**
+     * Passes the other conjunctions of a single knn_match as filter into the k-NN search so
+     * that it returns the k nearest neighbours among the matching rows, instead of filtering
+     * the k nearest neighbours of all rows afterwards.
+     * The conjunctions are also kept as regular clauses to preserve their score contribution.
+     */
+    @Nullable
+    private static Query filteredKnnQuery(Function function, Context context) {
+        List<Symbol> conjunctions = split(function);
+        Function knnMatch = null;
+        for (Symbol conjunction : conjunctions) {
+            if (conjunction instanceof Function fn && fn.name().equals(KnnMatch.NAME)) {
+                if (knnMatch != null) {
+                    return null;
+                }
+                knnMatch = fn;
+            }
+        }
+        if (knnMatch == null) {
+            return null;
+        }
+        BooleanQuery.Builder filter = new BooleanQuery.Builder();
+        for (Symbol conjunction : conjunctions) {
+            if (conjunction != knnMatch) {
+                filter.add(conjunction.accept(context.visitor(), context), BooleanClause.Occur.MUST);
+            }
+        }
+        Query filterQuery = filter.build();
+        Query knnQuery = KnnMatch.toQuery(knnMatch, filterQuery);
+        if (knnQuery == null) {
+            return null;
+        }
+        return new BooleanQuery.Builder()
+            .add(knnQuery, BooleanClause.Occur.MUST)
+            .add(filterQuery, BooleanClause.Occur.MUST)
+            .build();
+    }
+
     public static Function of(Symbol first, Symbol second) {
         assert first.valueType().equals(DataTypes.BOOLEAN) || first.valueType().equals(DataTypes.UNDEFINED) :
             "first symbol must have BOOLEAN return type to create AND function";
@@ -31,6 +31,8 @@ import java.util.stream.StreamSupport;
 
 import org.jetbrains.annotations.Nullable;
 
+import io.crate.expression.symbol.Literal;
+import io.crate.expression.symbol.Symbol;
 import io.crate.metadata.ColumnIdent;
 import io.crate.metadata.TransactionContext;
 import io.crate.metadata.expressions.RowCollectExpressionFactory;
@@ -38,7 +40,7 @@ import io.crate.role.Role;
 
 public class StaticTableDefinition<T> {
 
-    private final GetRecords<T> getRecords;
+    private final GetFilteredRecords<T> getRecords;
     private final StaticTableReferenceResolver<T> referenceResolver;
     private final boolean involvesIO;
 
@@ -47,11 +49,20 @@ public class StaticTableDefinition<T> {
         CompletableFuture<? extends Iterable<T>> get(TransactionContext txtContext, Role user);
     }
 
+    /**
+     * Like {@link GetRecords}, but also receives the query of the collect phase, so that records which
+     * can't match can be skipped while retrieving them. The query is still applied to the returned records.
+     */
+    @FunctionalInterface
+    public interface GetFilteredRecords<T> {
+        CompletableFuture<? extends Iterable<T>> get(TransactionContext txtContext, Role user, Symbol query);
+    }
+
 
     public StaticTableDefinition(Supplier<CompletableFuture<? extends Iterable<T>>> iterable,
                                  Map<ColumnIdent, ? extends RowCollectExpressionFactory<T>> expressionFactories,
                                  boolean involvesIO) {
-        this.getRecords = (t, u) -> iterable.get();
+        this.getRecords = (t, u, q) -> iterable.get();
         this.referenceResolver = new StaticTableReferenceResolver<>(expressionFactories);
         this.involvesIO = involvesIO;
     }
@@ -59,7 +70,7 @@ public class StaticTableDefinition<T> {
     public StaticTableDefinition(Supplier<? extends Iterable<T>> iterable,
                                  BiPredicate<Role, T> predicate,
                                  Map<ColumnIdent, ? extends RowCollectExpressionFactory<T>> expressionFactories) {
-        this.getRecords = (txnCtx, u) -> completedFuture(() -> StreamSupport.stream(iterable.get().spliterator(), false)
+        this.getRecords = (txnCtx, u, q) -> completedFuture(() -> StreamSupport.stream(iterable.get().spliterator(), false)
             .filter(t -> u == null || predicate.test(u, t)).iterator());
         this.referenceResolver = new StaticTableReferenceResolver<>(expressionFactories);
         this.involvesIO = true;
@@ -69,7 +80,7 @@ public class StaticTableDefinition<T> {
                                  Map<ColumnIdent, ? extends RowCollectExpressionFactory<T>> expressionFactories,
                                  BiPredicate<Role, T> predicate,
                                  boolean involvesIO) {
-        this.getRecords = (txnCtx, user) ->
+        this.getRecords = (txnCtx, user, query) ->
             futureRecords.get().thenApply(records ->
                 StreamSupport.stream(records.spliterator(), false)
                 .filter(r -> user == null || predicate.test(user, r))
@@ -82,13 +93,27 @@ public class StaticTableDefinition<T> {
     public StaticTableDefinition(GetRecords<T> getRecords,
                                  Map<ColumnIdent, ? extends RowCollectExpressionFactory<T>> expressionFactories,
                                  boolean involvesIO) {
+        this.getRecords = (txnCtx, user, query) -> getRecords.get(txnCtx, user);
+        this.referenceResolver = new StaticTableReferenceResolver<>(expressionFactories);
+        this.involvesIO = involvesIO;
+    }
+
+    public StaticTableDefinition(GetFilteredRecords<T> getRecords,
+                                 Map<ColumnIdent, ? extends RowCollectExpressionFactory<T>> expressionFactories,
+                                 boolean involvesIO) {
         this.getRecords = getRecords;
         this.referenceResolver = new StaticTableReferenceResolver<>(expressionFactories);
         this.involvesIO = involvesIO;
     }
 
     public CompletableFuture<? extends Iterable<T>> retrieveRecords(TransactionContext txnCtx, @Nullable Role user) {
-        return getRecords.get(txnCtx, user);
+        return retrieveRecords(txnCtx, user, Literal.BOOLEAN_TRUE);
+    }
+
+    public CompletableFuture<? extends Iterable<T>> retrieveRecords(TransactionContext txnCtx,
+                                                                    @Nullable Role user,
+                                                                    Symbol query) {
+        return getRecords.get(txnCtx, user, query);
     }
 
     public StaticTableReferenceResolver<T> getReferenceResolver() {
@@ -34,7 +34,6 @@ import java.util.function.Consumer;
 
 import org.elasticsearch.Version;
 import org.elasticsearch.common.bytes.BytesReference;
-import org.elasticsearch.common.compress.CompressorFactory;
 import org.elasticsearch.common.xcontent.XContentBuilder;
 import org.elasticsearch.common.xcontent.XContentFactory;
 
@@ -48,6 +47,7 @@ import io.crate.metadata.Reference;
 import io.crate.metadata.RowGranularity;
 import io.crate.metadata.doc.DocTableInfo;
 import io.crate.metadata.doc.SysColumns;
+import io.crate.server.xcontent.XContentHelper;
 import io.crate.sql.tree.ColumnPolicy;
 import io.crate.types.ArrayType;
 import io.crate.types.ObjectType;
@@ -166,7 +166,7 @@ public abstract class StoredRowLookup implements StoredRow {
 
         @Override
         public String asRaw() {
-            return CompressorFactory.uncompressIfNeeded(loadStoredFields()).utf8ToString();
+            return XContentHelper.sourceToJson(loadStoredFields());
 
         }
 
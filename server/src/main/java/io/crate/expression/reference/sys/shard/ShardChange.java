@@ -0,0 +1,106 @@
+/*
+ * Licensed to Crate.io GmbH ("Crate") under one or more contributor
+ * license agreements.  See the NOTICE file distributed with this work for
+ * additional information regarding copyright ownership.  Crate licenses
+ * this file to you under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.  You may
+ * obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * However, if you have executed another commercial license agreement
+ * with Crate these terms will supersede the license and you may use the
+ * software solely pursuant to the terms of the relevant commercial agreement.
+ */
+
+
+package io.crate.expression.reference.sys.shard;
+
+import java.util.Map;
+import java.util.function.Function;
+
+import org.elasticsearch.common.bytes.BytesReference;
+import org.elasticsearch.index.translog.Translog;
+import org.jetbrains.annotations.Nullable;
+
+import io.crate.metadata.IndexParts;
+
+/**
+ * A single insert, update or delete operation of a shard of a published table.
+ */
+public class ShardChange {
+
+    public static final String INSERT = "INSERT";
+    public static final String UPDATE = "UPDATE";
+    public static final String DELETE = "DELETE";
+
+    private final String publication;
+    private final IndexParts indexParts;
+    private final int shardId;
+    private final Translog.Operation operation;
+    private final String type;
+    private final Function<BytesReference, Map<String, Object>> parseSource;
+
+    ShardChange(String publication,
+                IndexParts indexParts,
+                int shardId,
+                Translog.Operation operation,
+                String type,
+                Function<BytesReference, Map<String, Object>> parseSource) {
+        assert operation.opType() != Translog.Operation.Type.NO_OP : "NO_OP operations are not changes";
+        this.publication = publication;
+        this.indexParts = indexParts;
+        this.shardId = shardId;
+        this.operation = operation;
+        this.type = type;
+        this.parseSource = parseSource;
+    }
+
+    public String publication() {
+        return publication;
+    }
+
+    public IndexParts indexParts() {
+        return indexParts;
+    }
+
+    public int shardId() {
+        return shardId;
+    }
+
+    public long seqNo() {
+        return operation.seqNo();
+    }
+
+    public long primaryTerm() {
+        return operation.primaryTerm();
+    }
+
+    /**
+     * {@link #INSERT}, {@link #UPDATE} or {@link #DELETE}, see {@link ShardChanges.ChangeTypes}
+     */
+    public String type() {
+        return type;
+    }
+
+    public String id() {
+        if (operation instanceof Translog.Index index) {
+            return index.id();
+        }
+        return ((Translog.Delete) operation).id();
+    }
+
+    @Nullable
+    public Map<String, Object> source() {
+        if (operation instanceof Translog.Index index) {
+            return parseSource.apply(index.getSource());
+        }
+        return null;
+    }
+}
@@ -0,0 +1,351 @@
+/*
+ * Licensed to Crate.io GmbH ("Crate") under one or more contributor
+ * license agreements.  See the NOTICE file distributed with this work for
+ * additional information regarding copyright ownership.  Crate licenses
+ * this file to you under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.  You may
+ * obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * However, if you have executed another commercial license agreement
+ * with Crate these terms will supersede the license and you may use the
+ * software solely pursuant to the terms of the relevant commercial agreement.
+ */
+
+
+package io.crate.expression.reference.sys.shard;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import org.apache.lucene.store.AlreadyClosedException;
+import org.elasticsearch.cluster.service.ClusterService;
+import org.elasticsearch.common.inject.Inject;
+import org.elasticsearch.common.inject.Singleton;
+import org.elasticsearch.index.shard.IndexShard;
+import org.elasticsearch.index.shard.IndexShardState;
+import org.elasticsearch.index.translog.Translog;
+import org.elasticsearch.indices.IndicesService;
+
+import io.crate.analyze.WhereClause;
+import io.crate.exceptions.RelationUnknown;
+import io.crate.exceptions.SchemaUnknownException;
+import io.crate.expression.NestableInput;
+import io.crate.expression.eval.EvaluatingNormalizer;
+import io.crate.expression.operator.AndOperator;
+import io.crate.expression.operator.EqOperator;
+import io.crate.expression.operator.GtOperator;
+import io.crate.expression.operator.GteOperator;
+import io.crate.expression.operator.LtOperator;
+import io.crate.expression.operator.LteOperator;
+import io.crate.expression.operator.OrOperator;
+import io.crate.expression.reference.doc.lucene.SourceParser;
+import io.crate.expression.symbol.Function;
+import io.crate.expression.symbol.Literal;
+import io.crate.expression.symbol.Symbol;
+import io.crate.metadata.ColumnIdent;
+import io.crate.metadata.CoordinatorTxnCtx;
+import io.crate.metadata.IndexName;
+import io.crate.metadata.IndexParts;
+import io.crate.metadata.MapBackedRefResolver;
+import io.crate.metadata.NodeContext;
+import io.crate.metadata.Reference;
+import io.crate.metadata.RelationName;
+import io.crate.metadata.RowGranularity;
+import io.crate.metadata.doc.DocTableInfo;
+import io.crate.metadata.sys.SysChangesTableInfo.Columns;
+import io.crate.metadata.table.TableInfo;
+import io.crate.replication.logical.metadata.Publication;
+import io.crate.replication.logical.metadata.PublicationsMetadata;
+
+/**
+ * Provides the insert, update and delete operations of the local primary shards of published tables.
+ * <p>
+ * The operations are read from the soft-deletes history, the same history logical replication uses,
+ * starting at the minimum retained sequence number up to the global checkpoint of each shard.
+ * They're read lazily in batches so that consumers can stop early, e.g. using a LIMIT.
+ * </p>
+ * <p>
+ * The query is evaluated against the table and shard columns of each shard first. Shards which can't match
+ * are skipped and a lower bound of the {@code seq_no} of the remaining query, like {@code seq_no > ?},
+ * is used as start of the history read, so that consumers resuming from a sequence number don't read the
+ * whole retained history again.
+ * </p>
+ */
+@Singleton
+public class ShardChanges {
+
+    static final int BATCH_SIZE = 1024;
+
+    private static final String SOURCE = "sys-changes";
+
+    private final ClusterService clusterService;
+    private final IndicesService indicesService;
+    private final NodeContext nodeCtx;
+
+    @Inject
+    public ShardChanges(ClusterService clusterService, IndicesService indicesService, NodeContext nodeCtx) {
+        this.clusterService = clusterService;
+        this.indicesService = indicesService;
+        this.nodeCtx = nodeCtx;
+    }
+
+    /**
+     * @param canRead filters the tables whose changes are included
+     * @param query the query of the collect phase, it must still be applied to the returned changes
+     */
+    public Iterable<ShardChange> changes(Predicate<RelationName> canRead, Symbol query) {
+        return () -> {
+            PublicationsMetadata publications = clusterService.state().metadata().custom(PublicationsMetadata.TYPE);
+            if (publications == null || publications.publications().isEmpty()) {
+                return Collections.emptyIterator();
+            }
+            return StreamSupport.stream(indicesService.spliterator(), false)
+                .flatMap(indexService -> StreamSupport.stream(indexService.spliterator(), false))
+                .filter(indexShard -> indexShard.routingEntry().primary() && indexShard.state() == IndexShardState.STARTED)
+                .flatMap(indexShard -> changes(publications, indexShard, canRead, query))
+                .iterator();
+        };
+    }
+
+    private Stream<ShardChange> changes(PublicationsMetadata publications,
+                                        IndexShard indexShard,
+                                        Predicate<RelationName> canRead,
+                                        Symbol query) {
+        IndexParts indexParts = IndexName.decode(indexShard.shardId().getIndexName());
+        RelationName relationName = indexParts.toRelationName();
+        if (canRead.test(relationName) == false) {
+            return Stream.empty();
+        }
+        int shardId = indexShard.shardId().id();
+        Symbol shardQuery = normalizeForShard(query, indexParts, shardId);
+        if (WhereClause.canMatch(shardQuery) == false) {
+            return Stream.empty();
+        }
+        List<String> publicationNames = new ArrayList<>();
+        for (Map.Entry<String, Publication> entry : publications.publications().entrySet()) {
+            Publication publication = entry.getValue();
+            if (publication.isForAllTables() || publication.tables().contains(relationName)) {
+                publicationNames.add(entry.getKey());
+            }
+        }
+        if (publicationNames.isEmpty()) {
+            return Stream.empty();
+        }
+        TableInfo tableInfo;
+        try {
+            tableInfo = nodeCtx.schemas().getTableInfo(relationName);
+        } catch (RelationUnknown | SchemaUnknownException e) {
+            return Stream.empty();
+        }
+        if (!(tableInfo instanceof DocTableInfo table)) {
+            return Stream.empty();
+        }
+        Collections.sort(publicationNames);
+        SourceParser sourceParser = new SourceParser(table.lookupNameBySourceKey(), false);
+        var operations = new OperationsIterator(indexShard, fromSeqNo(shardQuery));
+        var changeTypes = new ChangeTypes();
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(operations, Spliterator.ORDERED), false)
+            .flatMap(op -> {
+                String type = changeTypes.type(op);
+                return publicationNames.stream().map(
+                    publication -> new ShardChange(publication, indexParts, shardId, op, type, sourceParser::parse));
+            });
+    }
+
+    private Symbol normalizeForShard(Symbol query, IndexParts indexParts, int shardId) {
+        Map<ColumnIdent, NestableInput<?>> shardColumns = Map.of(
+            Columns.TABLE_SCHEMA, indexParts::schema,
+            Columns.TABLE_NAME, indexParts::table,
+            Columns.PARTITION_IDENT, indexParts::partitionIdent,
+            Columns.SHARD_ID, () -> shardId
+        );
+        EvaluatingNormalizer normalizer = new EvaluatingNormalizer(
+            nodeCtx,
+            RowGranularity.DOC,
+            new MapBackedRefResolver(shardColumns),
+            null
+        );
+        return normalizer.normalize(query, CoordinatorTxnCtx.systemTransactionContext());
+    }
+
+    /**
+     * Returns the lowest sequence number which can match the query, 0 if the query doesn't restrict it.
+     * Only comparisons of {@code seq_no} with a literal, combined with AND or OR, are taken into account.
+     */
+    static long fromSeqNo(Symbol query) {
+        if (!(query instanceof Function function)) {
+            return 0L;
+        }
+        List<Symbol> args = function.arguments();
+        switch (function.name()) {
+            case AndOperator.NAME: {
+                long fromSeqNo = 0L;
+                for (Symbol arg : args) {
+                    fromSeqNo = Math.max(fromSeqNo, fromSeqNo(arg));
+                }
+                return fromSeqNo;
+            }
+            case OrOperator.NAME: {
+                long fromSeqNo = Long.MAX_VALUE;
+                for (Symbol arg : args) {
+                    fromSeqNo = Math.min(fromSeqNo, fromSeqNo(arg));
+                }
+                return fromSeqNo;
+            }
+            case GtOperator.NAME:
+                return isSeqNo(args.get(0)) ? after(args.get(1)) : 0L;
+            case GteOperator.NAME:
+                return isSeqNo(args.get(0)) ? from(args.get(1)) : 0L;
+            case LtOperator.NAME:
+                return isSeqNo(args.get(1)) ? after(args.get(0)) : 0L;
+            case LteOperator.NAME:
+                return isSeqNo(args.get(1)) ? from(args.get(0)) : 0L;
+            case EqOperator.NAME:
+                if (isSeqNo(args.get(0))) {
+                    return from(args.get(1));
+                }
+                return isSeqNo(args.get(1)) ? from(args.get(0)) : 0L;
+            default:
+                return 0L;
+        }
+    }
+
+    private static boolean isSeqNo(Symbol symbol) {
+        return symbol instanceof Reference ref && ref.column().equals(Columns.SEQ_NO);
+    }
+
+    private static long from(Symbol symbol) {
+        if (symbol instanceof Literal<?> literal && literal.value() instanceof Number number) {
+            return Math.max(0L, number.longValue());
+        }
+        return 0L;
+    }
+
+    private static long after(Symbol symbol) {
+        if (symbol instanceof Literal<?> literal && literal.value() instanceof Number number) {
+            long value = number.longValue();
+            return value == Long.MAX_VALUE ? value : Math.max(0L, value + 1);
+        }
+        return 0L;
+    }
+
+    /**
+     * Derives the type of the operations of a shard, which must be passed in sequence number order.
+     * <p>
+     * An index operation is an INSERT if no live document existed before. The history doesn't record that,
+     * and a document which is indexed again after being deleted continues with the version following its
+     * delete tombstone. An index operation is therefore an INSERT if it is the first version of a document or
+     * if the previous operation of the document is a delete. Only the ids of deleted documents are tracked.
+     * </p>
+     * <p>
+     * The type is approximate: an index operation is reported as UPDATE if the delete preceding it isn't read,
+     * because it left the retained history, it is before the start of the read, or because more than
+     * {@link #MAX_DELETED_IDS} deletes are tracked and it has been evicted.
+     * </p>
+     */
+    static class ChangeTypes {
+
+        static final int MAX_DELETED_IDS = 10_000;
+
+        private final Set<String> deletedIds = Collections.newSetFromMap(new LinkedHashMap<>() {
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Boolean> eldest) {
+                return size() > MAX_DELETED_IDS;
+            }
+        });
+
+        String type(Translog.Operation op) {
+            if (op instanceof Translog.Index index) {
+                boolean wasDeleted = deletedIds.remove(index.id());
+                return wasDeleted || index.version() == 1 ? ShardChange.INSERT : ShardChange.UPDATE;
+            }
+            deletedIds.add(((Translog.Delete) op).id());
+            return ShardChange.DELETE;
+        }
+    }
+
+    /**
+     * Reads the operations of a shard in batches of {@link #BATCH_SIZE} sequence numbers.
+     * Each batch opens and closes its own snapshot, so that no resources are held if the iterator isn't consumed.
+     */
+    static class OperationsIterator implements Iterator<Translog.Operation> {
+
+        private final IndexShard indexShard;
+        private final long fromSeqNo;
+        private long nextSeqNo = -1;
+        private long toSeqNo = -1;
+        private Iterator<Translog.Operation> batch = Collections.emptyIterator();
+        private boolean initialized = false;
+
+        OperationsIterator(IndexShard indexShard, long fromSeqNo) {
+            this.indexShard = indexShard;
+            this.fromSeqNo = fromSeqNo;
+        }
+
+        @Override
+        public boolean hasNext() {
+            try {
+                if (initialized == false) {
+                    initialized = true;
+                    nextSeqNo = Math.max(fromSeqNo, Math.max(0, indexShard.getMinRetainedSeqNo()));
+                    toSeqNo = indexShard.getLastKnownGlobalCheckpoint();
+                }
+                while (batch.hasNext() == false && nextSeqNo <= toSeqNo) {
+                    batch = readBatch();
+                }
+            } catch (AlreadyClosedException e) {
+                // Shard got closed or relocated in the meantime
+                nextSeqNo = toSeqNo + 1;
+                batch = Collections.emptyIterator();
+            }
+            return batch.hasNext();
+        }
+
+        @Override
+        public Translog.Operation next() {
+            if (hasNext() == false) {
+                throw new NoSuchElementException("No more changes");
+            }
+            return batch.next();
+        }
+
+        private Iterator<Translog.Operation> readBatch() {
+            long batchToSeqNo = Math.min(toSeqNo, nextSeqNo + BATCH_SIZE - 1);
+            List<Translog.Operation> operations = new ArrayList<>();
+            try (Translog.Snapshot snapshot = indexShard.newChangesSnapshot(SOURCE, nextSeqNo, batchToSeqNo, false)) {
+                Translog.Operation op;
+                while ((op = snapshot.next()) != null) {
+                    if (op.opType() != Translog.Operation.Type.NO_OP) {
+                        operations.add(op);
+                    }
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            nextSeqNo = batchToSeqNo + 1;
+            return operations.iterator();
+        }
+    }
+}
@@ -24,6 +24,8 @@ package io.crate.expression.reference.sys.snapshot;
 import java.util.List;
 import java.util.stream.Stream;
 
+import org.jetbrains.annotations.Nullable;
+
 import io.crate.metadata.IndexName;
 import io.crate.metadata.IndexParts;
 import io.crate.metadata.PartitionName;
@@ -43,6 +45,8 @@ public class SysSnapshot {
     private final String reason;
     private final int totalShards;
     private final Boolean includeGlobalState;
+    @Nullable
+    private final Long bytesWritten;
 
     private final List<String> snapshotShardFailures;
 
@@ -58,7 +62,8 @@ public class SysSnapshot {
                        List<String> snapshotShardFailures,
                        String reason,
                        int totalShards,
-                       Boolean includeGlobalState
+                       Boolean includeGlobalState,
+                       @Nullable Long bytesWritten
                        ) {
         this.uuid = uuid;
         this.name = name;
@@ -73,6 +78,7 @@ public class SysSnapshot {
         this.reason = reason;
         this.totalShards = totalShards;
         this.includeGlobalState = includeGlobalState;
+        this.bytesWritten = bytesWritten;
     }
 
     public String uuid() {
@@ -123,6 +129,30 @@ public class SysSnapshot {
         return includeGlobalState;
     }
 
+    /**
+     * Bytes of the files uploaded to the repository. For running snapshots only completed shards are included.
+     */
+    @Nullable
+    public Long bytesWritten() {
+        return bytesWritten;
+    }
+
+    /**
+     * Average upload rate in bytes per second. Running snapshots are measured up to now.
+     */
+    @Nullable
+    public Long bytesPerSecond() {
+        if (bytesWritten == null || started == null) {
+            return null;
+        }
+        long end = finished == null || finished == 0L ? System.currentTimeMillis() : finished;
+        long durationInMs = end - started;
+        if (durationInMs <= 0) {
+            return null;
+        }
+        return bytesWritten * 1000 / durationInMs;
+    }
+
     public List<String> tables() {
         return Stream.concat(concreteIndices.stream().map(RelationName::fqnFromIndexName), partitionedTables.stream())
             .distinct()
@@ -119,7 +119,8 @@ public class SysSnapshots {
             Lists.map(snapshotInfo.shardFailures(), SnapshotShardFailure::toString),
             snapshotInfo.reason(),
             snapshotInfo.totalShards(),
-            snapshotInfo.includeGlobalState()
+            snapshotInfo.includeGlobalState(),
+            snapshotInfo.incrementalSize() < 0 ? null : snapshotInfo.incrementalSize()
         );
     }
 
@@ -139,10 +140,23 @@ public class SysSnapshots {
             Collections.emptyList(),
             entry.failure(),
             entry.shards().size(),
-            entry.includeGlobalState()
+            entry.includeGlobalState(),
+            incrementalSize(entry)
         );
     }
 
+    @Nullable
+    private static Long incrementalSize(SnapshotsInProgress.Entry entry) {
+        Long incrementalSize = null;
+        for (var cursor : entry.shards()) {
+            long shardIncrementalSize = cursor.value.incrementalSize();
+            if (cursor.value.state() == SnapshotsInProgress.ShardState.SUCCESS && shardIncrementalSize >= 0) {
+                incrementalSize = (incrementalSize == null ? 0L : incrementalSize) + shardIncrementalSize;
+            }
+        }
+        return incrementalSize;
+    }
+
     private static CompletableFuture<SysSnapshot> createSysSnapshot(Repository repository, SnapshotId snapshotId) {
         return repository.getSnapshotGlobalMetadata(snapshotId).thenCombine(
             repository.getSnapshotInfo(snapshotId),
@@ -172,6 +186,7 @@ public class SysSnapshots {
                         List.of(),
                         null, // We don't show info retrieval error, "reason" shows only snapshotting operation error.
                         0,
+                        null,
                         null
                     );
                 }
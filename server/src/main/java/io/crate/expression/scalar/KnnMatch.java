@@ -26,6 +26,7 @@ import java.util.List;
 
 import org.apache.lucene.search.KnnFloatVectorQuery;
 import org.apache.lucene.search.Query;
+import org.apache.lucene.search.TopDocs;
 import org.jetbrains.annotations.Nullable;
 
 import io.crate.data.Input;
@@ -47,15 +48,29 @@ import io.crate.types.TypeSignature;
 
 public class KnnMatch extends Scalar<Boolean, Object> {
 
+    public static final String NAME = "knn_match";
+
     public static void register(Functions.Builder module) {
         module.add(
-            Signature.builder("knn_match", FunctionType.SCALAR)
+            Signature.builder(NAME, FunctionType.SCALAR)
                 .argumentTypes(TypeSignature.parse(FloatVectorType.NAME), TypeSignature.parse(FloatVectorType.NAME), DataTypes.INTEGER.getTypeSignature())
                 .returnType(DataTypes.BOOLEAN.getTypeSignature())
                 .features(Feature.DETERMINISTIC)
                 .build(),
             KnnMatch::new
         );
+        module.add(
+            Signature.builder(NAME, FunctionType.SCALAR)
+                .argumentTypes(
+                    TypeSignature.parse(FloatVectorType.NAME),
+                    TypeSignature.parse(FloatVectorType.NAME),
+                    DataTypes.INTEGER.getTypeSignature(),
+                    DataTypes.INTEGER.getTypeSignature())
+                .returnType(DataTypes.BOOLEAN.getTypeSignature())
+                .features(Feature.DETERMINISTIC)
+                .build(),
+            KnnMatch::new
+        );
     }
 
     public KnnMatch(Signature signature, BoundSignature boundSignature) {
@@ -73,6 +88,16 @@ public class KnnMatch extends Scalar<Boolean, Object> {
     @Override
     @Nullable
     public Query toQuery(Function function, Context context) {
+        return toQuery(function, null);
+    }
+
+    /**
+     * @param filter restricts the neighbours to documents matching the filter.
+     *               Lucene switches to an exact search over the matching documents
+     *               if the filter is more selective than the graph search.
+     */
+    @Nullable
+    public static Query toQuery(Function function, @Nullable Query filter) {
         List<Symbol> args = function.arguments();
         if (args.get(0) instanceof Reference ref
                 && args.get(1) instanceof Literal<?> targetLiteral
@@ -80,12 +105,57 @@ public class KnnMatch extends Scalar<Boolean, Object> {
 
             Object target = targetLiteral.value();
             Object k = kLiteral.value();
-            if (target instanceof float[] && k instanceof Integer) {
-                return new KnnFloatVectorQuery(ref.storageIdent(), (float[]) target, (int) k);
+            if (target instanceof float[] vector && k instanceof Integer numResults) {
+                if (args.size() == 4) {
+                    if (args.get(3) instanceof Literal<?> numCandidatesLiteral
+                            && numCandidatesLiteral.value() instanceof Integer numCandidates) {
+                        if (numCandidates < numResults) {
+                            throw new IllegalArgumentException(
+                                "knn_match num_candidates must be greater than or equal to k, got " + numCandidates + " < " + numResults);
+                        }
+                        return new KnnCandidatesQuery(ref.storageIdent(), vector, numCandidates, numResults, filter);
+                    }
+                    return null;
+                }
+                return new KnnFloatVectorQuery(ref.storageIdent(), vector, numResults, filter);
             }
             return null;
         }
         return null;
     }
 
+    /**
+     * Explores {@code numCandidates} nearest neighbours per segment in the HNSW graph but
+     * matches only the {@code k} best of them. A larger number of candidates improves the
+     * recall of approximate search, which is especially useful with quantized vectors.
+     */
+    static final class KnnCandidatesQuery extends KnnFloatVectorQuery {
+
+        private final int numResults;
+
+        KnnCandidatesQuery(String field, float[] target, int numCandidates, int numResults, @Nullable Query filter) {
+            super(field, target, numCandidates, filter);
+            this.numResults = numResults;
+        }
+
+        @Override
+        protected TopDocs mergeLeafResults(TopDocs[] perLeafResults) {
+            return TopDocs.merge(numResults, perLeafResults);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            return super.equals(obj) && numResults == ((KnnCandidatesQuery) obj).numResults;
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * super.hashCode() + numResults;
+        }
+
+        @Override
+        public String toString(String field) {
+            return super.toString(field) + "[" + numResults + "]";
+        }
+    }
 }
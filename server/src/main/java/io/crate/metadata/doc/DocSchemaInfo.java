@@ -45,10 +45,6 @@ import org.elasticsearch.index.Index;
 import org.jetbrains.annotations.Nullable;
 import org.jetbrains.annotations.VisibleForTesting;
 
-import com.carrotsearch.hppc.ObjectLookupContainer;
-import com.carrotsearch.hppc.cursors.ObjectCursor;
-import com.carrotsearch.hppc.cursors.ObjectObjectCursor;
-
 import io.crate.blob.v2.BlobIndex;
 import io.crate.exceptions.ResourceUnknownException;
 import io.crate.metadata.IndexName;
@@ -178,7 +174,7 @@ public class DocSchemaInfo implements SchemaInfo {
         IndexTemplateMetadata indexTemplateMetadata = metadata.templates().get(templateName);
         if (indexTemplateMetadata == null) {
             IndexMetadata index = metadata.index(name.indexNameOrAlias());
-            return index == null ? 0 : index.getVersion();
+            return index == null ? 0 : DocTableInfoFactory.tableVersion(index);
         } else {
             return indexTemplateMetadata.version() == null ? 0 : indexTemplateMetadata.version();
         }
@@ -255,48 +251,11 @@ public class DocSchemaInfo implements SchemaInfo {
             invalidateAliases(newMetadata.index(index).getAliases());
         }
 
-        // search for templates with changed meta data => invalidate template aliases
-        ImmutableOpenMap<String, IndexTemplateMetadata> newTemplates = newMetadata.templates();
-        ImmutableOpenMap<String, IndexTemplateMetadata> prevTemplates = prevMetadata.templates();
-        if (!newTemplates.equals(prevTemplates)) {
-            for (ObjectCursor<IndexTemplateMetadata> cursor : newTemplates.values()) {
-                invalidateAliases(cursor.value.aliases());
-            }
-            for (ObjectCursor<IndexTemplateMetadata> cursor : prevTemplates.values()) {
-                invalidateAliases(cursor.value.aliases());
-            }
-        }
-
-        // search indices with changed meta data
-        Iterator<String> currentTablesIt = docTableByName.keySet().iterator();
-        ObjectLookupContainer<String> templates = newTemplates.keys();
-        ImmutableOpenMap<String, IndexMetadata> indices = newMetadata.indices();
-        while (currentTablesIt.hasNext()) {
-            String tableName = currentTablesIt.next();
-            String indexName = getIndexName(tableName);
-
-            IndexMetadata newIndexMetadata = newMetadata.index(indexName);
-            if (newIndexMetadata == null) {
+        // Only tables whose definition changed are rebuilt. Applying a cluster state diff keeps the instances of
+        // unchanged relations, templates and indices, so for most tables this is an identity check.
+        for (String tableName : docTableByName.keySet()) {
+            if (tableChanged(prevMetadata, newMetadata, new RelationName(schemaName, tableName))) {
                 docTableByName.remove(tableName);
-            } else {
-                IndexMetadata oldIndexMetadata = prevMetadata.index(indexName);
-                if (oldIndexMetadata != null && ClusterChangedEvent.indexMetadataChanged(oldIndexMetadata, newIndexMetadata)) {
-                    docTableByName.remove(tableName);
-                    // invalidate aliases of changed indices
-                    invalidateAliases(newIndexMetadata.getAliases());
-                    invalidateAliases(oldIndexMetadata.getAliases());
-                } else {
-                    // this is the case if a single partition has been modified using alter table <t> partition (...)
-                    String possibleTemplateName = PartitionName.templateName(name(), tableName);
-                    if (templates.contains(possibleTemplateName)) {
-                        for (ObjectObjectCursor<String, IndexMetadata> indexEntry : indices) {
-                            if (IndexName.isPartitioned(indexEntry.key)) {
-                                docTableByName.remove(tableName);
-                                break;
-                            }
-                        }
-                    }
-                }
             }
         }
 
@@ -386,6 +345,59 @@ public class DocSchemaInfo implements SchemaInfo {
         }
     }
 
+    /**
+     * Returns true if the parts of the metadata a {@link DocTableInfo} is built from changed.
+     * Partitions are resolved from the {@link Metadata} when needed, so adding or removing partitions
+     * or changing their routing doesn't require a rebuild.
+     */
+    @VisibleForTesting
+    static boolean tableChanged(Metadata prevMetadata, Metadata newMetadata, RelationName relation) {
+        RelationMetadata prevRelation = prevMetadata.getRelation(relation);
+        RelationMetadata newRelation = newMetadata.getRelation(relation);
+        if (prevRelation != null || newRelation != null) {
+            if (prevRelation instanceof RelationMetadata.Table prevTable
+                    && newRelation instanceof RelationMetadata.Table newTable) {
+                return tableDefinitionChanged(prevTable, newTable);
+            }
+            return !Objects.equals(prevRelation, newRelation);
+        }
+        String templateName = PartitionName.templateName(relation.schema(), relation.name());
+        IndexTemplateMetadata prevTemplate = prevMetadata.templates().get(templateName);
+        IndexTemplateMetadata newTemplate = newMetadata.templates().get(templateName);
+        if (prevTemplate != null || newTemplate != null) {
+            return !Objects.equals(prevTemplate, newTemplate);
+        }
+        IndexMetadata prevIndex = prevMetadata.index(relation.indexNameOrAlias());
+        IndexMetadata newIndex = newMetadata.index(relation.indexNameOrAlias());
+        if (prevIndex == newIndex) {
+            return false;
+        }
+        if (prevIndex == null || newIndex == null) {
+            return true;
+        }
+        return prevIndex.getState() != newIndex.getState()
+            || !prevIndex.getIndexUUID().equals(newIndex.getIndexUUID())
+            || prevIndex.getMappingVersion() != newIndex.getMappingVersion()
+            || prevIndex.getSettingsVersion() != newIndex.getSettingsVersion();
+    }
+
+    private static boolean tableDefinitionChanged(RelationMetadata.Table prevTable, RelationMetadata.Table newTable) {
+        if (prevTable == newTable) {
+            return false;
+        }
+        // indexUUIDs are left out on purpose, they change whenever a partition is added or removed
+        return prevTable.state() != newTable.state()
+            || prevTable.columnPolicy() != newTable.columnPolicy()
+            || !prevTable.name().equals(newTable.name())
+            || !prevTable.settings().equals(newTable.settings())
+            || !Objects.equals(prevTable.routingColumn(), newTable.routingColumn())
+            || !Objects.equals(prevTable.pkConstraintName(), newTable.pkConstraintName())
+            || !prevTable.primaryKeys().equals(newTable.primaryKeys())
+            || !prevTable.partitionedBy().equals(newTable.partitionedBy())
+            || !prevTable.checkConstraints().equals(newTable.checkConstraints())
+            || !prevTable.columns().equals(newTable.columns());
+    }
+
     /**
      * checks if metadata contains a particular index and
      * invalidates its aliases if so
@@ -398,14 +410,6 @@ public class DocSchemaInfo implements SchemaInfo {
         }
     }
 
-    private String getIndexName(String tableName) {
-        if (schemaName.equals(Schemas.DOC_SCHEMA_NAME)) {
-            return tableName;
-        } else {
-            return schemaName + "." + tableName;
-        }
-    }
-
     private void invalidateAliases(ImmutableOpenMap<String, AliasMetadata> aliases) {
         assert aliases != null : "aliases must not be null";
         if (aliases.size() > 0) {
@@ -235,7 +235,7 @@ public class DocTableInfoFactory {
             state = index.getState();
             MappingMetadata mapping = index.mapping();
             mappingSource = mapping == null ? Map.of() : mapping.sourceAsMap();
-            tableVersion = index.getVersion();
+            tableVersion = tableVersion(index);
             if (concreteIndices.isEmpty()) {
                 throw new RelationUnknown(relation);
             }
@@ -351,6 +351,14 @@ public class DocTableInfoFactory {
         );
     }
 
+    /**
+     * Version of a table backed by a single index. Only changes of the mapping or the settings are relevant,
+     * the index version itself is also incremented on allocation changes.
+     */
+    static long tableVersion(IndexMetadata index) {
+        return index.getMappingVersion() + index.getSettingsVersion();
+    }
+
     private DocTableInfo tableFromRelationMetadata(RelationMetadata.Table table,
                                                    @Nullable PublicationsMetadata publicationsMetadata) {
         Map<ColumnIdent, Reference> columns = table.columns().stream()
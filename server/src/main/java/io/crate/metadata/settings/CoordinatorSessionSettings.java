@@ -185,6 +185,10 @@ public class CoordinatorSessionSettings extends SessionSettings {
         this.insertSelectFailFast = insertSelectFailFast;
     }
 
+    public void resourceGroup(String resourceGroup) {
+        this.resourceGroup = resourceGroup;
+    }
+
     public Map<String, Object> toMap() {
         Map<String, Object> map = new TreeMap<>();
         map.put(SessionSettingRegistry.HASH_JOIN_KEY, hashJoinsEnabled);
@@ -196,6 +200,7 @@ public class CoordinatorSessionSettings extends SessionSettings {
         map.put(Sessions.MEMORY_LIMIT_KEY, memoryLimit);
         map.put(Sessions.STATEMENT_TIMEOUT_KEY, statementTimeout.toString());
         map.put(SessionSettingRegistry.INSERT_SELECT_FAIL_FAST_KEY, insertSelectFailFast);
+        map.put(SessionSettingRegistry.RESOURCE_GROUP_KEY, resourceGroup);
         map.put("disabled_optimizer_rules",
             excludedOptimizerRules
                 .stream()
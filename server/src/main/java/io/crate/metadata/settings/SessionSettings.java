@@ -29,6 +29,7 @@ import org.elasticsearch.common.io.stream.StreamInput;
 import org.elasticsearch.common.io.stream.StreamOutput;
 import org.elasticsearch.common.io.stream.Writeable;
 
+import org.jetbrains.annotations.Nullable;
 import org.jetbrains.annotations.VisibleForTesting;
 import io.crate.common.unit.TimeValue;
 import io.crate.metadata.SearchPath;
@@ -46,6 +47,8 @@ public class SessionSettings implements Writeable {
     protected boolean errorOnUnknownObjectKey;
     protected int memoryLimit;
     protected boolean insertSelectFailFast;
+    @Nullable
+    protected String resourceGroup;
 
     @VisibleForTesting
     public SessionSettings(String userName, SearchPath searchPath) {
@@ -84,8 +87,10 @@ public class SessionSettings implements Writeable {
         }
         if (version.onOrAfter(Version.V_6_0_0)) {
             this.insertSelectFailFast = in.readBoolean();
+            this.resourceGroup = in.readOptionalString();
         } else {
             this.insertSelectFailFast = false;
+            this.resourceGroup = null;
         }
     }
 
@@ -103,6 +108,7 @@ public class SessionSettings implements Writeable {
         }
         if (version.onOrAfter(Version.V_6_0_0)) {
             out.writeBoolean(insertSelectFailFast);
+            out.writeOptionalString(resourceGroup);
         }
     }
 
@@ -153,6 +159,14 @@ public class SessionSettings implements Writeable {
         return insertSelectFailFast;
     }
 
+    /**
+     * resource_group, null if the group is chosen by the user mapping of the resource groups.
+     **/
+    @Nullable
+    public String resourceGroup() {
+        return resourceGroup;
+    }
+
 
     @Override
     public boolean equals(Object o) {
@@ -167,11 +181,12 @@ public class SessionSettings implements Writeable {
                Objects.equals(searchPath, that.searchPath) &&
                Objects.equals(hashJoinsEnabled, that.hashJoinsEnabled) &&
                Objects.equals(memoryLimit, that.memoryLimit) &&
-               Objects.equals(insertSelectFailFast, that.insertSelectFailFast);
+               Objects.equals(insertSelectFailFast, that.insertSelectFailFast) &&
+               Objects.equals(resourceGroup, that.resourceGroup);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(userName, searchPath, hashJoinsEnabled, memoryLimit, insertSelectFailFast);
+        return Objects.hash(userName, searchPath, hashJoinsEnabled, memoryLimit, insertSelectFailFast, resourceGroup);
     }
 }
@@ -55,6 +55,7 @@ public class SessionSettingRegistry {
     public static final String APPLICATION_NAME_KEY = "application_name";
     public static final String DATE_STYLE_KEY = "datestyle";
     public static final String INSERT_SELECT_FAIL_FAST_KEY = "insert_select_fail_fast";
+    public static final String RESOURCE_GROUP_KEY = "resource_group";
 
     static final String MAX_INDEX_KEYS = "max_index_keys";
     static final String MAX_IDENTIFIER_LENGTH = "max_identifier_length";
@@ -132,6 +133,16 @@ public class SessionSettingRegistry {
         DataTypes.BOOLEAN
     );
 
+    static final SessionSetting<String> RESOURCE_GROUP = new SessionSetting<>(
+        RESOURCE_GROUP_KEY,
+        inputs -> DataTypes.STRING.implicitCast(inputs[0]),
+        CoordinatorSessionSettings::resourceGroup,
+        SessionSettings::resourceGroup,
+        () -> null,
+        "Resource group used to admit and schedule queries. Defaults to the group the user is mapped to",
+        DataTypes.STRING
+    );
+
     private final Map<String, SessionSetting<?>> settings;
 
     @Inject
@@ -245,7 +256,8 @@ public class SessionSettingRegistry {
             .put(DATE_STYLE.name(), DATE_STYLE)
             .put(STATEMENT_TIMEOUT.name(), STATEMENT_TIMEOUT)
             .put(MEMORY_LIMIT.name(), MEMORY_LIMIT)
-            .put(ALLOW_FAIL_ON_PARTIAL_WRITES.name(), ALLOW_FAIL_ON_PARTIAL_WRITES);
+            .put(ALLOW_FAIL_ON_PARTIAL_WRITES.name(), ALLOW_FAIL_ON_PARTIAL_WRITES)
+            .put(RESOURCE_GROUP.name(), RESOURCE_GROUP);
 
         for (var providers : sessionSettingProviders) {
             for (var setting : providers.sessionSettings()) {
@@ -0,0 +1,71 @@
+/*
+ * Licensed to Crate.io GmbH ("Crate") under one or more contributor
+ * license agreements.  See the NOTICE file distributed with this work for
+ * additional information regarding copyright ownership.  Crate licenses
+ * this file to you under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.  You may
+ * obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * However, if you have executed another commercial license agreement
+ * with Crate these terms will supersede the license and you may use the
+ * software solely pursuant to the terms of the relevant commercial agreement.
+ */
+
+
+package io.crate.metadata.sys;
+
+import static io.crate.types.DataTypes.INTEGER;
+import static io.crate.types.DataTypes.LONG;
+import static io.crate.types.DataTypes.STRING;
+import static io.crate.types.DataTypes.UNTYPED_OBJECT;
+
+import java.util.function.Supplier;
+
+import org.elasticsearch.cluster.node.DiscoveryNode;
+
+import io.crate.expression.reference.sys.shard.ShardChange;
+import io.crate.metadata.ColumnIdent;
+import io.crate.metadata.RelationName;
+import io.crate.metadata.Routing;
+import io.crate.metadata.SystemTable;
+
+public class SysChangesTableInfo {
+
+    public static final RelationName IDENT = new RelationName(SysSchemaInfo.NAME, "changes");
+
+    public static class Columns {
+        public static final ColumnIdent TABLE_SCHEMA = ColumnIdent.of("table_schema");
+        public static final ColumnIdent TABLE_NAME = ColumnIdent.of("table_name");
+        public static final ColumnIdent PARTITION_IDENT = ColumnIdent.of("partition_ident");
+        public static final ColumnIdent SHARD_ID = ColumnIdent.of("shard_id");
+        public static final ColumnIdent SEQ_NO = ColumnIdent.of("seq_no");
+    }
+
+    public static SystemTable<ShardChange> create(Supplier<DiscoveryNode> localNode) {
+        return SystemTable.<ShardChange>builder(IDENT)
+            .add("publication", STRING, ShardChange::publication)
+            .add("table_schema", STRING, r -> r.indexParts().schema())
+            .add("table_name", STRING, r -> r.indexParts().table())
+            .add("partition_ident", STRING, r -> r.indexParts().partitionIdent())
+            .add("shard_id", INTEGER, ShardChange::shardId)
+            .startObject("node")
+                .add("id", STRING, ignored -> localNode.get().getId())
+                .add("name", STRING, ignored -> localNode.get().getName())
+            .endObject()
+            .add("seq_no", LONG, ShardChange::seqNo)
+            .add("primary_term", LONG, ShardChange::primaryTerm)
+            .add("type", STRING, ShardChange::type)
+            .add("id", STRING, ShardChange::id)
+            .add("source", UNTYPED_OBJECT, ShardChange::source)
+            .withRouting((state, routingProvider, sessionSettings) -> Routing.forTableOnAllNodes(IDENT, state.nodes()))
+            .build();
+    }
+}
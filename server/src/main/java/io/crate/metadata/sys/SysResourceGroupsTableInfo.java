@@ -0,0 +1,66 @@
+/*
+ * Licensed to Crate.io GmbH ("Crate") under one or more contributor
+ * license agreements.  See the NOTICE file distributed with this work for
+ * additional information regarding copyright ownership.  Crate licenses
+ * this file to you under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.  You may
+ * obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * However, if you have executed another commercial license agreement
+ * with Crate these terms will supersede the license and you may use the
+ * software solely pursuant to the terms of the relevant commercial agreement.
+ */
+
+package io.crate.metadata.sys;
+
+import static io.crate.types.DataTypes.DOUBLE;
+import static io.crate.types.DataTypes.INTEGER;
+import static io.crate.types.DataTypes.LONG;
+import static io.crate.types.DataTypes.STRING;
+import static io.crate.types.DataTypes.STRING_ARRAY;
+
+import java.util.function.Supplier;
+
+import org.elasticsearch.cluster.node.DiscoveryNode;
+
+import io.crate.execution.jobs.ResourceGroup;
+import io.crate.metadata.RelationName;
+import io.crate.metadata.Routing;
+import io.crate.metadata.SystemTable;
+
+public class SysResourceGroupsTableInfo {
+
+    public static final RelationName IDENT = new RelationName(SysSchemaInfo.NAME, "resource_groups");
+
+    public static SystemTable<ResourceGroup> create(Supplier<DiscoveryNode> localNode) {
+        return SystemTable.<ResourceGroup>builder(IDENT)
+            .add("name", STRING, ResourceGroup::name)
+            .add("users", STRING_ARRAY, ResourceGroup::users)
+            .add("max_concurrent_queries", INTEGER, ResourceGroup::maxConcurrentQueries)
+            .add("queue_size", INTEGER, ResourceGroup::queueSize)
+            .add("queue_timeout", STRING, g -> g.queueTimeout().toString())
+            .add("memory_share", DOUBLE, ResourceGroup::memoryShare)
+            .add("cpu_shares", INTEGER, ResourceGroup::cpuShares)
+            .add("running", INTEGER, ResourceGroup::running)
+            .add("queued", INTEGER, ResourceGroup::queued)
+            .add("admitted", LONG, ResourceGroup::admitted)
+            .add("rejected", LONG, ResourceGroup::rejected)
+            .add("timed_out", LONG, ResourceGroup::timedOut)
+            .add("memory_used", LONG, ResourceGroup::usedBytes)
+            .add("memory_tripped", LONG, ResourceGroup::trippedCount)
+            .startObject("node")
+                .add("id", STRING, ignored -> localNode.get().getId())
+                .add("name", STRING, ignored -> localNode.get().getName())
+            .endObject()
+            .withRouting((state, routingProvider, sessionSettings) -> Routing.forTableOnAllNodes(IDENT, state.nodes()))
+            .build();
+    }
+}
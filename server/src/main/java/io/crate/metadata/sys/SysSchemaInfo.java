@@ -67,6 +67,8 @@ public class SysSchemaInfo implements SchemaInfo {
             Map.entry(SysClusterHealth.IDENT.name(), SysClusterHealth.INSTANCE),
             Map.entry(SysMetricsTableInfo.NAME.name(), SysMetricsTableInfo.create(localNode)),
             Map.entry(SysSegmentsTableInfo.IDENT.name(), SysSegmentsTableInfo.create(clusterService::localNode)),
+            Map.entry(SysChangesTableInfo.IDENT.name(), SysChangesTableInfo.create(clusterService::localNode)),
+            Map.entry(SysResourceGroupsTableInfo.IDENT.name(), SysResourceGroupsTableInfo.create(localNode)),
             Map.entry(
                 SysUsersTableInfo.IDENT.name(),
                 SysUsersTableInfo.create(() -> clusterService.state().metadata().clusterUUID())),
@@ -23,6 +23,7 @@ package io.crate.metadata.sys;
 
 import static io.crate.types.DataTypes.BOOLEAN;
 import static io.crate.types.DataTypes.INTEGER;
+import static io.crate.types.DataTypes.LONG;
 import static io.crate.types.DataTypes.STRING;
 import static io.crate.types.DataTypes.STRING_ARRAY;
 import static io.crate.types.DataTypes.TIMESTAMPZ;
@@ -65,6 +66,8 @@ public class SysSnapshotsTableInfo {
         .add("reason", STRING, SysSnapshot::reason)
         .add("total_shards", INTEGER, SysSnapshot::totalShards)
         .add("include_global_state", BOOLEAN, SysSnapshot::includeGlobalState)
+        .add("bytes_written", LONG, SysSnapshot::bytesWritten)
+        .add("bytes_per_second", LONG, SysSnapshot::bytesPerSecond)
         .setPrimaryKeys(ColumnIdent.of("name"), ColumnIdent.of("repository"))
         .withRouting(SysSnapshotsTableInfo::getRouting)
         .build();
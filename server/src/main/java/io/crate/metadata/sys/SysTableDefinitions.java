@@ -38,10 +38,12 @@ import org.elasticsearch.repositories.RepositoriesService;
 import io.crate.session.Sessions;
 import io.crate.execution.engine.collect.files.SummitsIterable;
 import io.crate.execution.engine.collect.stats.JobsLogs;
+import io.crate.execution.jobs.ResourceGroups;
 import io.crate.expression.reference.StaticTableDefinition;
 import io.crate.expression.reference.sys.check.SysCheck;
 import io.crate.expression.reference.sys.check.SysChecker;
 import io.crate.expression.reference.sys.check.node.SysNodeChecks;
+import io.crate.expression.reference.sys.shard.ShardChanges;
 import io.crate.expression.reference.sys.shard.ShardSegments;
 import io.crate.expression.reference.sys.shard.SysAllocations;
 import io.crate.expression.reference.sys.snapshot.SysSnapshots;
@@ -70,7 +72,9 @@ public class SysTableDefinitions {
                                SysSnapshots sysSnapshots,
                                SysAllocations sysAllocations,
                                ShardSegments shardSegmentInfos,
-                               Sessions sessions) {
+                               ShardChanges shardChanges,
+                               Sessions sessions,
+                               ResourceGroups resourceGroups) {
         Supplier<DiscoveryNode> localNode = clusterService::localNode;
         var sysClusterTableInfo = (SystemTable<Void>) sysSchemaInfo.getTableInfo(SysClusterTableInfo.IDENT.name());
         assert sysClusterTableInfo != null : "sys.cluster table must exist in sys schema";
@@ -231,6 +235,25 @@ public class SysTableDefinitions {
                     true
                 )
             ),
+            Map.entry(
+                SysChangesTableInfo.IDENT,
+                new StaticTableDefinition<>(
+                    (txnCtx, user, query) -> completedFuture(shardChanges.changes(
+                        relationName -> user == null
+                            || roles.hasPrivilege(user, Permission.DQL, Securable.TABLE, relationName.fqn()),
+                        query)),
+                    SysChangesTableInfo.create(clusterService::localNode).expressions(),
+                    true
+                )
+            ),
+            Map.entry(
+                SysResourceGroupsTableInfo.IDENT,
+                new StaticTableDefinition<>(
+                    () -> completedFuture(resourceGroups.groups()),
+                    SysResourceGroupsTableInfo.create(localNode).expressions(),
+                    false
+                )
+            ),
             Map.entry(
                 SysSessionsTableInfo.IDENT,
                 new StaticTableDefinition<>(
@@ -58,6 +58,7 @@ import io.crate.planner.Merge;
 import io.crate.planner.PlannerContext;
 import io.crate.planner.ResultDescription;
 import io.crate.planner.distribution.DistributionInfo;
+import io.crate.planner.distribution.DistributionType;
 import io.crate.planner.node.dql.GroupByConsumer;
 import io.crate.statistics.ColumnStats;
 import io.crate.statistics.Stats;
@@ -67,6 +68,7 @@ public class GroupHashAggregate extends ForwardingLogicalPlan {
     private static final String DISTRIBUTED_MERGE_PHASE_NAME = "distributed merge";
     final List<Function> aggregates;
     final List<Symbol> groupKeys;
+    private final AggregateMode mode;
     private final List<Symbol> outputs;
 
 
@@ -109,10 +111,22 @@ public class GroupHashAggregate extends ForwardingLogicalPlan {
     }
 
     public GroupHashAggregate(LogicalPlan source, List<Symbol> groupKeys, List<Function> aggregates) {
+        this(source, groupKeys, aggregates, AggregateMode.ITER_FINAL);
+    }
+
+    /**
+     * @param mode {@link AggregateMode#ITER_FINAL} to aggregate the source rows to final values.
+     *             {@link AggregateMode#ITER_PARTIAL} to only pre-aggregate the source rows to partial states,
+     *             without merging the states of different shards or nodes.
+     *             The aggregates in the outputs then carry the partial state.
+     *             {@link AggregateMode#PARTIAL_FINAL} to merge partial states contained in the source outputs.
+     */
+    public GroupHashAggregate(LogicalPlan source, List<Symbol> groupKeys, List<Function> aggregates, AggregateMode mode) {
         super(source);
         this.aggregates = List.copyOf(new LinkedHashSet<>(aggregates));
         this.outputs = Lists.concat(groupKeys, this.aggregates);
         this.groupKeys = groupKeys;
+        this.mode = mode;
         for (Symbol key : groupKeys) {
             if (key.any(Symbol.IS_CORRELATED_SUBQUERY)) {
                 throw new UnsupportedOperationException(
@@ -129,6 +143,10 @@ public class GroupHashAggregate extends ForwardingLogicalPlan {
         return groupKeys;
     }
 
+    public AggregateMode mode() {
+        return mode;
+    }
+
     @Override
     public ExecutionPlan build(DependencyCarrier executor,
                                PlannerContext plannerContext,
@@ -152,6 +170,44 @@ public class GroupHashAggregate extends ForwardingLogicalPlan {
         SubQueryAndParamBinder paramBinder = new SubQueryAndParamBinder(params, subQueryResults);
 
         List<Symbol> sourceOutputs = source.outputs();
+        if (mode == AggregateMode.ITER_PARTIAL) {
+            executionPlan.addProjection(
+                projectionBuilder.groupProjection(
+                    sourceOutputs,
+                    groupKeys,
+                    aggregates,
+                    paramBinder,
+                    AggregateMode.ITER_PARTIAL,
+                    source.preferShardProjections() ? RowGranularity.SHARD : RowGranularity.NODE
+                )
+            );
+            return executionPlan;
+        }
+        if (mode == AggregateMode.PARTIAL_FINAL) {
+            GroupProjection mergeStates = projectionBuilder.groupProjection(
+                sourceOutputs,
+                groupKeys,
+                aggregates,
+                paramBinder,
+                AggregateMode.PARTIAL_FINAL,
+                RowGranularity.CLUSTER
+            );
+            int distributeByIdx = distributeByGroupKeyIdx(sourceOutputs);
+            if (distributeByIdx == -1
+                || ExecutionPhases.executesOnHandler(plannerContext.handlerNode(), executionPlan.resultDescription().nodeIds())) {
+                executionPlan = Merge.ensureOnHandler(executionPlan, plannerContext);
+                executionPlan.addProjection(mergeStates, NO_LIMIT, 0, null);
+                return executionPlan;
+            }
+            // There is no partial -> partial mode, all states of a group must be merged on the same node
+            executionPlan.setDistributionInfo(new DistributionInfo(DistributionType.MODULO, distributeByIdx));
+            return createMerge(
+                plannerContext,
+                executionPlan,
+                Collections.singletonList(mergeStates),
+                executionPlan.resultDescription().nodeIds()
+            );
+        }
         if (shardsContainAllGroupKeyValues()) {
             GroupProjection groupProjection = projectionBuilder.groupProjection(
                 sourceOutputs,
@@ -260,12 +316,12 @@ public class GroupHashAggregate extends ForwardingLogicalPlan {
         if (newSource == source && aggregates.size() == newAggregates.size()) {
             return this;
         }
-        return new GroupHashAggregate(newSource, groupKeys, newAggregates);
+        return new GroupHashAggregate(newSource, groupKeys, newAggregates, mode);
     }
 
     @Override
     public LogicalPlan replaceSources(List<LogicalPlan> sources) {
-        return new GroupHashAggregate(Lists.getOnlyElement(sources), groupKeys, aggregates);
+        return new GroupHashAggregate(Lists.getOnlyElement(sources), groupKeys, aggregates, mode);
     }
 
     private ExecutionPlan createMerge(PlannerContext plannerContext,
@@ -296,6 +352,19 @@ public class GroupHashAggregate extends ForwardingLogicalPlan {
         );
     }
 
+    /**
+     * @return the position of the first group key contained as is in the source outputs, or -1 if there is none.
+     */
+    private int distributeByGroupKeyIdx(List<Symbol> sourceOutputs) {
+        for (Symbol groupKey : groupKeys) {
+            int idx = sourceOutputs.indexOf(groupKey);
+            if (idx >= 0) {
+                return idx;
+            }
+        }
+        return -1;
+    }
+
     /*
      * @return true if it's guaranteed that a group-key-value doesn't occur in more than 1 shard.
      *         Each shard has "group or row authority"
@@ -320,6 +389,7 @@ public class GroupHashAggregate extends ForwardingLogicalPlan {
                "src=" + source +
                ", keys=" + groupKeys +
                ", agg=" + aggregates +
+               ", mode=" + mode +
                '}';
     }
 
@@ -333,6 +403,11 @@ public class GroupHashAggregate extends ForwardingLogicalPlan {
                 .text(" | ")
                 .text(Lists.joinOn(", ", aggregates, Symbol::toString));
         }
+        if (mode != AggregateMode.ITER_FINAL) {
+            printContext
+                .text(" | ")
+                .text(mode.name());
+        }
         printContext
             .text("]");
         printStats(printContext);
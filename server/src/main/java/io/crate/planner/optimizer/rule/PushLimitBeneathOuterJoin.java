@@ -0,0 +1,153 @@
+/*
+ * Licensed to Crate.io GmbH ("Crate") under one or more contributor
+ * license agreements.  See the NOTICE file distributed with this work for
+ * additional information regarding copyright ownership.  Crate licenses
+ * this file to you under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.  You may
+ * obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * However, if you have executed another commercial license agreement
+ * with Crate these terms will supersede the license and you may use the
+ * software solely pursuant to the terms of the relevant commercial agreement.
+ */
+
+package io.crate.planner.optimizer.rule;
+
+import static io.crate.planner.optimizer.matcher.Pattern.typeOf;
+import static io.crate.planner.optimizer.matcher.Patterns.source;
+
+import java.util.List;
+import java.util.function.UnaryOperator;
+
+import org.jetbrains.annotations.Nullable;
+
+import io.crate.expression.symbol.Literal;
+import io.crate.expression.symbol.Symbol;
+import io.crate.planner.operators.AbstractJoinPlan;
+import io.crate.planner.operators.Eval;
+import io.crate.planner.operators.Limit;
+import io.crate.planner.operators.LogicalPlan;
+import io.crate.planner.operators.Order;
+import io.crate.planner.operators.Rename;
+import io.crate.planner.optimizer.Rule;
+import io.crate.planner.optimizer.matcher.Capture;
+import io.crate.planner.optimizer.matcher.Captures;
+import io.crate.planner.optimizer.matcher.Pattern;
+import io.crate.sql.tree.JoinType;
+
+/**
+ * Adds a copy of an ORDER BY + LIMIT on top of an outer join to the preserved side of the join.
+ *
+ * <pre>
+ *     Limit[10;5]                          Limit[10;5]
+ *      └ OrderBy[t1.x]                      └ OrderBy[t1.x]
+ *         └ Join[LEFT]          ===>           └ Join[LEFT]
+ *            ├ t1                                 ├ Limit[15;0]
+ *            └ t2                                 │  └ OrderBy[t1.x]
+ *                                                 │     └ t1
+ *                                                 └ t2
+ * </pre>
+ *
+ * This is possible because every row of the preserved side results in at least one row of the join.
+ * If the ordering only depends on the preserved side, the first {@code limit + offset} rows of the join
+ * therefore originate from the first {@code limit + offset} rows of the preserved side.
+ * <p>
+ * The original ORDER BY and LIMIT must remain on top, the join can produce more than one row per
+ * preserved row and doesn't keep the order.
+ * The pushed down ORDER BY + LIMIT allows the collect phase to use an ordered, early-terminating search per shard.
+ */
+public final class PushLimitBeneathOuterJoin implements Rule<Limit> {
+
+    private final Capture<Order> orderCapture;
+    private final Capture<AbstractJoinPlan> joinCapture;
+    private final Pattern<Limit> pattern;
+
+    public PushLimitBeneathOuterJoin() {
+        this.orderCapture = new Capture<>();
+        this.joinCapture = new Capture<>();
+        this.pattern = typeOf(Limit.class)
+            .with(source(), typeOf(Order.class).capturedAs(orderCapture)
+                .with(source(), typeOf(AbstractJoinPlan.class).capturedAs(joinCapture)
+                    .with(join -> join.joinType() == JoinType.LEFT || join.joinType() == JoinType.RIGHT)
+                )
+            );
+    }
+
+    @Override
+    public Pattern<Limit> pattern() {
+        return pattern;
+    }
+
+    @Override
+    public LogicalPlan apply(Limit limit,
+                             Captures captures,
+                             Rule.Context context) {
+        Long limitAndOffset = limitAndOffset(limit);
+        if (limitAndOffset == null) {
+            return null;
+        }
+        Order order = captures.get(orderCapture);
+        AbstractJoinPlan join = captures.get(joinCapture);
+        boolean leftIsPreserved = join.joinType() == JoinType.LEFT;
+        LogicalPlan preserved = leftIsPreserved ? join.lhs() : join.rhs();
+        if (isLimited(preserved, limitAndOffset, context.resolvePlan())) {
+            // Already pushed down
+            return null;
+        }
+        List<Symbol> preservedOutputs = preserved.outputs();
+        for (Symbol orderBySymbol : order.orderBy().orderBySymbols()) {
+            if (!preservedOutputs.contains(orderBySymbol)) {
+                return null;
+            }
+        }
+        LogicalPlan newPreserved = new Limit(
+            new Order(preserved, order.orderBy()),
+            Literal.of(limitAndOffset),
+            Literal.of(0L)
+        );
+        LogicalPlan newJoin = join.replaceSources(
+            leftIsPreserved ? List.of(newPreserved, join.rhs()) : List.of(join.lhs(), newPreserved)
+        );
+        return limit.replaceSources(List.of(order.replaceSources(List.of(newJoin))));
+    }
+
+    /**
+     * Returns true if the plan is limited to at most {@code limitAndOffset} rows.
+     * The sources are {@link io.crate.planner.optimizer.iterative.GroupReference}s within the iterative optimizer, and
+     * the pushed down Limit can be moved beneath a Rename or Eval by other rules.
+     */
+    private static boolean isLimited(LogicalPlan plan, long limitAndOffset, UnaryOperator<LogicalPlan> resolvePlan) {
+        LogicalPlan resolved = resolvePlan.apply(plan);
+        while (resolved instanceof Rename || resolved instanceof Eval) {
+            resolved = resolvePlan.apply(resolved.sources().get(0));
+        }
+        if (resolved instanceof Limit limit) {
+            Long limitOfSide = limitAndOffset(limit);
+            return limitOfSide != null && limitOfSide <= limitAndOffset;
+        }
+        return false;
+    }
+
+    @Nullable
+    private static Long limitAndOffset(Limit limit) {
+        if (limit.limit() instanceof Literal<?> limitLiteral
+            && limitLiteral.value() instanceof Number limitValue
+            && limit.offset() instanceof Literal<?> offsetLiteral
+            && offsetLiteral.value() instanceof Number offsetValue) {
+            long limitAndOffset = limitValue.longValue() + offsetValue.longValue();
+            if (limitValue.longValue() < 0 || limitAndOffset > Integer.MAX_VALUE) {
+                return null;
+            }
+            return limitAndOffset;
+        }
+        return null;
+    }
+}
@@ -0,0 +1,178 @@
+/*
+ * Licensed to Crate.io GmbH ("Crate") under one or more contributor
+ * license agreements.  See the NOTICE file distributed with this work for
+ * additional information regarding copyright ownership.  Crate licenses
+ * this file to you under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.  You may
+ * obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * However, if you have executed another commercial license agreement
+ * with Crate these terms will supersede the license and you may use the
+ * software solely pursuant to the terms of the relevant commercial agreement.
+ */
+
+package io.crate.planner.optimizer.rule;
+
+import static io.crate.planner.optimizer.matcher.Pattern.typeOf;
+import static io.crate.planner.optimizer.matcher.Patterns.source;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+
+import io.crate.execution.engine.aggregation.AggregationFunction;
+import io.crate.expression.symbol.AggregateMode;
+import io.crate.expression.symbol.Function;
+import io.crate.expression.symbol.Symbol;
+import io.crate.expression.symbol.Symbols;
+import io.crate.metadata.FunctionImplementation;
+import io.crate.planner.operators.AbstractJoinPlan;
+import io.crate.planner.operators.GroupHashAggregate;
+import io.crate.planner.operators.LogicalPlan;
+import io.crate.planner.optimizer.Rule;
+import io.crate.planner.optimizer.costs.PlanStats;
+import io.crate.planner.optimizer.matcher.Capture;
+import io.crate.planner.optimizer.matcher.Captures;
+import io.crate.planner.optimizer.matcher.Pattern;
+import io.crate.sql.tree.JoinType;
+import io.crate.statistics.Stats;
+
+/**
+ * Pre-aggregates one side of an inner join if all aggregates only depend on that side (eager aggregation).
+ *
+ * <pre>
+ *     GroupHashAggregate[t2.name | sum(t1.v)]            GroupHashAggregate[t2.name | sum(t1.v) | PARTIAL_FINAL]
+ *      └ Join[INNER | t1.fk = t2.id]           ===>       └ Join[INNER | t1.fk = t2.id]
+ *         ├ Collect[t1 | fk, v]                              ├ GroupHashAggregate[t1.fk | sum(t1.v) | ITER_PARTIAL]
+ *         └ Collect[t2 | id, name]                           │  └ Collect[t1 | fk, v]
+ *                                                            └ Collect[t2 | id, name]
+ * </pre>
+ *
+ * The pre-aggregation is grouped by all columns of the aggregated side which are used in the join condition
+ * or in the group keys. Rows with the same values for these columns are treated the same way by the join,
+ * so their partial states can be joined instead of the individual rows. If a partial state joins with more
+ * than one row of the other side, it's merged more than once, the same way the individual rows would have been
+ * aggregated more than once.
+ * <p>
+ * The rewrite is only done if the partial states have the same type as the final values (e.g. min, max, sum),
+ * because the join passes them through as regular values,
+ * and if the statistics indicate that the pre-aggregation considerably reduces the number of rows going into the join.
+ */
+public final class PushPartialAggregateBeneathJoin implements Rule<GroupHashAggregate> {
+
+    /**
+     * Minimum factor by which the number of rows of the aggregated side must be reduced
+     */
+    private static final int MIN_REDUCTION_FACTOR = 2;
+
+    private final Capture<AbstractJoinPlan> joinCapture;
+    private final Pattern<GroupHashAggregate> pattern;
+
+    public PushPartialAggregateBeneathJoin() {
+        this.joinCapture = new Capture<>();
+        this.pattern = typeOf(GroupHashAggregate.class)
+            .with(groupBy -> groupBy.mode() == AggregateMode.ITER_FINAL && !groupBy.aggregates().isEmpty())
+            .with(source(), typeOf(AbstractJoinPlan.class).capturedAs(joinCapture)
+                .with(join -> join.joinType() == JoinType.INNER && join.joinCondition() != null)
+            );
+    }
+
+    @Override
+    public Pattern<GroupHashAggregate> pattern() {
+        return pattern;
+    }
+
+    @Override
+    public LogicalPlan apply(GroupHashAggregate groupBy,
+                             Captures captures,
+                             Rule.Context context) {
+        AbstractJoinPlan join = captures.get(joinCapture);
+        Symbol joinCondition = join.joinCondition();
+        assert joinCondition != null : "Pattern only matches joins with a join condition";
+        if (!joinCondition.isDeterministic()) {
+            return null;
+        }
+        for (Function aggregate : groupBy.aggregates()) {
+            if (!isMergeable(aggregate, context)) {
+                return null;
+            }
+        }
+        boolean aggregateLhs;
+        if (usesOnly(groupBy.aggregates(), join.lhs(), join.rhs())) {
+            aggregateLhs = true;
+        } else if (usesOnly(groupBy.aggregates(), join.rhs(), join.lhs())) {
+            aggregateLhs = false;
+        } else {
+            return null;
+        }
+        LogicalPlan aggregated = aggregateLhs ? join.lhs() : join.rhs();
+        List<Symbol> aggregatedOutputs = aggregated.outputs();
+        LinkedHashSet<Symbol> partialGroupKeys = new LinkedHashSet<>();
+        Symbols.intersection(joinCondition, aggregatedOutputs, partialGroupKeys::add);
+        for (Symbol groupKey : groupBy.groupKeys()) {
+            Symbols.intersection(groupKey, aggregatedOutputs, partialGroupKeys::add);
+        }
+        if (partialGroupKeys.isEmpty()) {
+            return null;
+        }
+        List<Symbol> partialKeys = new ArrayList<>(partialGroupKeys);
+        if (!reducesRows(aggregated, partialKeys, context.planStats())) {
+            return null;
+        }
+        LogicalPlan partialAggregate = new GroupHashAggregate(
+            aggregated,
+            partialKeys,
+            groupBy.aggregates(),
+            AggregateMode.ITER_PARTIAL
+        );
+        LogicalPlan newJoin = join.replaceSources(
+            aggregateLhs ? List.of(partialAggregate, join.rhs()) : List.of(join.lhs(), partialAggregate)
+        );
+        return new GroupHashAggregate(
+            newJoin,
+            groupBy.groupKeys(),
+            groupBy.aggregates(),
+            AggregateMode.PARTIAL_FINAL
+        );
+    }
+
+    private static boolean isMergeable(Function aggregate, Rule.Context context) {
+        if (aggregate.filter() != null || !aggregate.signature().isDeterministic()) {
+            return false;
+        }
+        FunctionImplementation implementation = context.nodeCtx().functions().getQualified(aggregate);
+        return implementation instanceof AggregationFunction<?, ?> aggregationFunction
+            && aggregationFunction.partialType().equals(aggregate.valueType());
+    }
+
+    /**
+     * @return true if the aggregates only refer to outputs of {@code side} and at least to one of them
+     */
+    private static boolean usesOnly(List<Function> aggregates, LogicalPlan side, LogicalPlan otherSide) {
+        ArrayList<Symbol> sideSymbols = new ArrayList<>();
+        ArrayList<Symbol> otherSideSymbols = new ArrayList<>();
+        for (Function aggregate : aggregates) {
+            Symbols.intersection(aggregate, side.outputs(), sideSymbols::add);
+            Symbols.intersection(aggregate, otherSide.outputs(), otherSideSymbols::add);
+        }
+        return !sideSymbols.isEmpty() && otherSideSymbols.isEmpty();
+    }
+
+    private static boolean reducesRows(LogicalPlan source, List<Symbol> partialGroupKeys, PlanStats planStats) {
+        Stats stats = planStats.get(source);
+        long numSourceRows = stats.numDocs();
+        if (numSourceRows <= 0) {
+            return false;
+        }
+        long numGroups = GroupHashAggregate.approximateDistinctValues(stats, partialGroupKeys);
+        return numGroups * MIN_REDUCTION_FACTOR <= numSourceRows;
+    }
+}
@@ -34,6 +34,7 @@ import java.util.Set;
 import java.util.function.Function;
 import java.util.function.UnaryOperator;
 
+import org.elasticsearch.Version;
 import org.elasticsearch.cluster.metadata.Metadata;
 import org.elasticsearch.common.settings.Settings;
 import org.jetbrains.annotations.VisibleForTesting;
@@ -84,6 +85,9 @@ import io.crate.types.DataTypes;
 
 public final class CopyToPlan implements Plan {
 
+    static final String CSV_VERSION_ERROR_MSG =
+        "Cannot run COPY TO with format 'csv' in a mixed version cluster. All nodes must at least have version 6.0.0";
+
     private final AnalyzedCopyTo copyTo;
 
     public CopyToPlan(AnalyzedCopyTo copyTo) {
@@ -153,6 +157,10 @@ public final class CopyToPlan implements Plan {
             outputFormat = boundedCopyTo.columnsDefined() ?
                 WriterProjection.OutputFormat.JSON_ARRAY : WriterProjection.OutputFormat.JSON_OBJECT;
         }
+        if (outputFormat == WriterProjection.OutputFormat.CSV
+            && context.clusterState().nodes().getMinNodeVersion().before(Version.V_6_0_0)) {
+            throw new UnsupportedFeatureException(CSV_VERSION_ERROR_MSG);
+        }
 
         WriterProjection projection = ProjectionBuilder.writerProjection(
             boundedCopyTo.outputs(),
@@ -244,7 +252,8 @@ public final class CopyToPlan implements Plan {
         WriterProjection.OutputFormat outputFormat =
             settingAsEnum(WriterProjection.OutputFormat.class, OUTPUT_FORMAT_SETTING.get(settings));
 
-        if (!columnsDefined && outputFormat == WriterProjection.OutputFormat.JSON_ARRAY) {
+        if (!columnsDefined
+            && (outputFormat == WriterProjection.OutputFormat.JSON_ARRAY || outputFormat == WriterProjection.OutputFormat.CSV)) {
             throw new UnsupportedFeatureException("Output format not supported without specifying columns.");
         }
 
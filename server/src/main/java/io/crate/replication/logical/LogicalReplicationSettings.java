@@ -51,6 +51,30 @@ public class LogicalReplicationSettings {
         Property.Exposed
     );
 
+    /**
+     * Limits the size of a batch of operations, batches of large operations contain less operations.
+     */
+    public static final Setting<ByteSizeValue> REPLICATION_CHANGE_BATCH_MAX_BYTES = Setting.byteSizeSetting(
+        "replication.logical.ops_batch_max_bytes",
+        new ByteSizeValue(16, ByteSizeUnit.MB),
+        new ByteSizeValue(1, ByteSizeUnit.KB),
+        new ByteSizeValue(1, ByteSizeUnit.GB),
+        Property.Dynamic,
+        Property.NodeScope,
+        Property.Exposed
+    );
+
+    /**
+     * Controls the maximum number of batches of operations which are requested concurrently per shard.
+     */
+    public static final Setting<Integer> REPLICATION_MAX_CONCURRENT_READS = Setting.intSetting(
+        "replication.logical.max_concurrent_reads",
+        2, 1, 10,
+        Property.Dynamic,
+        Property.NodeScope,
+        Property.Exposed
+    );
+
     public static final Setting<TimeValue> REPLICATION_READ_POLL_DURATION = Setting.timeSetting(
         "replication.logical.reads_poll_duration",
         TimeValue.timeValueMillis(50),
@@ -150,17 +174,23 @@ public class LogicalReplicationSettings {
     );
 
     private int batchSize;
+    private ByteSizeValue batchMaxBytes;
+    private int maxConcurrentReads;
     private int maxConcurrentFileChunks;
     private TimeValue pollDelay;
     private ByteSizeValue recoveryChunkSize;
 
     public LogicalReplicationSettings(Settings settings, ClusterService clusterService) {
         batchSize = REPLICATION_CHANGE_BATCH_SIZE.get(settings);
+        batchMaxBytes = REPLICATION_CHANGE_BATCH_MAX_BYTES.get(settings);
+        maxConcurrentReads = REPLICATION_MAX_CONCURRENT_READS.get(settings);
         pollDelay = REPLICATION_READ_POLL_DURATION.get(settings);
         recoveryChunkSize = REPLICATION_RECOVERY_CHUNK_SIZE.get(settings);
         maxConcurrentFileChunks = REPLICATION_RECOVERY_MAX_CONCURRENT_FILE_CHUNKS.get(settings);
 
         clusterService.getClusterSettings().addSettingsUpdateConsumer(REPLICATION_CHANGE_BATCH_SIZE, this::batchSize);
+        clusterService.getClusterSettings().addSettingsUpdateConsumer(REPLICATION_CHANGE_BATCH_MAX_BYTES, this::batchMaxBytes);
+        clusterService.getClusterSettings().addSettingsUpdateConsumer(REPLICATION_MAX_CONCURRENT_READS, this::maxConcurrentReads);
         clusterService.getClusterSettings().addSettingsUpdateConsumer(REPLICATION_READ_POLL_DURATION, this::pollDelay);
         clusterService.getClusterSettings().addSettingsUpdateConsumer(REPLICATION_RECOVERY_CHUNK_SIZE, this::recoveryChunkSize);
         clusterService.getClusterSettings().addSettingsUpdateConsumer(REPLICATION_RECOVERY_MAX_CONCURRENT_FILE_CHUNKS, this::maxConcurrentFileChunks);
@@ -174,6 +204,22 @@ public class LogicalReplicationSettings {
         this.batchSize = batchSize;
     }
 
+    public ByteSizeValue batchMaxBytes() {
+        return batchMaxBytes;
+    }
+
+    private void batchMaxBytes(ByteSizeValue batchMaxBytes) {
+        this.batchMaxBytes = batchMaxBytes;
+    }
+
+    public int maxConcurrentReads() {
+        return maxConcurrentReads;
+    }
+
+    private void maxConcurrentReads(int maxConcurrentReads) {
+        this.maxConcurrentReads = maxConcurrentReads;
+    }
+
     public TimeValue pollDelay() {
         return pollDelay;
     }
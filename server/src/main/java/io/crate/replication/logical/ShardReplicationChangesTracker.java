@@ -26,8 +26,12 @@ import java.io.IOException;
 import java.util.ArrayDeque;
 import java.util.Deque;
 import java.util.List;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Consumer;
 
@@ -39,6 +43,7 @@ import org.elasticsearch.action.support.replication.ReplicationResponse;
 import org.elasticsearch.action.support.replication.ReplicationResponse.ShardInfo;
 import org.elasticsearch.client.Client;
 import org.elasticsearch.cluster.block.ClusterBlockException;
+import org.elasticsearch.index.seqno.RetentionLeaseActions;
 import org.elasticsearch.index.shard.IndexShard;
 import org.elasticsearch.index.shard.ShardId;
 import org.elasticsearch.index.translog.Translog;
@@ -78,8 +83,13 @@ public class ShardReplicationChangesTracker implements Closeable {
     private final AtomicLong observedSeqNoAtLeader;
     private final AtomicLong seqNoAlreadyRequested;
 
-    private volatile Scheduler.Cancellable cancellable;
+    private final IndexShard indexShard;
+    private final AtomicInteger activeReaders = new AtomicInteger(0);
+    private final Set<Reader> readers = ConcurrentHashMap.newKeySet();
+    private final AtomicBoolean renewingRetentionLease = new AtomicBoolean(false);
+
     private volatile boolean closed = false;
+    private volatile boolean stopped = false;
 
 
     public ShardReplicationChangesTracker(String subscriptionName,
@@ -91,6 +101,7 @@ public class ShardReplicationChangesTracker implements Closeable {
                                           Client client) {
         this.subscriptionName = subscriptionName;
         this.shardId = indexShard.shardId();
+        this.indexShard = indexShard;
         this.replicationSettings = replicationSettings;
         this.threadPool = threadPool;
         this.localClient = client;
@@ -105,35 +116,96 @@ public class ShardReplicationChangesTracker implements Closeable {
     }
 
     public void start() {
-        LOGGER.debug("[{}] Spawning the shard changes reader", shardId);
-        var retryRunnable = newRunnable();
-        cancellable = retryRunnable;
-        retryRunnable.run();
+        LOGGER.debug("[{}] Spawning the shard changes readers", shardId);
+        spawnReaders();
     }
 
-    private RetryRunnable newRunnable() {
-        return new RetryRunnable(
-            threadPool,
-            ThreadPool.Names.LOGICAL_REPLICATION,
-            this::pollAndProcessPendingChanges,
-            BackoffPolicy.exponentialBackoff()
-        );
+    /**
+     * Starts readers until {@link LogicalReplicationSettings#maxConcurrentReads()} readers are active.
+     * Each reader requests a batch of changes, replays it and requests the next batch right away.
+     * The publisher holds requests for operations which don't exist yet until they arrive.
+     */
+    private void spawnReaders() {
+        int maxReaders = replicationSettings.maxConcurrentReads();
+        int numReaders;
+        while ((numReaders = activeReaders.get()) < maxReaders) {
+            if (activeReaders.compareAndSet(numReaders, numReaders + 1)) {
+                var reader = new Reader();
+                readers.add(reader);
+                reader.read(TimeValue.ZERO);
+            }
+        }
     }
 
-    private void pollAndProcessPendingChanges() {
-        if (closed) {
+    private void removeReader(Reader reader) {
+        readers.remove(reader);
+        activeReaders.decrementAndGet();
+    }
+
+    private void stopReading(Reader reader) {
+        stopped = true;
+        removeReader(reader);
+    }
+
+    /**
+     * A reader requests one batch at a time, so it has at most one pending (scheduled or dispatched) run.
+     */
+    private final class Reader {
+
+        private volatile Scheduler.Cancellable cancellable;
+
+        private void read(TimeValue delay) {
+            var retryRunnable = new RetryRunnable(
+                threadPool,
+                ThreadPool.Names.LOGICAL_REPLICATION,
+                () -> pollAndProcessPendingChanges(this),
+                BackoffPolicy.exponentialBackoff()
+            );
+            if (delay.millis() == 0) {
+                // Called inside a transport thread (response listener), the runnable dispatches away
+                cancellable = retryRunnable;
+                retryRunnable.run();
+            } else {
+                cancellable = threadPool.scheduleUnlessShuttingDown(
+                    delay,
+                    ThreadPool.Names.LOGICAL_REPLICATION,
+                    retryRunnable
+                );
+            }
+        }
+
+        private void cancel() {
+            Cancellable currentCancellable = cancellable;
+            if (currentCancellable != null) {
+                currentCancellable.cancel();
+            }
+        }
+    }
+
+    private void continueReading(Reader reader, TimeValue delay) {
+        reader.read(delay);
+        if (delay.millis() == 0) {
+            spawnReaders();
+        }
+    }
+
+    private void pollAndProcessPendingChanges(Reader reader) {
+        if (closed || stopped) {
             if (LOGGER.isDebugEnabled()) {
                 LOGGER.debug("[{}] ShardReplicationChangesTracker closed. Stopping tracking", shardId);
             }
+            removeReader(reader);
+            return;
+        }
+        int numReaders = activeReaders.get();
+        if (numReaders > replicationSettings.maxConcurrentReads() && activeReaders.compareAndSet(numReaders, numReaders - 1)) {
+            // Number of concurrent reads got decreased
+            readers.remove(reader);
             return;
         }
         SeqNoRange rangeToFetch = getNextSeqNoRange();
         if (rangeToFetch == null) {
-            cancellable = threadPool.scheduleUnlessShuttingDown(
-                replicationSettings.pollDelay(),
-                ThreadPool.Names.LOGICAL_REPLICATION,
-                newRunnable()
-            );
+            continueReading(reader, replicationSettings.pollDelay());
             return;
         }
         long fromSeqNo = rangeToFetch.fromSeqNo();
@@ -143,7 +215,12 @@ public class ShardReplicationChangesTracker implements Closeable {
             shardId.getIndex(),
             subscriptionName
         );
-        var getPendingChangesRequest = new ShardChangesAction.Request(shardId, fromSeqNo, toSeqNo);
+        var getPendingChangesRequest = new ShardChangesAction.Request(
+            shardId,
+            fromSeqNo,
+            toSeqNo,
+            replicationSettings.batchMaxBytes().getBytes()
+        );
         var futurePendingChanges = futureClient.thenCompose(remoteClient -> {
             if (LOGGER.isDebugEnabled()) {
                 LOGGER.debug("[{}] Getting changes {}-{}", shardId, fromSeqNo, toSeqNo);
@@ -162,6 +239,8 @@ public class ShardReplicationChangesTracker implements Closeable {
                     lastSeqNo = translogOps.get(translogOps.size() - 1).seqNo();
                 }
                 updateBatchFetched(true, fromSeqNo, toSeqNo, lastSeqNo, pendingChanges.lastSyncedGlobalCheckpoint());
+                renewRetentionLease();
+                continueReading(reader, TimeValue.ZERO);
             } else {
                 var t = SQLExceptions.unwrap(e);
                 if (!closed && SQLExceptions.maybeTemporary(t)) {
@@ -175,10 +254,12 @@ public class ShardReplicationChangesTracker implements Closeable {
                         );
                     }
                     updateBatchFetched(false, fromSeqNo, toSeqNo, fromSeqNo - 1, -1);
+                    continueReading(reader, replicationSettings.pollDelay());
                 } else if (t instanceof InvalidShardEngineException) {
                     if (LOGGER.isDebugEnabled()) {
                         LOGGER.debug("Shard is not accepting replayed changes, engine changed", t);
                     }
+                    stopReading(reader);
                 } else {
                     LOGGER.warn(
                         "[{}] Error during tracking of upstream shard changes for subscription '{}'. Tracking stopped: {}",
@@ -186,6 +267,8 @@ public class ShardReplicationChangesTracker implements Closeable {
                         subscriptionName,
                         t
                     );
+                    // Other readers must stop as well, the range of this reader would be missing otherwise
+                    stopReading(reader);
                 }
             }
         });
@@ -228,7 +311,7 @@ public class ShardReplicationChangesTracker implements Closeable {
      * Provides a range of operations to be fetched next.
      */
     @Nullable
-    private SeqNoRange getNextSeqNoRange() {
+    private synchronized SeqNoRange getNextSeqNoRange() {
         if (LOGGER.isDebugEnabled()) {
             LOGGER.debug("[{}] Waiting to get batch. requested: {}, leader: {}",
                          shardId, seqNoAlreadyRequested.get(), observedSeqNoAtLeader.get());
@@ -265,11 +348,11 @@ public class ShardReplicationChangesTracker implements Closeable {
      * In case of any failure(or we didn't get complete batch), we make sure that we're fetching the
      * missing operations in the next batch.
      */
-    private void updateBatchFetched(boolean success,
-                                    long fromSeqNoRequested,
-                                    long toSeqNoRequested,
-                                    long toSeqNoReceived,
-                                    long seqNoAtLeader) {
+    private synchronized void updateBatchFetched(boolean success,
+                                                 long fromSeqNoRequested,
+                                                 long toSeqNoRequested,
+                                                 long toSeqNoReceived,
+                                                 long seqNoAtLeader) {
         if (closed) {
             return;
         }
@@ -321,64 +404,50 @@ public class ShardReplicationChangesTracker implements Closeable {
                 missingBatches.add(new SeqNoRange(fromSeqNoRequested, toSeqNoRequested));
             }
         }
-        renewLeasesThenReschedule(toSeqNoReceived);
     }
 
-    private void renewLeasesThenReschedule(long toSeqNoReceived) {
-        // Renew retention lease with global checkpoint so that any shard that picks up shard replication task
-        // has data until then.
-        // Method is called inside a transport thread (response listener), so dispatch away
-        threadPool.executor(ThreadPool.Names.LOGICAL_REPLICATION).execute(() ->
-            shardReplicationService.getRemoteClusterClient(shardId.getIndex(), subscriptionName).thenAccept(remoteClient ->
+    /**
+     * Renews the retention lease with the local checkpoint so that any shard that picks up shard replication task
+     * has data until then. The local checkpoint is used as the batches of concurrent readers can complete out of order.
+     */
+    private void renewRetentionLease() {
+        if (renewingRetentionLease.compareAndSet(false, true) == false) {
+            // A renewal is in progress, a later batch will renew it again
+            return;
+        }
+        long localCheckpoint = indexShard.getLocalCheckpoint();
+        shardReplicationService.getRemoteClusterClient(shardId.getIndex(), subscriptionName)
+            .thenCompose(remoteClient -> {
+                FutureActionListener<RetentionLeaseActions.Response> listener = new FutureActionListener<>();
                 RetentionLeaseHelper.renewRetentionLease(
                     shardId,
-                    toSeqNoReceived,
+                    localCheckpoint,
                     clusterName,
                     remoteClient,
-                    ActionListener.wrap(
-                        r -> {
-                            if (!closed) {
-                                cancellable = threadPool.scheduleUnlessShuttingDown(
-                                    replicationSettings.pollDelay(),
-                                    ThreadPool.Names.LOGICAL_REPLICATION,
-                                    newRunnable()
-                                );
-                            }
-                        },
-                        e -> {
-                            var t = SQLExceptions.unwrap(e);
-                            boolean isClosed = closed; // one volatile read
-                            if (!isClosed && SQLExceptions.maybeTemporary(t)) {
-                                LOGGER.info(
-                                    "[{}] Temporary error during renewal of retention leases for subscription '{}'. Retrying: {}:{}",
-                                    shardId,
-                                    subscriptionName,
-                                    t.getClass().getSimpleName(),
-                                    t.getMessage()
-                                );
-                                cancellable = threadPool.scheduleUnlessShuttingDown(
-                                    replicationSettings.pollDelay(),
-                                    ThreadPool.Names.LOGICAL_REPLICATION,
-                                    () -> renewLeasesThenReschedule(toSeqNoReceived)
-                                );
-                            } else if (isClosed) {
-                                LOGGER.debug("Exception renewing retention lease. Stopping tracking (closed=true)");
-                            } else {
-                                LOGGER.warn("Exception renewing retention lease. Stopping tracking (closed=false)");
-                            }
-                        }
-                    )
-                )
-            ));
+                    listener
+                );
+                return listener;
+            })
+            .whenComplete((response, e) -> {
+                renewingRetentionLease.set(false);
+                if (e != null && !closed) {
+                    var t = SQLExceptions.unwrap(e);
+                    LOGGER.info(
+                        "[{}] Error during renewal of retention leases for subscription '{}'. Retrying with next batch: {}:{}",
+                        shardId,
+                        subscriptionName,
+                        t.getClass().getSimpleName(),
+                        t.getMessage()
+                    );
+                }
+            });
     }
 
     @Override
     public void close() throws IOException {
         closed = true;
-        Cancellable currentCancellable = cancellable;
-        if (currentCancellable != null) {
-            currentCancellable.cancel();
-            cancellable = null;
+        for (Reader reader : readers) {
+            reader.cancel();
         }
         shardReplicationService.getRemoteClusterClient(shardId.getIndex(), subscriptionName)
             .thenAccept(client -> RetentionLeaseHelper.attemptRetentionLeaseRemoval(
@@ -33,6 +33,7 @@ import java.util.concurrent.TimeoutException;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.elasticsearch.ElasticsearchTimeoutException;
+import org.elasticsearch.Version;
 import org.elasticsearch.action.ActionListener;
 import org.elasticsearch.action.ActionType;
 import org.elasticsearch.action.support.single.shard.SingleShardRequest;
@@ -109,7 +110,7 @@ public class ShardChangesAction extends ActionType<ShardChangesAction.Response>
             var toSeqNo = Math.min(seqNoStats.getGlobalCheckpoint(), request.toSeqNo());
             var fromSeqNo = request.fromSeqNo();
 
-            List<Translog.Operation> ops = new ArrayList<>();
+            List<Translog.Operation> ops;
 
             // TODO: read changes from translog, see org.opensearch.replication.seqno.RemoteClusterTranslogService
 
@@ -123,11 +124,7 @@ public class ShardChangesAction extends ActionType<ShardChangesAction.Response>
             }
             var source = "logical-replication";
             try (Translog.Snapshot snapshot = indexShard.newChangesSnapshot(source, fromSeqNo, toSeqNo, true)) {
-                var op = snapshot.next();
-                while (op != null) {
-                    ops.add(op);
-                    op = snapshot.next();
-                }
+                ops = readChanges(snapshot, request.maxBatchBytes());
             } catch (MissingHistoryOperationsException e) {
                 final Collection<RetentionLease> retentionLeases = indexShard.getRetentionLeases().leases();
                 final String message = "Operations are no longer available for replicating. " +
@@ -145,6 +142,21 @@ public class ShardChangesAction extends ActionType<ShardChangesAction.Response>
             );
         }
 
+        /**
+         * Reads operations until the snapshot is exhausted or their estimated size reaches {@code maxBatchBytes}.
+         * The subscriber requests the remaining operations with the next batch.
+         */
+        static List<Translog.Operation> readChanges(Translog.Snapshot snapshot, long maxBatchBytes) throws IOException {
+            List<Translog.Operation> ops = new ArrayList<>();
+            long sizeInBytes = 0;
+            Translog.Operation op;
+            while (sizeInBytes < maxBatchBytes && (op = snapshot.next()) != null) {
+                ops.add(op);
+                sizeInBytes += op.estimateSize();
+            }
+            return ops;
+        }
+
         @Override
         protected void asyncShardOperation(Request request,
                                            ShardId shardId,
@@ -238,12 +250,14 @@ public class ShardChangesAction extends ActionType<ShardChangesAction.Response>
         private final ShardId shardId;
         private final long fromSeqNo;
         private final long toSeqNo;
+        private final long maxBatchBytes;
 
-        public Request(ShardId shardId, long fromSeqNo, long toSeqNo) {
+        public Request(ShardId shardId, long fromSeqNo, long toSeqNo, long maxBatchBytes) {
             super(shardId.getIndexName());
             this.shardId = shardId;
             this.fromSeqNo = fromSeqNo;
             this.toSeqNo = toSeqNo;
+            this.maxBatchBytes = maxBatchBytes;
         }
 
         public Request(StreamInput in) throws IOException {
@@ -251,6 +265,11 @@ public class ShardChangesAction extends ActionType<ShardChangesAction.Response>
             this.shardId = new ShardId(in);
             this.fromSeqNo = in.readLong();
             this.toSeqNo = in.readVLong();
+            if (in.getVersion().onOrAfter(Version.V_6_0_0)) {
+                this.maxBatchBytes = in.readVLong();
+            } else {
+                this.maxBatchBytes = Long.MAX_VALUE;
+            }
         }
 
         @Override
@@ -259,6 +278,9 @@ public class ShardChangesAction extends ActionType<ShardChangesAction.Response>
             shardId.writeTo(out);
             out.writeLong(fromSeqNo);
             out.writeVLong(toSeqNo);
+            if (out.getVersion().onOrAfter(Version.V_6_0_0)) {
+                out.writeVLong(maxBatchBytes);
+            }
         }
 
         public ShardId shardId() {
@@ -273,9 +295,14 @@ public class ShardChangesAction extends ActionType<ShardChangesAction.Response>
             return toSeqNo;
         }
 
+        public long maxBatchBytes() {
+            return maxBatchBytes;
+        }
+
         @Override
         public String toString() {
-            return "Request{shardId=" + shardId + ", fromSeqNo=" + fromSeqNo + ", toSeqNo=" + toSeqNo + "}";
+            return "Request{shardId=" + shardId + ", fromSeqNo=" + fromSeqNo + ", toSeqNo=" + toSeqNo
+                + ", maxBatchBytes=" + maxBatchBytes + "}";
         }
     }
 
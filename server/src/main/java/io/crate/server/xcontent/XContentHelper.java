@@ -23,6 +23,7 @@ import java.io.BufferedInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
@@ -30,14 +31,18 @@ import java.util.Map;
 import java.util.Objects;
 
 import org.elasticsearch.ElasticsearchParseException;
+import org.elasticsearch.common.Strings;
+import org.elasticsearch.common.bytes.BytesArray;
 import org.elasticsearch.common.bytes.BytesReference;
 import org.elasticsearch.common.compress.Compressor;
 import org.elasticsearch.common.compress.CompressorFactory;
 import org.elasticsearch.common.xcontent.DeprecationHandler;
 import org.elasticsearch.common.xcontent.NamedXContentRegistry;
 import org.elasticsearch.common.xcontent.XContent;
+import org.elasticsearch.common.xcontent.XContentBuilder;
 import org.elasticsearch.common.xcontent.XContentParser;
 import org.elasticsearch.common.xcontent.XContentType;
+import org.elasticsearch.common.xcontent.json.JsonXContent;
 
 @SuppressWarnings("unchecked")
 public class XContentHelper {
@@ -86,6 +91,66 @@ public class XContentHelper {
         }
     }
 
+    private static final byte[] SMILE_HEADER = new byte[] {':', ')', '\n'};
+
+    /**
+     * Detects the content type of uncompressed source bytes as written by
+     * {@link io.crate.execution.dml.XContentTranslogWriter}: SMILE if it starts with the SMILE header, otherwise JSON.
+     * The input must support {@link InputStream#mark(int)}, its position is not changed.
+     */
+    public static XContentType sourceContentType(InputStream input) throws IOException {
+        assert input.markSupported() : "input must support mark/reset";
+        input.mark(SMILE_HEADER.length);
+        try {
+            for (byte b : SMILE_HEADER) {
+                if (input.read() != b) {
+                    return XContentType.JSON;
+                }
+            }
+            return XContentType.SMILE;
+        } finally {
+            input.reset();
+        }
+    }
+
+    /**
+     * Returns the source bytes as JSON string, converting it if it is SMILE encoded.
+     */
+    public static String sourceToJson(BytesReference bytes) {
+        try (InputStream input = getUncompressedInputStream(bytes)) {
+            XContentType contentType = sourceContentType(input);
+            if (contentType == XContentType.JSON) {
+                return new String(input.readAllBytes(), StandardCharsets.UTF_8);
+            }
+            try (XContentParser parser = contentType.xContent().createParser(
+                    NamedXContentRegistry.EMPTY,
+                    DeprecationHandler.THROW_UNSUPPORTED_OPERATION,
+                    input);
+                 XContentBuilder builder = JsonXContent.builder()) {
+                parser.nextToken();
+                builder.copyCurrentStructure(parser);
+                return Strings.toString(builder);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Returns the source bytes as JSON, converting them if they are SMILE encoded.
+     * JSON sources are returned as is.
+     */
+    public static BytesReference sourceAsJson(BytesReference bytes) {
+        try (InputStream input = getUncompressedInputStream(bytes)) {
+            if (sourceContentType(input) == XContentType.JSON) {
+                return bytes;
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return new BytesArray(sourceToJson(bytes));
+    }
+
     /**
      * Converts the given bytes into a map that is optionally ordered.
      */
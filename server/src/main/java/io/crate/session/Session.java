@@ -42,6 +42,7 @@ import org.apache.logging.log4j.Logger;
 import org.elasticsearch.cluster.ClusterState;
 import org.elasticsearch.common.Randomness;
 import org.elasticsearch.common.UUIDs;
+import org.elasticsearch.common.lease.Releasable;
 import org.jetbrains.annotations.Nullable;
 import org.jetbrains.annotations.VisibleForTesting;
 
@@ -70,6 +71,8 @@ import io.crate.exceptions.ReadOnlyException;
 import io.crate.exceptions.SQLExceptions;
 import io.crate.execution.dml.BulkResponse;
 import io.crate.execution.engine.collect.stats.JobsLogs;
+import io.crate.execution.jobs.ResourceGroup;
+import io.crate.execution.jobs.ResourceGroups;
 import io.crate.execution.jobs.kill.KillJobsNodeAction;
 import io.crate.execution.jobs.kill.KillJobsNodeRequest;
 import io.crate.expression.symbol.Symbol;
@@ -137,6 +140,7 @@ public class Session implements AutoCloseable {
 
     public static final String UNNAMED = "";
     private final DependencyCarrier executor;
+    private final ResourceGroups resourceGroups;
     private final CoordinatorSessionSettings sessionSettings;
 
     @VisibleForTesting
@@ -154,6 +158,8 @@ public class Session implements AutoCloseable {
     CompletableFuture<?> activeExecution;
     @Nullable
     private UUID mostRecentJobID;
+    @Nullable
+    private volatile CompletableFuture<Releasable> queuedAdmission;
 
     private final int id;
     private final ConnectionProperties connectionProperties;
@@ -181,6 +187,7 @@ public class Session implements AutoCloseable {
                    JobsLogs jobsLogs,
                    boolean isReadOnly,
                    DependencyCarrier executor,
+                   ResourceGroups resourceGroups,
                    CoordinatorSessionSettings sessionSettings,
                    Runnable onClose,
                    int tempErrorRetryCount,
@@ -194,6 +201,7 @@ public class Session implements AutoCloseable {
         this.jobsLogs = jobsLogs;
         this.isReadOnly = isReadOnly;
         this.executor = executor;
+        this.resourceGroups = resourceGroups;
         this.sessionSettings = sessionSettings;
         this.onClose = onClose;
         this.tempErrorRetryCount = tempErrorRetryCount;
@@ -667,11 +675,15 @@ public class Session implements AutoCloseable {
             if (result.isDone()) {
                 return;
             }
+            String reason = "statement_timeout (" + timeout.toString() + ")";
+            if (killQueued(reason)) {
+                return;
+            }
             KillJobsNodeRequest request = new KillJobsNodeRequest(
                 List.of(),
                 List.of(jobId),
                 sessionSettings.userName(),
-                "statement_timeout (" + timeout.toString() + ")"
+                reason
             );
             executor.client().execute(KillJobsNodeAction.INSTANCE, request);
         };
@@ -843,9 +855,11 @@ public class Session implements AutoCloseable {
             throw new IllegalStateException(errorMsg);
         }
         Plan plan;
+        ResourceGroup resourceGroup;
         try {
             plan = planner.plan(analyzedStmt, plannerContext);
             timeoutToken.check();
+            resourceGroup = resourceGroup(plan);
         } catch (Throwable t) {
             jobsLogs.logPreExecutionFailure(jobId, rawStatement, SQLExceptions.messageOf(t), sessionSettings.sessionUser());
             throw t;
@@ -876,12 +890,40 @@ public class Session implements AutoCloseable {
         RowConsumerToResultReceiver consumer = new RowConsumerToResultReceiver(
             resultReceiver, maxRows, new JobsLogsUpdateListener(jobId, jobsLogs));
         portal.setActiveConsumer(consumer);
-        plan.execute(executor, plannerContext, consumer, params, SubQueryResults.EMPTY);
         CompletableFuture<?> result = resultReceiver.completionFuture();
+        if (resourceGroup == null) {
+            plan.execute(executor, plannerContext, consumer, params, SubQueryResults.EMPTY);
+        } else {
+            CompletableFuture<Releasable> admission = resourceGroup.acquire();
+            queuedAdmission = admission;
+            admission.whenComplete((permit, err) -> {
+                if (err != null) {
+                    consumer.accept(null, err);
+                    return;
+                }
+                result.whenComplete((res, e) -> permit.close());
+                if (result.isDone()) {
+                    return;
+                }
+                plan.execute(executor, plannerContext, consumer, params, SubQueryResults.EMPTY);
+            });
+        }
         addStatementTimeout(result, timeoutToken);
         return result;
     }
 
+    /**
+     * Returns the resource group a plan must be admitted to, or null if it runs without admission control.
+     * Only SELECT statements of client sessions are subject to admission control.
+     */
+    @Nullable
+    private ResourceGroup resourceGroup(Plan plan) {
+        if (isSystemSession() || plan.type() != Plan.StatementType.SELECT) {
+            return null;
+        }
+        return resourceGroups.forSession(sessionSettings);
+    }
+
     @Nullable
     public List<? extends DataType<?>> getOutputTypes(String portalName) {
         Portal portal = getSafePortal(portalName);
@@ -1006,16 +1048,30 @@ public class Session implements AutoCloseable {
         if (mostRecentJobID == null) {
             return;
         }
-        var request = new KillJobsNodeRequest(
-            List.of(),
-            List.of(mostRecentJobID),
-            sessionSettings.userName(),
-            "Cancellation request by: " + sessionSettings.userName()
-        );
-        executor.client().execute(KillJobsNodeAction.INSTANCE, request);
+        String reason = "Cancellation request by: " + sessionSettings.userName();
+        if (killQueued(reason) == false) {
+            var request = new KillJobsNodeRequest(
+                List.of(),
+                List.of(mostRecentJobID),
+                sessionSettings.userName(),
+                reason
+            );
+            executor.client().execute(KillJobsNodeAction.INSTANCE, request);
+        }
         resetDeferredExecutions();
     }
 
+    /**
+     * Kills the current statement if it is still waiting in the queue of its resource group.
+     * Its job isn't registered yet, so it cannot be killed via {@link KillJobsNodeAction}.
+     *
+     * @return true if the statement was queued and got killed.
+     */
+    private boolean killQueued(String reason) {
+        CompletableFuture<Releasable> admission = queuedAdmission;
+        return admission != null && admission.completeExceptionally(JobKilledException.of(reason));
+    }
+
     @Override
     public String toString() {
         return "Session{" +
@@ -42,6 +42,7 @@ import org.jetbrains.annotations.Nullable;
 import io.crate.analyze.Analyzer;
 import io.crate.common.unit.TimeValue;
 import io.crate.execution.engine.collect.stats.JobsLogs;
+import io.crate.execution.jobs.ResourceGroups;
 import io.crate.execution.jobs.transport.CancelRequest;
 import io.crate.execution.jobs.transport.TransportCancelAction;
 import io.crate.metadata.NodeContext;
@@ -108,6 +109,7 @@ public class Sessions {
     private final JobsLogs jobsLogs;
     private final ClusterService clusterService;
     private final SessionSettingRegistry sessionSettingRegistry;
+    private final ResourceGroups resourceGroups;
     private final boolean isReadOnly;
     private final AtomicInteger nextSessionId = new AtomicInteger();
     private final ConcurrentMap<Integer, Session> sessions = new ConcurrentHashMap<>();
@@ -126,7 +128,8 @@ public class Sessions {
                     JobsLogs jobsLogs,
                     Settings settings,
                     ClusterService clusterService,
-                    SessionSettingRegistry sessionSettingRegistry) {
+                    SessionSettingRegistry sessionSettingRegistry,
+                    ResourceGroups resourceGroups) {
         this.nodeCtx = nodeCtx;
         this.analyzer = analyzer;
         this.planner = planner;
@@ -146,6 +149,7 @@ public class Sessions {
             this.memoryLimit = newLimit;
         });
         this.sessionSettingRegistry = sessionSettingRegistry;
+        this.resourceGroups = resourceGroups;
     }
 
     private Session newSession(@Nullable ConnectionProperties connectionProperties,
@@ -162,6 +166,7 @@ public class Sessions {
             jobsLogs,
             isReadOnly,
             executorProvider.get(),
+            resourceGroups,
             sessionSettings,
             () -> sessions.remove(sessionId),
             tempErrorRetryCount,
@@ -23,6 +23,7 @@ import java.io.IOException;
 import java.util.Map;
 import java.util.Objects;
 
+import org.elasticsearch.Version;
 import org.elasticsearch.cluster.routing.ShardRouting;
 import org.elasticsearch.common.collect.ImmutableOpenMap;
 import org.elasticsearch.common.io.stream.StreamInput;
@@ -36,10 +37,10 @@ import com.carrotsearch.hppc.cursors.ObjectCursor;
 import com.carrotsearch.hppc.cursors.ObjectObjectCursor;
 
 /**
- * ClusterInfo is an object representing a map of nodes to {@link DiskUsage}
- * and a map of shard ids to shard sizes, see
+ * ClusterInfo is an object representing a map of nodes to {@link DiskUsage},
+ * a map of shard ids to shard sizes and a map of shard ids to write loads, see
  * <code>InternalClusterInfoService.shardIdentifierFromRouting(String)</code>
- * for the key used in the shardSizes map
+ * for the key used in the shardSizes and shardWriteLoads maps
  */
 public class ClusterInfo implements Writeable {
 
@@ -49,6 +50,7 @@ public class ClusterInfo implements Writeable {
     public static final ClusterInfo EMPTY = new ClusterInfo();
     final ImmutableOpenMap<ShardRouting, String> routingToDataPath;
     final ImmutableOpenMap<NodeAndPath, ReservedSpace> reservedSpace;
+    final ImmutableOpenMap<String, Double> shardWriteLoads;
 
     protected ClusterInfo() {
         this(
@@ -59,6 +61,20 @@ public class ClusterInfo implements Writeable {
             ImmutableOpenMap.of());
     }
 
+    public ClusterInfo(ImmutableOpenMap<String, DiskUsage> leastAvailableSpaceUsage,
+                       ImmutableOpenMap<String, DiskUsage> mostAvailableSpaceUsage,
+                       ImmutableOpenMap<String, Long> shardSizes,
+                       ImmutableOpenMap<ShardRouting, String> routingToDataPath,
+                       ImmutableOpenMap<NodeAndPath, ReservedSpace> reservedSpace) {
+        this(
+            leastAvailableSpaceUsage,
+            mostAvailableSpaceUsage,
+            shardSizes,
+            routingToDataPath,
+            reservedSpace,
+            ImmutableOpenMap.of());
+    }
+
     /**
      * Creates a new ClusterInfo instance.
      *
@@ -67,18 +83,21 @@ public class ClusterInfo implements Writeable {
      * @param shardSizes a shardkey to size in bytes mapping per shard.
      * @param routingToDataPath the shard routing to datapath mapping
      * @param reservedSpace reserved space per shard broken down by node and data path
+     * @param shardWriteLoads a shardkey to write operations per second mapping per shard.
      * @see #shardIdentifierFromRouting
      */
     public ClusterInfo(ImmutableOpenMap<String, DiskUsage> leastAvailableSpaceUsage,
                        ImmutableOpenMap<String, DiskUsage> mostAvailableSpaceUsage,
                        ImmutableOpenMap<String, Long> shardSizes,
                        ImmutableOpenMap<ShardRouting, String> routingToDataPath,
-                       ImmutableOpenMap<NodeAndPath, ReservedSpace> reservedSpace) {
+                       ImmutableOpenMap<NodeAndPath, ReservedSpace> reservedSpace,
+                       ImmutableOpenMap<String, Double> shardWriteLoads) {
         this.leastAvailableSpaceUsage = leastAvailableSpaceUsage;
         this.shardSizes = shardSizes;
         this.mostAvailableSpaceUsage = mostAvailableSpaceUsage;
         this.routingToDataPath = routingToDataPath;
         this.reservedSpace = reservedSpace;
+        this.shardWriteLoads = shardWriteLoads;
     }
 
     public ClusterInfo(StreamInput in) throws IOException {
@@ -92,6 +111,12 @@ public class ClusterInfo implements Writeable {
         } else {
             reservedSpaceMap = Map.of();
         }
+        final Map<String, Double> writeLoadMap;
+        if (in.getVersion().onOrAfter(Version.V_6_0_0)) {
+            writeLoadMap = in.readMap(StreamInput::readString, StreamInput::readDouble);
+        } else {
+            writeLoadMap = Map.of();
+        }
 
         ImmutableOpenMap.Builder<String, DiskUsage> leastBuilder = ImmutableOpenMap.builder();
         this.leastAvailableSpaceUsage = leastBuilder.putAll(leastMap).build();
@@ -103,6 +128,8 @@ public class ClusterInfo implements Writeable {
         this.routingToDataPath = routingBuilder.putAll(routingMap).build();
         ImmutableOpenMap.Builder<NodeAndPath, ReservedSpace> reservedSpaceBuilder = ImmutableOpenMap.builder();
         this.reservedSpace = reservedSpaceBuilder.putAll(reservedSpaceMap).build();
+        ImmutableOpenMap.Builder<String, Double> writeLoadBuilder = ImmutableOpenMap.builder();
+        this.shardWriteLoads = writeLoadBuilder.putAll(writeLoadMap).build();
     }
 
     @Override
@@ -118,6 +145,9 @@ public class ClusterInfo implements Writeable {
         if (out.getVersion().onOrAfter(StoreStats.RESERVED_BYTES_VERSION)) {
             out.writeMap(this.reservedSpace);
         }
+        if (out.getVersion().onOrAfter(Version.V_6_0_0)) {
+            out.writeMap(this.shardWriteLoads, StreamOutput::writeString, StreamOutput::writeDouble);
+        }
     }
 
 
@@ -159,6 +189,14 @@ public class ClusterInfo implements Writeable {
         return shardSize == null ? defaultValue : shardSize;
     }
 
+    /**
+     * Returns the number of write operations per second applied to the given shard or <code>0</code> if that metric is not available.
+     */
+    public double getShardWriteLoad(ShardRouting shardRouting) {
+        Double writeLoad = shardWriteLoads.get(shardIdentifierFromRouting(shardRouting));
+        return writeLoad == null ? 0.0 : writeLoad;
+    }
+
     /**
      * Returns the reserved space for each shard on the given node/path pair
      */
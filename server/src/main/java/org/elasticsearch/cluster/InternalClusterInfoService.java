@@ -51,12 +51,14 @@ import org.elasticsearch.common.settings.Setting.Property;
 import org.elasticsearch.common.settings.Settings;
 import org.elasticsearch.common.util.concurrent.EsRejectedExecutionException;
 import org.elasticsearch.common.util.concurrent.RejectableRunnable;
+import org.elasticsearch.index.seqno.SeqNoStats;
 import org.elasticsearch.index.store.StoreStats;
 import org.elasticsearch.monitor.fs.FsInfo;
 import org.elasticsearch.threadpool.ThreadPool;
 import org.elasticsearch.transport.ReceiveTimeoutTransportException;
 
 import com.carrotsearch.hppc.ObjectContainer;
+import com.carrotsearch.hppc.cursors.ObjectObjectCursor;
 
 import io.crate.common.unit.TimeValue;
 import io.crate.exceptions.SQLExceptions;
@@ -69,8 +71,10 @@ import io.crate.exceptions.SQLExceptions;
  * Listens for changes in the number of data nodes and immediately submits a
  * ClusterInfoUpdateJob if a node has been added.
  *
- * Every time the timer runs, gathers information about the disk usage and
- * shard sizes across the cluster.
+ * Every time the timer runs, gathers information about the disk usage,
+ * shard sizes and shard write loads across the cluster. The write load of a
+ * shard is derived from the progress of its max sequence number since the
+ * previous run.
  */
 public class InternalClusterInfoService implements ClusterInfoService, ClusterStateListener {
 
@@ -178,7 +182,8 @@ public class InternalClusterInfoService implements ClusterInfoService, ClusterSt
     public ClusterInfo getClusterInfo() {
         final IndicesStatsSummary indicesStatsSummary = this.indicesStatsSummary; // single volatile read
         return new ClusterInfo(leastAvailableSpaceUsages, mostAvailableSpaceUsages,
-            indicesStatsSummary.shardSizes, indicesStatsSummary.shardRoutingToDataPath, indicesStatsSummary.reservedSpace);
+            indicesStatsSummary.shardSizes, indicesStatsSummary.shardRoutingToDataPath, indicesStatsSummary.reservedSpace,
+            indicesStatsSummary.shardWriteLoads);
     }
 
 
@@ -254,19 +259,38 @@ public class InternalClusterInfoService implements ClusterInfoService, ClusterSt
 
         try {
             IndicesStatsResponse indicesStats = indicesStatsResponse.get(fetchTimeout.millis(), TimeUnit.MILLISECONDS);
+            final long timestampMillis = threadPool.relativeTimeInMillis();
             final ShardStats[] stats = indicesStats.getShards();
             final ImmutableOpenMap.Builder<String, Long> shardSizeByIdentifierBuilder = ImmutableOpenMap.builder();
             final ImmutableOpenMap.Builder<ShardRouting, String> dataPathByShardRoutingBuilder = ImmutableOpenMap.builder();
             final Map<ClusterInfo.NodeAndPath, ClusterInfo.ReservedSpace.Builder> reservedSpaceBuilders = new HashMap<>();
-            buildShardLevelInfo(LOGGER, stats, shardSizeByIdentifierBuilder, dataPathByShardRoutingBuilder, reservedSpaceBuilders);
+            final ImmutableOpenMap.Builder<String, Long> maxSeqNoByIdentifierBuilder = ImmutableOpenMap.builder();
+            buildShardLevelInfo(
+                LOGGER,
+                stats,
+                shardSizeByIdentifierBuilder,
+                dataPathByShardRoutingBuilder,
+                reservedSpaceBuilders,
+                maxSeqNoByIdentifierBuilder
+            );
 
             final ImmutableOpenMap.Builder<ClusterInfo.NodeAndPath, ClusterInfo.ReservedSpace> rsrvdSpace = ImmutableOpenMap.builder();
             reservedSpaceBuilders.forEach((nodeAndPath, builder) -> rsrvdSpace.put(nodeAndPath, builder.build()));
 
+            final IndicesStatsSummary previousSummary = indicesStatsSummary;
+            final ImmutableOpenMap<String, Long> shardMaxSeqNos = maxSeqNoByIdentifierBuilder.build();
             indicesStatsSummary = new IndicesStatsSummary(
                 shardSizeByIdentifierBuilder.build(),
                 dataPathByShardRoutingBuilder.build(),
-                rsrvdSpace.build()
+                rsrvdSpace.build(),
+                shardMaxSeqNos,
+                buildShardWriteLoads(
+                    previousSummary.shardMaxSeqNos,
+                    previousSummary.shardWriteLoads,
+                    timestampMillis - previousSummary.timestampMillis,
+                    shardMaxSeqNos
+                ),
+                timestampMillis
             );
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt(); // restore interrupt status
@@ -309,11 +333,17 @@ public class InternalClusterInfoService implements ClusterInfoService, ClusterSt
 
     static void buildShardLevelInfo(Logger logger, ShardStats[] stats, ImmutableOpenMap.Builder<String, Long> shardSizes,
                                     ImmutableOpenMap.Builder<ShardRouting, String> newShardRoutingToDataPath,
-                                    Map<ClusterInfo.NodeAndPath, ClusterInfo.ReservedSpace.Builder> reservedSpaceByShard) {
+                                    Map<ClusterInfo.NodeAndPath, ClusterInfo.ReservedSpace.Builder> reservedSpaceByShard,
+                                    ImmutableOpenMap.Builder<String, Long> shardMaxSeqNos) {
         for (ShardStats s : stats) {
             final ShardRouting shardRouting = s.getShardRouting();
             newShardRoutingToDataPath.put(shardRouting, s.getDataPath());
 
+            final SeqNoStats seqNoStats = s.getSeqNoStats();
+            if (seqNoStats != null) {
+                shardMaxSeqNos.put(ClusterInfo.shardIdentifierFromRouting(shardRouting), seqNoStats.getMaxSeqNo());
+            }
+
             final StoreStats storeStats = s.getStats().getStore();
             if (storeStats == null) {
                 continue;
@@ -334,6 +364,38 @@ public class InternalClusterInfoService implements ClusterInfoService, ClusterSt
         }
     }
 
+    /**
+     * Calculates the write operations per second of each shard from the progress of its max sequence number.
+     * The rate is smoothed with the rate of the previous run to avoid rebalancing on short write bursts.
+     *
+     * @param previousMaxSeqNos the max sequence numbers of the previous run
+     * @param previousWriteLoads the write loads calculated by the previous run
+     * @param elapsedMillis the time elapsed since the previous run
+     * @param maxSeqNos the current max sequence numbers
+     */
+    static ImmutableOpenMap<String, Double> buildShardWriteLoads(ImmutableOpenMap<String, Long> previousMaxSeqNos,
+                                                                 ImmutableOpenMap<String, Double> previousWriteLoads,
+                                                                 long elapsedMillis,
+                                                                 ImmutableOpenMap<String, Long> maxSeqNos) {
+        if (elapsedMillis <= 0) {
+            return previousWriteLoads;
+        }
+        ImmutableOpenMap.Builder<String, Double> writeLoads = ImmutableOpenMap.builder();
+        for (ObjectObjectCursor<String, Long> cursor : maxSeqNos) {
+            Long previousMaxSeqNo = previousMaxSeqNos.get(cursor.key);
+            if (previousMaxSeqNo == null || cursor.value < previousMaxSeqNo) {
+                continue;
+            }
+            double writeLoad = (cursor.value - previousMaxSeqNo) * 1000.0 / elapsedMillis;
+            Double previousWriteLoad = previousWriteLoads.get(cursor.key);
+            if (previousWriteLoad != null) {
+                writeLoad = (writeLoad + previousWriteLoad) / 2;
+            }
+            writeLoads.put(cursor.key, writeLoad);
+        }
+        return writeLoads.build();
+    }
+
     static void fillDiskUsagePerNode(Logger logger,
                                      List<NodeStats> nodeStatsArray,
                                      ImmutableOpenMap.Builder<String, DiskUsage> newLeastAvaiableUsages,
@@ -399,19 +461,34 @@ public class InternalClusterInfoService implements ClusterInfoService, ClusterSt
     }
 
     private static class IndicesStatsSummary {
-        static final IndicesStatsSummary EMPTY
-            = new IndicesStatsSummary(ImmutableOpenMap.of(), ImmutableOpenMap.of(), ImmutableOpenMap.of());
+        static final IndicesStatsSummary EMPTY = new IndicesStatsSummary(
+            ImmutableOpenMap.of(),
+            ImmutableOpenMap.of(),
+            ImmutableOpenMap.of(),
+            ImmutableOpenMap.of(),
+            ImmutableOpenMap.of(),
+            0L
+        );
 
         final ImmutableOpenMap<String, Long> shardSizes;
         final ImmutableOpenMap<ShardRouting, String> shardRoutingToDataPath;
         final ImmutableOpenMap<ClusterInfo.NodeAndPath, ClusterInfo.ReservedSpace> reservedSpace;
+        final ImmutableOpenMap<String, Long> shardMaxSeqNos;
+        final ImmutableOpenMap<String, Double> shardWriteLoads;
+        final long timestampMillis;
 
         IndicesStatsSummary(ImmutableOpenMap<String, Long> shardSizes,
                             ImmutableOpenMap<ShardRouting, String> shardRoutingToDataPath,
-                            ImmutableOpenMap<ClusterInfo.NodeAndPath, ClusterInfo.ReservedSpace> reservedSpace) {
+                            ImmutableOpenMap<ClusterInfo.NodeAndPath, ClusterInfo.ReservedSpace> reservedSpace,
+                            ImmutableOpenMap<String, Long> shardMaxSeqNos,
+                            ImmutableOpenMap<String, Double> shardWriteLoads,
+                            long timestampMillis) {
             this.shardSizes = shardSizes;
             this.shardRoutingToDataPath = shardRoutingToDataPath;
             this.reservedSpace = reservedSpace;
+            this.shardMaxSeqNos = shardMaxSeqNos;
+            this.shardWriteLoads = shardWriteLoads;
+            this.timestampMillis = timestampMillis;
         }
     }
 
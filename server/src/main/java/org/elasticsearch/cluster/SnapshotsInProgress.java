@@ -476,6 +476,11 @@ public class SnapshotsInProgress extends AbstractNamedDiffable<Custom> implement
         @Nullable
         private final String generation;
 
+        /**
+         * Number of bytes uploaded by a successful shard snapshot; -1 if unknown
+         */
+        private final long incrementalSize;
+
         public ShardSnapshotStatus(String nodeId, String generation) {
             this(nodeId, ShardState.INIT, generation);
         }
@@ -485,13 +490,26 @@ public class SnapshotsInProgress extends AbstractNamedDiffable<Custom> implement
         }
 
         public ShardSnapshotStatus(@Nullable String nodeId, ShardState state, String reason, @Nullable String generation) {
+            this(nodeId, state, reason, generation, -1L);
+        }
+
+        private ShardSnapshotStatus(@Nullable String nodeId,
+                                    ShardState state,
+                                    String reason,
+                                    @Nullable String generation,
+                                    long incrementalSize) {
             this.nodeId = nodeId;
             this.state = state;
             this.reason = reason;
             this.generation = generation;
+            this.incrementalSize = incrementalSize;
             assert assertConsistent();
         }
 
+        public static ShardSnapshotStatus success(String nodeId, String generation, long incrementalSize) {
+            return new ShardSnapshotStatus(nodeId, ShardState.SUCCESS, null, generation, incrementalSize);
+        }
+
         private boolean assertConsistent() {
             // If the state is failed we have to have a reason for this failure
             assert state.failed() == false || reason != null;
@@ -508,6 +526,11 @@ public class SnapshotsInProgress extends AbstractNamedDiffable<Custom> implement
                 generation = null;
             }
             reason = in.readOptionalString();
+            if (in.getVersion().onOrAfter(Version.V_6_0_0)) {
+                incrementalSize = in.readZLong();
+            } else {
+                incrementalSize = -1L;
+            }
         }
 
         public ShardState state() {
@@ -528,6 +551,10 @@ public class SnapshotsInProgress extends AbstractNamedDiffable<Custom> implement
             return reason;
         }
 
+        public long incrementalSize() {
+            return incrementalSize;
+        }
+
         /**
          * Checks if this shard snapshot is actively executing.
          * A shard is defined as actively executing if it either is in a state that may write to the repository
@@ -545,6 +572,9 @@ public class SnapshotsInProgress extends AbstractNamedDiffable<Custom> implement
                 out.writeOptionalString(generation);
             }
             out.writeOptionalString(reason);
+            if (out.getVersion().onOrAfter(Version.V_6_0_0)) {
+                out.writeZLong(incrementalSize);
+            }
         }
 
         @Override
@@ -555,6 +585,7 @@ public class SnapshotsInProgress extends AbstractNamedDiffable<Custom> implement
             return Objects.equals(nodeId, status.nodeId) &&
                    Objects.equals(reason, status.reason) &&
                    Objects.equals(generation, status.generation) &&
+                   incrementalSize == status.incrementalSize &&
                    state == status.state;
         }
 
@@ -564,12 +595,14 @@ public class SnapshotsInProgress extends AbstractNamedDiffable<Custom> implement
             result = 31 * result + (nodeId != null ? nodeId.hashCode() : 0);
             result = 31 * result + (reason != null ? reason.hashCode() : 0);
             result = 31 * result + (generation != null ? generation.hashCode() : 0);
+            result = 31 * result + Long.hashCode(incrementalSize);
             return result;
         }
 
         @Override
         public String toString() {
-            return "ShardSnapshotStatus[state=" + state + ", nodeId=" + nodeId + ", reason=" + reason + ", generation=" + generation + "]";
+            return "ShardSnapshotStatus[state=" + state + ", nodeId=" + nodeId + ", reason=" + reason + ", generation=" + generation
+                + ", incrementalSize=" + incrementalSize + "]";
         }
     }
 
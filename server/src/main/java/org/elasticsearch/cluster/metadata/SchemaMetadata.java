@@ -23,8 +23,9 @@ package org.elasticsearch.cluster.metadata;
 
 import java.io.IOException;
 
-import org.elasticsearch.cluster.AbstractDiffable;
 import org.elasticsearch.cluster.Diff;
+import org.elasticsearch.cluster.Diffable;
+import org.elasticsearch.cluster.Diffs;
 import org.elasticsearch.common.collect.ImmutableOpenMap;
 import org.elasticsearch.common.io.stream.StreamInput;
 import org.elasticsearch.common.io.stream.StreamOutput;
@@ -32,7 +33,21 @@ import org.jetbrains.annotations.Nullable;
 
 import io.crate.metadata.RelationName;
 
-public class SchemaMetadata extends AbstractDiffable<SchemaMetadata> {
+public class SchemaMetadata implements Diffable<SchemaMetadata> {
+
+    private static final Diffs.NonDiffableValueSerializer<String, RelationMetadata> RELATION_SERIALIZER =
+        new Diffs.NonDiffableValueSerializer<>() {
+
+            @Override
+            public void write(RelationMetadata value, StreamOutput out) throws IOException {
+                RelationMetadata.toStream(out, value);
+            }
+
+            @Override
+            public RelationMetadata read(StreamInput in, String key) throws IOException {
+                return RelationMetadata.of(in);
+            }
+        };
 
     private final ImmutableOpenMap<String, RelationMetadata> relations;
 
@@ -48,8 +63,17 @@ public class SchemaMetadata extends AbstractDiffable<SchemaMetadata> {
         return new SchemaMetadata(relations);
     }
 
+    /**
+     * Diffs are per relation, so that applying a diff keeps the instances of unchanged relations
+     * and only the changed relations are sent to other nodes.
+     */
+    @Override
+    public Diff<SchemaMetadata> diff(SchemaMetadata previousState) {
+        return new SchemaMetadataDiff(previousState, this);
+    }
+
     public static Diff<SchemaMetadata> readDiffFrom(StreamInput in) throws IOException {
-        return readDiffFrom(SchemaMetadata::of, in);
+        return new SchemaMetadataDiff(in);
     }
 
     @Override
@@ -76,4 +100,27 @@ public class SchemaMetadata extends AbstractDiffable<SchemaMetadata> {
         return obj instanceof SchemaMetadata other
             && relations.equals(other.relations);
     }
+
+    private static class SchemaMetadataDiff implements Diff<SchemaMetadata> {
+
+        private final Diff<ImmutableOpenMap<String, RelationMetadata>> relations;
+
+        SchemaMetadataDiff(SchemaMetadata before, SchemaMetadata after) {
+            relations = Diffs.diff(before.relations, after.relations, Diffs.stringKeySerializer(), RELATION_SERIALIZER);
+        }
+
+        SchemaMetadataDiff(StreamInput in) throws IOException {
+            relations = Diffs.readMapDiff(in, Diffs.stringKeySerializer(), RELATION_SERIALIZER);
+        }
+
+        @Override
+        public void writeTo(StreamOutput out) throws IOException {
+            relations.writeTo(out);
+        }
+
+        @Override
+        public SchemaMetadata apply(SchemaMetadata part) {
+            return new SchemaMetadata(relations.apply(part.relations));
+        }
+    }
 }
@@ -36,6 +36,7 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.apache.lucene.util.ArrayUtil;
 import org.apache.lucene.util.IntroSorter;
+import org.elasticsearch.cluster.ClusterInfo;
 import org.elasticsearch.cluster.metadata.IndexMetadata;
 import org.elasticsearch.cluster.metadata.Metadata;
 import org.elasticsearch.cluster.routing.RoutingNode;
@@ -65,12 +66,16 @@ import io.crate.common.collections.Tuple;
 
 /**
  * The {@link BalancedShardsAllocator} re-balances the nodes allocations
- * within an cluster based on a {@link WeightFunction}. The clusters balance is defined by four parameters which can be set
+ * within an cluster based on a {@link WeightFunction}. The clusters balance is defined by five parameters which can be set
  * in the cluster update API that allows changes in real-time:
  * <ul><li><code>cluster.routing.allocation.balance.shard</code> - The <b>shard balance</b> defines the weight factor
  * for shards allocated on a {@link RoutingNode}</li>
  * <li><code>cluster.routing.allocation.balance.index</code> - The <b>index balance</b> defines a factor to the number
  * of {@link org.elasticsearch.cluster.routing.ShardRouting}s per index allocated on a specific node</li>
+ * <li><code>cluster.routing.allocation.balance.write_load</code> - The <b>write load balance</b> defines a factor to the
+ * write operations per second of the shards allocated on a specific node</li>
+ * <li><code>cluster.routing.allocation.balance.disk_usage</code> - The <b>disk usage balance</b> defines a factor to the
+ * size of the shards allocated on a specific node</li>
  * <li><code>cluster.routing.allocation.balance.threshold</code> - A <b>threshold</b> to set the minimal optimization
  * value of operations that should be performed</li>
  * </ul>
@@ -86,6 +91,12 @@ public class BalancedShardsAllocator implements ShardsAllocator {
         Setting.floatSetting("cluster.routing.allocation.balance.index", 0.55f, 0.0f, Property.Dynamic, Property.NodeScope, Property.Exposed);
     public static final Setting<Float> SHARD_BALANCE_FACTOR_SETTING =
         Setting.floatSetting("cluster.routing.allocation.balance.shard", 0.45f, 0.0f, Property.Dynamic, Property.NodeScope, Property.Exposed);
+    public static final Setting<Float> WRITE_LOAD_BALANCE_FACTOR_SETTING =
+        Setting.floatSetting("cluster.routing.allocation.balance.write_load", 0.0f, 0.0f,
+            Property.Dynamic, Property.NodeScope, Property.Exposed);
+    public static final Setting<Float> DISK_USAGE_BALANCE_FACTOR_SETTING =
+        Setting.floatSetting("cluster.routing.allocation.balance.disk_usage", 0.0f, 0.0f,
+            Property.Dynamic, Property.NodeScope, Property.Exposed);
     public static final Setting<Float> THRESHOLD_SETTING =
         Setting.floatSetting("cluster.routing.allocation.balance.threshold", 1.0f, 0.0f,
             Property.Dynamic, Property.NodeScope, Property.Exposed);
@@ -93,20 +104,42 @@ public class BalancedShardsAllocator implements ShardsAllocator {
     private volatile WeightFunction weightFunction;
     private volatile float threshold;
 
+    private float indexBalance;
+    private float shardBalance;
+    private float writeLoadBalance;
+    private float diskUsageBalance;
+
     public BalancedShardsAllocator(Settings settings) {
         this(settings, new ClusterSettings(settings, ClusterSettings.BUILT_IN_CLUSTER_SETTINGS));
     }
 
     @Inject
     public BalancedShardsAllocator(Settings settings, ClusterSettings clusterSettings) {
-        setWeightFunction(INDEX_BALANCE_FACTOR_SETTING.get(settings), SHARD_BALANCE_FACTOR_SETTING.get(settings));
+        indexBalance = INDEX_BALANCE_FACTOR_SETTING.get(settings);
+        shardBalance = SHARD_BALANCE_FACTOR_SETTING.get(settings);
+        writeLoadBalance = WRITE_LOAD_BALANCE_FACTOR_SETTING.get(settings);
+        diskUsageBalance = DISK_USAGE_BALANCE_FACTOR_SETTING.get(settings);
+        weightFunction = new WeightFunction(indexBalance, shardBalance, writeLoadBalance, diskUsageBalance);
         setThreshold(THRESHOLD_SETTING.get(settings));
         clusterSettings.addSettingsUpdateConsumer(INDEX_BALANCE_FACTOR_SETTING, SHARD_BALANCE_FACTOR_SETTING, this::setWeightFunction);
+        clusterSettings.addSettingsUpdateConsumer(
+            WRITE_LOAD_BALANCE_FACTOR_SETTING,
+            DISK_USAGE_BALANCE_FACTOR_SETTING,
+            this::setLoadWeightFunction
+        );
         clusterSettings.addSettingsUpdateConsumer(THRESHOLD_SETTING, this::setThreshold);
     }
 
-    private void setWeightFunction(float indexBalance, float shardBalanceFactor) {
-        weightFunction = new WeightFunction(indexBalance, shardBalanceFactor);
+    private synchronized void setWeightFunction(float indexBalance, float shardBalanceFactor) {
+        weightFunction = new WeightFunction(indexBalance, shardBalanceFactor, writeLoadBalance, diskUsageBalance);
+        this.indexBalance = indexBalance;
+        this.shardBalance = shardBalanceFactor;
+    }
+
+    private synchronized void setLoadWeightFunction(float writeLoadBalance, float diskUsageBalance) {
+        weightFunction = new WeightFunction(indexBalance, shardBalance, writeLoadBalance, diskUsageBalance);
+        this.writeLoadBalance = writeLoadBalance;
+        this.diskUsageBalance = diskUsageBalance;
     }
 
     private void setThreshold(float threshold) {
@@ -161,10 +194,12 @@ public class BalancedShardsAllocator implements ShardsAllocator {
 
     /**
      * This class is the primary weight function used to create balanced over nodes and shards in the cluster.
-     * Currently this function has 3 properties:
+     * Currently this function has 4 properties:
      * <ul>
      * <li><code>index balance</code> - balance property over shards per index</li>
      * <li><code>shard balance</code> - balance property over shards per cluster</li>
+     * <li><code>write load balance</code> - balance property over the write load of shards per cluster</li>
+     * <li><code>disk usage balance</code> - balance property over the size of shards per cluster</li>
      * </ul>
      * <p>
      * Each of these properties are expressed as factor such that the properties factor defines the relative importance of the property for the
@@ -180,26 +215,66 @@ public class BalancedShardsAllocator implements ShardsAllocator {
      * <code>weight<sub>node</sub>(node, index) = shardBalance * (node.numShards() - avgShardsPerNode)</code>
      * </li>
      * </ul>
-     * <code>weight(node, index) = weight<sub>index</sub>(node, index) + weight<sub>node</sub>(node, index)</code>
+     * <li>
+     * <code>weight<sub>writeLoad</sub>(node) = writeLoadBalance * (node.writeLoad() - avgWriteLoadPerNode) / avgWriteLoadPerShard</code>
+     * </li>
+     * <li>
+     * <code>weight<sub>diskUsage</sub>(node) = diskUsageBalance * (node.diskUsage() - avgDiskUsagePerNode) / avgDiskUsagePerShard</code>
+     * </li>
+     * </ul>
+     * <code>weight(node, index) = weight<sub>index</sub>(node, index) + weight<sub>node</sub>(node, index)
+     * + weight<sub>writeLoad</sub>(node) + weight<sub>diskUsage</sub>(node)</code>
+     * <p>
+     * The write load and disk usage are expressed in multiples of the average load of a shard, so that a shard with an
+     * average load weighs the same as a shard in the shard count based properties.
+     * </p>
      */
     private static class WeightFunction {
 
         private final float theta0;
         private final float theta1;
+        private final float theta2;
+        private final float theta3;
+        private final float shardCountWeight;
 
-        WeightFunction(float indexBalance, float shardBalance) {
-            float sum = indexBalance + shardBalance;
+        WeightFunction(float indexBalance, float shardBalance, float writeLoadBalance, float diskUsageBalance) {
+            float sum = indexBalance + shardBalance + writeLoadBalance + diskUsageBalance;
             if (sum <= 0.0f) {
                 throw new IllegalArgumentException("Balance factors must sum to a value > 0 but was: " + sum);
             }
             theta0 = shardBalance / sum;
             theta1 = indexBalance / sum;
+            theta2 = writeLoadBalance / sum;
+            theta3 = diskUsageBalance / sum;
+            shardCountWeight = (indexBalance + shardBalance) / sum;
         }
 
         float weight(Balancer balancer, ModelNode node, String index) {
             final float weightShard = node.numShards() - balancer.avgShardsPerNode();
             final float weightIndex = node.numShards(index) - balancer.avgShardsPerNode(index);
-            return theta0 * weightShard + theta1 * weightIndex;
+            float weight = theta0 * weightShard + theta1 * weightIndex;
+            if (theta2 > 0.0f) {
+                weight += theta2 * balancer.relativeWriteLoad(node);
+            }
+            if (theta3 > 0.0f) {
+                weight += theta3 * balancer.relativeDiskUsage(node);
+            }
+            return weight;
+        }
+
+        /**
+         * Returns the weight a node gains by allocating the given shard of an index, or loses by giving it away.
+         * Is {@code 1.0} if only shard counts are balanced.
+         */
+        float shardWeight(Balancer balancer, ShardRouting shard) {
+            float weight = shardCountWeight;
+            if (theta2 > 0.0f) {
+                weight += theta2 * balancer.relativeWriteLoad(shard);
+            }
+            if (theta3 > 0.0f) {
+                weight += theta3 * balancer.relativeDiskUsage(shard);
+            }
+            return weight;
         }
     }
 
@@ -216,6 +291,11 @@ public class BalancedShardsAllocator implements ShardsAllocator {
         private final float threshold;
         private final Metadata metadata;
         private final float avgShardsPerNode;
+        private final ClusterInfo clusterInfo;
+        private final double avgWriteLoadPerNode;
+        private final double avgWriteLoadPerShard;
+        private final double avgDiskUsagePerNode;
+        private final double avgDiskUsagePerShard;
         private final NodeSorter sorter;
 
         public Balancer(Logger logger, RoutingAllocation allocation, WeightFunction weight, float threshold) {
@@ -226,7 +306,19 @@ public class BalancedShardsAllocator implements ShardsAllocator {
             this.routingNodes = allocation.routingNodes();
             this.metadata = allocation.metadata();
             avgShardsPerNode = ((float) metadata.getTotalNumberOfShards()) / routingNodes.size();
+            clusterInfo = allocation.clusterInfo();
             nodes = Collections.unmodifiableMap(buildModelFromAssigned());
+            double totalWriteLoad = 0.0;
+            double totalDiskUsage = 0.0;
+            for (ModelNode node : nodes.values()) {
+                totalWriteLoad += node.writeLoad();
+                totalDiskUsage += node.diskUsage();
+            }
+            int totalShards = metadata.getTotalNumberOfShards();
+            avgWriteLoadPerNode = totalWriteLoad / nodes.size();
+            avgWriteLoadPerShard = totalShards == 0 ? 0.0 : totalWriteLoad / totalShards;
+            avgDiskUsagePerNode = totalDiskUsage / nodes.size();
+            avgDiskUsagePerShard = totalShards == 0 ? 0.0 : totalDiskUsage / totalShards;
             sorter = newNodeSorter();
         }
 
@@ -251,6 +343,36 @@ public class BalancedShardsAllocator implements ShardsAllocator {
             return avgShardsPerNode;
         }
 
+        /**
+         * Returns the deviation of the nodes write load from the average write load per node,
+         * in multiples of the average write load per shard
+         */
+        public float relativeWriteLoad(ModelNode node) {
+            return avgWriteLoadPerShard > 0.0 ? (float) ((node.writeLoad() - avgWriteLoadPerNode) / avgWriteLoadPerShard) : 0.0f;
+        }
+
+        /**
+         * Returns the write load of the shard in multiples of the average write load per shard
+         */
+        public float relativeWriteLoad(ShardRouting shard) {
+            return avgWriteLoadPerShard > 0.0 ? (float) (clusterInfo.getShardWriteLoad(shard) / avgWriteLoadPerShard) : 0.0f;
+        }
+
+        /**
+         * Returns the deviation of the nodes disk usage from the average disk usage per node,
+         * in multiples of the average disk usage per shard
+         */
+        public float relativeDiskUsage(ModelNode node) {
+            return avgDiskUsagePerShard > 0.0 ? (float) ((node.diskUsage() - avgDiskUsagePerNode) / avgDiskUsagePerShard) : 0.0f;
+        }
+
+        /**
+         * Returns the disk usage of the shard in multiples of the average disk usage per shard
+         */
+        public float relativeDiskUsage(ShardRouting shard) {
+            return avgDiskUsagePerShard > 0.0 ? (float) (clusterInfo.getShardSize(shard, 0L) / avgDiskUsagePerShard) : 0.0f;
+        }
+
         /**
          * Returns a new {@link NodeSorter} that sorts the nodes based on their
          * current weight with respect to the index passed to the sorter. The
@@ -370,7 +492,7 @@ public class BalancedShardsAllocator implements ShardsAllocator {
                     boolean deltaAboveThreshold = lessThan(currentDelta, threshold) == false;
                     // calculate the delta of the weights of the two nodes if we were to add the shard to the
                     // node in question and move it away from the node that currently holds it.
-                    boolean betterWeightWithShardAdded = nodeWeight + 1.0f < currentWeight;
+                    boolean betterWeightWithShardAdded = nodeWeight + weight.shardWeight(this, shard) < currentWeight;
                     rebalanceConditionsMet = deltaAboveThreshold && betterWeightWithShardAdded;
                     // if the simulated weight delta with the shard moved away is better than the weight delta
                     // with the shard remaining on the current node, and we are allowed to allocate to the
@@ -505,7 +627,7 @@ public class BalancedShardsAllocator implements ShardsAllocator {
                              */
                             logger.trace("Couldn't find shard to relocate from node [{}] to node [{}]",
                                 maxNode.getNodeId(), minNode.getNodeId());
-                        } else if (tryRelocateShard(minNode, maxNode, index)) {
+                        } else if (tryRelocateShard(minNode, maxNode, index, delta)) {
                             /*
                              * TODO we could be a bit smarter here, we don't need to fully sort necessarily
                              * we could just find the place to insert linearly but the win might be minor
@@ -703,7 +825,7 @@ public class BalancedShardsAllocator implements ShardsAllocator {
         private Map<String, ModelNode> buildModelFromAssigned() {
             Map<String, ModelNode> nodes = new HashMap<>();
             for (RoutingNode rn : routingNodes) {
-                ModelNode node = new ModelNode(rn);
+                ModelNode node = new ModelNode(rn, clusterInfo);
                 nodes.put(rn.nodeId(), node);
                 for (ShardRouting shard : rn) {
                     assert rn.nodeId().equals(shard.currentNodeId());
@@ -944,17 +1066,23 @@ public class BalancedShardsAllocator implements ShardsAllocator {
 
         /**
          * Tries to find a relocation from the max node to the minimal node for an arbitrary shard of the given index on the
-         * balance model. Iff this method returns a <code>true</code> the relocation has already been executed on the
-         * simulation model as well as on the cluster.
+         * balance model. Shards which bring the weights of both nodes closest together are tried first, shards which would
+         * not reduce the weight delta are skipped. Iff this method returns a <code>true</code> the relocation has already
+         * been executed on the simulation model as well as on the cluster.
          */
-        private boolean tryRelocateShard(ModelNode minNode, ModelNode maxNode, String idx) {
+        private boolean tryRelocateShard(ModelNode minNode, ModelNode maxNode, String idx, float delta) {
             final ModelIndex index = maxNode.getIndex(idx);
             if (index != null) {
                 logger.trace("Try relocating shard of [{}] from [{}] to [{}]", idx, maxNode.getNodeId(), minNode.getNodeId());
+                // moving a shard changes the delta between both nodes by twice the shard weight
+                final Comparator<ShardRouting> byRemainingDelta = Comparator.comparingDouble(
+                    shard -> Math.abs(delta - 2 * weight.shardWeight(this, shard)));
                 final Iterable<ShardRouting> shardRoutings = StreamSupport.stream(index.spliterator(), false)
                     .filter(ShardRouting::started) // cannot rebalance unassigned, initializing or relocating shards anyway
                     .filter(maxNode::containsShard)
-                    .sorted(BY_DESCENDING_SHARD_ID) // check in descending order of shard id so that the decision is deterministic
+                    .filter(shard -> weight.shardWeight(this, shard) < delta)
+                    // ties are checked in descending order of shard id so that the decision is deterministic
+                    .sorted(byRemainingDelta.thenComparing(BY_DESCENDING_SHARD_ID))
                     ::iterator;
 
                 final AllocationDeciders deciders = allocation.deciders();
@@ -998,10 +1126,14 @@ public class BalancedShardsAllocator implements ShardsAllocator {
     static class ModelNode implements Iterable<ModelIndex> {
         private final Map<String, ModelIndex> indices = new HashMap<>();
         private int numShards = 0;
+        private double writeLoad = 0.0;
+        private long diskUsage = 0L;
         private final RoutingNode routingNode;
+        private final ClusterInfo clusterInfo;
 
-        ModelNode(RoutingNode routingNode) {
+        ModelNode(RoutingNode routingNode, ClusterInfo clusterInfo) {
             this.routingNode = routingNode;
+            this.clusterInfo = clusterInfo;
         }
 
         public ModelIndex getIndex(String indexId) {
@@ -1025,6 +1157,14 @@ public class BalancedShardsAllocator implements ShardsAllocator {
             return index == null ? 0 : index.numShards();
         }
 
+        public double writeLoad() {
+            return writeLoad;
+        }
+
+        public long diskUsage() {
+            return diskUsage;
+        }
+
         public int highestPrimary(String index) {
             ModelIndex idx = indices.get(index);
             if (idx != null) {
@@ -1041,6 +1181,8 @@ public class BalancedShardsAllocator implements ShardsAllocator {
             }
             index.addShard(shard);
             numShards++;
+            writeLoad += clusterInfo.getShardWriteLoad(shard);
+            diskUsage += clusterInfo.getShardSize(shard, 0L);
         }
 
         public void removeShard(ShardRouting shard) {
@@ -1052,6 +1194,8 @@ public class BalancedShardsAllocator implements ShardsAllocator {
                 }
             }
             numShards--;
+            writeLoad -= clusterInfo.getShardWriteLoad(shard);
+            diskUsage -= clusterInfo.getShardSize(shard, 0L);
         }
 
         @Override
@@ -20,6 +20,7 @@
 package org.elasticsearch.common.lucene.uid;
 
 import java.io.IOException;
+import java.util.Arrays;
 
 import org.apache.lucene.index.LeafReader;
 import org.apache.lucene.index.LeafReaderContext;
@@ -119,8 +120,54 @@ final class PerThreadIDVersionAndSeqNoLookup {
         }
     }
 
-    private static long readNumericDocValues(LeafReader reader, String field, int docId) throws IOException {
-        final NumericDocValues dv = reader.getNumericDocValues(field);
+    /**
+     * Looks up the ids at the given positions, which must be ordered by id, and stores the found documents
+     * at the same positions in {@code results}. Positions which already have a result are skipped.
+     * <p>
+     * Seeking the ids in order lets the terms enum reuse the blocks of the previous seek.
+     * The versions, seqNos and primary terms of the found documents are read in doc id order
+     * using one doc values iterator per field.
+     * </p>
+     */
+    void lookupVersions(BytesRef[] ids, int[] positionsOrderedById, DocIdAndVersion[] results, LeafReaderContext context)
+        throws IOException {
+        assert context.reader().getCoreCacheHelper().getKey().equals(readerKey) :
+            "context's reader is not the same as the reader class was initialized on.";
+        // docId in the upper, position in the lower 32 bits, so that sorting orders by docId
+        long[] found = new long[positionsOrderedById.length];
+        int numFound = 0;
+        for (int position : positionsOrderedById) {
+            if (results[position] != null) {
+                continue;
+            }
+            int docID = getDocID(ids[position], context);
+            if (docID != DocIdSetIterator.NO_MORE_DOCS) {
+                found[numFound++] = ((long) docID << 32) | position;
+            }
+        }
+        if (numFound == 0) {
+            return;
+        }
+        Arrays.sort(found, 0, numFound);
+        LeafReader reader = context.reader();
+        NumericDocValues versions = reader.getNumericDocValues(SysColumns.VERSION.name());
+        NumericDocValues seqNos = reader.getNumericDocValues(SysColumns.Names.SEQ_NO);
+        NumericDocValues primaryTerms = reader.getNumericDocValues(SysColumns.Names.PRIMARY_TERM);
+        for (int i = 0; i < numFound; i++) {
+            int docID = (int) (found[i] >>> 32);
+            int position = (int) found[i];
+            results[position] = new DocIdAndVersion(
+                docID,
+                advanceExact(versions, SysColumns.VERSION.name(), docID),
+                advanceExact(seqNos, SysColumns.Names.SEQ_NO, docID),
+                advanceExact(primaryTerms, SysColumns.Names.PRIMARY_TERM, docID),
+                reader,
+                context.docBase
+            );
+        }
+    }
+
+    private static long advanceExact(NumericDocValues dv, String field, int docId) throws IOException {
         if (dv == null || dv.advanceExact(docId) == false) {
             assert false : "document [" + docId + "] does not have docValues for [" + field + "]";
             throw new IllegalStateException("document [" + docId + "] does not have docValues for [" + field + "]");
@@ -128,6 +175,10 @@ final class PerThreadIDVersionAndSeqNoLookup {
         return dv.longValue();
     }
 
+    private static long readNumericDocValues(LeafReader reader, String field, int docId) throws IOException {
+        return advanceExact(reader.getNumericDocValues(field), field, docId);
+    }
+
     /**
      * returns the internal lucene doc id for the given id bytes.
      * {@link DocIdSetIterator#NO_MORE_DOCS} is returned if not found
@@ -23,6 +23,7 @@ import org.apache.lucene.index.IndexReader;
 import org.apache.lucene.index.LeafReader;
 import org.apache.lucene.index.LeafReaderContext;
 import org.apache.lucene.index.Term;
+import org.apache.lucene.util.BytesRef;
 import org.apache.lucene.util.CloseableThreadLocal;
 import org.elasticsearch.common.util.concurrent.ConcurrentCollections;
 
@@ -30,6 +31,7 @@ import java.io.IOException;
 import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.ConcurrentMap;
+import java.util.stream.IntStream;
 
 /** Utility class to resolve the Lucene doc ID, version, seqNo and primaryTerms for a given uid. */
 public final class VersionsAndSeqNoResolver {
@@ -145,6 +147,36 @@ public final class VersionsAndSeqNoResolver {
         return null;
     }
 
+    /**
+     * Load the internal doc IDs and versions for multiple uids from the reader.
+     * <p>
+     * Unlike calling {@link #loadDocIdAndVersion(IndexReader, Term, boolean)} per uid, the uids are looked up
+     * in sorted order, so that each segment's terms dictionary is walked once, front to back.
+     * </p>
+     *
+     * @return an array with the same order as {@code uids}, containing null for uids which weren't found.
+     */
+    public static DocIdAndVersion[] loadDocIdsAndVersions(IndexReader reader, String uidField, BytesRef[] uids) throws IOException {
+        DocIdAndVersion[] results = new DocIdAndVersion[uids.length];
+        if (uids.length == 0) {
+            return results;
+        }
+        int[] positionsOrderedById = IntStream.range(0, uids.length)
+            .boxed()
+            .sorted((a, b) -> uids[a].compareTo(uids[b]))
+            .mapToInt(Integer::intValue)
+            .toArray();
+        PerThreadIDVersionAndSeqNoLookup[] lookups = getLookupState(reader, uidField);
+        List<LeafReaderContext> leaves = reader.leaves();
+        // iterate backwards to optimize for the frequently updated documents
+        // which are likely to be in the last segments
+        for (int i = leaves.size() - 1; i >= 0; i--) {
+            final LeafReaderContext leaf = leaves.get(i);
+            lookups[leaf.ord].lookupVersions(uids, positionsOrderedById, results, leaf);
+        }
+        return results;
+    }
+
     /**
      * Loads the internal docId and sequence number of the latest copy for a given uid from the provided reader.
      * The result is either null or the live and latest version of the given uid.
@@ -104,9 +104,11 @@ import org.elasticsearch.transport.netty4.Netty4Transport;
 import io.crate.auth.AuthSettings;
 import io.crate.blob.v2.BlobIndicesService;
 import io.crate.cluster.gracefulstop.DecommissioningService;
+import io.crate.execution.engine.collect.MapSideDataCollectOperation;
 import io.crate.execution.engine.collect.stats.JobsLogService;
 import io.crate.execution.engine.indexing.ShardingUpsertExecutor;
 import io.crate.execution.jobs.NodeLimits;
+import io.crate.execution.jobs.ResourceGroups;
 import io.crate.fdw.ForeignDataWrappers;
 import io.crate.legacy.LegacySettings;
 import io.crate.lucene.LuceneQueryBuilder;
@@ -210,6 +212,8 @@ public final class ClusterSettings extends AbstractScopedSettings {
         AwarenessAllocationDecider.CLUSTER_ROUTING_ALLOCATION_AWARENESS_FORCE_GROUP_SETTING,
         BalancedShardsAllocator.INDEX_BALANCE_FACTOR_SETTING,
         BalancedShardsAllocator.SHARD_BALANCE_FACTOR_SETTING,
+        BalancedShardsAllocator.WRITE_LOAD_BALANCE_FACTOR_SETTING,
+        BalancedShardsAllocator.DISK_USAGE_BALANCE_FACTOR_SETTING,
         BalancedShardsAllocator.THRESHOLD_SETTING,
         ClusterRebalanceAllocationDecider.CLUSTER_ROUTING_ALLOCATION_ALLOW_REBALANCE_SETTING,
         ConcurrentRebalanceAllocationDecider.CLUSTER_ROUTING_ALLOCATION_CLUSTER_CONCURRENT_REBALANCE_SETTING,
@@ -236,6 +240,9 @@ public final class ClusterSettings extends AbstractScopedSettings {
         RecoverySettings.INDICES_RECOVERY_INTERNAL_LONG_ACTION_TIMEOUT_SETTING,
         RecoverySettings.INDICES_RECOVERY_MAX_CONCURRENT_FILE_CHUNKS_SETTING,
         RecoverySettings.INDICES_RECOVERY_MAX_CONCURRENT_OPERATIONS_SETTING,
+        RecoverySettings.INDICES_RECOVERY_OPERATION_PARTITIONS_SETTING,
+        RecoverySettings.INDICES_RECOVERY_ADAPTIVE_THROTTLE_SETTING,
+        RecoverySettings.INDICES_RECOVERY_ADAPTIVE_THROTTLE_TARGET_LATENCY_SETTING,
         ThrottlingAllocationDecider.CLUSTER_ROUTING_ALLOCATION_NODE_INITIAL_PRIMARIES_RECOVERIES_SETTING,
         ThrottlingAllocationDecider.CLUSTER_ROUTING_ALLOCATION_NODE_CONCURRENT_INCOMING_RECOVERIES_SETTING,
         ThrottlingAllocationDecider.CLUSTER_ROUTING_ALLOCATION_NODE_CONCURRENT_OUTGOING_RECOVERIES_SETTING,
@@ -317,6 +324,9 @@ public final class ClusterSettings extends AbstractScopedSettings {
         TransportSettings.PUBLISH_PORT,
         TransportSettings.OLD_TRANSPORT_COMPRESS,
         TransportSettings.TRANSPORT_COMPRESS,
+        TransportSettings.TRANSPORT_COMPRESSION_SCHEME,
+        TransportSettings.TRANSPORT_COMPRESS_ACTIONS,
+        TransportSettings.TRANSPORT_COMPRESS_MIN_SIZE,
         TransportSettings.PING_SCHEDULE,
         TransportSettings.TCP_CONNECT_TIMEOUT,
         TransportSettings.CONNECT_TIMEOUT,
@@ -425,6 +435,8 @@ public final class ClusterSettings extends AbstractScopedSettings {
         NodeLimits.MIN_CONCURRENCY,
         NodeLimits.MAX_CONCURRENCY,
         NodeLimits.QUEUE_SIZE,
+        ResourceGroups.GROUPS_SETTING,
+        MapSideDataCollectOperation.TIME_SLICE_SETTING,
         JobsLogService.STATS_ENABLED_SETTING,
         JobsLogService.STATS_JOBS_LOG_SIZE_SETTING,
         JobsLogService.STATS_JOBS_LOG_EXPIRATION_SETTING,
@@ -472,6 +484,8 @@ public final class ClusterSettings extends AbstractScopedSettings {
         LogicalReplicationSettings.REPLICATION_READ_POLL_DURATION,
         LogicalReplicationSettings.REPLICATION_RECOVERY_CHUNK_SIZE,
         LogicalReplicationSettings.REPLICATION_RECOVERY_MAX_CONCURRENT_FILE_CHUNKS,
+        LogicalReplicationSettings.REPLICATION_CHANGE_BATCH_MAX_BYTES,
+        LogicalReplicationSettings.REPLICATION_MAX_CONCURRENT_READS,
         LegacySettings.LEGACY_TABLE_FUNCTION_COLUMN_NAMING,
         SnapshotsService.MAX_CONCURRENT_SNAPSHOT_OPERATIONS_SETTING,
         FsHealthService.ENABLED_SETTING,
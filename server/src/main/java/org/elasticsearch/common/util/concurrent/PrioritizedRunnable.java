@@ -53,7 +53,19 @@ public abstract class PrioritizedRunnable implements Runnable, Comparable<Priori
 
     @Override
     public int compareTo(PrioritizedRunnable pr) {
-        return priority.compareTo(pr.priority);
+        int res = priority.compareTo(pr.priority);
+        if (res != 0) {
+            return res;
+        }
+        return Long.compare(virtualStartTime(), pr.virtualStartTime());
+    }
+
+    /**
+     * Orders runnables of the same priority, runnables with a lower value run first.
+     * Only runnables weighted by a resource group have a start time other than 0.
+     */
+    protected long virtualStartTime() {
+        return 0L;
     }
 
     public Priority priority() {
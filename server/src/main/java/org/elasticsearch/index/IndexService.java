@@ -46,6 +46,7 @@ import org.apache.logging.log4j.message.ParameterizedMessage;
 import org.apache.lucene.analysis.Analyzer;
 import org.apache.lucene.analysis.DelegatingAnalyzerWrapper;
 import org.apache.lucene.search.QueryCache;
+import org.apache.lucene.search.Sort;
 import org.apache.lucene.store.AlreadyClosedException;
 import org.apache.lucene.store.Directory;
 import org.elasticsearch.Assertions;
@@ -87,6 +88,7 @@ import org.jetbrains.annotations.VisibleForTesting;
 import io.crate.common.io.IOUtils;
 import io.crate.common.unit.TimeValue;
 import io.crate.execution.dml.TranslogIndexer;
+import io.crate.execution.engine.sort.IndexSort;
 import io.crate.metadata.IndexName;
 import io.crate.metadata.IndexReference;
 import io.crate.metadata.NodeContext;
@@ -106,6 +108,9 @@ public class IndexService extends AbstractIndexComponent implements IndicesClust
     private Supplier<TranslogIndexer> getTranslogIndexer = () -> {
         throw new IllegalStateException("Translog called before schema validation");
     };
+    private Supplier<Sort> getIndexSort = () -> {
+        throw new IllegalStateException("Index sort requested before schema validation");
+    };
     private final Collection<Function<IndexSettings, Optional<EngineFactory>>> engineFactoryProviders;
     private volatile Map<Integer, IndexShard> shards = emptyMap();
     private final AtomicBoolean closed = new AtomicBoolean(false);
@@ -393,6 +398,7 @@ public class IndexService extends AbstractIndexComponent implements IndicesClust
                 queryCache,
                 indexAnalyzer,
                 this::getTranslogIndexer,
+                this::getIndexSort,
                 engineFactoryProviders,
                 eventListener,
                 threadPool,
@@ -504,6 +510,8 @@ public class IndexService extends AbstractIndexComponent implements IndicesClust
         var tableInfo = tableFactory.create(RelationName.fromIndexName(indexName), metadata);
         var indexer = new TranslogIndexer(tableInfo, this.indexSettings.getIndexVersionCreated());
         this.getTranslogIndexer = () -> indexer;
+        Sort indexSort = IndexSort.of(newIndexMetadata.getSettings(), tableInfo);
+        this.getIndexSort = () -> indexSort;
     }
 
     @VisibleForTesting
@@ -511,6 +519,11 @@ public class IndexService extends AbstractIndexComponent implements IndicesClust
         return this.getTranslogIndexer.get();
     }
 
+    @Nullable
+    Sort getIndexSort() {
+        return this.getIndexSort.get();
+    }
+
     private class StoreCloseListener implements Store.OnClose {
         private final ShardId shardId;
         private final Closeable[] toClose;
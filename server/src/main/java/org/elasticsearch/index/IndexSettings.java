@@ -35,6 +35,7 @@ import org.elasticsearch.common.settings.Setting.Property;
 import org.elasticsearch.common.settings.Settings;
 import org.elasticsearch.common.unit.ByteSizeUnit;
 import org.elasticsearch.common.unit.ByteSizeValue;
+import org.elasticsearch.common.xcontent.XContentType;
 import org.elasticsearch.index.translog.Translog;
 import org.elasticsearch.node.Node;
 
@@ -65,6 +66,36 @@ public final class IndexSettings {
                       Property.IndexScope,
                       Property.ReplicatedIndexScope);
 
+    /**
+     * If enabled, shards of write-blocked indices use a {@link org.elasticsearch.index.engine.LazyOpenEngine}
+     * which opens the Lucene index on first access instead of when the shard is started.
+     */
+    public static final Setting<Boolean> INDEX_LAZY_OPEN_SETTING =
+        Setting.boolSetting("index.lazy_open", false, Property.Dynamic, Property.IndexScope);
+
+    /**
+     * Encoding of the rows written to the translog, which are also stored as (recovery) source.
+     * {@code json} writes JSON, {@code binary} writes SMILE, which is more compact and cheaper to parse.
+     * The setting is final, it can only be set when the index is created.
+     * Readers detect the encoding from the content, not from this setting.
+     */
+    public static final Setting<XContentType> INDEX_TRANSLOG_FORMAT_SETTING =
+        new Setting<>("index.translog.format",
+                      "json",
+                      IndexSettings::parseTranslogFormat,
+                      DataTypes.STRING,
+                      Property.IndexScope,
+                      Property.Final);
+
+    private static XContentType parseTranslogFormat(String value) {
+        return switch (value.toLowerCase(Locale.ROOT)) {
+            case "json" -> XContentType.JSON;
+            case "binary" -> XContentType.SMILE;
+            default -> throw new IllegalArgumentException(
+                "unknown value for [index.translog.format] must be one of [json, binary] but was: " + value);
+        };
+    }
+
     /**
      * Index setting describing for NGramTokenizer and NGramTokenFilter
      * the maximum difference between
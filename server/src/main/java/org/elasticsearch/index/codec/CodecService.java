@@ -23,7 +23,9 @@ import java.util.HashMap;
 import java.util.Map;
 
 import org.apache.lucene.codecs.Codec;
+import org.apache.lucene.codecs.KnnVectorsFormat;
 import org.apache.lucene.codecs.lucene101.Lucene101Codec;
+import org.elasticsearch.common.settings.Settings;
 
 /**
  * Since Lucene 4.0 low level index segments are read and written through a
@@ -43,11 +45,19 @@ public class CodecService {
     public static final String LUCENE_DEFAULT_CODEC = "lucene_default";
 
     public CodecService() {
+        this(Settings.EMPTY);
+    }
+
+    /**
+     * @param indexSettings used to configure the vector format of the crate codecs
+     */
+    public CodecService(Settings indexSettings) {
         final var codecs = new HashMap<String, Codec>();
+        KnnVectorsFormat knnVectorsFormat = CrateCodec.knnVectorsFormat(indexSettings);
         codecs.put(DEFAULT_CODEC,
-            new CrateCodec(Lucene101Codec.Mode.BEST_SPEED));
+            new CrateCodec(Lucene101Codec.Mode.BEST_SPEED, knnVectorsFormat));
         codecs.put(BEST_COMPRESSION_CODEC,
-            new CrateCodec(Lucene101Codec.Mode.BEST_COMPRESSION));
+            new CrateCodec(Lucene101Codec.Mode.BEST_COMPRESSION, knnVectorsFormat));
         codecs.put(LUCENE_DEFAULT_CODEC, Codec.getDefault());
         for (String codec : Codec.availableCodecs()) {
             codecs.put(codec, Codec.forName(codec));
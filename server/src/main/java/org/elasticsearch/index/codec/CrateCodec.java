@@ -20,6 +20,7 @@
 package org.elasticsearch.index.codec;
 
 import java.io.IOException;
+import java.util.Locale;
 
 import org.apache.lucene.codecs.Codec;
 import org.apache.lucene.codecs.DocValuesFormat;
@@ -27,18 +28,26 @@ import org.apache.lucene.codecs.KnnVectorsFormat;
 import org.apache.lucene.codecs.KnnVectorsReader;
 import org.apache.lucene.codecs.KnnVectorsWriter;
 import org.apache.lucene.codecs.lucene101.Lucene101Codec;
+import org.apache.lucene.codecs.lucene99.Lucene99HnswScalarQuantizedVectorsFormat;
+import org.apache.lucene.codecs.lucene99.Lucene99HnswVectorsFormat;
 import org.apache.lucene.index.SegmentReadState;
 import org.apache.lucene.index.SegmentWriteState;
 import org.elasticsearch.common.lucene.Lucene;
+import org.elasticsearch.common.settings.Setting;
+import org.elasticsearch.common.settings.Setting.Property;
+import org.elasticsearch.common.settings.Settings;
 
 import io.crate.lucene.codec.CustomLucene90DocValuesFormat;
+import io.crate.types.DataTypes;
 import io.crate.types.FloatVectorType;
 
 
 /**
  * {@link CrateCodec This codec} is the default {@link Codec} for Crate.
  * It disables compression on docvalues terms dictionaries, and increases
- * the max supported vector dimension to {@link FloatVectorType#MAX_DIMENSIONS}
+ * the max supported vector dimension to {@link FloatVectorType#MAX_DIMENSIONS}.
+ * The HNSW graph parameters and the quantization of vectors are configurable per table,
+ * see {@link #knnVectorsFormat(Settings)}.
  */
 // LUCENE UPGRADE: make sure to move to a new codec depending on the lucene version
 public class CrateCodec extends Lucene101Codec {
@@ -47,8 +56,75 @@ public class CrateCodec extends Lucene101Codec {
         assert Codec.forName(Lucene.LATEST_CODEC).getClass().isAssignableFrom(CrateCodec.class) : "CrateCodec must subclass the latest lucene codec: " + Lucene.LATEST_CODEC;
     }
 
+    /**
+     * Maximum number of connections per node in the HNSW graph.
+     */
+    public static final Setting<Integer> INDEX_VECTOR_HNSW_M_SETTING = Setting.intSetting(
+        "index.vector.hnsw.m",
+        Lucene99HnswVectorsFormat.DEFAULT_MAX_CONN,
+        1,
+        512,
+        Property.IndexScope,
+        Property.Final
+    );
+
+    /**
+     * Number of candidates tracked while building the HNSW graph.
+     */
+    public static final Setting<Integer> INDEX_VECTOR_HNSW_EF_CONSTRUCTION_SETTING = Setting.intSetting(
+        "index.vector.hnsw.ef_construction",
+        Lucene99HnswVectorsFormat.DEFAULT_BEAM_WIDTH,
+        1,
+        3200,
+        Property.IndexScope,
+        Property.Final
+    );
+
+    public static final Setting<String> INDEX_VECTOR_QUANTIZATION_SETTING = new Setting<>(
+        "index.vector.quantization",
+        "none",
+        CrateCodec::parseQuantization,
+        DataTypes.STRING,
+        Property.IndexScope,
+        Property.Final
+    );
+
+    private static String parseQuantization(String value) {
+        String quantization = value.toLowerCase(Locale.ROOT);
+        return switch (quantization) {
+            case "none", "int8", "int4" -> quantization;
+            default -> throw new IllegalArgumentException(
+                "unknown value for [index.vector.quantization] must be one of [none, int8, int4] but was: " + value);
+        };
+    }
+
+    /**
+     * Creates the format used to write the HNSW graph and vectors of new segments.
+     * Quantized formats keep the raw vectors on disk but load only the quantized
+     * vectors (1 byte per dimension for int8, half a byte for int4) for the graph search.
+     *
+     * Segments are read using the format that wrote them, so changing the format only affects new tables.
+     */
+    public static KnnVectorsFormat knnVectorsFormat(Settings indexSettings) {
+        int m = INDEX_VECTOR_HNSW_M_SETTING.get(indexSettings);
+        int efConstruction = INDEX_VECTOR_HNSW_EF_CONSTRUCTION_SETTING.get(indexSettings);
+        return switch (INDEX_VECTOR_QUANTIZATION_SETTING.get(indexSettings)) {
+            // Lucene's int8 quantization uses 7 bits to keep the dot product of two values within a signed byte
+            case "int8" -> new Lucene99HnswScalarQuantizedVectorsFormat(m, efConstruction, 1, 7, false, null, null);
+            case "int4" -> new Lucene99HnswScalarQuantizedVectorsFormat(m, efConstruction, 1, 4, true, null, null);
+            default -> new Lucene99HnswVectorsFormat(m, efConstruction);
+        };
+    }
+
+    private final KnnVectorsFormat knnVectorsFormat;
+
     public CrateCodec(Mode compressionMode) {
+        this(compressionMode, new Lucene99HnswVectorsFormat());
+    }
+
+    public CrateCodec(Mode compressionMode, KnnVectorsFormat knnVectorsFormat) {
         super(compressionMode);
+        this.knnVectorsFormat = knnVectorsFormat;
     }
 
     @Override
@@ -58,7 +134,7 @@ public class CrateCodec extends Lucene101Codec {
 
     @Override
     public KnnVectorsFormat getKnnVectorsFormatForField(String field) {
-        var format = super.getKnnVectorsFormatForField(field);
+        var format = knnVectorsFormat;
         return new KnnVectorsFormat(format.getName()) {
 
             @Override
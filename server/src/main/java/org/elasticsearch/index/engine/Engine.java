@@ -40,6 +40,7 @@ import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.function.BiFunction;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import org.apache.logging.log4j.Logger;
@@ -59,6 +60,7 @@ import org.apache.lucene.search.QueryCache;
 import org.apache.lucene.search.QueryCachingPolicy;
 import org.apache.lucene.search.ReferenceManager;
 import org.apache.lucene.store.AlreadyClosedException;
+import org.apache.lucene.util.BytesRef;
 import org.apache.lucene.util.SetOnce;
 import org.elasticsearch.common.CheckedRunnable;
 import org.elasticsearch.common.bytes.BytesReference;
@@ -488,30 +490,12 @@ public abstract class Engine implements Closeable {
         }
 
         if (docIdAndVersion != null) {
-            if (get.versionType().isVersionConflictForReads(docIdAndVersion.version, get.version())) {
-                Releasables.close(searcher);
-                throw new VersionConflictEngineException(
-                    shardId,
-                    get.id(),
-                    get.versionType().explainConflictForReads(docIdAndVersion.version, get.version())
-                );
-            }
-            if (get.getIfSeqNo() != SequenceNumbers.UNASSIGNED_SEQ_NO && (
-                get.getIfSeqNo() != docIdAndVersion.seqNo || get.getIfPrimaryTerm() != docIdAndVersion.primaryTerm)) {
-
+            try {
+                ensureNoVersionConflict(get, docIdAndVersion);
+            } catch (VersionConflictEngineException e) {
                 Releasables.close(searcher);
-                throw new VersionConflictEngineException(
-                    shardId,
-                    get.id(),
-                    get.getIfSeqNo(),
-                    get.getIfPrimaryTerm(),
-                    docIdAndVersion.seqNo,
-                    docIdAndVersion.primaryTerm
-                );
+                throw e;
             }
-        }
-
-        if (docIdAndVersion != null) {
             // don't release the searcher on this path, it is the
             // responsibility of the caller to call GetResult.release
             return new GetResult(docIdAndVersion, searcher);
@@ -521,8 +505,98 @@ public abstract class Engine implements Closeable {
         }
     }
 
+    /**
+     * Resolves all gets whose entry in {@code results} is null with a single searcher.
+     * The uids are looked up in sorted order per segment and the version checks are applied after all uids are resolved.
+     *
+     * @return the searcher of the results, which must be released once the results are no longer used,
+     *         or null if all gets were already resolved.
+     */
+    @Nullable
+    protected final Searcher multiGetFromSearcher(List<Get> gets,
+                                                  GetResult[] results,
+                                                  BiFunction<String, SearcherScope, Searcher> searcherFactory,
+                                                  SearcherScope scope) throws EngineException {
+        int[] positions = IntStream.range(0, results.length).filter(i -> results[i] == null).toArray();
+        if (positions.length == 0) {
+            return null;
+        }
+        BytesRef[] uids = new BytesRef[positions.length];
+        for (int i = 0; i < uids.length; i++) {
+            uids[i] = gets.get(positions[i]).uid().bytes();
+        }
+        final Engine.Searcher searcher = searcherFactory.apply("multi_get", scope);
+        try {
+            DocIdAndVersion[] docIdsAndVersions;
+            try {
+                docIdsAndVersions = VersionsAndSeqNoResolver.loadDocIdsAndVersions(
+                    searcher.getIndexReader(),
+                    SysColumns.Names.ID,
+                    uids
+                );
+            } catch (Exception e) {
+                throw new EngineException(shardId, "Couldn't resolve versions", e);
+            }
+            for (int i = 0; i < docIdsAndVersions.length; i++) {
+                DocIdAndVersion docIdAndVersion = docIdsAndVersions[i];
+                int position = positions[i];
+                if (docIdAndVersion == null) {
+                    results[position] = GetResult.NOT_EXISTS;
+                } else {
+                    ensureNoVersionConflict(gets.get(position), docIdAndVersion);
+                    results[position] = new GetResult(docIdAndVersion, null);
+                }
+            }
+        } catch (Exception e) {
+            Releasables.closeIgnoringException(searcher);
+            throw e;
+        }
+        return searcher;
+    }
+
+    private void ensureNoVersionConflict(Get get, DocIdAndVersion docIdAndVersion) {
+        if (get.versionType().isVersionConflictForReads(docIdAndVersion.version, get.version())) {
+            throw new VersionConflictEngineException(
+                shardId,
+                get.id(),
+                get.versionType().explainConflictForReads(docIdAndVersion.version, get.version())
+            );
+        }
+        if (get.getIfSeqNo() != SequenceNumbers.UNASSIGNED_SEQ_NO && (
+            get.getIfSeqNo() != docIdAndVersion.seqNo || get.getIfPrimaryTerm() != docIdAndVersion.primaryTerm)) {
+
+            throw new VersionConflictEngineException(
+                shardId,
+                get.id(),
+                get.getIfSeqNo(),
+                get.getIfPrimaryTerm(),
+                docIdAndVersion.seqNo,
+                docIdAndVersion.primaryTerm
+            );
+        }
+    }
+
     public abstract GetResult get(Get get, BiFunction<String, SearcherScope, Searcher> searcherFactory) throws EngineException;
 
+    /**
+     * Looks up multiple documents, like calling {@link #get(Get, BiFunction)} for each of the gets.
+     * Engines override this to resolve the gets in a single pass over the segments.
+     *
+     * @return the results in the order of the gets.
+     */
+    public MultiGetResult multiGet(List<Get> gets, BiFunction<String, SearcherScope, Searcher> searcherFactory) throws EngineException {
+        GetResult[] results = new GetResult[gets.size()];
+        try {
+            for (int i = 0; i < results.length; i++) {
+                results[i] = get(gets.get(i), searcherFactory);
+            }
+        } catch (Exception e) {
+            Releasables.closeIgnoringException(results);
+            throw e;
+        }
+        return new MultiGetResult(results, null);
+    }
+
 
     /**
      * Returns a new searcher instance. The consumer of this
@@ -1440,6 +1514,39 @@ public abstract class Engine implements Closeable {
         }
     }
 
+    /**
+     * Result of {@link #multiGet(List, BiFunction)}.
+     * Results resolved from a shared searcher don't hold a searcher on their own.
+     * Closing the MultiGetResult releases the shared searcher and the searchers of the other results.
+     */
+    public static class MultiGetResult implements Releasable {
+
+        private final GetResult[] results;
+        @Nullable
+        private final Searcher searcher;
+
+        public MultiGetResult(GetResult[] results, @Nullable Searcher searcher) {
+            this.results = results;
+            this.searcher = searcher;
+        }
+
+        /**
+         * @return the result of the get at the given position of the {@link #multiGet(List, BiFunction)} call.
+         */
+        public GetResult get(int position) {
+            return results[position];
+        }
+
+        public int size() {
+            return results.length;
+        }
+
+        @Override
+        public void close() {
+            Releasables.close(Releasables.wrap(results), searcher);
+        }
+    }
+
     /**
      * Method to close the engine while the write lock is held.
      * Must decrement the supplied when closing work is done and resources are
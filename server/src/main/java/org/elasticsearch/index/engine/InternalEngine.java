@@ -68,6 +68,7 @@ import org.apache.lucene.search.Query;
 import org.apache.lucene.search.ReferenceManager;
 import org.apache.lucene.search.ScoreMode;
 import org.apache.lucene.search.Scorer;
+import org.apache.lucene.search.Sort;
 import org.apache.lucene.search.TermQuery;
 import org.apache.lucene.search.Weight;
 import org.apache.lucene.store.AlreadyClosedException;
@@ -77,6 +78,7 @@ import org.apache.lucene.util.BytesRef;
 import org.apache.lucene.util.InfoStream;
 import org.elasticsearch.Assertions;
 import org.elasticsearch.common.lease.Releasable;
+import org.elasticsearch.common.lease.Releasables;
 import org.elasticsearch.common.lucene.LoggerInfoStream;
 import org.elasticsearch.common.lucene.Lucene;
 import org.elasticsearch.common.lucene.index.ElasticsearchDirectoryReader;
@@ -687,6 +689,36 @@ public class InternalEngine extends Engine {
         }
     }
 
+    /**
+     * Gets of documents with pending changes in the version map take the realtime path of {@link #get(Get, BiFunction)}.
+     * All other gets are resolved with a single searcher, which has seen all changes that are no longer in the version map.
+     */
+    @Override
+    public MultiGetResult multiGet(List<Get> gets, BiFunction<String, SearcherScope, Searcher> searcherFactory) throws EngineException {
+        try (ReleasableLock ignored = readLock.acquire()) {
+            ensureOpen();
+            GetResult[] results = new GetResult[gets.size()];
+            try {
+                for (int i = 0; i < results.length; i++) {
+                    Get get = gets.get(i);
+                    assert Objects.equals(get.uid().field(), SysColumns.Names.ID) : get.uid().field();
+                    VersionValue versionValue;
+                    try (Releasable ignore = versionMap.acquireLock(get.uid().bytes())) {
+                        versionValue = getVersionFromMap(get.uid().bytes());
+                    }
+                    if (versionValue != null) {
+                        results[i] = get(get, searcherFactory);
+                    }
+                }
+                Searcher searcher = multiGetFromSearcher(gets, results, searcherFactory, SearcherScope.INTERNAL);
+                return new MultiGetResult(results, searcher);
+            } catch (Exception e) {
+                Releasables.closeIgnoringException(results);
+                throw e;
+            }
+        }
+    }
+
     /**
      * the status of the current doc version in lucene, compared to the version in an incoming
      * operation
@@ -2262,6 +2294,10 @@ public class InternalEngine extends Engine {
         iwc.setMaxFullFlushMergeWaitMillis(0);
         iwc.setRAMBufferSizeMB(engineConfig.getIndexingBufferSize().getMbFrac());
         iwc.setCodec(engineConfig.getCodec());
+        Sort indexSort = engineConfig.getIndexSort();
+        if (indexSort != null) {
+            iwc.setIndexSort(indexSort);
+        }
         iwc.setUseCompoundFile(true); // always use compound on flush - reduces # of file-handles on refresh
         return iwc;
     }
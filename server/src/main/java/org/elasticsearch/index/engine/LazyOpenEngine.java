@@ -0,0 +1,134 @@
+/*
+ * Licensed to Crate.io GmbH ("Crate") under one or more contributor
+ * license agreements.  See the NOTICE file distributed with this work for
+ * additional information regarding copyright ownership.  Crate licenses
+ * this file to you under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.  You may
+ * obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * However, if you have executed another commercial license agreement
+ * with Crate these terms will supersede the license and you may use the
+ * software solely pursuant to the terms of the relevant commercial agreement.
+ */
+
+
+package org.elasticsearch.index.engine;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.concurrent.CountDownLatch;
+import java.util.function.UnaryOperator;
+
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexCommit;
+import org.apache.lucene.index.SegmentCommitInfo;
+import org.apache.lucene.index.SegmentInfos;
+import org.apache.lucene.search.ReferenceManager;
+import org.elasticsearch.common.lucene.Lucene;
+import org.elasticsearch.common.lucene.index.ElasticsearchDirectoryReader;
+import org.elasticsearch.index.shard.DocsStats;
+import org.jetbrains.annotations.Nullable;
+
+import io.crate.common.io.IOUtils;
+
+/**
+ * A {@link ReadOnlyEngine} which doesn't open the Lucene index when the shard is started, but on the first
+ * searcher acquisition. Used for write-blocked tables with {@code index.lazy_open} enabled, so that a node
+ * restart doesn't have to open every segment of cold data before the shards become available.
+ *
+ * <p>
+ * The engine is only selected for shards without pending writes: switching to it resets the engine,
+ * which flushes all operations into the last commit first. Hence there is no translog to replay.
+ * </p>
+ */
+public final class LazyOpenEngine extends ReadOnlyEngine {
+
+    private final Object openMutex = new Object();
+
+    @Nullable
+    private volatile ElasticsearchReaderManager readerManager;
+
+    public LazyOpenEngine(EngineConfig config) {
+        super(config, null, null, true, UnaryOperator.identity(), false);
+    }
+
+    @Override
+    protected DirectoryReader open(IndexCommit commit) throws IOException {
+        // Placeholder for the ReadOnlyEngine; the real reader is opened in getReferenceManager
+        return NoOpEngine.emptyReader(commit);
+    }
+
+    @Override
+    protected ReferenceManager<ElasticsearchDirectoryReader> getReferenceManager(SearcherScope scope) {
+        ElasticsearchReaderManager manager = readerManager;
+        if (manager != null) {
+            return manager;
+        }
+        synchronized (openMutex) {
+            if (readerManager == null) {
+                ensureOpen();
+                try {
+                    IndexCommit commit = Lucene.getIndexCommit(getLastCommittedSegmentInfos(), store.directory());
+                    ElasticsearchDirectoryReader reader = wrapReader(DirectoryReader.open(commit), UnaryOperator.identity());
+                    readerManager = new ElasticsearchReaderManager(reader);
+                    logger.debug("opened lazy engine reader");
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+            return readerManager;
+        }
+    }
+
+    /**
+     * @return true if the Lucene index has been opened because a searcher was acquired.
+     */
+    public boolean isReaderOpen() {
+        return readerManager != null;
+    }
+
+    @Override
+    public DocsStats docStats() {
+        if (readerManager != null) {
+            return super.docStats();
+        }
+        // Avoid opening the reader for stats, the segment infos of the commit have the same numbers.
+        SegmentInfos segmentInfos = getLastCommittedSegmentInfos();
+        long numDocs = 0;
+        long numDeletedDocs = 0;
+        long sizeInBytes = 0;
+        for (SegmentCommitInfo info : segmentInfos) {
+            int deleted = info.getDelCount() + info.getSoftDelCount();
+            numDocs += info.info.maxDoc() - deleted;
+            numDeletedDocs += deleted;
+            try {
+                sizeInBytes += info.sizeInBytes();
+            } catch (IOException e) {
+                logger.trace("failed to get size for [{}]", info.info.name);
+            }
+        }
+        return new DocsStats(numDocs, numDeletedDocs, sizeInBytes);
+    }
+
+    @Override
+    protected void closeNoLock(String reason, CountDownLatch closedLatch) {
+        synchronized (openMutex) {
+            if (isClosed.get() == false) {
+                try {
+                    IOUtils.close(readerManager);
+                } catch (Exception ex) {
+                    logger.warn("failed to close lazily opened reader", ex);
+                }
+            }
+            super.closeNoLock(reason, closedLatch);
+        }
+    }
+}
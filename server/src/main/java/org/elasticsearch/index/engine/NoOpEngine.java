@@ -61,6 +61,13 @@ public final class NoOpEngine extends ReadOnlyEngine {
 
     @Override
     protected DirectoryReader open(final IndexCommit commit) throws IOException {
+        return emptyReader(commit);
+    }
+
+    /**
+     * Returns a reader without any segments which still points to the last commit of the directory.
+     */
+    static DirectoryReader emptyReader(final IndexCommit commit) throws IOException {
         final Directory directory = commit.getDirectory();
         final List<IndexCommit> indexCommits = DirectoryReader.listCommits(directory);
         final IndexCommit indexCommit = indexCommits.get(indexCommits.size() - 1);
@@ -223,6 +223,13 @@ public class ReadOnlyEngine extends Engine {
         return getFromSearcher(get, searcherFactory, SearcherScope.EXTERNAL);
     }
 
+    @Override
+    public MultiGetResult multiGet(List<Get> gets, BiFunction<String, SearcherScope, Engine.Searcher> searcherFactory) throws EngineException {
+        GetResult[] results = new GetResult[gets.size()];
+        Engine.Searcher searcher = multiGetFromSearcher(gets, results, searcherFactory, SearcherScope.EXTERNAL);
+        return new MultiGetResult(results, searcher);
+    }
+
     @Override
     protected ReferenceManager<ElasticsearchDirectoryReader> getReferenceManager(SearcherScope scope) {
         return readerManager;
@@ -39,6 +39,7 @@ import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -63,6 +64,7 @@ import org.apache.lucene.search.Query;
 import org.apache.lucene.search.QueryCache;
 import org.apache.lucene.search.QueryCachingPolicy;
 import org.apache.lucene.search.ReferenceManager;
+import org.apache.lucene.search.Sort;
 import org.apache.lucene.search.UsageTrackingQueryCachingPolicy;
 import org.apache.lucene.store.AlreadyClosedException;
 import org.apache.lucene.util.SetOnce;
@@ -161,6 +163,7 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
 
     private final ThreadPool threadPool;
     private final Supplier<TranslogIndexer> getTranslogIndexer;
+    private final Supplier<Sort> getIndexSort;
     private final QueryCache queryCache;
     private final Store store;
     private final Object mutex = new Object();
@@ -249,6 +252,7 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
             QueryCache queryCache,
             Analyzer indexAnalyzer,
             Supplier<TranslogIndexer> getTranslogIndexer,
+            Supplier<Sort> getIndexSort,
             Collection<Function<IndexSettings, Optional<EngineFactory>>> engineFactoryProviders,
             IndexEventListener indexEventListener,
             ThreadPool threadPool,
@@ -260,7 +264,7 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
         assert shardRouting.initializing();
         this.shardRouting = shardRouting;
         final Settings settings = indexSettings.getSettings();
-        this.codecService = new CodecService();
+        this.codecService = new CodecService(settings);
         Objects.requireNonNull(store, "Store must be provided to the index shard");
         this.engineFactoryProviders = engineFactoryProviders;
         this.engineFactory = getEngineFactory();
@@ -268,6 +272,7 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
         this.indexEventListener = indexEventListener;
         this.threadPool = threadPool;
         this.getTranslogIndexer = getTranslogIndexer;
+        this.getIndexSort = getIndexSort;
         this.queryCache = queryCache;
         this.indexingOperationListeners = new IndexingOperationListener.CompositeListener(listeners, logger);
         this.globalCheckpointSyncer = globalCheckpointSyncer;
@@ -976,6 +981,14 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
         return getEngine().get(get, this::acquireSearcher);
     }
 
+    /**
+     * Looks up multiple documents in one pass, see {@link Engine#multiGet}.
+     */
+    public Engine.MultiGetResult multiGet(List<Engine.Get> gets) {
+        readAllowed();
+        return getEngine().multiGet(gets, this::acquireSearcher);
+    }
+
     /**
      * Writes all indexing changes to disk and opens a new searcher reflecting all changes.  This can throw {@link AlreadyClosedException}.
      */
@@ -2434,7 +2447,13 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
         switch (recoveryState.getRecoverySource().getType()) {
             case EMPTY_STORE:
             case EXISTING_STORE:
-                executeRecovery("from store", recoveryState, recoveryListener, this::recoverFromStore);
+                executeRecovery(
+                    "from store",
+                    threadPool.executor(ThreadPool.Names.STORE_RECOVERY),
+                    recoveryState,
+                    recoveryListener,
+                    this::recoverFromStore
+                );
                 break;
             case PEER:
                 try {
@@ -2503,8 +2522,16 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
                                  RecoveryState recoveryState,
                                  PeerRecoveryTargetService.RecoveryListener recoveryListener,
                                  CheckedConsumer<ActionListener<Boolean>, Exception> action) {
+        executeRecovery(reason, threadPool.generic(), recoveryState, recoveryListener, action);
+    }
+
+    private void executeRecovery(String reason,
+                                 Executor executor,
+                                 RecoveryState recoveryState,
+                                 PeerRecoveryTargetService.RecoveryListener recoveryListener,
+                                 CheckedConsumer<ActionListener<Boolean>, Exception> action) {
         markAsRecovering(reason, recoveryState); // mark the shard as recovering on the cluster state thread
-        threadPool.generic().execute(ActionRunnable.wrap(ActionListener.wrap(
+        executor.execute(ActionRunnable.wrap(ActionListener.wrap(
             r -> {
                 if (r) {
                     recoveryListener.onRecoveryDone(recoveryState);
@@ -2620,7 +2647,8 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
             globalCheckpointSupplier,
             replicationTracker::getRetentionLeases,
             this::getOperationPrimaryTerm,
-            tombstoneDocSupplier()
+            tombstoneDocSupplier(),
+            getIndexSort.get()
         );
     }
 
@@ -73,6 +73,7 @@ import org.elasticsearch.index.shard.ShardId;
 
 import io.crate.Constants;
 import io.crate.common.io.IOUtils;
+import io.crate.server.xcontent.XContentHelper;
 
 
 /**
@@ -1171,7 +1172,12 @@ public class Translog extends AbstractIndexShardComponent implements IndexShardC
             if (format < FORMAT_NO_DOC_TYPE) {
                 out.writeString(Constants.DEFAULT_MAPPING_TYPE);
             }
-            out.writeBytesReference(source);
+            if (out.getVersion().onOrAfter(Version.V_6_0_0)) {
+                out.writeBytesReference(source);
+            } else {
+                // Nodes before 6.0 cannot parse sources written with translog.format = 'binary'
+                out.writeBytesReference(XContentHelper.sourceAsJson(source));
+            }
             if (format < FORMAT_NO_ROUTING) {
                 out.writeOptionalString(null);
             }
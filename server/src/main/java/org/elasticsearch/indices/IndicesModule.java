@@ -26,11 +26,14 @@ import java.util.Optional;
 import java.util.function.Function;
 
 import org.elasticsearch.action.resync.TransportResyncReplicationAction;
+import org.elasticsearch.cluster.metadata.IndexMetadata;
 import org.elasticsearch.common.inject.AbstractModule;
 import org.elasticsearch.common.io.stream.NamedWriteableRegistry;
+import org.elasticsearch.common.settings.Settings;
 import org.elasticsearch.common.xcontent.NamedXContentRegistry;
 import org.elasticsearch.index.IndexSettings;
 import org.elasticsearch.index.engine.EngineFactory;
+import org.elasticsearch.index.engine.LazyOpenEngine;
 import org.elasticsearch.index.seqno.RetentionLeaseBackgroundSyncAction;
 import org.elasticsearch.index.seqno.RetentionLeaseSyncAction;
 import org.elasticsearch.index.seqno.RetentionLeaseSyncer;
@@ -75,8 +78,24 @@ public class IndicesModule extends AbstractModule {
                     return Optional.of(SubscriberEngine::new);
                 }
                 return Optional.empty();
+            },
+            indexSettings -> {
+                if (isLazyOpen(indexSettings.getSettings())) {
+                    return Optional.of(LazyOpenEngine::new);
+                }
+                return Optional.empty();
             }
         );
     }
 
+    /**
+     * Lazy opening is only used for indices which can't receive writes, the engine is read-only.
+     * Subscribed indices are written by the {@link SubscriberEngine} and are never opened lazily.
+     */
+    static boolean isLazyOpen(Settings settings) {
+        return IndexSettings.INDEX_LAZY_OPEN_SETTING.get(settings)
+            && (IndexMetadata.INDEX_BLOCKS_WRITE_SETTING.get(settings) || IndexMetadata.INDEX_READ_ONLY_SETTING.get(settings))
+            && settings.get(LogicalReplicationSettings.REPLICATION_SUBSCRIPTION_NAME.getKey()) == null;
+    }
+
 }
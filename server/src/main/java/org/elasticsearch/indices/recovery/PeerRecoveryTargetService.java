@@ -23,8 +23,12 @@ import static io.crate.common.unit.TimeValue.timeValueMillis;
 import static org.elasticsearch.index.seqno.SequenceNumbers.UNASSIGNED_SEQ_NO;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
 import java.util.concurrent.atomic.AtomicLong;
-import java.util.function.Consumer;
+import java.util.function.BiConsumer;
+import java.util.function.LongSupplier;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -37,11 +41,13 @@ import org.elasticsearch.Version;
 import org.elasticsearch.action.ActionListener;
 import org.elasticsearch.action.ActionRunnable;
 import org.elasticsearch.action.support.ChannelActionListener;
+import org.elasticsearch.action.support.GroupedActionListener;
 import org.elasticsearch.cluster.ClusterState;
 import org.elasticsearch.cluster.ClusterStateObserver;
 import org.elasticsearch.cluster.metadata.IndexMetadata;
 import org.elasticsearch.cluster.node.DiscoveryNode;
 import org.elasticsearch.cluster.service.ClusterService;
+import org.elasticsearch.common.CheckedConsumer;
 import org.elasticsearch.common.io.stream.StreamInput;
 import org.elasticsearch.common.settings.Settings;
 import org.elasticsearch.common.unit.ByteSizeValue;
@@ -390,60 +396,185 @@ public class PeerRecoveryTargetService implements IndexEventListener {
         private void performTranslogOps(final RecoveryTranslogOperationsRequest request, final ActionListener<Void> listener,
                                         final RecoveryRef recoveryRef) {
             final RecoveryTarget recoveryTarget = recoveryRef.target();
-
-            final ClusterStateObserver observer = new ClusterStateObserver(clusterService, null, LOGGER);
-            final Consumer<Exception> retryOnMappingException = exception -> {
-                // in very rare cases a translog replay from primary is processed before a mapping update on this node
-                // which causes local mapping changes since the mapping (clusterstate) might not have arrived on this node.
-                LOGGER.debug("delaying recovery due to missing mapping changes", exception);
-                // we do not need to use a timeout here since the entire recovery mechanism has an inactivity protection (it will be
-                // canceled)
-                observer.waitForNextChange(new ClusterStateObserver.Listener() {
-                    @Override
-                    public void onNewClusterState(ClusterState state) {
-                        threadPool.generic().execute(ActionRunnable.wrap(listener, l -> {
-                            try (RecoveryRef recoveryRef = onGoingRecoveries.getRecoverySafe(request.recoveryId(), request.shardId())) {
-                                performTranslogOps(request, listener, recoveryRef);
+            final long mappingVersionOnTarget = mappingVersionOnTarget(request);
+            final List<List<Translog.Operation>> partitions =
+                partitionById(request.operations(), recoverySettings.getOperationPartitions());
+            if (partitions.size() <= 1) {
+                recoveryTarget.indexTranslogOperations(
+                    request.operations(),
+                    request.totalTranslogOps(),
+                    request.maxSeenAutoIdTimestampOnPrimary(),
+                    request.maxSeqNoOfUpdatesOrDeletesOnPrimary(),
+                    request.retentionLeases(),
+                    request.mappingVersionOnPrimary(),
+                    ActionListener.wrap(
+                        checkpoint -> listener.onResponse(null),
+                        e -> {
+                            // do not retry if the mapping on replica is at least as recent as the mapping
+                            // that the primary used to index the operations in the request.
+                            if (mappingVersionOnTarget < request.mappingVersionOnPrimary() && e instanceof MapperException) {
+                                waitForMappingUpdate(e, ActionListener.wrap(
+                                    ignored -> threadPool.generic().execute(ActionRunnable.wrap(listener, l -> {
+                                        try (RecoveryRef retryRef =
+                                                 onGoingRecoveries.getRecoverySafe(request.recoveryId(), request.shardId())) {
+                                            performTranslogOps(request, listener, retryRef);
+                                        }
+                                    })),
+                                    listener::onFailure
+                                ));
+                            } else {
+                                listener.onFailure(e);
                             }
-                        }));
-                    }
-
-                    @Override
-                    public void onClusterServiceClose() {
-                        listener.onFailure(new ElasticsearchException(
-                            "cluster service was closed while waiting for mapping updates"));
-                    }
-
-                    @Override
-                    public void onTimeout(TimeValue timeout) {
-                        // note that we do not use a timeout (see comment above)
-                        listener.onFailure(new ElasticsearchTimeoutException("timed out waiting for mapping updates " +
-                            "(timeout [" + timeout + "])"));
+                        })
+                );
+                return;
+            }
+            // Operations on different documents are independent, so the partitions are applied concurrently.
+            // The stats, the translog sync and the checkpoint are handled once all partitions are applied.
+            try {
+                recoveryTarget.prepareToApplyTranslogOperations(
+                    request.totalTranslogOps(),
+                    request.maxSeenAutoIdTimestampOnPrimary(),
+                    request.maxSeqNoOfUpdatesOrDeletesOnPrimary(),
+                    request.retentionLeases()
+                );
+            } catch (Exception e) {
+                listener.onFailure(e);
+                return;
+            }
+            applyPartitions(
+                partitions,
+                threadPool.generic(),
+                partition -> {
+                    try (RecoveryRef partitionRef = onGoingRecoveries.getRecoverySafe(request.recoveryId(), request.shardId())) {
+                        partitionRef.target().applyTranslogOperations(partition);
                     }
-                });
-            };
-            final IndexMetadata indexMetadata = clusterService.state().metadata().index(request.shardId().getIndex());
-            final long mappingVersionOnTarget = indexMetadata != null ? indexMetadata.getMappingVersion() : 0L;
-            recoveryTarget.indexTranslogOperations(
-                request.operations(),
-                request.totalTranslogOps(),
-                request.maxSeenAutoIdTimestampOnPrimary(),
-                request.maxSeqNoOfUpdatesOrDeletesOnPrimary(),
-                request.retentionLeases(),
+                },
+                () -> mappingVersionOnTarget(request),
                 request.mappingVersionOnPrimary(),
+                this::waitForMappingUpdate,
                 ActionListener.wrap(
-                    checkpoint -> listener.onResponse(null),
-                    e -> {
-                        // do not retry if the mapping on replica is at least as recent as the mapping
-                        // that the primary used to index the operations in the request.
-                        if (mappingVersionOnTarget < request.mappingVersionOnPrimary() && e instanceof MapperException) {
-                            retryOnMappingException.accept(e);
-                        } else {
-                            listener.onFailure(e);
+                    ignored -> {
+                        try (RecoveryRef appliedRef = onGoingRecoveries.getRecoverySafe(request.recoveryId(), request.shardId())) {
+                            appliedRef.target().afterApplyingTranslogOperations(request.operations().size());
                         }
-                    })
+                        listener.onResponse(null);
+                    },
+                    listener::onFailure
+                )
             );
         }
+
+        private long mappingVersionOnTarget(RecoveryTranslogOperationsRequest request) {
+            final IndexMetadata indexMetadata = clusterService.state().metadata().index(request.shardId().getIndex());
+            return indexMetadata != null ? indexMetadata.getMappingVersion() : 0L;
+        }
+
+        /**
+         * Completes the listener with the next cluster state, which may contain the mapping updates required to apply operations.
+         */
+        private void waitForMappingUpdate(Exception exception, ActionListener<Void> listener) {
+            // in very rare cases a translog replay from primary is processed before a mapping update on this node
+            // which causes local mapping changes since the mapping (clusterstate) might not have arrived on this node.
+            LOGGER.debug("delaying recovery due to missing mapping changes", exception);
+            final ClusterStateObserver observer = new ClusterStateObserver(clusterService, null, LOGGER);
+            // we do not need to use a timeout here since the entire recovery mechanism has an inactivity protection (it will be
+            // canceled)
+            observer.waitForNextChange(new ClusterStateObserver.Listener() {
+                @Override
+                public void onNewClusterState(ClusterState state) {
+                    listener.onResponse(null);
+                }
+
+                @Override
+                public void onClusterServiceClose() {
+                    listener.onFailure(new ElasticsearchException(
+                        "cluster service was closed while waiting for mapping updates"));
+                }
+
+                @Override
+                public void onTimeout(TimeValue timeout) {
+                    // note that we do not use a timeout (see comment above)
+                    listener.onFailure(new ElasticsearchTimeoutException("timed out waiting for mapping updates " +
+                        "(timeout [" + timeout + "])"));
+                }
+            });
+        }
+    }
+
+    /**
+     * Applies the partitions of a batch of operations concurrently.
+     * <p>
+     * A partition that fails with a {@link MapperException} while the mapping on the target is older than the mapping the
+     * primary used is applied again on its own once {@code waitForMappingUpdate} completes, the other partitions are not
+     * applied again. The listener is completed once all partitions are applied, or with the first failure.
+     * </p>
+     */
+    static void applyPartitions(List<List<Translog.Operation>> partitions,
+                                Executor executor,
+                                CheckedConsumer<List<Translog.Operation>, Exception> applyPartition,
+                                LongSupplier mappingVersionOnTarget,
+                                long mappingVersionOnPrimary,
+                                BiConsumer<Exception, ActionListener<Void>> waitForMappingUpdate,
+                                ActionListener<Void> listener) {
+        final GroupedActionListener<Void> groupedListener =
+            new GroupedActionListener<>(listener.map(ignored -> null), partitions.size());
+        for (List<Translog.Operation> partition : partitions) {
+            applyPartition(partition, executor, applyPartition, mappingVersionOnTarget, mappingVersionOnPrimary,
+                waitForMappingUpdate, groupedListener);
+        }
+    }
+
+    private static void applyPartition(List<Translog.Operation> partition,
+                                       Executor executor,
+                                       CheckedConsumer<List<Translog.Operation>, Exception> applyPartition,
+                                       LongSupplier mappingVersionOnTarget,
+                                       long mappingVersionOnPrimary,
+                                       BiConsumer<Exception, ActionListener<Void>> waitForMappingUpdate,
+                                       ActionListener<Void> listener) {
+        executor.execute(ActionRunnable.wrap(listener, l -> {
+            final long mappingVersion = mappingVersionOnTarget.getAsLong();
+            try {
+                applyPartition.accept(partition);
+            } catch (MapperException e) {
+                // do not retry if the mapping on replica is at least as recent as the mapping
+                // that the primary used to index the operations in the request.
+                if (mappingVersion < mappingVersionOnPrimary) {
+                    waitForMappingUpdate.accept(e, ActionListener.wrap(
+                        ignored -> applyPartition(partition, executor, applyPartition, mappingVersionOnTarget,
+                            mappingVersionOnPrimary, waitForMappingUpdate, l),
+                        l::onFailure
+                    ));
+                    return;
+                }
+                throw e;
+            }
+            l.onResponse(null);
+        }));
+    }
+
+    /**
+     * Splits the operations into at most {@code numPartitions} non-empty partitions so that all operations on the same
+     * document end up in the same partition, in their original order.
+     */
+    static List<List<Translog.Operation>> partitionById(List<Translog.Operation> operations, int numPartitions) {
+        if (numPartitions <= 1 || operations.size() <= 1) {
+            return List.of(operations);
+        }
+        List<List<Translog.Operation>> partitions = new ArrayList<>(numPartitions);
+        for (int i = 0; i < numPartitions; i++) {
+            partitions.add(new ArrayList<>());
+        }
+        for (Translog.Operation operation : operations) {
+            final int hash = switch (operation.opType()) {
+                case CREATE, INDEX -> ((Translog.Index) operation).id().hashCode();
+                case DELETE -> ((Translog.Delete) operation).id().hashCode();
+                case NO_OP -> Long.hashCode(operation.seqNo());
+            };
+            partitions.get(Math.floorMod(hash, numPartitions)).add(operation);
+        }
+        partitions.removeIf(List::isEmpty);
+        return partitions;
     }
 
     class FilesInfoRequestHandler implements TransportRequestHandler<RecoveryFilesInfoRequest> {
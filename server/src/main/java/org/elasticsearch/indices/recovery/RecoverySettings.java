@@ -51,6 +51,28 @@ public class RecoverySettings {
     public static final Setting<Integer> INDICES_RECOVERY_MAX_CONCURRENT_OPERATIONS_SETTING =
         Setting.intSetting("indices.recovery.max_concurrent_operations", 1, 1, 4, Property.Dynamic, Property.NodeScope);
 
+    /**
+     * Controls into how many partitions the target splits a batch of operations received in phase 2 of a recovery.
+     * Operations are partitioned by document id and the partitions are applied concurrently.
+     */
+    public static final Setting<Integer> INDICES_RECOVERY_OPERATION_PARTITIONS_SETTING =
+        Setting.intSetting("indices.recovery.operation_partitions", 4, 1, 32, Property.Dynamic, Property.NodeScope);
+
+    /**
+     * If enabled the rate limit adapts to the round trip time of file chunk requests instead of being fixed
+     * to {@link #INDICES_RECOVERY_MAX_BYTES_PER_SEC_SETTING}.
+     */
+    public static final Setting<Boolean> INDICES_RECOVERY_ADAPTIVE_THROTTLE_SETTING =
+        Setting.boolSetting("indices.recovery.adaptive_throttle.enabled", false, Property.Dynamic, Property.NodeScope);
+
+    /**
+     * File chunk round trips slower than this are taken as a sign that the disk or network of the source or target is
+     * saturated and lower the rate limit if {@link #INDICES_RECOVERY_ADAPTIVE_THROTTLE_SETTING} is enabled.
+     */
+    public static final Setting<TimeValue> INDICES_RECOVERY_ADAPTIVE_THROTTLE_TARGET_LATENCY_SETTING =
+        Setting.positiveTimeSetting("indices.recovery.adaptive_throttle.target_latency", TimeValue.timeValueMillis(200),
+            Property.Dynamic, Property.NodeScope);
+
     /**
      * how long to wait before retrying after issues cause by cluster state syncing between nodes
      * i.e., local node is not yet known on remote node, remote shard not yet started etc.
@@ -103,6 +125,9 @@ public class RecoverySettings {
     private volatile ByteSizeValue maxBytesPerSec;
     private volatile int maxConcurrentFileChunks;
     private volatile int maxConcurrentOperations;
+    private volatile int operationPartitions;
+    private volatile boolean adaptiveThrottle;
+    private volatile TimeValue adaptiveThrottleTargetLatency;
     private volatile SimpleRateLimiter rateLimiter;
     private volatile TimeValue retryDelayStateSync;
     private volatile TimeValue retryDelayNetwork;
@@ -118,6 +143,9 @@ public class RecoverySettings {
         this.retryDelayStateSync = INDICES_RECOVERY_RETRY_DELAY_STATE_SYNC_SETTING.get(settings);
         this.maxConcurrentFileChunks = INDICES_RECOVERY_MAX_CONCURRENT_FILE_CHUNKS_SETTING.get(settings);
         this.maxConcurrentOperations = INDICES_RECOVERY_MAX_CONCURRENT_OPERATIONS_SETTING.get(settings);
+        this.operationPartitions = INDICES_RECOVERY_OPERATION_PARTITIONS_SETTING.get(settings);
+        this.adaptiveThrottle = INDICES_RECOVERY_ADAPTIVE_THROTTLE_SETTING.get(settings);
+        this.adaptiveThrottleTargetLatency = INDICES_RECOVERY_ADAPTIVE_THROTTLE_TARGET_LATENCY_SETTING.get(settings);
         // doesn't have to be fast as nodes are reconnected every 10s by default (see InternalClusterService.ReconnectToNodes)
         // and we want to give the master time to remove a faulty node
         this.retryDelayNetwork = INDICES_RECOVERY_RETRY_DELAY_NETWORK_SETTING.get(settings);
@@ -141,6 +169,10 @@ public class RecoverySettings {
         clusterSettings.addSettingsUpdateConsumer(INDICES_RECOVERY_MAX_CONCURRENT_FILE_CHUNKS_SETTING, this::setMaxConcurrentFileChunks);
         clusterSettings.addSettingsUpdateConsumer(INDICES_RECOVERY_MAX_CONCURRENT_OPERATIONS_SETTING,
             this::setMaxConcurrentOperations);
+        clusterSettings.addSettingsUpdateConsumer(INDICES_RECOVERY_OPERATION_PARTITIONS_SETTING, this::setOperationPartitions);
+        clusterSettings.addSettingsUpdateConsumer(INDICES_RECOVERY_ADAPTIVE_THROTTLE_SETTING, this::setAdaptiveThrottle);
+        clusterSettings.addSettingsUpdateConsumer(INDICES_RECOVERY_ADAPTIVE_THROTTLE_TARGET_LATENCY_SETTING,
+            this::setAdaptiveThrottleTargetLatency);
         clusterSettings.addSettingsUpdateConsumer(INDICES_RECOVERY_RETRY_DELAY_STATE_SYNC_SETTING, this::setRetryDelayStateSync);
         clusterSettings.addSettingsUpdateConsumer(INDICES_RECOVERY_RETRY_DELAY_NETWORK_SETTING, this::setRetryDelayNetwork);
         clusterSettings.addSettingsUpdateConsumer(INDICES_RECOVERY_INTERNAL_ACTION_TIMEOUT_SETTING, this::setInternalActionTimeout);
@@ -208,7 +240,7 @@ public class RecoverySettings {
         this.internalActionLongTimeout = internalActionLongTimeout;
     }
 
-    private void setMaxBytesPerSec(ByteSizeValue maxBytesPerSec) {
+    private synchronized void setMaxBytesPerSec(ByteSizeValue maxBytesPerSec) {
         this.maxBytesPerSec = maxBytesPerSec;
         if (maxBytesPerSec.getBytes() <= 0) {
             rateLimiter = null;
@@ -234,4 +266,50 @@ public class RecoverySettings {
     private void setMaxConcurrentOperations(int maxConcurrentOperations) {
         this.maxConcurrentOperations = maxConcurrentOperations;
     }
+
+    public int getOperationPartitions() {
+        return operationPartitions;
+    }
+
+    private void setOperationPartitions(int operationPartitions) {
+        this.operationPartitions = operationPartitions;
+    }
+
+    private synchronized void setAdaptiveThrottle(boolean adaptiveThrottle) {
+        this.adaptiveThrottle = adaptiveThrottle;
+        SimpleRateLimiter limiter = rateLimiter;
+        if (adaptiveThrottle == false && limiter != null) {
+            limiter.setMBPerSec(maxBytesPerSec.getMbFrac());
+        }
+    }
+
+    private void setAdaptiveThrottleTargetLatency(TimeValue adaptiveThrottleTargetLatency) {
+        this.adaptiveThrottleTargetLatency = adaptiveThrottleTargetLatency;
+    }
+
+    /**
+     * Adjusts the rate limit based on the round trip time of a file chunk request if the adaptive throttle is enabled.
+     * The round trip includes writing the chunk on the target, so it grows if either the network or the disks are saturated.
+     * <p>
+     * Fast round trips increase the rate additively by a twentieth of {@code max_bytes_per_sec}, up to ten times its value.
+     * Slow round trips decrease it multiplicatively, down to a quarter of {@code max_bytes_per_sec}.
+     * </p>
+     */
+    public synchronized void onFileChunkRoundTrip(long tookNanos) {
+        SimpleRateLimiter limiter = rateLimiter;
+        if (adaptiveThrottle == false || limiter == null) {
+            return;
+        }
+        double baseMBPerSec = maxBytesPerSec.getMbFrac();
+        double currentMBPerSec = limiter.getMBPerSec();
+        double newMBPerSec;
+        if (tookNanos > adaptiveThrottleTargetLatency.nanos()) {
+            newMBPerSec = Math.max(baseMBPerSec / 4, currentMBPerSec * 0.75);
+        } else {
+            newMBPerSec = Math.min(baseMBPerSec * 10, currentMBPerSec + baseMBPerSec / 20);
+        }
+        if (newMBPerSec != currentMBPerSec) {
+            limiter.setMBPerSec(newMBPerSec);
+        }
+    }
 }
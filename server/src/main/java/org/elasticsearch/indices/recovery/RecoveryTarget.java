@@ -351,49 +351,82 @@ public class RecoveryTarget extends AbstractRefCounted implements RecoveryTarget
                                         long mappingVersionOnPrimary,
                                         ActionListener<Long> listener) {
         ActionListener.completeWith(listener, () -> {
-            final RecoveryState.Translog translog = state().getTranslog();
-            translog.totalOperations(totalTranslogOps);
-            assert indexShard().recoveryState() == state();
-            if (indexShard().state() != IndexShardState.RECOVERING) {
-                throw new IndexShardNotRecoveringException(shardId, indexShard().state());
+            prepareToApplyTranslogOperations(
+                totalTranslogOps,
+                maxSeenAutoIdTimestampOnPrimary,
+                maxSeqNoOfDeletesOrUpdatesOnPrimary,
+                retentionLeases
+            );
+            applyTranslogOperations(operations);
+            return afterApplyingTranslogOperations(operations.size());
+        });
+    }
+
+    /**
+     * Must be called once per batch of operations before {@link #applyTranslogOperations(List)}
+     */
+    void prepareToApplyTranslogOperations(int totalTranslogOps,
+                                          long maxSeenAutoIdTimestampOnPrimary,
+                                          long maxSeqNoOfDeletesOrUpdatesOnPrimary,
+                                          RetentionLeases retentionLeases) {
+        final RecoveryState.Translog translog = state().getTranslog();
+        translog.totalOperations(totalTranslogOps);
+        assert indexShard().recoveryState() == state();
+        if (indexShard().state() != IndexShardState.RECOVERING) {
+            throw new IndexShardNotRecoveringException(shardId, indexShard().state());
+        }
+        /*
+         * The maxSeenAutoIdTimestampOnPrimary received from the primary is at least the highest auto_id_timestamp from any operation
+         * will be replayed. Bootstrapping this timestamp here will disable the optimization for original append-only requests
+         * (source of these operations) replicated via replication. Without this step, we may have duplicate documents if we
+         * replay these operations first (without timestamp), then optimize append-only requests (with timestamp).
+         */
+        indexShard().updateMaxUnsafeAutoIdTimestamp(maxSeenAutoIdTimestampOnPrimary);
+        /*
+         * Bootstrap the max_seq_no_of_updates from the primary to make sure that the max_seq_no_of_updates on this replica when
+         * replaying any of these operations will be at least the max_seq_no_of_updates on the primary when that op was executed on.
+         */
+        indexShard().advanceMaxSeqNoOfUpdatesOrDeletes(maxSeqNoOfDeletesOrUpdatesOnPrimary);
+        /*
+         * We have to update the retention leases before we start applying translog operations to ensure we are retaining according to
+         * the policy.
+         */
+        indexShard().updateRetentionLeasesOnReplica(retentionLeases);
+    }
+
+    /**
+     * Applies the operations without updating the stats or syncing the translog.
+     * Disjoint sets of operations of a batch can be applied concurrently.
+     * Re-applying operations, e.g. after a {@link MapperException}, is a no-op.
+     */
+    void applyTranslogOperations(List<Translog.Operation> operations) throws IOException {
+        for (Translog.Operation operation : operations) {
+            Engine.Result result = indexShard().applyTranslogOperation(operation, Engine.Operation.Origin.PEER_RECOVERY);
+            if (result.getResultType() == Engine.Result.Type.MAPPING_UPDATE_REQUIRED) {
+                throw new MapperException("mapping updates are not allowed [" + operation + "]");
             }
-            /*
-             * The maxSeenAutoIdTimestampOnPrimary received from the primary is at least the highest auto_id_timestamp from any operation
-             * will be replayed. Bootstrapping this timestamp here will disable the optimization for original append-only requests
-             * (source of these operations) replicated via replication. Without this step, we may have duplicate documents if we
-             * replay these operations first (without timestamp), then optimize append-only requests (with timestamp).
-             */
-            indexShard().updateMaxUnsafeAutoIdTimestamp(maxSeenAutoIdTimestampOnPrimary);
-            /*
-             * Bootstrap the max_seq_no_of_updates from the primary to make sure that the max_seq_no_of_updates on this replica when
-             * replaying any of these operations will be at least the max_seq_no_of_updates on the primary when that op was executed on.
-             */
-            indexShard().advanceMaxSeqNoOfUpdatesOrDeletes(maxSeqNoOfDeletesOrUpdatesOnPrimary);
-            /*
-             * We have to update the retention leases before we start applying translog operations to ensure we are retaining according to
-             * the policy.
-             */
-            indexShard().updateRetentionLeasesOnReplica(retentionLeases);
-            for (Translog.Operation operation : operations) {
-                Engine.Result result = indexShard().applyTranslogOperation(operation, Engine.Operation.Origin.PEER_RECOVERY);
-                if (result.getResultType() == Engine.Result.Type.MAPPING_UPDATE_REQUIRED) {
-                    throw new MapperException("mapping updates are not allowed [" + operation + "]");
-                }
-                Exception failure = result.getFailure();
-                if (failure != null) {
-                    if (Assertions.ENABLED && result.getFailure() instanceof MapperException == false) {
-                        throw new AssertionError("unexpected failure while replicating translog entry", result.getFailure());
-                    }
-                    throw Exceptions.toRuntimeException(failure);
+            Exception failure = result.getFailure();
+            if (failure != null) {
+                if (Assertions.ENABLED && result.getFailure() instanceof MapperException == false) {
+                    throw new AssertionError("unexpected failure while replicating translog entry", result.getFailure());
                 }
+                throw Exceptions.toRuntimeException(failure);
             }
-            // update stats only after all operations completed (to ensure that mapping updates don't mess with stats)
-            translog.incrementRecoveredOperations(operations.size());
-            indexShard().sync();
-            // roll over / flush / trim if needed
-            indexShard().afterWriteOperation();
-            return indexShard().getLocalCheckpoint();
-        });
+        }
+    }
+
+    /**
+     * Must be called once after all operations of a batch got applied.
+     *
+     * @return the local checkpoint
+     */
+    long afterApplyingTranslogOperations(int numOperations) throws IOException {
+        // update stats only after all operations completed (to ensure that mapping updates don't mess with stats)
+        state().getTranslog().incrementRecoveredOperations(numOperations);
+        indexShard().sync();
+        // roll over / flush / trim if needed
+        indexShard().afterWriteOperation();
+        return indexShard().getLocalCheckpoint();
     }
 
 
@@ -258,7 +258,11 @@ public class RemoteRecoveryTargetHandler implements RecoveryTargetHandler {
         final RecoveryFileChunkRequest request = new RecoveryFileChunkRequest(
             recoveryId, requestSeqNo, shardId, fileMetadata, position, content, lastChunk, totalTranslogOps, throttleTimeInNanos);
         final Writeable.Reader<TransportResponse.Empty> reader = in -> TransportResponse.Empty.INSTANCE;
-        executeRetryableAction(action, request, fileChunkRequestOptions, listener.map(r -> null), reader);
+        final long startTimeInNanos = System.nanoTime();
+        executeRetryableAction(action, request, fileChunkRequestOptions, listener.map(r -> {
+            recoverySettings.onFileChunkRoundTrip(System.nanoTime() - startTimeInNanos);
+            return null;
+        }), reader);
     }
 
     @Override
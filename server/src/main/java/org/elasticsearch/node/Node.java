@@ -180,6 +180,7 @@ import io.crate.execution.engine.collect.CollectOperationModule;
 import io.crate.execution.engine.collect.files.CopyModule;
 import io.crate.execution.engine.collect.stats.JobsLogService;
 import io.crate.execution.jobs.JobModule;
+import io.crate.execution.jobs.ResourceGroups;
 import io.crate.execution.jobs.TasksService;
 import io.crate.expression.reference.sys.check.SysChecksModule;
 import io.crate.expression.reference.sys.check.node.SysNodeChecksModule;
@@ -729,6 +730,7 @@ public class Node implements Closeable {
                 nodeContext,
                 circuitBreakerService
             );
+            ResourceGroups resourceGroups = new ResourceGroups(settings, clusterService.getClusterSettings(), threadPool);
             Sessions sessions = new Sessions(
                 nodeContext,
                 analyzer,
@@ -737,7 +739,8 @@ public class Node implements Closeable {
                 jobsLogService.get(),
                 settings,
                 clusterService,
-                sessionSettingRegistry
+                sessionSettingRegistry,
+                resourceGroups
             );
             final HttpServerTransport httpServerTransport = newHttpTransport(
                 networkService,
@@ -759,6 +762,7 @@ public class Node implements Closeable {
                     b.bind(TableStats.class).toInstance(tableStats);
                     b.bind(Analyzer.class).toInstance(analyzer);
                     b.bind(Sessions.class).toInstance(sessions);
+                    b.bind(ResourceGroups.class).toInstance(resourceGroups);
                     b.bind(Planner.class).toInstance(planner);
                     b.bind(JobsLogService.class).toInstance(jobsLogService);
                     b.bind(RepositoryService.class).toInstance(repositoryService);
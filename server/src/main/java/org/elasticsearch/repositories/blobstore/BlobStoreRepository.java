@@ -204,8 +204,17 @@ public abstract class BlobStoreRepository extends AbstractLifecycleComponent imp
         ByteSizeValue.parseBytesSizeValue("128kb", "io_buffer_size"), ByteSizeValue.parseBytesSizeValue("8kb", "buffer_size"),
         ByteSizeValue.parseBytesSizeValue("16mb", "io_buffer_size"), Setting.Property.NodeScope);
 
+    /**
+     * Maximum number of files or file parts that are transferred concurrently per shard while taking or restoring a snapshot.
+     * The effective number of transfers is additionally bounded by the size of the snapshot thread pool.
+     */
+    public static final Setting<Integer> MAX_CONCURRENT_TRANSFERS_SETTING = Setting.intSetting(
+        "max_concurrent_transfers", 5, 1, Setting.Property.NodeScope);
+
     private final boolean compress;
 
+    private final int maxConcurrentTransfers;
+
     private final RateLimiter snapshotRateLimiter;
 
     private final RateLimiter restoreRateLimiter;
@@ -321,6 +330,7 @@ public abstract class BlobStoreRepository extends AbstractLifecycleComponent imp
         this.threadPool = clusterService.getClusterApplierService().threadPool();
         this.clusterService = clusterService;
         this.compress = COMPRESS_SETTING.get(metadata.settings());
+        this.maxConcurrentTransfers = MAX_CONCURRENT_TRANSFERS_SETTING.get(metadata.settings());
         this.recoverySettings = recoverySettings;
         snapshotRateLimiter = getRateLimiter(metadata.settings(), "max_snapshot_bytes_per_sec", new ByteSizeValue(40, ByteSizeUnit.MB));
         restoreRateLimiter = getRateLimiter(metadata.settings(), "max_restore_bytes_per_sec", ByteSizeValue.ZERO);
@@ -1756,7 +1766,7 @@ public abstract class BlobStoreRepository extends AbstractLifecycleComponent imp
             int indexTotalNumberOfFiles = 0;
             long indexIncrementalSize = 0;
             long indexTotalFileSize = 0;
-            final BlockingQueue<BlobStoreIndexShardSnapshot.FileInfo> filesToSnapshot = new LinkedBlockingQueue<>();
+            final BlockingQueue<FilePart> filesToSnapshot = new LinkedBlockingQueue<>();
             // If we did not find a set of files that is equal to the current commit we determine the files to upload by comparing files
             // in the commit with files already in the repository
             if (filesFromSegmentInfos == null) {
@@ -1811,7 +1821,12 @@ public abstract class BlobStoreRepository extends AbstractLifecycleComponent imp
                                 md, chunkSize());
                         indexCommitPointFiles.add(snapshotFileInfo);
                         if (needsWrite) {
-                            filesToSnapshot.add(snapshotFileInfo);
+                            // Files split into several parts by the chunk size are uploaded part by part so that the parts
+                            // of a large segment file can be transferred concurrently
+                            final FilePartsChecksum checksum = new FilePartsChecksum(snapshotFileInfo);
+                            for (int part = 0; part < snapshotFileInfo.numberOfParts(); part++) {
+                                filesToSnapshot.add(new FilePart(snapshotFileInfo, part, checksum));
+                            }
                         }
                         assert needsWrite || assertFileContentsMatchHash(snapshotFileInfo, store);
                     } else {
@@ -1911,11 +1926,7 @@ public abstract class BlobStoreRepository extends AbstractLifecycleComponent imp
                 return;
             }
             final Executor executor = threadPool.executor(ThreadPool.Names.SNAPSHOT);
-            int maximumPoolSize = executor instanceof ThreadPoolExecutor
-                ? ((ThreadPoolExecutor) executor).getMaximumPoolSize()
-                : 1;
-            // Start as many workers as fit into the snapshot pool at once at the most
-            final int workers = Math.min(maximumPoolSize, indexIncrementalFileCount);
+            final int workers = Math.min(maxTransfers(executor), Math.max(indexIncrementalFileCount, filesToSnapshot.size()));
             final ActionListener<Void> filesListener = fileQueueListener(filesToSnapshot, workers, allFilesUploadedListener);
             for (int i = 0; i < workers; ++i) {
                 executeOneFileSnapshot(store, snapshotId, indexId, snapshotStatus, filesToSnapshot, executor, filesListener);
@@ -1925,17 +1936,38 @@ public abstract class BlobStoreRepository extends AbstractLifecycleComponent imp
         }
     }
 
+    /**
+     * A single part of a file that needs to be uploaded.
+     * The parts of a file share the {@code checksum} which verifies the file once its last part got uploaded.
+     */
+    private record FilePart(BlobStoreIndexShardSnapshot.FileInfo fileInfo, int part, FilePartsChecksum checksum) {
+    }
+
+    /**
+     * Start as many workers as fit into the snapshot pool at once at the most, limited by {@link #MAX_CONCURRENT_TRANSFERS_SETTING}
+     */
+    private int maxTransfers(Executor executor) {
+        int maximumPoolSize = executor instanceof ThreadPoolExecutor
+            ? ((ThreadPoolExecutor) executor).getMaximumPoolSize()
+            : 1;
+        return Math.min(maximumPoolSize, maxConcurrentTransfers);
+    }
+
     private void executeOneFileSnapshot(Store store, SnapshotId snapshotId, IndexId indexId, IndexShardSnapshotStatus snapshotStatus,
-                                        BlockingQueue<BlobStoreIndexShardSnapshot.FileInfo> filesToSnapshot, Executor executor,
+                                        BlockingQueue<FilePart> filesToSnapshot, Executor executor,
                                         ActionListener<Void> listener) throws InterruptedException {
         final ShardId shardId = store.shardId();
-        final BlobStoreIndexShardSnapshot.FileInfo snapshotFileInfo = filesToSnapshot.poll(0L, TimeUnit.MILLISECONDS);
-        if (snapshotFileInfo == null) {
+        final FilePart filePart = filesToSnapshot.poll(0L, TimeUnit.MILLISECONDS);
+        if (filePart == null) {
             listener.onResponse(null);
         } else {
             executor.execute(ActionRunnable.wrap(listener, l -> {
                 try (Releasable ignored = incrementStoreRef(store, snapshotStatus, shardId)) {
-                    snapshotFile(snapshotFileInfo, indexId, shardId, snapshotId, snapshotStatus, store);
+                    if (filePart.fileInfo().numberOfParts() == 1) {
+                        snapshotFile(filePart.fileInfo(), indexId, shardId, snapshotId, snapshotStatus, store);
+                    } else {
+                        snapshotFilePart(filePart, indexId, shardId, snapshotId, snapshotStatus, store);
+                    }
                     executeOneFileSnapshot(store, snapshotId, indexId, snapshotStatus, filesToSnapshot, executor, l);
                 }
             }));
@@ -1983,11 +2015,7 @@ public abstract class BlobStoreRepository extends AbstractLifecycleComponent imp
                     if (filesToRecover.isEmpty()) {
                         listener.onResponse(null);
                     } else {
-                        // Start as many workers as fit into the snapshot pool at once at the most
-                        int maxPoolSize = executor instanceof ThreadPoolExecutor
-                            ? ((ThreadPoolExecutor) executor).getMaximumPoolSize()
-                            : 1;
-                        final int workers = Math.min(maxPoolSize, snapshotFiles.indexFiles().size());
+                        final int workers = Math.min(maxTransfers(executor), filesToRecover.size());
                         final BlockingQueue<BlobStoreIndexShardSnapshot.FileInfo> files = new LinkedBlockingQueue<>(filesToRecover);
                         final ActionListener<Void> allFilesListener = fileQueueListener(files, workers, listener.map(v -> null));
                         // restore the files from the snapshot to the Lucene store
@@ -2075,8 +2103,8 @@ public abstract class BlobStoreRepository extends AbstractLifecycleComponent imp
         }));
     }
 
-    private static ActionListener<Void> fileQueueListener(BlockingQueue<BlobStoreIndexShardSnapshot.FileInfo> files, int workers,
-                                                          ActionListener<Collection<Void>> listener) {
+    private static <T> ActionListener<Void> fileQueueListener(BlockingQueue<T> files, int workers,
+                                                              ActionListener<Collection<Void>> listener) {
         return ActionListener.delegateResponse(new GroupedActionListener<>(listener, workers), (l, e) -> {
             files.clear(); // Stop uploading the remaining files if we run into any exception
             l.onFailure(e);
@@ -2300,35 +2328,8 @@ public abstract class BlobStoreRepository extends AbstractLifecycleComponent imp
         final String file = fileInfo.physicalName();
         try (IndexInput indexInput = store.openVerifyingInput(file, IOContext.DEFAULT, fileInfo.metadata())) {
             for (int i = 0; i < fileInfo.numberOfParts(); i++) {
-                final long partBytes = fileInfo.partBytes(i);
-
-                InputStream inputStream = new InputStreamIndexInput(indexInput, partBytes);
-                // Make reads abortable by mutating the snapshotStatus object
-                inputStream = new FilterInputStream(maybeRateLimitSnapshots(inputStream)) {
-                    @Override
-                    public int read() throws IOException {
-                        checkAborted();
-                        return super.read();
-                    }
-
-                    @Override
-                    public int read(byte[] b, int off, int len) throws IOException {
-                        checkAborted();
-                        return super.read(b, off, len);
-                    }
-
-                    private void checkAborted() {
-                        if (snapshotStatus.isAborted()) {
-                            LOGGER.debug("[{}] [{}] Aborted on the file [{}], exiting", shardId,
-                                snapshotId, fileInfo.physicalName());
-                            throw new AbortedSnapshotException();
-                        }
-                    }
-                };
-                final String partName = fileInfo.partName(i);
-                LOGGER.trace(() ->
-                        new ParameterizedMessage("[{}] Writing [{}] to [{}]", metadata.name(), partName, shardContainer.path()));
-                shardContainer.writeBlob(partName, inputStream, partBytes, false);
+                InputStream inputStream = new InputStreamIndexInput(indexInput, fileInfo.partBytes(i));
+                writeFilePart(fileInfo, i, inputStream, shardContainer, shardId, snapshotId, snapshotStatus);
             }
             Store.verify(indexInput);
             snapshotStatus.addProcessedFile(fileInfo.length());
@@ -2339,6 +2340,74 @@ public abstract class BlobStoreRepository extends AbstractLifecycleComponent imp
         }
     }
 
+    /**
+     * Snapshot a single part of a file that is split into several parts.
+     * Parts are read from independent slices of the file, so the parts of one file can be uploaded concurrently.
+     * The checksum of the file is computed from the uploaded parts and verified once the last part is uploaded.
+     */
+    private void snapshotFilePart(FilePart filePart, IndexId indexId, ShardId shardId, SnapshotId snapshotId,
+                                  IndexShardSnapshotStatus snapshotStatus, Store store) throws IOException {
+        final BlobStoreIndexShardSnapshot.FileInfo fileInfo = filePart.fileInfo();
+        final int part = filePart.part();
+        final BlobContainer shardContainer = shardContainer(indexId, shardId);
+        final long offset = fileInfo.partBytes(0) * part;
+        final FilePartsChecksum checksum = filePart.checksum();
+        try (IndexInput indexInput = store.directory().openInput(fileInfo.physicalName(), IOContext.DEFAULT)) {
+            final long partBytes = fileInfo.partBytes(part);
+            final IndexInput slice = indexInput.slice(fileInfo.partName(part), offset, partBytes);
+            final InputStream inputStream = checksum.wrap(part, new InputStreamIndexInput(slice, partBytes));
+            writeFilePart(fileInfo, part, inputStream, shardContainer, shardId, snapshotId, snapshotStatus);
+            if (checksum.onPartUploaded()) {
+                checksum.verify();
+                snapshotStatus.addProcessedFile(fileInfo.length());
+            }
+        } catch (Exception t) {
+            failStoreIfCorrupted(store, t);
+            // Only account the failed file once, no matter how many of its parts failed
+            if (checksum.onPartFailed()) {
+                snapshotStatus.addProcessedFile(0);
+            }
+            throw t;
+        }
+    }
+
+    private void writeFilePart(BlobStoreIndexShardSnapshot.FileInfo fileInfo,
+                               int part,
+                               InputStream partInputStream,
+                               BlobContainer shardContainer,
+                               ShardId shardId,
+                               SnapshotId snapshotId,
+                               IndexShardSnapshotStatus snapshotStatus) throws IOException {
+        final long partBytes = fileInfo.partBytes(part);
+
+        // Make reads abortable by mutating the snapshotStatus object
+        InputStream inputStream = new FilterInputStream(maybeRateLimitSnapshots(partInputStream)) {
+            @Override
+            public int read() throws IOException {
+                checkAborted();
+                return super.read();
+            }
+
+            @Override
+            public int read(byte[] b, int off, int len) throws IOException {
+                checkAborted();
+                return super.read(b, off, len);
+            }
+
+            private void checkAborted() {
+                if (snapshotStatus.isAborted()) {
+                    LOGGER.debug("[{}] [{}] Aborted on the file [{}], exiting", shardId,
+                        snapshotId, fileInfo.physicalName());
+                    throw new AbortedSnapshotException();
+                }
+            }
+        };
+        final String partName = fileInfo.partName(part);
+        LOGGER.trace(() ->
+                new ParameterizedMessage("[{}] Writing [{}] to [{}]", metadata.name(), partName, shardContainer.path()));
+        shardContainer.writeBlob(partName, inputStream, partBytes, false);
+    }
+
     private static void failStoreIfCorrupted(Store store, Exception e) {
         if (Lucene.isCorruptionException(e)) {
             try {
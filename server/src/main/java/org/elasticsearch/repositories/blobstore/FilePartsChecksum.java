@@ -0,0 +1,261 @@
+/*
+ * Licensed to Crate.io GmbH ("Crate") under one or more contributor
+ * license agreements.  See the NOTICE file distributed with this work for
+ * additional information regarding copyright ownership.  Crate licenses
+ * this file to you under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.  You may
+ * obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * However, if you have executed another commercial license agreement
+ * with Crate these terms will supersede the license and you may use the
+ * software solely pursuant to the terms of the relevant commercial agreement.
+ */
+
+
+package org.elasticsearch.repositories.blobstore;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.CRC32;
+
+import org.apache.lucene.codecs.CodecUtil;
+import org.apache.lucene.index.CorruptIndexException;
+import org.apache.lucene.store.ByteArrayDataInput;
+import org.elasticsearch.index.snapshots.blobstore.BlobStoreIndexShardSnapshot.FileInfo;
+import org.elasticsearch.index.store.Store;
+
+/**
+ * Verifies the checksum of a file whose parts are uploaded independently, possibly concurrently and in any order.
+ * <p>
+ * The CRC32 of each part is computed from the bytes streamed to the repository. Once all parts are uploaded, the
+ * checksums of the parts are combined and compared with the checksum in the footer and in the metadata of the file.
+ * This avoids reading the file again after uploading it.
+ * </p>
+ */
+final class FilePartsChecksum {
+
+    private static final int FOOTER_CHECKSUM_LENGTH = 8;
+
+    private final FileInfo fileInfo;
+    private final long checksumPosition;
+    private final CRC32[] partDigests;
+    private final long[] partBytesRead;
+    private final byte[] footerChecksum = new byte[FOOTER_CHECKSUM_LENGTH];
+    private final AtomicInteger remainingParts;
+
+    FilePartsChecksum(FileInfo fileInfo) {
+        this.fileInfo = fileInfo;
+        // The last 8 bytes are the checksum of all preceding bytes
+        this.checksumPosition = fileInfo.length() - FOOTER_CHECKSUM_LENGTH;
+        int numberOfParts = fileInfo.numberOfParts();
+        this.partDigests = new CRC32[numberOfParts];
+        this.partBytesRead = new long[numberOfParts];
+        this.remainingParts = new AtomicInteger(numberOfParts);
+    }
+
+    /**
+     * Wraps the stream of a part, all bytes read from the returned stream are accounted to the checksum of the file.
+     * Bytes which are read again after a {@link InputStream#reset()} are only accounted once.
+     */
+    InputStream wrap(int part, InputStream in) {
+        CRC32 digest = new CRC32();
+        partDigests[part] = digest;
+        long partOffset = fileInfo.partBytes(0) * part;
+        return new FilterInputStream(in) {
+
+            private final byte[] singleByte = new byte[1];
+            private long position = 0;
+            private long markedPosition = 0;
+
+            @Override
+            public int read() throws IOException {
+                int b = super.read();
+                if (b >= 0) {
+                    singleByte[0] = (byte) b;
+                    update(singleByte, 0, 1);
+                }
+                return b;
+            }
+
+            @Override
+            public int read(byte[] b, int off, int len) throws IOException {
+                int read = super.read(b, off, len);
+                if (read > 0) {
+                    update(b, off, read);
+                }
+                return read;
+            }
+
+            @Override
+            public long skip(long n) throws IOException {
+                // Skipped bytes must be accounted to the checksum as well
+                byte[] buffer = new byte[(int) Math.min(n, 8192)];
+                long remaining = n;
+                while (remaining > 0) {
+                    int read = read(buffer, 0, (int) Math.min(remaining, buffer.length));
+                    if (read < 0) {
+                        break;
+                    }
+                    remaining -= read;
+                }
+                return n - remaining;
+            }
+
+            @Override
+            public synchronized void mark(int readlimit) {
+                super.mark(readlimit);
+                markedPosition = position;
+            }
+
+            @Override
+            public synchronized void reset() throws IOException {
+                super.reset();
+                position = markedPosition;
+            }
+
+            private void update(byte[] b, int off, int len) {
+                long end = position + len;
+                long verifiedPosition = partBytesRead[part];
+                if (end > verifiedPosition) {
+                    long start = Math.max(position, verifiedPosition);
+                    int bufferOffset = off + (int) (start - position);
+                    long fileStart = partOffset + start;
+                    long fileEnd = partOffset + end;
+                    long digestEnd = Math.min(fileEnd, checksumPosition);
+                    if (digestEnd > fileStart) {
+                        digest.update(b, bufferOffset, (int) (digestEnd - fileStart));
+                    }
+                    long footerStart = Math.max(fileStart, checksumPosition);
+                    if (fileEnd > footerStart) {
+                        System.arraycopy(
+                            b,
+                            bufferOffset + (int) (footerStart - fileStart),
+                            footerChecksum,
+                            (int) (footerStart - checksumPosition),
+                            (int) (fileEnd - footerStart)
+                        );
+                    }
+                    partBytesRead[part] = end;
+                }
+                position = end;
+            }
+        };
+    }
+
+    /**
+     * @return true if this was the last part of the file, the checksum can be verified then.
+     */
+    boolean onPartUploaded() {
+        return remainingParts.decrementAndGet() == 0;
+    }
+
+    /**
+     * @return true for the first failed part of the file, so that a failed file is only accounted once.
+     */
+    boolean onPartFailed() {
+        return remainingParts.getAndSet(-1) >= 0;
+    }
+
+    /**
+     * Must only be called once all parts are uploaded, see {@link #onPartUploaded()}
+     */
+    void verify() throws IOException {
+        long checksum = 0;
+        for (int part = 0; part < partDigests.length; part++) {
+            long partBytes = fileInfo.partBytes(part);
+            if (partBytesRead[part] != partBytes) {
+                throw new CorruptIndexException(
+                    "expected to upload " + partBytes + " bytes of part " + part + " but got " + partBytesRead[part],
+                    fileInfo.partName(part)
+                );
+            }
+            long partOffset = fileInfo.partBytes(0) * part;
+            long digestLength = Math.min(partOffset + partBytes, checksumPosition) - partOffset;
+            if (digestLength > 0) {
+                checksum = crc32Combine(checksum, partDigests[part].getValue(), digestLength);
+            }
+        }
+        String actualChecksum = Store.digestToString(checksum);
+        String footerChecksum = Store.digestToString(CodecUtil.readBELong(new ByteArrayDataInput(this.footerChecksum)));
+        String expectedChecksum = fileInfo.metadata().checksum();
+        if (actualChecksum.equals(expectedChecksum) == false || footerChecksum.equals(expectedChecksum) == false) {
+            throw new CorruptIndexException(
+                "checksum failed (hardware problem?) : expected=" + expectedChecksum +
+                " actual=" + actualChecksum +
+                " footer=" + footerChecksum +
+                " (resource=" + fileInfo.metadata() + ")",
+                fileInfo.physicalName()
+            );
+        }
+    }
+
+    /**
+     * Computes the CRC32 of two concatenated sequences from their CRC32s, see crc32_combine of zlib
+     *
+     * @param crc1 CRC32 of the first sequence
+     * @param crc2 CRC32 of the second sequence
+     * @param len2 length of the second sequence
+     */
+    static long crc32Combine(long crc1, long crc2, long len2) {
+        if (len2 <= 0) {
+            return crc1;
+        }
+        long[] even = new long[32];
+        long[] odd = new long[32];
+
+        // operator for one zero bit
+        odd[0] = 0xedb88320L;
+        long row = 1;
+        for (int n = 1; n < 32; n++) {
+            odd[n] = row;
+            row <<= 1;
+        }
+        // operator for two and four zero bits
+        gf2MatrixSquare(even, odd);
+        gf2MatrixSquare(odd, even);
+
+        // apply len2 zeros to crc1, the first square puts the operator for one zero byte in even
+        do {
+            gf2MatrixSquare(even, odd);
+            if ((len2 & 1) != 0) {
+                crc1 = gf2MatrixTimes(even, crc1);
+            }
+            len2 >>= 1;
+            if (len2 == 0) {
+                break;
+            }
+            gf2MatrixSquare(odd, even);
+            if ((len2 & 1) != 0) {
+                crc1 = gf2MatrixTimes(odd, crc1);
+            }
+            len2 >>= 1;
+        } while (len2 != 0);
+        return crc1 ^ crc2;
+    }
+
+    private static long gf2MatrixTimes(long[] mat, long vec) {
+        long sum = 0;
+        for (int i = 0; vec != 0; i++, vec >>>= 1) {
+            if ((vec & 1) != 0) {
+                sum ^= mat[i];
+            }
+        }
+        return sum;
+    }
+
+    private static void gf2MatrixSquare(long[] square, long[] mat) {
+        for (int n = 0; n < square.length; n++) {
+            square[n] = gf2MatrixTimes(mat, mat[n]);
+        }
+    }
+}
@@ -143,7 +143,7 @@ public final class SnapshotInfo implements Comparable<SnapshotInfo>, Writeable {
             }
 
             return new SnapshotInfo(snapshotId, indices, snapshotState, reason, version, startTime, endTime,
-                    totalShards, successfulShards, shardFailures, includeGlobalState);
+                    totalShards, successfulShards, shardFailures, includeGlobalState, -1L);
         }
     }
 
@@ -218,29 +218,38 @@ public final class SnapshotInfo implements Comparable<SnapshotInfo>, Writeable {
 
     private final List<SnapshotShardFailure> shardFailures;
 
+    private final long incrementalSize;
+
     public SnapshotInfo(SnapshotId snapshotId, List<String> indices, SnapshotState state) {
         this(snapshotId, indices, state, null);
 
     }
 
     public SnapshotInfo(SnapshotId snapshotId, List<String> indices, SnapshotState state, Version version) {
-        this(snapshotId, indices, state, null, version, 0L, 0L, 0, 0, Collections.emptyList(), null);
+        this(snapshotId, indices, state, null, version, 0L, 0L, 0, 0, Collections.emptyList(), null, -1L);
     }
 
     public SnapshotInfo(SnapshotId snapshotId, List<String> indices, long startTime, Boolean includeGlobalState) {
         this(snapshotId, indices, SnapshotState.IN_PROGRESS, null, Version.CURRENT, startTime, 0L, 0, 0,
-            Collections.emptyList(), includeGlobalState);
+            Collections.emptyList(), includeGlobalState, -1L);
     }
 
     public SnapshotInfo(SnapshotId snapshotId, List<String> indices, long startTime, String reason, long endTime,
                         int totalShards, List<SnapshotShardFailure> shardFailures, Boolean includeGlobalState) {
+        this(snapshotId, indices, startTime, reason, endTime, totalShards, shardFailures, includeGlobalState, -1L);
+    }
+
+    public SnapshotInfo(SnapshotId snapshotId, List<String> indices, long startTime, String reason, long endTime,
+                        int totalShards, List<SnapshotShardFailure> shardFailures, Boolean includeGlobalState,
+                        long incrementalSize) {
         this(snapshotId, indices, snapshotState(reason, shardFailures), reason, Version.CURRENT,
-             startTime, endTime, totalShards, totalShards - shardFailures.size(), shardFailures, includeGlobalState);
+             startTime, endTime, totalShards, totalShards - shardFailures.size(), shardFailures, includeGlobalState,
+             incrementalSize);
     }
 
     SnapshotInfo(SnapshotId snapshotId, List<String> indices, SnapshotState state, String reason, Version version,
                  long startTime, long endTime, int totalShards, int successfulShards, List<SnapshotShardFailure> shardFailures,
-                 Boolean includeGlobalState) {
+                 Boolean includeGlobalState, long incrementalSize) {
         this.snapshotId = Objects.requireNonNull(snapshotId);
         this.indices = Collections.unmodifiableList(Objects.requireNonNull(indices));
         this.state = state;
@@ -252,6 +261,7 @@ public final class SnapshotInfo implements Comparable<SnapshotInfo>, Writeable {
         this.successfulShards = successfulShards;
         this.shardFailures = Objects.requireNonNull(shardFailures);
         this.includeGlobalState = includeGlobalState;
+        this.incrementalSize = incrementalSize;
     }
 
     /**
@@ -269,6 +279,11 @@ public final class SnapshotInfo implements Comparable<SnapshotInfo>, Writeable {
         shardFailures = Collections.unmodifiableList(in.readList(SnapshotShardFailure::new));
         version = in.readBoolean() ? Version.readVersion(in) : null;
         includeGlobalState = in.readOptionalBoolean();
+        if (in.getVersion().onOrAfter(Version.V_6_0_0)) {
+            incrementalSize = in.readZLong();
+        } else {
+            incrementalSize = -1L;
+        }
     }
 
     /**
@@ -381,6 +396,14 @@ public final class SnapshotInfo implements Comparable<SnapshotInfo>, Writeable {
         return shardFailures;
     }
 
+    /**
+     * Returns the number of bytes of the files which were uploaded by the snapshot, files
+     * already contained in previous snapshots are excluded; {@code -1} if unknown.
+     */
+    public long incrementalSize() {
+        return incrementalSize;
+    }
+
     /**
      * Returns the version of elasticsearch that the snapshot was created with.  Will only
      * return {@code null} if {@link #state()} returns {@code null} or {@link SnapshotState#INCOMPATIBLE}.
@@ -415,6 +438,7 @@ public final class SnapshotInfo implements Comparable<SnapshotInfo>, Writeable {
             ", includeGlobalState=" + includeGlobalState +
             ", version=" + version +
             ", shardFailures=" + shardFailures +
+            ", incrementalSize=" + incrementalSize +
             '}';
     }
 
@@ -532,7 +556,8 @@ public final class SnapshotInfo implements Comparable<SnapshotInfo>, Writeable {
                                 totalShards,
                                 successfulShards,
                                 shardFailures,
-                                includeGlobalState);
+                                includeGlobalState,
+                                -1L);
     }
 
     @Override
@@ -558,6 +583,9 @@ public final class SnapshotInfo implements Comparable<SnapshotInfo>, Writeable {
             out.writeBoolean(false);
         }
         out.writeOptionalBoolean(includeGlobalState);
+        if (out.getVersion().onOrAfter(Version.V_6_0_0)) {
+            out.writeZLong(incrementalSize);
+        }
     }
 
     private static SnapshotState snapshotState(final String reason, final List<SnapshotShardFailure> shardFailures) {
@@ -581,6 +609,7 @@ public final class SnapshotInfo implements Comparable<SnapshotInfo>, Writeable {
             endTime == that.endTime &&
             totalShards == that.totalShards &&
             successfulShards == that.successfulShards &&
+            incrementalSize == that.incrementalSize &&
             Objects.equals(snapshotId, that.snapshotId) &&
             state == that.state &&
             Objects.equals(reason, that.reason) &&
@@ -594,6 +623,6 @@ public final class SnapshotInfo implements Comparable<SnapshotInfo>, Writeable {
     public int hashCode() {
 
         return Objects.hash(snapshotId, state, reason, indices, startTime, endTime,
-                totalShards, successfulShards, includeGlobalState, version, shardFailures);
+                totalShards, successfulShards, includeGlobalState, version, shardFailures, incrementalSize);
     }
 }
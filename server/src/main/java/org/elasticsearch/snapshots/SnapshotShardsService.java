@@ -270,7 +270,7 @@ public class SnapshotShardsService extends AbstractLifecycleComponent implements
                                 LOGGER.debug("snapshot [{}] completed to [{}] with [{}] at generation [{}]",
                                     snapshot, snapshot.getRepository(), lastSnapshotStatus, snapshotStatus.generation());
                             }
-                            notifySuccessfulSnapshotShard(snapshot, shardId, newGeneration);
+                            notifySuccessfulSnapshotShard(snapshot, shardId, newGeneration, snapshotStatus.asCopy().getIncrementalSize());
                         }
 
                         @Override
@@ -408,7 +408,12 @@ public class SnapshotShardsService extends AbstractLifecycleComponent implements
                                 // but we think the shard is done - we need to make new master know that the shard is done
                                 LOGGER.debug("[{}] new master thinks the shard [{}] is not completed but the shard is done locally, " +
                                     "updating status on the master", snapshot.snapshot(), shardId);
-                                notifySuccessfulSnapshotShard(snapshot.snapshot(), shardId, localShard.getValue().generation());
+                                notifySuccessfulSnapshotShard(
+                                    snapshot.snapshot(),
+                                    shardId,
+                                    localShard.getValue().generation(),
+                                    indexShardSnapshotStatus.getIncrementalSize()
+                                );
 
                             } else if (stage == Stage.FAILURE) {
                                 // but we think the shard failed - we need to make new master know that the shard failed
@@ -424,10 +429,13 @@ public class SnapshotShardsService extends AbstractLifecycleComponent implements
     }
 
     /** Notify the master node that the given shard has been successfully snapshotted **/
-    private void notifySuccessfulSnapshotShard(final Snapshot snapshot, final ShardId shardId, String generation) {
+    private void notifySuccessfulSnapshotShard(final Snapshot snapshot,
+                                               final ShardId shardId,
+                                               String generation,
+                                               long incrementalSize) {
         assert generation != null;
         sendSnapshotShardUpdate(snapshot, shardId,
-                                new ShardSnapshotStatus(clusterService.localNode().getId(), ShardState.SUCCESS, generation));
+                                ShardSnapshotStatus.success(clusterService.localNode().getId(), generation, incrementalSize));
     }
 
     /** Notify the master node that the given shard failed to be snapshotted **/
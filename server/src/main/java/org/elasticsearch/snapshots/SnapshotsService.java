@@ -918,6 +918,7 @@ public class SnapshotsService extends AbstractLifecycleComponent implements Clus
             final Snapshot snapshot = entry.snapshot();
             LOGGER.trace("[{}] finalizing snapshot in repository, state: [{}], failure[{}]", snapshot, entry.state(), failure);
             ArrayList<SnapshotShardFailure> shardFailures = new ArrayList<>();
+            long incrementalSize = -1L;
             for (ObjectObjectCursor<ShardId, ShardSnapshotStatus> shardStatus : entry.shards()) {
                 ShardId shardId = shardStatus.key;
                 ShardSnapshotStatus status = shardStatus.value;
@@ -928,6 +929,9 @@ public class SnapshotsService extends AbstractLifecycleComponent implements Clus
                     shardFailures.add(new SnapshotShardFailure(status.nodeId(), shardId, "skipped"));
                 } else {
                     assert state == ShardState.SUCCESS;
+                    if (status.incrementalSize() >= 0) {
+                        incrementalSize = Math.max(incrementalSize, 0L) + status.incrementalSize();
+                    }
                 }
             }
             final ShardGenerations shardGenerations = buildGenerations(entry, metadata);
@@ -940,7 +944,8 @@ public class SnapshotsService extends AbstractLifecycleComponent implements Clus
                 threadPool.absoluteTimeInMillis(),
                 entry.partial() ? shardGenerations.totalShards() : entry.shards().size(),
                 shardFailures,
-                entry.includeGlobalState()
+                entry.includeGlobalState(),
+                incrementalSize
             );
             Repository repository = repositoriesService.repository(snapshot.getRepository());
             repository.finalizeSnapshot(
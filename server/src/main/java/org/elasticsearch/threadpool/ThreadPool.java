@@ -48,6 +48,7 @@ import org.elasticsearch.common.util.concurrent.EsRejectedExecutionException;
 import org.elasticsearch.common.util.concurrent.EsThreadPoolExecutor;
 import org.elasticsearch.common.util.concurrent.ThreadContext;
 import org.elasticsearch.common.util.concurrent.XRejectedExecutionHandler;
+import org.elasticsearch.env.Environment;
 import org.elasticsearch.node.Node;
 import org.jetbrains.annotations.Nullable;
 
@@ -72,6 +73,7 @@ public class ThreadPool implements Scheduler {
         public static final String FETCH_SHARD_STARTED = "fetch_shard_started";
         public static final String FETCH_SHARD_STORE = "fetch_shard_store";
         public static final String LOGICAL_REPLICATION = "logical_replication";
+        public static final String STORE_RECOVERY = "store_recovery";
     }
 
     public enum ThreadPoolType {
@@ -131,6 +133,10 @@ public class ThreadPool implements Scheduler {
         final int halfProcMaxAt5 = halfNumberOfProcessorsMaxFive(availableProcessors);
         final int halfProcMaxAt10 = halfNumberOfProcessorsMaxTen(availableProcessors);
         final int genericThreadPoolMax = boundedBy(4 * availableProcessors, 128, 512);
+        final int storeRecoveryMax = storeRecoveryThreadPoolSize(
+            availableProcessors,
+            Environment.PATH_DATA_SETTING.get(settings).size()
+        );
 
         builders = List.of(
             new ScalingExecutorBuilder(Names.GENERIC, 4, genericThreadPoolMax, TimeValue.timeValueSeconds(30)),
@@ -147,7 +153,8 @@ public class ThreadPool implements Scheduler {
             new ScalingExecutorBuilder(Names.FETCH_SHARD_STARTED, 1, 2 * availableProcessors, TimeValue.timeValueMinutes(5)),
             new FixedExecutorBuilder(settings, Names.FORCE_MERGE, 1, -1),
             new ScalingExecutorBuilder(Names.FETCH_SHARD_STORE, 1, 2 * availableProcessors, TimeValue.timeValueMinutes(5)),
-            new FixedExecutorBuilder(settings, Names.LOGICAL_REPLICATION, searchThreadPoolSize(availableProcessors), 100)
+            new FixedExecutorBuilder(settings, Names.LOGICAL_REPLICATION, searchThreadPoolSize(availableProcessors), 100),
+            new ScalingExecutorBuilder(Names.STORE_RECOVERY, 1, storeRecoveryMax, TimeValue.timeValueMinutes(5))
         );
         HashMap<String, ExecutorHolder> executors = HashMap.newHashMap(builders.size() + 1);
         for (ExecutorBuilder builder : builders) {
@@ -365,6 +372,14 @@ public class ThreadPool implements Scheduler {
         return Math.min(max, Math.max(min, value));
     }
 
+    /**
+     * Local store recoveries are mostly bound by disk IO, so they scale with the number of data paths
+     * instead of running unbounded on the generic pool.
+     */
+    static int storeRecoveryThreadPoolSize(int numberOfProcessors, int numberOfDataPaths) {
+        return boundedBy(4 * Math.max(1, numberOfDataPaths), 1, numberOfProcessors);
+    }
+
     static int halfNumberOfProcessorsMaxFive(int numberOfProcessors) {
         return boundedBy((numberOfProcessors + 1) / 2, 1, 5);
     }
@@ -0,0 +1,139 @@
+/*
+ * Licensed to Crate.io GmbH ("Crate") under one or more contributor
+ * license agreements.  See the NOTICE file distributed with this work for
+ * additional information regarding copyright ownership.  Crate licenses
+ * this file to you under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.  You may
+ * obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * However, if you have executed another commercial license agreement
+ * with Crate these terms will supersede the license and you may use the
+ * software solely pursuant to the terms of the relevant commercial agreement.
+ */
+
+package org.elasticsearch.transport;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Locale;
+
+import org.elasticsearch.Version;
+import org.elasticsearch.common.bytes.BytesReference;
+import org.elasticsearch.common.compress.CompressorFactory;
+import org.elasticsearch.common.regex.Regex;
+import org.elasticsearch.common.settings.Settings;
+import org.jetbrains.annotations.Nullable;
+
+public final class Compression {
+
+    public enum Scheme {
+        DEFLATE,
+        LZ4;
+
+        /**
+         * Nodes before this version can only decompress DEFLATE
+         */
+        static final Version LZ4_VERSION = Version.V_6_0_0;
+
+        static final byte[] LZ4_HEADER = new byte[]{'L', 'Z', '4', '\0'};
+
+        static final int HEADER_LENGTH = 4;
+
+        public static Scheme of(String value) {
+            return switch (value.toLowerCase(Locale.ENGLISH)) {
+                case "deflate" -> DEFLATE;
+                case "lz4" -> LZ4;
+                default -> throw new IllegalArgumentException(
+                    "Invalid compression scheme `" + value + "`, supported schemes are: `deflate`, `lz4`");
+            };
+        }
+
+        static boolean isDeflate(BytesReference bytes) {
+            return CompressorFactory.COMPRESSOR.isCompressed(bytes);
+        }
+
+        static boolean isLZ4(BytesReference bytes) {
+            if (bytes.length() < LZ4_HEADER.length) {
+                return false;
+            }
+            for (int i = 0; i < LZ4_HEADER.length; i++) {
+                if (bytes.get(i) != LZ4_HEADER[i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        /**
+         * Creates a stream which compresses the contents using this scheme and writes them to the provided stream.
+         * Closing the returned stream closes the provided stream.
+         */
+        OutputStream outputStream(OutputStream out) throws IOException {
+            return switch (this) {
+                case DEFLATE -> CompressorFactory.COMPRESSOR.threadLocalOutputStream(out);
+                case LZ4 -> Lz4BlockOutputStream.threadLocalOutputStream(out);
+            };
+        }
+    }
+
+    /**
+     * Decides if and how an outgoing message is compressed.
+     *
+     * <p>
+     * Messages are compressed if {@link TransportSettings#TRANSPORT_COMPRESS} is enabled, or if the action
+     * matches one of the patterns of {@link TransportSettings#TRANSPORT_COMPRESS_ACTIONS}. Compressed messages which
+     * are smaller than {@link TransportSettings#TRANSPORT_COMPRESS_MIN_SIZE} are sent uncompressed.
+     * </p>
+     */
+    public static final class Policy {
+
+        public static final Policy DEFAULT = new Policy(Settings.EMPTY);
+
+        private final Scheme scheme;
+        private final String[] actions;
+        private final long minSize;
+
+        public Policy(Settings settings) {
+            this.scheme = TransportSettings.TRANSPORT_COMPRESSION_SCHEME.get(settings);
+            this.actions = TransportSettings.TRANSPORT_COMPRESS_ACTIONS.get(settings).toArray(String[]::new);
+            this.minSize = TransportSettings.TRANSPORT_COMPRESS_MIN_SIZE.get(settings).getBytes();
+        }
+
+        /**
+         * @param compress true if compression is enabled for the connection or was requested by the sender
+         * @return the scheme to compress a message of the given action with or null if it shouldn't be compressed
+         */
+        @Nullable
+        public Scheme scheme(String action, boolean compress, Version version) {
+            if (compress == false && matches(action) == false) {
+                return null;
+            }
+            if (scheme == Scheme.LZ4 && version.before(Scheme.LZ4_VERSION)) {
+                return Scheme.DEFLATE;
+            }
+            return scheme;
+        }
+
+        public long minSize() {
+            return minSize;
+        }
+
+        private boolean matches(String action) {
+            if (actions.length == 0 || TransportHandshaker.HANDSHAKE_ACTION_NAME.equals(action)) {
+                return false;
+            }
+            return Regex.simpleMatch(actions, action);
+        }
+    }
+
+    private Compression() {
+    }
+}
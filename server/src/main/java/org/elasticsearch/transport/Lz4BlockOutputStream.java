@@ -0,0 +1,170 @@
+/*
+ * Licensed to Crate.io GmbH ("Crate") under one or more contributor
+ * license agreements.  See the NOTICE file distributed with this work for
+ * additional information regarding copyright ownership.  Crate licenses
+ * this file to you under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.  You may
+ * obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * However, if you have executed another commercial license agreement
+ * with Crate these terms will supersede the license and you may use the
+ * software solely pursuant to the terms of the relevant commercial agreement.
+ */
+
+package org.elasticsearch.transport;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+import org.apache.lucene.store.ByteArrayDataOutput;
+import org.apache.lucene.util.compress.LZ4;
+
+/**
+ * Stream which compresses the written bytes in blocks using LZ4 and writes them to an underlying stream.
+ *
+ * <p>
+ * The stream starts with {@link Compression.Scheme#LZ4_HEADER}. Each block is prefixed by a header holding the
+ * decompressed and the compressed length of the block as big-endian ints. A header with a decompressed length of 0
+ * marks the end of the stream.
+ * </p>
+ *
+ * {@link #close()} must be called to write the end of stream marker, it closes the underlying stream.
+ */
+final class Lz4BlockOutputStream extends OutputStream {
+
+    static final int BLOCK_SIZE = 64 * 1024;
+    static final int BLOCK_HEADER_SIZE = 8;
+
+    // Reusable buffers, a stream is only ever used on the thread that created it
+    private static final ThreadLocal<Buffers> BUFFERS = ThreadLocal.withInitial(Buffers::new);
+
+    private static final class Buffers {
+
+        private final byte[] uncompressed = new byte[BLOCK_SIZE];
+        private final byte[] compressed = new byte[BLOCK_HEADER_SIZE + maxCompressedLength(BLOCK_SIZE)];
+        private final LZ4.FastCompressionHashTable hashTable = new LZ4.FastCompressionHashTable();
+        private boolean inUse = false;
+    }
+
+    private final OutputStream out;
+    private final Buffers buffers;
+    private int position = 0;
+    private boolean closed = false;
+
+    /**
+     * Creates a new stream using thread-local buffers. The stream must only be used on the current thread.
+     */
+    static Lz4BlockOutputStream threadLocalOutputStream(OutputStream out) throws IOException {
+        Buffers buffers = BUFFERS.get();
+        if (buffers.inUse) {
+            // Nested compression streams should not happen but we still handle them safely by using fresh buffers
+            buffers = new Buffers();
+        }
+        buffers.inUse = true;
+        try {
+            return new Lz4BlockOutputStream(out, buffers);
+        } catch (IOException e) {
+            buffers.inUse = false;
+            throw e;
+        }
+    }
+
+    private Lz4BlockOutputStream(OutputStream out, Buffers buffers) throws IOException {
+        this.out = out;
+        this.buffers = buffers;
+        out.write(Compression.Scheme.LZ4_HEADER);
+    }
+
+    static int maxCompressedLength(int length) {
+        return length + length / 255 + 16;
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        ensureOpen();
+        if (position == BLOCK_SIZE) {
+            writeBlock();
+        }
+        buffers.uncompressed[position++] = (byte) b;
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        ensureOpen();
+        while (len > 0) {
+            if (position == BLOCK_SIZE) {
+                writeBlock();
+            }
+            int toCopy = Math.min(len, BLOCK_SIZE - position);
+            System.arraycopy(b, off, buffers.uncompressed, position, toCopy);
+            position += toCopy;
+            off += toCopy;
+            len -= toCopy;
+        }
+    }
+
+    @Override
+    public void flush() throws IOException {
+        ensureOpen();
+        if (position > 0) {
+            writeBlock();
+        }
+        out.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try {
+            if (position > 0) {
+                writeBlock();
+            }
+            byte[] compressed = buffers.compressed;
+            writeInt(compressed, 0, 0);
+            writeInt(compressed, 4, 0);
+            out.write(compressed, 0, BLOCK_HEADER_SIZE);
+            out.close();
+        } finally {
+            buffers.inUse = false;
+        }
+    }
+
+    private void writeBlock() throws IOException {
+        byte[] compressed = buffers.compressed;
+        ByteArrayDataOutput output = new ByteArrayDataOutput(
+            compressed,
+            BLOCK_HEADER_SIZE,
+            compressed.length - BLOCK_HEADER_SIZE
+        );
+        LZ4.compress(buffers.uncompressed, 0, position, output, buffers.hashTable);
+        int compressedLength = output.getPosition() - BLOCK_HEADER_SIZE;
+        writeInt(compressed, 0, position);
+        writeInt(compressed, 4, compressedLength);
+        out.write(compressed, 0, BLOCK_HEADER_SIZE + compressedLength);
+        position = 0;
+    }
+
+    private void ensureOpen() throws IOException {
+        if (closed) {
+            throw new IOException("Stream is already closed");
+        }
+    }
+
+    private static void writeInt(byte[] bytes, int offset, int value) {
+        bytes[offset] = (byte) (value >> 24);
+        bytes[offset + 1] = (byte) (value >> 16);
+        bytes[offset + 2] = (byte) (value >> 8);
+        bytes[offset + 3] = (byte) value;
+    }
+}
@@ -0,0 +1,201 @@
+/*
+ * Licensed to Crate.io GmbH ("Crate") under one or more contributor
+ * license agreements.  See the NOTICE file distributed with this work for
+ * additional information regarding copyright ownership.  Crate licenses
+ * this file to you under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.  You may
+ * obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * However, if you have executed another commercial license agreement
+ * with Crate these terms will supersede the license and you may use the
+ * software solely pursuant to the terms of the relevant commercial agreement.
+ */
+
+package org.elasticsearch.transport;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+
+import org.apache.lucene.store.ByteArrayDataInput;
+import org.apache.lucene.util.BytesRef;
+import org.apache.lucene.util.BytesRefIterator;
+import org.apache.lucene.util.compress.LZ4;
+import org.elasticsearch.common.bytes.BytesArray;
+import org.elasticsearch.common.bytes.BytesReference;
+import org.elasticsearch.common.bytes.ReleasableBytesReference;
+import org.elasticsearch.common.recycler.Recycler;
+import org.elasticsearch.common.util.PageCacheRecycler;
+
+/**
+ * Decompresses streams written by {@link Lz4BlockOutputStream}.
+ *
+ * Blocks can arrive split across several {@link #decompress(BytesReference)} calls,
+ * incomplete blocks are buffered until the remaining bytes arrive.
+ */
+public class Lz4TransportDecompressor implements TransportDecompressor {
+
+    private static final int MAX_COMPRESSED_BLOCK_SIZE = Lz4BlockOutputStream.maxCompressedLength(Lz4BlockOutputStream.BLOCK_SIZE);
+
+    private final PageCacheRecycler recycler;
+    private final ArrayDeque<Recycler.V<byte[]>> pages;
+    private int pageOffset = PageCacheRecycler.BYTE_PAGE_SIZE;
+    private boolean hasReadHeader = false;
+    private boolean isEOS = false;
+
+    private final byte[] blockHeader = new byte[Lz4BlockOutputStream.BLOCK_HEADER_SIZE];
+    // Holds the compressed block while it is incomplete, allocated on demand
+    private byte[] input = BytesRef.EMPTY_BYTES;
+    private int inputOffset = 0;
+    private int decompressedLength = -1;
+    private int compressedLength = -1;
+
+    private byte[] decompressed = BytesRef.EMPTY_BYTES;
+
+    public Lz4TransportDecompressor(PageCacheRecycler recycler) {
+        this.recycler = recycler;
+        this.pages = new ArrayDeque<>(4);
+    }
+
+    @Override
+    public int decompress(BytesReference bytesReference) throws IOException {
+        int bytesConsumed = 0;
+        if (hasReadHeader == false) {
+            if (Compression.Scheme.isLZ4(bytesReference) == false) {
+                throw new IllegalStateException("stream marked as compressed, but is missing the LZ4 header");
+            }
+            hasReadHeader = true;
+            int headerLength = Compression.Scheme.LZ4_HEADER.length;
+            bytesReference = bytesReference.slice(headerLength, bytesReference.length() - headerLength);
+            bytesConsumed += headerLength;
+        }
+
+        BytesRefIterator refIterator = bytesReference.iterator();
+        BytesRef ref;
+        while (isEOS == false && (ref = refIterator.next()) != null) {
+            int offset = ref.offset;
+            int end = ref.offset + ref.length;
+            while (isEOS == false && offset < end) {
+                int consumed = consume(ref.bytes, offset, end - offset);
+                offset += consumed;
+                bytesConsumed += consumed;
+            }
+        }
+        return bytesConsumed;
+    }
+
+    private int consume(byte[] bytes, int offset, int length) throws IOException {
+        if (decompressedLength == -1) {
+            int toCopy = Math.min(length, Lz4BlockOutputStream.BLOCK_HEADER_SIZE - inputOffset);
+            System.arraycopy(bytes, offset, blockHeader, inputOffset, toCopy);
+            inputOffset += toCopy;
+            if (inputOffset == Lz4BlockOutputStream.BLOCK_HEADER_SIZE) {
+                readBlockHeader();
+            }
+            return toCopy;
+        }
+        if (inputOffset == 0 && length >= compressedLength) {
+            // The whole block is available, no need to buffer it
+            decompressBlock(bytes, offset);
+            return compressedLength;
+        }
+        if (input.length < compressedLength) {
+            input = new byte[compressedLength];
+        }
+        int toCopy = Math.min(length, compressedLength - inputOffset);
+        System.arraycopy(bytes, offset, input, inputOffset, toCopy);
+        inputOffset += toCopy;
+        if (inputOffset == compressedLength) {
+            decompressBlock(input, 0);
+        }
+        return toCopy;
+    }
+
+    private void readBlockHeader() throws IOException {
+        inputOffset = 0;
+        int decompressedLength = readInt(blockHeader, 0);
+        int compressedLength = readInt(blockHeader, 4);
+        if (decompressedLength == 0) {
+            isEOS = true;
+            return;
+        }
+        if (decompressedLength < 0 || decompressedLength > Lz4BlockOutputStream.BLOCK_SIZE
+                || compressedLength <= 0 || compressedLength > MAX_COMPRESSED_BLOCK_SIZE) {
+            throw new IOException("Invalid LZ4 block header, decompressed length [" + decompressedLength
+                + "], compressed length [" + compressedLength + "]");
+        }
+        this.decompressedLength = decompressedLength;
+        this.compressedLength = compressedLength;
+    }
+
+    private void decompressBlock(byte[] bytes, int offset) throws IOException {
+        if (decompressed.length < decompressedLength + 7) {
+            // Some slack allows LZ4 to copy matches in chunks of 8 bytes
+            decompressed = new byte[decompressedLength + 7];
+        }
+        LZ4.decompress(new ByteArrayDataInput(bytes, offset, compressedLength), decompressedLength, decompressed, 0);
+        int copied = 0;
+        while (copied < decompressedLength) {
+            final Recycler.V<byte[]> page;
+            if (pageOffset == PageCacheRecycler.BYTE_PAGE_SIZE) {
+                pageOffset = 0;
+                page = recycler.bytePage(false);
+                pages.add(page);
+            } else {
+                page = pages.getLast();
+            }
+            int toCopy = Math.min(decompressedLength - copied, PageCacheRecycler.BYTE_PAGE_SIZE - pageOffset);
+            System.arraycopy(decompressed, copied, page.v(), pageOffset, toCopy);
+            pageOffset += toCopy;
+            copied += toCopy;
+        }
+        inputOffset = 0;
+        decompressedLength = -1;
+        compressedLength = -1;
+    }
+
+    private static int readInt(byte[] bytes, int offset) {
+        return ((bytes[offset] & 0xFF) << 24)
+            | ((bytes[offset + 1] & 0xFF) << 16)
+            | ((bytes[offset + 2] & 0xFF) << 8)
+            | (bytes[offset + 3] & 0xFF);
+    }
+
+    @Override
+    public boolean isEOS() {
+        return isEOS;
+    }
+
+    @Override
+    public ReleasableBytesReference pollDecompressedPage() {
+        if (pages.isEmpty()) {
+            return null;
+        } else if (pages.size() == 1) {
+            if (isEOS()) {
+                Recycler.V<byte[]> page = pages.pollFirst();
+                ReleasableBytesReference reference = new ReleasableBytesReference(new BytesArray(page.v(), 0, pageOffset), page);
+                pageOffset = 0;
+                return reference;
+            } else {
+                return null;
+            }
+        } else {
+            Recycler.V<byte[]> page = pages.pollFirst();
+            return new ReleasableBytesReference(new BytesArray(page.v()), page);
+        }
+    }
+
+    @Override
+    public void close() {
+        for (Recycler.V<byte[]> page : pages) {
+            page.close();
+        }
+    }
+}
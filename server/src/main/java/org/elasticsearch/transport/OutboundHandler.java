@@ -46,6 +46,7 @@ public final class OutboundHandler {
     private final StatsTracker statsTracker;
     private final ThreadPool threadPool;
     private final BigArrays bigArrays;
+    private final Compression.Policy compressionPolicy;
 
     private volatile TransportMessageListener messageListener = TransportMessageListener.NOOP_LISTENER;
 
@@ -54,11 +55,21 @@ public final class OutboundHandler {
                     StatsTracker statsTracker,
                     ThreadPool threadPool,
                     BigArrays bigArrays) {
+        this(nodeName, version, statsTracker, threadPool, bigArrays, Compression.Policy.DEFAULT);
+    }
+
+    OutboundHandler(String nodeName,
+                    Version version,
+                    StatsTracker statsTracker,
+                    ThreadPool threadPool,
+                    BigArrays bigArrays,
+                    Compression.Policy compressionPolicy) {
         this.nodeName = nodeName;
         this.version = version;
         this.statsTracker = statsTracker;
         this.threadPool = threadPool;
         this.bigArrays = bigArrays;
+        this.compressionPolicy = compressionPolicy;
     }
 
     ChannelFuture sendBytes(CloseableChannel channel, byte[] bytes) {
@@ -99,7 +110,8 @@ public final class OutboundHandler {
             action,
             requestId,
             isHandshake,
-            compressRequest
+            compressionPolicy.scheme(action, compressRequest, version),
+            compressionPolicy.minSize()
         );
         ChannelFuture future = sendMessage(channel, message);
         future.addListener(f -> messageListener.onRequestSent(node, requestId, action, request, options));
@@ -123,7 +135,8 @@ public final class OutboundHandler {
             version,
             requestId,
             isHandshake,
-            compress
+            compressionPolicy.scheme(action, compress, version),
+            compressionPolicy.minSize()
         );
         ChannelFuture future = sendMessage(channel, message);
         future.addListener(f -> messageListener.onResponseSent(requestId, action, response));
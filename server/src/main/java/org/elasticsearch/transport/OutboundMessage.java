@@ -30,6 +30,7 @@ import org.elasticsearch.common.io.stream.BytesStreamOutput;
 import org.elasticsearch.common.io.stream.StreamOutput;
 import org.elasticsearch.common.io.stream.Writeable;
 import org.elasticsearch.common.util.concurrent.ThreadContext;
+import org.jetbrains.annotations.Nullable;
 
 abstract class OutboundMessage {
 
@@ -37,12 +38,22 @@ abstract class OutboundMessage {
     protected final Version version;
     protected final long requestId;
     protected final byte status;
-
-    OutboundMessage(Version version, byte status, long requestId, Writeable message) {
+    @Nullable
+    private final Compression.Scheme compressionScheme;
+    private final long compressionMinSize;
+
+    OutboundMessage(Version version,
+                    byte status,
+                    long requestId,
+                    Writeable message,
+                    @Nullable Compression.Scheme compressionScheme,
+                    long compressionMinSize) {
         this.version = version;
         this.status = status;
         this.requestId = requestId;
         this.message = message;
+        this.compressionScheme = compressionScheme;
+        this.compressionMinSize = compressionMinSize;
     }
 
     BytesReference serialize(BytesStreamOutput bytesStream) throws IOException {
@@ -59,12 +70,34 @@ abstract class OutboundMessage {
             variableHeaderLength = Math.toIntExact(bytesStream.position() - preHeaderPosition);
         }
 
-        try (CompressibleBytesOutputStream stream = new CompressibleBytesOutputStream(bytesStream, TransportStatus.isCompress(status))) {
-            stream.setVersion(version);
-            if (variableHeaderLength == -1) {
-                writeVariableHeader(stream);
+        byte status = this.status;
+        if (TransportStatus.isCompress(status) && compressionMinSize > 0 && variableHeaderLength != -1) {
+            // Write the message uncompressed first, small messages aren't worth the compression overhead
+            final long messageStart = bytesStream.position();
+            try (CompressibleBytesOutputStream stream = new CompressibleBytesOutputStream(bytesStream, null)) {
+                stream.setVersion(version);
+                reference = writeMessage(stream);
+            }
+            final int messageSize = Math.toIntExact(bytesStream.position() - messageStart);
+            if (messageSize < compressionMinSize) {
+                status = TransportStatus.setUncompress(status);
+            } else {
+                byte[] uncompressed = BytesReference.toBytes(reference.slice((int) messageStart, messageSize));
+                bytesStream.seek(messageStart);
+                try (CompressibleBytesOutputStream stream = new CompressibleBytesOutputStream(bytesStream, compressionScheme)) {
+                    stream.writeBytes(uncompressed);
+                    reference = stream.materializeBytes();
+                }
+            }
+        } else {
+            Compression.Scheme scheme = TransportStatus.isCompress(status) ? compressionScheme : null;
+            try (CompressibleBytesOutputStream stream = new CompressibleBytesOutputStream(bytesStream, scheme)) {
+                stream.setVersion(version);
+                if (variableHeaderLength == -1) {
+                    writeVariableHeader(stream);
+                }
+                reference = writeMessage(stream);
             }
-            reference = writeMessage(stream);
         }
 
         bytesStream.seek(0);
@@ -113,7 +146,24 @@ abstract class OutboundMessage {
                 long requestId,
                 boolean isHandshake,
                 boolean compress) {
-            super(version, setStatus(compress, isHandshake, message), requestId, message);
+            this(message, version, action, requestId, isHandshake, compress ? Compression.Scheme.DEFLATE : null, 0L);
+        }
+
+        Request(Writeable message,
+                Version version,
+                String action,
+                long requestId,
+                boolean isHandshake,
+                @Nullable Compression.Scheme compressionScheme,
+                long compressionMinSize) {
+            super(
+                version,
+                setStatus(compressionScheme != null, isHandshake, message),
+                requestId,
+                message,
+                compressionScheme,
+                compressionMinSize
+            );
             this.action = action;
         }
 
@@ -148,7 +198,23 @@ abstract class OutboundMessage {
                  long requestId,
                  boolean isHandshake,
                  boolean compress) {
-            super(version, setStatus(compress, isHandshake, message), requestId, message);
+            this(message, version, requestId, isHandshake, compress ? Compression.Scheme.DEFLATE : null, 0L);
+        }
+
+        Response(Writeable message,
+                 Version version,
+                 long requestId,
+                 boolean isHandshake,
+                 @Nullable Compression.Scheme compressionScheme,
+                 long compressionMinSize) {
+            super(
+                version,
+                setStatus(compressionScheme != null, isHandshake, message),
+                requestId,
+                message,
+                compressionScheme,
+                compressionMinSize
+            );
         }
 
         private static byte setStatus(boolean compress, boolean isHandshake, Writeable message) {
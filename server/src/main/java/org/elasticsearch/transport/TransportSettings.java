@@ -62,6 +62,18 @@ public final class TransportSettings {
         boolSetting("transport.tcp.compress", false, Setting.Property.NodeScope);
     public static final Setting<Boolean> TRANSPORT_COMPRESS =
         boolSetting("transport.compress", OLD_TRANSPORT_COMPRESS, Setting.Property.NodeScope);
+    public static final Setting<Compression.Scheme> TRANSPORT_COMPRESSION_SCHEME = new Setting<>(
+        "transport.compression_scheme",
+        "deflate",
+        Compression.Scheme::of,
+        DataTypes.STRING,
+        Setting.Property.NodeScope
+    );
+    // actions compressed independent of transport.compress
+    public static final Setting<List<String>> TRANSPORT_COMPRESS_ACTIONS =
+        listSetting("transport.compress.actions", emptyList(), Function.identity(), STRING_ARRAY, Setting.Property.NodeScope);
+    public static final Setting<ByteSizeValue> TRANSPORT_COMPRESS_MIN_SIZE =
+        Setting.byteSizeSetting("transport.compress.min_size", ByteSizeValue.ZERO, Setting.Property.NodeScope);
     // the scheduled internal ping interval setting, defaults to disabled (-1)
     public static final Setting<TimeValue> PING_SCHEDULE =
         timeSetting("transport.ping_schedule", TimeValue.timeValueSeconds(-1), Setting.Property.NodeScope);
@@ -240,6 +240,27 @@ public class AlterTableDropColumnAnalyzerTest extends CrateDummyClusterServiceUn
             .hasMessage("Dropping column: o['oo']['ooa'] which is used in 'CLUSTERED BY' is not allowed");
     }
 
+    @Test
+    public void test_drop_sort_by_column_is_not_allowed() throws Exception {
+        e = SQLExecutor.of(clusterService)
+            .addTable("CREATE TABLE t1 (a int, b int) WITH (sort_by = 'a DESC')")
+            .addTable("CREATE TABLE t2 (o object AS(oo object AS(ooa int)), b int) WITH (sort_by = 'o.oo.ooa')");
+
+        assertThatThrownBy(() -> e.analyze("ALTER TABLE t1 DROP COLUMN a"))
+            .isExactlyInstanceOf(UnsupportedOperationException.class)
+            .hasMessage("Dropping column: a which is used in 'sort_by' is not allowed");
+
+        assertThatThrownBy(() -> e.analyze("ALTER TABLE t2 DROP COLUMN o['oo']['ooa']"))
+            .isExactlyInstanceOf(UnsupportedOperationException.class)
+            .hasMessage("Dropping column: o['oo']['ooa'] which is used in 'sort_by' is not allowed");
+        assertThatThrownBy(() -> e.analyze("ALTER TABLE t2 DROP COLUMN o"))
+            .isExactlyInstanceOf(UnsupportedOperationException.class)
+            .hasMessage("Dropping column: o which is used in 'sort_by' is not allowed");
+
+        AnalyzedAlterTableDropColumn analyzed = e.analyze("ALTER TABLE t1 DROP COLUMN b");
+        assertThat(analyzed.columns()).hasSize(1);
+    }
+
     @Test
     public void test_drop_column_from_single_partition_is_not_allowed() throws Exception {
         e = SQLExecutor.of(clusterService)
@@ -116,6 +116,25 @@ public class AlterTableRenameColumnAnalyzerTest extends CrateDummyClusterService
             .hasMessage("Cannot rename column to a name that is in use");
     }
 
+    @Test
+    public void test_cannot_rename_sort_by_column() throws IOException {
+        e = SQLExecutor.of(clusterService)
+            .addTable("create table t (a int, o object as (x int), b int) with (sort_by = 'a, o.x DESC')");
+
+        assertThatThrownBy(() -> e.analyze("alter table t rename column a to c"))
+            .isExactlyInstanceOf(UnsupportedOperationException.class)
+            .hasMessage("Renaming column: a which is used in 'sort_by' is not allowed");
+        assertThatThrownBy(() -> e.analyze("alter table t rename column o['x'] to o['y']"))
+            .isExactlyInstanceOf(UnsupportedOperationException.class)
+            .hasMessage("Renaming column: o['x'] which is used in 'sort_by' is not allowed");
+        assertThatThrownBy(() -> e.analyze("alter table t rename column o to p"))
+            .isExactlyInstanceOf(UnsupportedOperationException.class)
+            .hasMessage("Renaming column: o which is used in 'sort_by' is not allowed");
+
+        AnalyzedAlterTableRenameColumn analyzed = e.analyze("alter table t rename column b to c");
+        assertThat(analyzed.newName()).isEqualTo(ColumnIdent.of("c"));
+    }
+
     @Test
     public void test_cannot_rename_column_from_single_partition() throws Exception {
         e = SQLExecutor.of(clusterService)
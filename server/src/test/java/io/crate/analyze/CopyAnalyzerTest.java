@@ -339,6 +339,18 @@ public class CopyAnalyzerTest extends CrateDummyClusterServiceUnitTest {
             .hasMessage("Output format not supported without specifying columns.");
     }
 
+    @Test
+    public void test_copy_to_csv_requires_columns() throws Exception {
+        assertThatThrownBy(() -> analyze("COPY users TO DIRECTORY '/blah' WITH (format='csv')"))
+            .isExactlyInstanceOf(UnsupportedFeatureException.class)
+            .hasMessage("Output format not supported without specifying columns.");
+
+        BoundCopyTo analysis = analyze(
+            "COPY users (id, name) TO DIRECTORY '/blah' WITH (format='csv', delimiter='|', header=false)");
+        assertThat(analysis.outputFormat()).isEqualTo(WriterProjection.OutputFormat.CSV);
+        assertThat(analysis.outputNames()).containsExactly("id", "name");
+    }
+
     @Test
     public void testCopyFromWithReferenceAssignedToProperty() throws Exception {
         assertThatThrownBy(() -> analyze("COPY users FROM '/blah.txt' with (compression = gzip)"))
@@ -30,6 +30,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.elasticsearch.cluster.metadata.IndexMetadata.INDEX_ROUTING_EXCLUDE_GROUP_SETTING;
 import static org.elasticsearch.index.engine.EngineConfig.INDEX_CODEC_SETTING;
+import static org.mockito.Mockito.mock;
 
 import java.io.IOException;
 import java.util.Arrays;
@@ -38,6 +39,8 @@ import java.util.Locale;
 import java.util.Map;
 
 import org.assertj.core.api.InstanceOfAssertFactories;
+import org.elasticsearch.Version;
+import org.elasticsearch.client.node.NodeClient;
 import org.elasticsearch.cluster.ClusterName;
 import org.elasticsearch.cluster.ClusterState;
 import org.elasticsearch.cluster.metadata.AutoExpandReplicas;
@@ -64,6 +67,8 @@ import io.crate.exceptions.InvalidSchemaNameException;
 import io.crate.exceptions.OperationOnInaccessibleRelationException;
 import io.crate.exceptions.UnsupportedFeatureException;
 import io.crate.exceptions.UnsupportedFunctionException;
+import io.crate.execution.ddl.tables.CreateTableClient;
+import io.crate.execution.engine.sort.IndexSort;
 import io.crate.metadata.ColumnIdent;
 import io.crate.metadata.CoordinatorTxnCtx;
 import io.crate.metadata.FulltextAnalyzerResolver;
@@ -388,6 +393,38 @@ public class CreateAlterTableStatementAnalyzerTest extends CrateDummyClusterServ
             .isEqualTo("43");
     }
 
+    @Test
+    public void test_binary_translog_format_requires_all_nodes_on_6_0() {
+        BoundCreateTable analysis = analyze("create table foo (x int) with (\"translog.format\" = 'binary')");
+        assertThat(analysis.settings().get(IndexSettings.INDEX_TRANSLOG_FORMAT_SETTING.getKey())).isEqualTo("binary");
+
+        CreateTableClient createTableClient = new CreateTableClient(mock(NodeClient.class));
+        assertThatThrownBy(() -> createTableClient.create(analysis, Version.V_5_10_5))
+            .isExactlyInstanceOf(UnsupportedOperationException.class)
+            .hasMessage("All nodes in the cluster must at least have version 6.0.0 to use \"translog.format\" = 'binary'");
+    }
+
+    @Test
+    public void test_create_table_with_sort_by_setting() {
+        BoundCreateTable analysis = analyze(
+            "create table foo (ts timestamp, x int) with (sort_by = 'ts DESC, x')");
+        assertThat(analysis.settings().get(IndexSort.SORT_BY.getKey())).isEqualTo("ts DESC, x");
+    }
+
+    @Test
+    public void test_create_table_with_sort_by_on_unknown_column_fails() {
+        assertThatThrownBy(() -> analyze("create table foo (ts timestamp) with (sort_by = 'y')"))
+            .isExactlyInstanceOf(IllegalArgumentException.class)
+            .hasMessage("Column `y` used in 'sort_by' does not exist");
+    }
+
+    @Test
+    public void test_create_table_with_sort_by_on_object_column_fails() {
+        assertThatThrownBy(() -> analyze("create table foo (o object) with (sort_by = 'o')"))
+            .isExactlyInstanceOf(IllegalArgumentException.class)
+            .hasMessageStartingWith("Column `o` of type `object` cannot be used in 'sort_by'");
+    }
+
     @Test
     public void testCreateTableWithClusteredBy() {
         BoundCreateTable analysis = analyze(
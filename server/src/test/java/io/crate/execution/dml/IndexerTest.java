@@ -33,6 +33,7 @@ import static io.crate.types.GeoShapeType.Names.TREE_QUADTREE;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.elasticsearch.cluster.metadata.Metadata.COLUMN_OID_UNASSIGNED;
 
+import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
@@ -57,6 +58,7 @@ import org.elasticsearch.common.Strings;
 import org.elasticsearch.common.bytes.BytesReference;
 import org.elasticsearch.common.settings.Settings;
 import org.elasticsearch.common.xcontent.XContentBuilder;
+import org.elasticsearch.common.xcontent.XContentType;
 import org.elasticsearch.common.xcontent.json.JsonXContent;
 import org.elasticsearch.index.mapper.ParsedDocument;
 import org.junit.Ignore;
@@ -81,6 +83,7 @@ import io.crate.metadata.RelationName;
 import io.crate.metadata.RowGranularity;
 import io.crate.metadata.doc.DocTableInfo;
 import io.crate.metadata.doc.DocTableInfoFactory;
+import io.crate.server.xcontent.XContentHelper;
 import io.crate.sql.tree.BitString;
 import io.crate.test.integration.CrateDummyClusterServiceUnitTest;
 import io.crate.testing.DataTypeTesting;
@@ -1433,6 +1436,31 @@ public class IndexerTest extends CrateDummyClusterServiceUnitTest {
         assertTranslogParses(doc, e.resolveTableInfo(tableName));
     }
 
+    @Test
+    public void test_binary_translog_format_writes_smile_which_translog_indexer_can_read() throws Exception {
+        SQLExecutor e = SQLExecutor.of(clusterService)
+            .addTable("""
+                create table tbl (
+                    i int,
+                    o object as (x bigint, s text),
+                    arr array(double)
+                ) with ("translog.format" = 'binary')
+                """);
+        DocTableInfo table = e.resolveTableInfo("tbl");
+        Indexer indexer = getIndexer(e, "tbl", "i", "o", "arr");
+
+        ParsedDocument doc = indexer.index(item(1, Map.of("x", 20L, "s", "foo"), List.of(1.5, 2.5)));
+        try (InputStream input = doc.source().streamInput()) {
+            assertThat(XContentHelper.sourceContentType(input)).isEqualTo(XContentType.SMILE);
+        }
+        assertTranslogParses(doc, table);
+        assertThat(XContentHelper.sourceToJson(doc.source())).isEqualToIgnoringWhitespace(
+            """
+            {"1":1,"2":{"3":20,"4":"foo"},"5":[1.5,2.5]}
+            """
+        );
+    }
+
     @Test
     public void test_indexing_geo_shape_results_in_same_fields_as_document_mapper() throws Exception {
         var sqlExecutor = SQLExecutor.of(clusterService);
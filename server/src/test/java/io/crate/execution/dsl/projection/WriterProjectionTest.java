@@ -24,6 +24,7 @@ package io.crate.execution.dsl.projection;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import java.util.List;
+import java.util.Map;
 
 import org.elasticsearch.Version;
 import org.elasticsearch.common.io.stream.BytesStreamOutput;
@@ -97,4 +98,24 @@ public class WriterProjectionTest extends ESTestCase {
 
         assertThat(actual).isEqualTo(expected);
     }
+
+    @Test
+    public void test_csv_output_format_is_streamed() throws Exception {
+        WriterProjection p = new WriterProjection(
+            List.of(new InputColumn(1)),
+            Literal.of("/foo.csv"),
+            null,
+            Map.of(),
+            List.of("foo"),
+            WriterProjection.OutputFormat.CSV,
+            Settings.EMPTY
+        );
+
+        BytesStreamOutput out = new BytesStreamOutput();
+        out.setVersion(Version.V_6_0_0);
+        Projection.toStream(p, out);
+        StreamInput in = out.bytes().streamInput();
+        in.setVersion(Version.V_6_0_0);
+        assertThat(Projection.fromStream(in)).isEqualTo(p);
+    }
 }
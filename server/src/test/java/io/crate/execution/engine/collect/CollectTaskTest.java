@@ -32,15 +32,18 @@ import static org.mockito.Mockito.when;
 
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
 
 import org.apache.lucene.search.IndexSearcher;
 import org.elasticsearch.Version;
 import org.elasticsearch.common.Priority;
+import org.elasticsearch.common.util.concurrent.PrioritizedRunnable;
 import org.elasticsearch.test.ESTestCase;
 import org.elasticsearch.threadpool.ThreadPool;
 import org.junit.Before;
 import org.junit.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 import org.mockito.stubbing.Answer;
 
@@ -85,7 +88,7 @@ public class CollectTaskTest extends ESTestCase {
                 runnable.run();
                 return null;
             })
-            .when(collectOperation).launch(Mockito.any(), Mockito.anyString());
+            .when(collectOperation).launch(Mockito.any(), Mockito.anyString(), Mockito.any());
         consumer = new TestingRowConsumer();
         collectTask = new CollectTask(
             collectPhase,
@@ -122,6 +125,24 @@ public class CollectTaskTest extends ESTestCase {
         assertThat(threadPoolExecutorName).isEqualTo(ThreadPool.Names.SEARCH);
     }
 
+    @Test
+    public void test_time_sliced_iterator_resumes_on_search_thread_pool_with_task_priority() throws Exception {
+        when(collectPhase.name()).thenReturn("collect");
+        BatchIterator<Row> source = InMemoryBatchIterator.empty(SentinelRow.SENTINEL);
+        when(collectOperation.timeSliced(Mockito.any(), Mockito.any())).thenAnswer(invocation -> {
+            Executor resumeExecutor = invocation.getArgument(1);
+            resumeExecutor.execute(() -> {});
+            return invocation.getArgument(0);
+        });
+
+        assertThat(collectTask.timeSliced(source)).isSameAs(source);
+
+        ArgumentCaptor<PrioritizedRunnable> runnable = ArgumentCaptor.forClass(PrioritizedRunnable.class);
+        verify(collectOperation).launch(runnable.capture(), Mockito.eq(ThreadPool.Names.SEARCH), Mockito.any());
+        assertThat(runnable.getValue().priority()).isEqualTo(Priority.LOW);
+        assertThat(runnable.getValue().source()).isEqualTo("collect");
+    }
+
     @Test
     public void test_collect_on_user_table_uses_normal_priority() throws Exception {
         Priority priority = CollectTask.getPriority(collectPhase);
@@ -37,6 +37,7 @@ import java.util.List;
 import java.util.UUID;
 import java.util.concurrent.TimeUnit;
 
+import org.elasticsearch.common.settings.ClusterSettings;
 import org.elasticsearch.common.settings.Settings;
 import org.junit.Rule;
 import org.junit.Test;
@@ -44,10 +45,15 @@ import org.junit.rules.TemporaryFolder;
 
 import io.crate.analyze.CopyFromParserProperties;
 import io.crate.data.BatchIterator;
+import io.crate.data.InMemoryBatchIterator;
 import io.crate.data.Row;
+import io.crate.data.SentinelRow;
+import io.crate.data.TimeSlicedBatchIterator;
 import io.crate.data.testing.TestingRowConsumer;
 import io.crate.execution.dsl.phases.FileUriCollectPhase;
+import io.crate.execution.engine.collect.sources.CollectSourceResolver;
 import io.crate.execution.engine.collect.sources.FileCollectSource;
+import io.crate.execution.jobs.ResourceGroups;
 import io.crate.expression.symbol.Literal;
 import io.crate.metadata.ColumnIdent;
 import io.crate.metadata.CoordinatorTxnCtx;
@@ -105,4 +111,23 @@ public class MapSideDataCollectOperationTest extends CrateDummyClusterServiceUni
             new Object[] { "Trillian", 33}
         );
     }
+
+    @Test
+    public void test_time_slice_setting_is_applied_on_update() throws Exception {
+        ClusterSettings clusterSettings = clusterService.getClusterSettings();
+        MapSideDataCollectOperation collectOperation = new MapSideDataCollectOperation(
+            mock(CollectSourceResolver.class),
+            THREAD_POOL,
+            new ResourceGroups(Settings.EMPTY, clusterSettings, THREAD_POOL),
+            clusterSettings
+        );
+        BatchIterator<Row> source = InMemoryBatchIterator.empty(SentinelRow.SENTINEL);
+        assertThat(collectOperation.timeSliced(source, Runnable::run)).isExactlyInstanceOf(TimeSlicedBatchIterator.class);
+
+        clusterSettings.applySettings(Settings.builder().put("workload.time_slice", "0s").build());
+        assertThat(collectOperation.timeSliced(source, Runnable::run)).isSameAs(source);
+
+        clusterSettings.applySettings(Settings.builder().put("workload.time_slice", "50ms").build());
+        assertThat(collectOperation.timeSliced(source, Runnable::run)).isExactlyInstanceOf(TimeSlicedBatchIterator.class);
+    }
 }
@@ -0,0 +1,115 @@
+/*
+ * Licensed to Crate.io GmbH ("Crate") under one or more contributor
+ * license agreements.  See the NOTICE file distributed with this work for
+ * additional information regarding copyright ownership.  Crate licenses
+ * this file to you under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.  You may
+ * obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * However, if you have executed another commercial license agreement
+ * with Crate these terms will supersede the license and you may use the
+ * software solely pursuant to the terms of the relevant commercial agreement.
+ */
+
+
+package io.crate.execution.engine.collect;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.elasticsearch.index.seqno.SequenceNumbers.UNASSIGNED_PRIMARY_TERM;
+import static org.elasticsearch.index.seqno.SequenceNumbers.UNASSIGNED_SEQ_NO;
+import static org.mockito.Mockito.mock;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.SequencedSet;
+import java.util.UUID;
+
+import org.elasticsearch.common.lucene.uid.Versions;
+import org.elasticsearch.index.shard.ShardId;
+import org.elasticsearch.indices.IndicesService;
+import org.elasticsearch.test.IntegTestCase;
+import org.junit.Test;
+
+import io.crate.data.BatchIterator;
+import io.crate.data.Row;
+import io.crate.data.breaker.RamAccounting;
+import io.crate.execution.engine.collect.sources.ShardCollectSource;
+import io.crate.metadata.ColumnIdent;
+import io.crate.metadata.CoordinatorTxnCtx;
+import io.crate.metadata.NodeContext;
+import io.crate.metadata.RelationName;
+import io.crate.metadata.doc.DocTableInfo;
+import io.crate.planner.operators.PKAndVersion;
+import io.crate.testing.UseRandomizedSchema;
+
+@IntegTestCase.ClusterScope(numDataNodes = 1)
+@UseRandomizedSchema(random = false)
+public class PKLookupOperationTest extends IntegTestCase {
+
+    @Test
+    public void test_rows_can_be_consumed_after_the_segments_of_the_lookup_are_merged() throws Exception {
+        execute("create table t (id int primary key, name text) " +
+                "clustered into 1 shards with (number_of_replicas = 0)");
+        SequencedSet<PKAndVersion> keys = new LinkedHashSet<>();
+        for (int i = 1; i <= 3; i++) {
+            execute("insert into t (id, name) values (?, ?)", new Object[] {i, "name-" + i});
+            execute("refresh table t");
+            keys.add(new PKAndVersion(String.valueOf(i), Versions.MATCH_ANY, UNASSIGNED_SEQ_NO, UNASSIGNED_PRIMARY_TERM));
+        }
+        DocTableInfo table = cluster().getDataNodeInstance(NodeContext.class).schemas()
+            .getTableInfo(new RelationName("doc", "t"));
+        PKLookupOperation pkLookupOperation = new PKLookupOperation(
+            cluster().getDataNodeInstance(IndicesService.class),
+            mock(ShardCollectSource.class)
+        );
+
+        BatchIterator<Row> it = pkLookupOperation.lookup(
+            UUID.randomUUID(),
+            CoordinatorTxnCtx.systemTransactionContext(),
+            () -> RamAccounting.NO_ACCOUNTING,
+            () -> null,
+            false,
+            Map.of(new ShardId(resolveIndex("t"), 0), keys),
+            List.of(),
+            false,
+            // Reads the source only when the row is accessed
+            doc -> new Row() {
+
+                @Override
+                public int numColumns() {
+                    return 1;
+                }
+
+                @Override
+                public Object get(int index) {
+                    return doc.getSource().get("name");
+                }
+            },
+            table,
+            List.of(table.getReference(ColumnIdent.of("name")))
+        );
+        List<Object> names = new ArrayList<>();
+        assertThat(it.moveNext()).isTrue();
+        names.add(it.currentElement().get(0));
+
+        // Closes the segment readers used by the lookup
+        execute("optimize table t with (max_num_segments = 1)");
+        execute("refresh table t");
+
+        while (it.moveNext()) {
+            names.add(it.currentElement().get(0));
+        }
+        it.close();
+        assertThat(names).containsExactly("name-1", "name-2", "name-3");
+    }
+}
@@ -41,12 +41,14 @@ import java.net.URI;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Supplier;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import org.elasticsearch.common.settings.Settings;
@@ -327,4 +329,70 @@ public class FileReadingIteratorTest extends ESTestCase {
                 assertThat(fi.currentElement().line()).isEqualTo("4");
             });
     }
+
+    @Test
+    public void test_large_file_on_shared_storage_is_split_across_readers() throws Exception {
+        Path tempFile = createTempFile("tempfile", ".json");
+        List<String> lines = IntStream.range(0, 100)
+            .mapToObj(i -> "{\"id\": " + i + "}")
+            .toList();
+        Files.write(tempFile, lines);
+        List<URI> fileUris = List.of(FileReadingIterator.toURI(tempFile.toUri().toString()));
+        Settings options = Settings.builder().put("split_size", "64b").build();
+
+        int numReaders = 3;
+        List<String> allLines = new ArrayList<>();
+        for (int readerNumber = 0; readerNumber < numReaders; readerNumber++) {
+            var fi = new FileReadingIterator(
+                fileUris,
+                null,
+                Map.of(LocalFsFileInputFactory.NAME, new LocalFsFileInputFactory()),
+                true,
+                numReaders,
+                readerNumber,
+                options,
+                THREAD_POOL.scheduler()
+            );
+            List<String> readerLines = new ArrayList<>();
+            while (fi.moveNext()) {
+                readerLines.add(fi.currentElement().line());
+            }
+            fi.close();
+            assertThat(readerLines).isNotEmpty();
+            allLines.addAll(readerLines);
+        }
+        assertThat(allLines).containsExactlyInAnyOrderElementsOf(lines);
+    }
+
+    @Test
+    public void test_csv_file_with_header_is_not_split() throws Exception {
+        Path tempFile = createTempFile("tempfile", ".csv");
+        List<String> lines = List.of("id", "1", "2", "3", "4", "5", "6");
+        Files.write(tempFile, lines);
+        List<URI> fileUris = List.of(FileReadingIterator.toURI(tempFile.toUri().toString()));
+
+        int readersWithLines = 0;
+        for (int readerNumber = 0; readerNumber < 2; readerNumber++) {
+            var fi = new FileReadingIterator(
+                fileUris,
+                null,
+                Map.of(LocalFsFileInputFactory.NAME, new LocalFsFileInputFactory()),
+                true,
+                2,
+                readerNumber,
+                Settings.builder().put("split_size", "2b").build(),
+                THREAD_POOL.scheduler()
+            );
+            List<String> readerLines = new ArrayList<>();
+            while (fi.moveNext()) {
+                readerLines.add(fi.currentElement().line());
+            }
+            fi.close();
+            if (readerLines.isEmpty() == false) {
+                readersWithLines++;
+                assertThat(readerLines).isEqualTo(lines);
+            }
+        }
+        assertThat(readersWithLines).isEqualTo(1);
+    }
 }
@@ -0,0 +1,89 @@
+/*
+ * Licensed to Crate.io GmbH ("Crate") under one or more contributor
+ * license agreements.  See the NOTICE file distributed with this work for
+ * additional information regarding copyright ownership.  Crate licenses
+ * this file to you under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.  You may
+ * obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * However, if you have executed another commercial license agreement
+ * with Crate these terms will supersede the license and you may use the
+ * software solely pursuant to the terms of the relevant commercial agreement.
+ */
+
+package io.crate.execution.engine.collect.files;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.elasticsearch.test.ESTestCase;
+import org.junit.Test;
+
+public class SplitInputStreamTest extends ESTestCase {
+
+    private static List<String> readSplits(byte[] content, int splitSize) throws IOException {
+        List<String> lines = new ArrayList<>();
+        for (int start = 0; start < content.length; start += splitSize) {
+            int end = Math.min(start + splitSize, content.length);
+            InputStream in = new ByteArrayInputStream(content);
+            in.skipNBytes(Math.max(0, start - 1));
+            try (var split = new SplitInputStream(in, start, end)) {
+                String text = new String(split.readAllBytes(), StandardCharsets.UTF_8);
+                for (String line : text.split("\n")) {
+                    if (line.isEmpty() == false) {
+                        lines.add(line);
+                    }
+                }
+            }
+        }
+        return lines;
+    }
+
+    @Test
+    public void test_every_line_is_read_by_exactly_one_split() throws Exception {
+        List<String> lines = List.of("a", "bb", "", "ccc", "dddd", "eeeee", "f");
+        byte[] content = (String.join("\n", lines) + "\n").getBytes(StandardCharsets.UTF_8);
+        for (int splitSize = 1; splitSize <= content.length; splitSize++) {
+            assertThat(readSplits(content, splitSize))
+                .as("splitSize=" + splitSize)
+                .isEqualTo(lines.stream().filter(l -> l.isEmpty() == false).toList());
+        }
+    }
+
+    @Test
+    public void test_last_line_without_trailing_newline_is_read() throws Exception {
+        byte[] content = "a\nbb\nccc".getBytes(StandardCharsets.UTF_8);
+        for (int splitSize = 1; splitSize <= content.length; splitSize++) {
+            assertThat(readSplits(content, splitSize))
+                .as("splitSize=" + splitSize)
+                .containsExactly("a", "bb", "ccc");
+        }
+    }
+
+    @Test
+    public void test_single_byte_reads_stop_at_end_of_line() throws Exception {
+        byte[] content = "aaa\nbbb\n".getBytes(StandardCharsets.UTF_8);
+        try (var split = new SplitInputStream(new ByteArrayInputStream(content), 0, 2)) {
+            StringBuilder sb = new StringBuilder();
+            int b;
+            while ((b = split.read()) != -1) {
+                sb.append((char) b);
+            }
+            assertThat(sb.toString()).isEqualTo("aaa\n");
+        }
+    }
+}
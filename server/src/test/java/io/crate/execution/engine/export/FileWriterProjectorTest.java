@@ -27,6 +27,7 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
@@ -45,10 +46,12 @@ import org.junit.rules.TemporaryFolder;
 import io.crate.data.BatchIterator;
 import io.crate.data.InMemoryBatchIterator;
 import io.crate.data.Row;
+import io.crate.data.RowN;
 import io.crate.data.testing.RowGenerator;
 import io.crate.data.testing.TestingRowConsumer;
 import io.crate.exceptions.UnhandledServerException;
 import io.crate.execution.dsl.projection.WriterProjection;
+import io.crate.execution.engine.collect.RowCollectExpression;
 import io.crate.testing.TestingHelpers;
 
 public class FileWriterProjectorTest extends ESTestCase {
@@ -109,4 +112,33 @@ public class FileWriterProjectorTest extends ESTestCase {
             .isExactlyInstanceOf(UnhandledServerException.class)
             .hasMessageStartingWith("Failed to open output");
     }
+
+    @Test
+    public void test_write_csv_to_file_quotes_values_and_writes_header() throws Exception {
+        Path file = createTempFile("out", "csv");
+        RowCollectExpression id = new RowCollectExpression(0);
+        RowCollectExpression text = new RowCollectExpression(1);
+        RowCollectExpression obj = new RowCollectExpression(2);
+        FileWriterProjector fileWriterProjector = new FileWriterProjector(
+            executorService,
+            file.toUri().toString(),
+            null,
+            List.of(id, text, obj),
+            List.of(id, text, obj),
+            List.of("id", "text", "obj"),
+            WriterProjection.OutputFormat.CSV,
+            Map.of(LocalFsFileOutputFactory.NAME, new LocalFsFileOutputFactory()),
+            Settings.EMPTY);
+
+        BatchIterator<Row> source = InMemoryBatchIterator.of(List.of(
+            new RowN(1, "a,b", null),
+            new RowN(2, "say \"hi\"", Map.of("x", 1))
+        ), SENTINEL, true);
+        new TestingRowConsumer().accept(fileWriterProjector.apply(source), null);
+
+        assertThat(TestingHelpers.readFile(file.toAbsolutePath().toString())).isEqualTo(
+            "id,text,obj\n" +
+            "1,\"a,b\",\n" +
+            "2,\"say \"\"hi\"\"\",\"{\"\"x\"\":1}\"");
+    }
 }
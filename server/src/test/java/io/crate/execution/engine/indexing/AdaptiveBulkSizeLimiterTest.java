@@ -0,0 +1,91 @@
+/*
+ * Licensed to Crate.io GmbH ("Crate") under one or more contributor
+ * license agreements.  See the NOTICE file distributed with this work for
+ * additional information regarding copyright ownership.  Crate licenses
+ * this file to you under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.  You may
+ * obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * However, if you have executed another commercial license agreement
+ * with Crate these terms will supersede the license and you may use the
+ * software solely pursuant to the terms of the relevant commercial agreement.
+ */
+
+package io.crate.execution.engine.indexing;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.UUID;
+
+import org.elasticsearch.common.settings.ClusterSettings;
+import org.elasticsearch.common.settings.Settings;
+import org.elasticsearch.index.shard.ShardId;
+import org.elasticsearch.test.ESTestCase;
+import org.junit.Before;
+import org.junit.Test;
+
+import io.crate.common.concurrent.ConcurrencyLimit;
+import io.crate.data.breaker.RamAccounting;
+import io.crate.execution.dml.delete.ShardDeleteRequest;
+import io.crate.execution.jobs.NodeLimits;
+
+public class AdaptiveBulkSizeLimiterTest extends ESTestCase {
+
+    private final NodeLimits nodeLimits = new NodeLimits(
+        new ClusterSettings(Settings.EMPTY, ClusterSettings.BUILT_IN_CLUSTER_SETTINGS));
+    private final ShardLocation shardLocation = new ShardLocation(new ShardId("tbl", "_na_", 0), "n1");
+    private ShardedRequests<ShardDeleteRequest, ShardDeleteRequest.Item> shardedRequests;
+
+    @Before
+    public void setup() {
+        UUID jobId = UUID.randomUUID();
+        shardedRequests = new ShardedRequests<>(
+            shardId -> new ShardDeleteRequest(shardId, jobId),
+            RamAccounting.NO_ACCOUNTING
+        );
+    }
+
+    private void addItems(int numItems) {
+        for (int i = 0; i < numItems; i++) {
+            shardedRequests.add(new ShardDeleteRequest.Item("id" + i), shardLocation, RowSourceInfo.EMPTY_INSTANCE);
+        }
+    }
+
+    @Test
+    public void test_bulk_is_completed_at_min_bulk_size_if_target_node_is_idle() throws Exception {
+        AdaptiveBulkSizeLimiter limiter = new AdaptiveBulkSizeLimiter(nodeLimits, 100);
+        addItems(9);
+        assertThat(limiter.test(shardedRequests)).isFalse();
+        addItems(1);
+        assertThat(limiter.test(shardedRequests)).isTrue();
+    }
+
+    @Test
+    public void test_bulk_grows_with_number_of_inflight_requests_on_target_node() throws Exception {
+        AdaptiveBulkSizeLimiter limiter = new AdaptiveBulkSizeLimiter(nodeLimits, 100);
+        ConcurrencyLimit nodeLimit = nodeLimits.get("n1");
+        for (int i = 0; i < nodeLimit.getLimit(); i++) {
+            nodeLimit.startSample();
+        }
+        addItems(10);
+        assertThat(limiter.test(shardedRequests)).isFalse();
+        addItems(80);
+        assertThat(limiter.test(shardedRequests)).isFalse();
+        addItems(10);
+        assertThat(limiter.test(shardedRequests)).isTrue();
+    }
+
+    @Test
+    public void test_empty_requests_do_not_complete_bulk() throws Exception {
+        AdaptiveBulkSizeLimiter limiter = new AdaptiveBulkSizeLimiter(nodeLimits, 1);
+        assertThat(limiter.test(shardedRequests)).isFalse();
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * Licensed to Crate.io GmbH ("Crate") under one or more contributor
+ * license agreements.  See the NOTICE file distributed with this work for
+ * additional information regarding copyright ownership.  Crate licenses
+ * this file to you under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.  You may
+ * obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * However, if you have executed another commercial license agreement
+ * with Crate these terms will supersede the license and you may use the
+ * software solely pursuant to the terms of the relevant commercial agreement.
+ */
+
+package io.crate.execution.engine.sort;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.SortedNumericDocValuesField;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.MatchAllDocsQuery;
+import org.apache.lucene.search.Sort;
+import org.apache.lucene.search.SortField;
+import org.apache.lucene.search.TopFieldCollectorManager;
+import org.apache.lucene.search.TopFieldDocs;
+import org.apache.lucene.search.TotalHits;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.elasticsearch.common.settings.Settings;
+import org.junit.Test;
+
+import io.crate.metadata.ColumnIdent;
+import io.crate.metadata.Reference;
+import io.crate.metadata.doc.DocTableInfo;
+import io.crate.test.integration.CrateDummyClusterServiceUnitTest;
+import io.crate.testing.SQLExecutor;
+
+public class IndexSortTest extends CrateDummyClusterServiceUnitTest {
+
+    @Test
+    public void test_parse_uses_order_by_defaults() {
+        assertThat(IndexSort.parse("ts DESC, x, y asc nulls first")).containsExactly(
+            new IndexSort.Entry(ColumnIdent.of("ts"), true, true),
+            new IndexSort.Entry(ColumnIdent.of("x"), false, false),
+            new IndexSort.Entry(ColumnIdent.of("y"), false, true)
+        );
+        assertThat(IndexSort.parse("")).isEmpty();
+    }
+
+    @Test
+    public void test_parse_rejects_invalid_values() {
+        assertThatThrownBy(() -> IndexSort.parse("ts DESC LAST"))
+            .isExactlyInstanceOf(IllegalArgumentException.class)
+            .hasMessage("Invalid value for argument 'sort_by': 'ts DESC LAST'");
+        assertThatThrownBy(() -> IndexSort.parse("ts, , x"))
+            .isExactlyInstanceOf(IllegalArgumentException.class)
+            .hasMessage("Invalid value for argument 'sort_by': 'ts, , x'");
+        assertThatThrownBy(() -> IndexSort.parse("ts, ts DESC"))
+            .isExactlyInstanceOf(IllegalArgumentException.class)
+            .hasMessage("Column `ts` must only be used once in 'sort_by'");
+    }
+
+    @Test
+    public void test_index_sort_is_equal_to_order_by_sort_and_allows_early_termination() throws Exception {
+        SQLExecutor e = SQLExecutor.of(clusterService)
+            .addTable("create table tbl (ts timestamp, x int) with (sort_by = 'ts DESC')");
+        DocTableInfo table = e.resolveTableInfo("tbl");
+        Settings settings = Settings.builder().put(IndexSort.SORT_BY.getKey(), "ts DESC").build();
+
+        Sort indexSort = IndexSort.of(settings, table);
+        assertThat(indexSort).isNotNull();
+        Reference ts = table.getReference(ColumnIdent.of("ts"));
+        SortField orderByTs = LuceneSort.mappedSortField(ts, true, NullValueOrder.FIRST);
+        assertThat(indexSort.getSort()).containsExactly(orderByTs);
+
+        try (var dir = new ByteBuffersDirectory()) {
+            IndexWriterConfig iwc = new IndexWriterConfig().setIndexSort(indexSort);
+            try (var writer = new IndexWriter(dir, iwc)) {
+                for (long i = 0; i < 1000; i++) {
+                    Document doc = new Document();
+                    doc.add(new SortedNumericDocValuesField(ts.storageIdent(), i));
+                    writer.addDocument(doc);
+                }
+                writer.commit();
+            }
+            try (var reader = DirectoryReader.open(dir)) {
+                IndexSearcher searcher = new IndexSearcher(reader);
+                TopFieldDocs topDocs = searcher.search(
+                    new MatchAllDocsQuery(),
+                    new TopFieldCollectorManager(new Sort(orderByTs), 10, null, 0, false)
+                );
+                assertThat(topDocs.scoreDocs).hasSize(10);
+                assertThat(topDocs.totalHits.relation()).isEqualTo(TotalHits.Relation.GREATER_THAN_OR_EQUAL_TO);
+                assertThat(topDocs.totalHits.value()).isLessThan(1000);
+            }
+        }
+    }
+
+    @Test
+    public void test_index_sort_is_null_without_sort_by_setting() throws Exception {
+        SQLExecutor e = SQLExecutor.of(clusterService)
+            .addTable("create table tbl (ts timestamp)");
+        assertThat(IndexSort.of(Settings.EMPTY, e.resolveTableInfo("tbl"))).isNull();
+    }
+}
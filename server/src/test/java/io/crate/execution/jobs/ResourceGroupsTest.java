@@ -0,0 +1,240 @@
+/*
+ * Licensed to Crate.io GmbH ("Crate") under one or more contributor
+ * license agreements.  See the NOTICE file distributed with this work for
+ * additional information regarding copyright ownership.  Crate licenses
+ * this file to you under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.  You may
+ * obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * However, if you have executed another commercial license agreement
+ * with Crate these terms will supersede the license and you may use the
+ * software solely pursuant to the terms of the relevant commercial agreement.
+ */
+
+
+package io.crate.execution.jobs;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.elasticsearch.common.Priority;
+import org.elasticsearch.common.breaker.ChildMemoryCircuitBreaker;
+import org.elasticsearch.common.breaker.CircuitBreaker;
+import org.elasticsearch.common.breaker.CircuitBreakingException;
+import org.elasticsearch.common.lease.Releasable;
+import org.elasticsearch.common.settings.ClusterSettings;
+import org.elasticsearch.common.settings.Settings;
+import org.elasticsearch.common.util.concurrent.EsRejectedExecutionException;
+import org.elasticsearch.common.util.concurrent.PrioritizedRunnable;
+import org.elasticsearch.common.util.concurrent.PriorityRunnable;
+import org.elasticsearch.indices.breaker.BreakerSettings;
+import org.elasticsearch.indices.breaker.NoneCircuitBreakerService;
+import org.elasticsearch.test.ESTestCase;
+import org.elasticsearch.threadpool.TestThreadPool;
+import org.elasticsearch.threadpool.ThreadPool;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import io.crate.exceptions.JobKilledException;
+import io.crate.exceptions.UnauthorizedException;
+import io.crate.metadata.settings.CoordinatorSessionSettings;
+import io.crate.role.metadata.RolesHelper;
+
+public class ResourceGroupsTest extends ESTestCase {
+
+    private final ClusterSettings clusterSettings = new ClusterSettings(Settings.EMPTY, ClusterSettings.BUILT_IN_CLUSTER_SETTINGS);
+    private TestThreadPool threadPool;
+    private ResourceGroups resourceGroups;
+
+    @Before
+    public void setupResourceGroups() {
+        threadPool = new TestThreadPool("dummy");
+        resourceGroups = new ResourceGroups(Settings.EMPTY, clusterSettings, threadPool);
+    }
+
+    @After
+    public void stopThreadPool() {
+        ThreadPool.terminate(threadPool, 30, TimeUnit.SECONDS);
+    }
+
+    @Test
+    public void test_default_group_is_always_present() {
+        assertThat(resourceGroups.groups()).extracting(ResourceGroup::name).containsExactly("default");
+        assertThat(resourceGroups.get("trillian", null).name()).isEqualTo("default");
+        assertThat(resourceGroups.get(null, "unknown").name()).isEqualTo("default");
+    }
+
+    @Test
+    public void test_user_is_mapped_to_group_listing_the_user() {
+        clusterSettings.applySettings(Settings.builder()
+            .putList("workload.groups.reporting.users", "arthur", "trillian")
+            .build()
+        );
+        assertThat(resourceGroups.get("trillian", null).name()).isEqualTo("reporting");
+        assertThat(resourceGroups.get("ford", null).name()).isEqualTo("default");
+        assertThat(resourceGroups.get("trillian", "default").name()).isEqualTo("default");
+    }
+
+    @Test
+    public void test_session_cannot_use_group_of_other_users() {
+        clusterSettings.applySettings(Settings.builder()
+            .putList("workload.groups.reporting.users", "arthur")
+            .build()
+        );
+        CoordinatorSessionSettings sessionSettings = new CoordinatorSessionSettings(RolesHelper.userOf("ford"));
+        sessionSettings.resourceGroup("reporting");
+        assertThatThrownBy(() -> resourceGroups.forSession(sessionSettings))
+            .isExactlyInstanceOf(UnauthorizedException.class)
+            .hasMessage("User \"ford\" is not allowed to use resource group [reporting]");
+
+        sessionSettings.resourceGroup("unknown");
+        assertThatThrownBy(() -> resourceGroups.forSession(sessionSettings))
+            .isExactlyInstanceOf(IllegalArgumentException.class)
+            .hasMessage("Resource group [unknown] does not exist");
+    }
+
+    @Test
+    public void test_invalid_group_setting_is_rejected() {
+        assertThatThrownBy(() -> clusterSettings.applySettings(Settings.builder()
+                .put("workload.groups.reporting.max_queries", 2)
+                .build()
+            ))
+            .isExactlyInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void test_queries_exceeding_limit_are_queued_and_rejected_once_queue_is_full() throws Exception {
+        clusterSettings.applySettings(Settings.builder()
+            .put("workload.groups.default.max_concurrent_queries", 1)
+            .put("workload.groups.default.queue_size", 1)
+            .build()
+        );
+        ResourceGroup group = resourceGroups.get(null, null);
+        Releasable first = group.acquire().get(5, TimeUnit.SECONDS);
+        CompletableFuture<Releasable> second = group.acquire();
+        CompletableFuture<Releasable> third = group.acquire();
+
+        assertThat(second).isNotDone();
+        assertThat(third).failsWithin(0, TimeUnit.SECONDS)
+            .withThrowableOfType(ExecutionException.class)
+            .withCauseExactlyInstanceOf(EsRejectedExecutionException.class);
+        assertThat(group.running()).isEqualTo(1);
+        assertThat(group.queued()).isEqualTo(1);
+        assertThat(group.rejected()).isEqualTo(1);
+
+        first.close();
+        first.close();
+        Releasable secondPermit = second.get(5, TimeUnit.SECONDS);
+        assertThat(group.running()).isEqualTo(1);
+        assertThat(group.queued()).isEqualTo(0);
+        assertThat(group.admitted()).isEqualTo(2);
+        secondPermit.close();
+        assertThat(group.running()).isEqualTo(0);
+    }
+
+    @Test
+    public void test_queued_query_times_out() throws Exception {
+        clusterSettings.applySettings(Settings.builder()
+            .put("workload.groups.default.max_concurrent_queries", 1)
+            .put("workload.groups.default.queue_timeout", "10ms")
+            .build()
+        );
+        ResourceGroup group = resourceGroups.get(null, null);
+        Releasable first = group.acquire().get(5, TimeUnit.SECONDS);
+        assertThat(group.acquire()).failsWithin(5, TimeUnit.SECONDS)
+            .withThrowableOfType(ExecutionException.class)
+            .withCauseExactlyInstanceOf(EsRejectedExecutionException.class);
+        assertThat(group.timedOut()).isEqualTo(1);
+        first.close();
+    }
+
+    @Test
+    public void test_killed_query_leaves_the_queue() throws Exception {
+        clusterSettings.applySettings(Settings.builder()
+            .put("workload.groups.default.max_concurrent_queries", 1)
+            .build()
+        );
+        ResourceGroup group = resourceGroups.get(null, null);
+        Releasable first = group.acquire().get(5, TimeUnit.SECONDS);
+        CompletableFuture<Releasable> second = group.acquire();
+        CompletableFuture<Releasable> third = group.acquire();
+        assertThat(group.queued()).isEqualTo(2);
+
+        second.completeExceptionally(JobKilledException.of("test"));
+        assertThat(group.queued()).isEqualTo(1);
+
+        first.close();
+        Releasable thirdPermit = third.get(5, TimeUnit.SECONDS);
+        assertThat(group.running()).isEqualTo(1);
+        assertThat(group.admitted()).isEqualTo(2);
+        thirdPermit.close();
+        assertThat(group.running()).isEqualTo(0);
+    }
+
+    @Test
+    public void test_weighted_runnables_are_ordered_consistently_with_other_runnables() {
+        ResourceGroup group = resourceGroups.get(null, null);
+        PrioritizedRunnable first = group.weighted(PriorityRunnable.of(Priority.NORMAL, "first", () -> {}));
+        PrioritizedRunnable second = group.weighted(PriorityRunnable.of(Priority.NORMAL, "second", () -> {}));
+        PrioritizedRunnable plain = PriorityRunnable.of(Priority.NORMAL, "plain", () -> {});
+        PrioritizedRunnable high = group.weighted(PriorityRunnable.of(Priority.HIGH, "high", () -> {}));
+
+        assertThat(first.compareTo(second)).isNegative();
+        assertThat(second.compareTo(first)).isPositive();
+        assertThat(plain.compareTo(first)).isNegative();
+        assertThat(first.compareTo(plain)).isPositive();
+        assertThat(plain.compareTo(second)).isNegative();
+        assertThat(second.compareTo(plain)).isPositive();
+        assertThat(high.compareTo(plain)).isNegative();
+        assertThat(plain.compareTo(high)).isPositive();
+    }
+
+    @Test
+    public void test_group_instance_is_kept_on_settings_update() {
+        ResourceGroup group = resourceGroups.get(null, null);
+        clusterSettings.applySettings(Settings.builder()
+            .put("workload.groups.default.cpu_shares", 200)
+            .build()
+        );
+        assertThat(resourceGroups.get(null, null)).isSameAs(group);
+        assertThat(group.cpuShares()).isEqualTo(200);
+    }
+
+    @Test
+    public void test_group_breaker_trips_once_memory_share_is_used() {
+        clusterSettings.applySettings(Settings.builder()
+            .put("workload.groups.default.memory_share", 0.5)
+            .build()
+        );
+        ResourceGroup group = resourceGroups.get(null, null);
+        CircuitBreaker parent = new ChildMemoryCircuitBreaker(
+            new BreakerSettings("query", 100),
+            new NoneCircuitBreakerService()
+        );
+        CircuitBreaker breaker = group.breaker(parent);
+        assertThat(breaker.getLimit()).isEqualTo(50L);
+
+        breaker.addEstimateBytesAndMaybeBreak(40, "test");
+        assertThatThrownBy(() -> group.breaker(parent).addEstimateBytesAndMaybeBreak(20, "test"))
+            .isExactlyInstanceOf(CircuitBreakingException.class);
+        assertThat(group.usedBytes()).isEqualTo(40L);
+        assertThat(group.trippedCount()).isEqualTo(1L);
+        assertThat(parent.getUsed()).isEqualTo(40L);
+
+        breaker.addWithoutBreaking(-40);
+        assertThat(group.usedBytes()).isEqualTo(0L);
+    }
+}
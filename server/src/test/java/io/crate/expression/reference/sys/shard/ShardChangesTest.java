@@ -0,0 +1,81 @@
+/*
+ * Licensed to Crate.io GmbH ("Crate") under one or more contributor
+ * license agreements.  See the NOTICE file distributed with this work for
+ * additional information regarding copyright ownership.  Crate licenses
+ * this file to you under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.  You may
+ * obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * However, if you have executed another commercial license agreement
+ * with Crate these terms will supersede the license and you may use the
+ * software solely pursuant to the terms of the relevant commercial agreement.
+ */
+
+
+package io.crate.expression.reference.sys.shard;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Map;
+
+import org.apache.lucene.index.Term;
+import org.elasticsearch.index.mapper.Uid;
+import org.elasticsearch.index.translog.Translog;
+import org.elasticsearch.test.ESTestCase;
+import org.junit.Test;
+
+import io.crate.analyze.relations.TableRelation;
+import io.crate.metadata.sys.SysChangesTableInfo;
+import io.crate.testing.SqlExpressions;
+
+public class ShardChangesTest extends ESTestCase {
+
+    private final SqlExpressions expressions = new SqlExpressions(
+        Map.of(SysChangesTableInfo.IDENT, new TableRelation(SysChangesTableInfo.create(() -> null))));
+
+    private long fromSeqNo(String query) {
+        return ShardChanges.fromSeqNo(expressions.normalize(expressions.asSymbol(query)));
+    }
+
+    @Test
+    public void test_from_seq_no_is_derived_from_seq_no_comparisons() {
+        assertThat(fromSeqNo("seq_no > 10")).isEqualTo(11L);
+        assertThat(fromSeqNo("seq_no >= 10")).isEqualTo(10L);
+        assertThat(fromSeqNo("seq_no = 10")).isEqualTo(10L);
+        assertThat(fromSeqNo("10 < seq_no")).isEqualTo(11L);
+        assertThat(fromSeqNo("seq_no > -5")).isEqualTo(0L);
+        assertThat(fromSeqNo("seq_no < 10")).isEqualTo(0L);
+        assertThat(fromSeqNo("true")).isEqualTo(0L);
+    }
+
+    @Test
+    public void test_from_seq_no_of_and_is_the_highest_and_of_or_the_lowest_bound() {
+        assertThat(fromSeqNo("table_name = 't1' AND seq_no > 10 AND seq_no >= 20")).isEqualTo(20L);
+        assertThat(fromSeqNo("(shard_id = 0 AND seq_no > 10) OR (shard_id = 1 AND seq_no > 20)")).isEqualTo(11L);
+        assertThat(fromSeqNo("seq_no > 10 OR type = 'DELETE'")).isEqualTo(0L);
+    }
+
+    @Test
+    public void test_deleted_ids_are_bounded() {
+        var changeTypes = new ShardChanges.ChangeTypes();
+        long seqNo = 0;
+        for (int i = 0; i <= ShardChanges.ChangeTypes.MAX_DELETED_IDS; i++) {
+            String id = Integer.toString(i);
+            assertThat(changeTypes.type(new Translog.Delete(id, seqNo++, 1, new Term("_id", Uid.encodeId(id)))))
+                .isEqualTo(ShardChange.DELETE);
+        }
+        // The delete of the first id has been evicted
+        assertThat(changeTypes.type(new Translog.Index("0", seqNo++, 1, 3, new byte[] {'{', '}'}, -1)))
+            .isEqualTo(ShardChange.UPDATE);
+        assertThat(changeTypes.type(new Translog.Index("1", seqNo++, 1, 3, new byte[] {'{', '}'}, -1)))
+            .isEqualTo(ShardChange.INSERT);
+    }
+}
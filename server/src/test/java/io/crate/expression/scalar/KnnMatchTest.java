@@ -66,5 +66,59 @@ public class KnnMatchTest extends ScalarTestCase {
             );
         }
     }
-}
 
+    @Test
+    public void test_knn_query_with_num_candidates_matches_k_best_candidates() throws Exception {
+        String createTable = "create table tbl (x float_vector(4))";
+        QueryTester.Builder builder = new QueryTester.Builder(
+            THREAD_POOL,
+            clusterService,
+            Version.CURRENT,
+            createTable
+        );
+        float[] vector1 = new float[] { 200.2f, 300.4f, 500.6f, 700.8f };
+        float[] vector2 = new float[] { 0.2f, 0.5f, 0.7f, 0.8f };
+        builder.indexValue("x", vector1);
+        builder.indexValue("x", vector2);
+        try (QueryTester tester = builder.build()) {
+            Query query = tester.toQuery("knn_match(x, [1.2, 3.4, 5.6, 7.8], 1, 10)");
+            assertThat(query).isExactlyInstanceOf(KnnMatch.KnnCandidatesQuery.class);
+
+            List<Object> result = tester.runQuery("x", "knn_match(x, [200, 300, 500, 700], 1, 2)");
+            assertThat(result).containsExactly(
+                vector1
+            );
+
+            assertThatThrownBy(() -> tester.toQuery("knn_match(x, [1.2, 3.4, 5.6, 7.8], 10, 5)"))
+                .isExactlyInstanceOf(IllegalArgumentException.class)
+                .hasMessage("knn_match num_candidates must be greater than or equal to k, got 5 < 10");
+        }
+    }
+
+    @Test
+    public void test_knn_query_uses_other_conjunctions_as_filter() throws Exception {
+        String createTable = "create table tbl (x float_vector(2), tenant int)";
+        QueryTester.Builder builder = new QueryTester.Builder(
+            THREAD_POOL,
+            clusterService,
+            Version.CURRENT,
+            createTable
+        );
+        float[] vector1 = new float[] { 1.0f, 1.0f };
+        float[] vector2 = new float[] { 1.1f, 1.1f };
+        float[] vector3 = new float[] { 50.0f, 50.0f };
+        builder.indexValues(List.of("x", "tenant"), vector1, 1);
+        builder.indexValues(List.of("x", "tenant"), vector2, 1);
+        builder.indexValues(List.of("x", "tenant"), vector3, 2);
+        try (QueryTester tester = builder.build()) {
+            Query query = tester.toQuery("knn_match(x, [1.0, 1.0], 1) and tenant = 2");
+            assertThat(query.toString()).contains("KnnFloatVectorQuery:x[1.0,...][1]");
+
+            // Without the filter the nearest neighbour would be vector1, which is removed by tenant = 2
+            List<Object> result = tester.runQuery("x", "knn_match(x, [1.0, 1.0], 1) and tenant = 2");
+            assertThat(result).containsExactly(
+                vector3
+            );
+        }
+    }
+}
@@ -411,6 +411,39 @@ public class LogicalReplicationITest extends LogicalReplicationITestCase {
         }, 10, TimeUnit.SECONDS);
     }
 
+    @Test
+    public void test_changes_are_replicated_by_concurrent_readers_in_size_bounded_batches() throws Exception {
+        executeOnSubscriber("SET GLOBAL TRANSIENT \"replication.logical.max_concurrent_reads\" = 4, " +
+                            "\"replication.logical.ops_batch_max_bytes\" = '1kb'");
+        try {
+            executeOnPublisher("CREATE TABLE doc.t1 (id INT, payload TEXT) WITH(" +
+                               defaultTableSettings() +
+                               ")");
+            createPublication("pub1", false, List.of("doc.t1"));
+            createSubscription("sub1", "pub1");
+            ensureGreenOnSubscriber();
+
+            // Each batch holds only a few of these operations
+            String payload = "x".repeat(400);
+            int numDocs = 200;
+            var bulkArgs = new Object[numDocs][2];
+            for (int i = 0; i < numDocs; i++) {
+                bulkArgs[i][0] = i;
+                bulkArgs[i][1] = payload;
+            }
+            executeBulkOnPublisher("INSERT INTO doc.t1 (id, payload) VALUES (?, ?)", bulkArgs);
+
+            assertBusy(() -> {
+                executeOnSubscriber("REFRESH TABLE doc.t1");
+                var res = executeOnSubscriber("SELECT count(*), count(DISTINCT id), sum(id) FROM doc.t1");
+                assertThat(res).hasRows(numDocs + "| " + numDocs + "| " + (numDocs * (numDocs - 1) / 2));
+            }, 30, TimeUnit.SECONDS);
+        } finally {
+            executeOnSubscriber("RESET GLOBAL \"replication.logical.max_concurrent_reads\", " +
+                                "\"replication.logical.ops_batch_max_bytes\"");
+        }
+    }
+
     @Test
     public void test_write_to_subscribed_table_is_forbidden() throws Exception {
         executeOnPublisher("CREATE TABLE doc.t1 (id INT) WITH(" +
@@ -0,0 +1,110 @@
+/*
+ * Licensed to Crate.io GmbH ("Crate") under one or more contributor
+ * license agreements.  See the NOTICE file distributed with this work for
+ * additional information regarding copyright ownership.  Crate licenses
+ * this file to you under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.  You may
+ * obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * However, if you have executed another commercial license agreement
+ * with Crate these terms will supersede the license and you may use the
+ * software solely pursuant to the terms of the relevant commercial agreement.
+ */
+
+
+package io.crate.integrationtests;
+
+import static io.crate.testing.Asserts.assertThat;
+
+import java.util.Map;
+
+import org.elasticsearch.test.IntegTestCase;
+import org.junit.After;
+import org.junit.Test;
+
+
+public class SysChangesTableInfoTest extends IntegTestCase {
+
+    @After
+    public void dropPublications() {
+        execute("DROP PUBLICATION IF EXISTS pub1");
+    }
+
+    @Test
+    public void test_changes_of_published_tables_are_listed_in_seq_no_order() throws Exception {
+        execute("CREATE TABLE doc.t1 (id INT PRIMARY KEY, name TEXT) CLUSTERED INTO 1 SHARDS WITH (number_of_replicas = 0)");
+        execute("CREATE TABLE doc.t2 (id INT PRIMARY KEY) CLUSTERED INTO 1 SHARDS WITH (number_of_replicas = 0)");
+        execute("CREATE PUBLICATION pub1 FOR TABLE doc.t1");
+        execute("INSERT INTO doc.t1 (id, name) VALUES (1, 'Arthur')");
+        execute("INSERT INTO doc.t2 (id) VALUES (1)");
+        execute("UPDATE doc.t1 SET name = 'Trillian' WHERE id = 1");
+        execute("INSERT INTO doc.t1 (id, name) VALUES (2, 'Ford')");
+        execute("DELETE FROM doc.t1 WHERE id = 2");
+
+        execute("""
+            SELECT publication, table_name, shard_id, seq_no, type, id, source
+            FROM sys.changes
+            ORDER BY seq_no
+            """);
+        assertThat(response).hasRows(
+            "pub1| t1| 0| 0| INSERT| 1| {id=1, name=Arthur}",
+            "pub1| t1| 0| 1| UPDATE| 1| {id=1, name=Trillian}",
+            "pub1| t1| 0| 2| INSERT| 2| {id=2, name=Ford}",
+            "pub1| t1| 0| 3| DELETE| 2| NULL"
+        );
+
+        execute("SELECT node FROM sys.changes LIMIT 1");
+        @SuppressWarnings("unchecked")
+        Map<String, Object> node = (Map<String, Object>) response.rows()[0][0];
+        assertThat(node.keySet()).containsExactlyInAnyOrder("name", "id");
+    }
+
+    @Test
+    public void test_row_inserted_again_after_delete_is_listed_as_insert() throws Exception {
+        execute("CREATE TABLE doc.t1 (id INT PRIMARY KEY, name TEXT) CLUSTERED INTO 1 SHARDS WITH (number_of_replicas = 0)");
+        execute("CREATE PUBLICATION pub1 FOR TABLE doc.t1");
+        execute("INSERT INTO doc.t1 (id, name) VALUES (1, 'Arthur')");
+        execute("DELETE FROM doc.t1 WHERE id = 1");
+        execute("INSERT INTO doc.t1 (id, name) VALUES (1, 'Trillian')");
+        execute("UPDATE doc.t1 SET name = 'Ford' WHERE id = 1");
+
+        execute("SELECT seq_no, type, id FROM sys.changes ORDER BY seq_no");
+        assertThat(response).hasRows(
+            "0| INSERT| 1",
+            "1| DELETE| 1",
+            "2| INSERT| 1",
+            "3| UPDATE| 1"
+        );
+    }
+
+    @Test
+    public void test_changes_can_be_resumed_from_a_seq_no() throws Exception {
+        execute("CREATE TABLE doc.t1 (id INT PRIMARY KEY) CLUSTERED INTO 1 SHARDS WITH (number_of_replicas = 0)");
+        execute("CREATE PUBLICATION pub1 FOR ALL TABLES");
+        execute("INSERT INTO doc.t1 (id) VALUES (1), (2), (3)");
+        execute("refresh table doc.t1");
+
+        execute("SELECT id FROM sys.changes WHERE table_name = 't1' AND shard_id = 0 AND seq_no > 0 ORDER BY seq_no");
+        assertThat(response).hasRows(
+            "2",
+            "3"
+        );
+    }
+
+    @Test
+    public void test_changes_is_empty_without_publications() throws Exception {
+        execute("CREATE TABLE doc.t1 (id INT) CLUSTERED INTO 1 SHARDS WITH (number_of_replicas = 0)");
+        execute("INSERT INTO doc.t1 (id) VALUES (1)");
+
+        execute("SELECT * FROM sys.changes");
+        assertThat(response).isEmpty();
+    }
+}
@@ -42,6 +42,7 @@ import io.crate.types.ArrayType;
 import io.crate.types.BooleanType;
 import io.crate.types.DataTypes;
 import io.crate.types.IntegerType;
+import io.crate.types.LongType;
 import io.crate.types.ObjectType;
 import io.crate.types.StringType;
 import io.crate.types.TimestampType;
@@ -84,10 +85,12 @@ public class SysSnapshotsTest extends IntegTestCase {
         execute("select * from sys.snapshots");
         assertThat(response).hasRowCount(1);
         assertThat(response.cols()).containsExactly(
-            "concrete_indices", "failures", "finished", "id", "include_global_state", "name", "reason", "relations",
+            "bytes_per_second", "bytes_written", "concrete_indices", "failures", "finished", "id", "include_global_state", "name", "reason", "relations",
             "repository", "started", "state", "table_partitions", "tables", "total_shards", "version");
         ArrayType<String> stringArray = new ArrayType<>(DataTypes.STRING);
         assertThat(response.columnTypes()).containsExactly(
+            LongType.INSTANCE,
+            LongType.INSTANCE,
             stringArray,
             stringArray,
             TimestampType.INSTANCE_WITH_TZ,
@@ -114,24 +117,25 @@ public class SysSnapshotsTest extends IntegTestCase {
             StringType.INSTANCE
         );
         Object[] firstRow = response.rows()[0];
-        assertThat((List<Object>) firstRow[0]).containsExactly(getFqn("tbl"));
-        assertThat((List<Object>) firstRow[1]).isEmpty();
-        assertThat((Long) firstRow[2]).isLessThanOrEqualTo(finishedTime);
-        // firstRow[3] is UUID, not selecting it as it's random.
-        assertThat((boolean) firstRow[4]).isFalse();
-        assertThat(firstRow[5]).isEqualTo("s1");
-        assertThat(firstRow[6]).isNull();
-        List<Map<String, String>> tableRelations = (List<Map<String, String>>) firstRow[7];
+        assertThat((Long) firstRow[1]).isGreaterThan(0L);
+        assertThat((List<Object>) firstRow[2]).containsExactly(getFqn("tbl"));
+        assertThat((List<Object>) firstRow[3]).isEmpty();
+        assertThat((Long) firstRow[4]).isLessThanOrEqualTo(finishedTime);
+        // firstRow[5] is UUID, not selecting it as it's random.
+        assertThat((boolean) firstRow[6]).isFalse();
+        assertThat(firstRow[7]).isEqualTo("s1");
+        assertThat(firstRow[8]).isNull();
+        List<Map<String, String>> tableRelations = (List<Map<String, String>>) firstRow[9];
         assertThat(tableRelations).hasSize(1);
         assertThat(tableRelations.getFirst()).hasEntrySatisfying("table_schema", o -> assertThat(o).isNotEmpty());
         assertThat(tableRelations.getFirst()).hasEntrySatisfying("table_name", o -> assertThat(o).isEqualTo("tbl"));
-        assertThat(firstRow[8]).isEqualTo("r1");
-        assertThat((Long) firstRow[9]).isGreaterThanOrEqualTo(createdTime);
-        assertThat(firstRow[10]).isEqualTo(SnapshotState.SUCCESS.name());
-        assertThat((List<Object>) firstRow[11]).isEmpty();
-        assertThat((List<Object>) firstRow[12]).containsExactly(getFqn("tbl"));
-        assertThat((int) firstRow[13]).isEqualTo(4);
-        assertThat(firstRow[14]).isEqualTo(Version.CURRENT.toString());
+        assertThat(firstRow[10]).isEqualTo("r1");
+        assertThat((Long) firstRow[11]).isGreaterThanOrEqualTo(createdTime);
+        assertThat(firstRow[12]).isEqualTo(SnapshotState.SUCCESS.name());
+        assertThat((List<Object>) firstRow[13]).isEmpty();
+        assertThat((List<Object>) firstRow[14]).containsExactly(getFqn("tbl"));
+        assertThat((int) firstRow[15]).isEqualTo(4);
+        assertThat(firstRow[16]).isEqualTo(Version.CURRENT.toString());
     }
 
     @Test
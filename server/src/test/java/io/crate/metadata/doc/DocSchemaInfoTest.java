@@ -161,6 +161,50 @@ public class DocSchemaInfoTest extends CrateDummyClusterServiceUnitTest {
         assertThat(getTablesAffectedByPublicationsChange(null, null, state)).isEmpty();
     }
 
+    @Test
+    public void test_adding_partitions_does_not_change_table() throws Exception {
+        RelationName relation = new RelationName(Schemas.DOC_SCHEMA_NAME, "parted");
+        Metadata prevMetadata = Metadata.builder()
+            .setTable(relation, List.of(), Settings.EMPTY, null, ColumnPolicy.STRICT, null, Map.of(),
+                List.of(), List.of(), IndexMetadata.State.OPEN, List.of("uuid1"))
+            .build();
+        Metadata newMetadata = Metadata.builder(prevMetadata)
+            .setTable(relation, List.of(), Settings.EMPTY, null, ColumnPolicy.STRICT, null, Map.of(),
+                List.of(), List.of(), IndexMetadata.State.OPEN, List.of("uuid1", "uuid2"))
+            .build();
+        assertThat(DocSchemaInfo.tableChanged(prevMetadata, newMetadata, relation)).isFalse();
+
+        Metadata closedMetadata = Metadata.builder(newMetadata)
+            .setTable(relation, List.of(), Settings.EMPTY, null, ColumnPolicy.STRICT, null, Map.of(),
+                List.of(), List.of(), IndexMetadata.State.CLOSE, List.of("uuid1", "uuid2"))
+            .build();
+        assertThat(DocSchemaInfo.tableChanged(newMetadata, closedMetadata, relation)).isTrue();
+    }
+
+    @Test
+    public void test_index_changes_only_rebuild_on_mapping_or_settings_change() throws Exception {
+        RelationName relation = new RelationName(Schemas.DOC_SCHEMA_NAME, "t1");
+        IndexMetadata index = IndexMetadata.builder("t1")
+            .settings(Settings.builder().put(IndexMetadata.SETTING_VERSION_CREATED, Version.CURRENT))
+            .numberOfShards(1)
+            .numberOfReplicas(0)
+            .build();
+        Metadata prevMetadata = Metadata.builder().put(index, false).build();
+
+        Metadata allocationChanged = Metadata.builder(prevMetadata)
+            .put(IndexMetadata.builder(index).version(index.getVersion() + 1).primaryTerm(0, 2))
+            .build();
+        assertThat(DocSchemaInfo.tableChanged(prevMetadata, allocationChanged, relation)).isFalse();
+
+        Metadata settingsChanged = Metadata.builder(prevMetadata)
+            .put(IndexMetadata.builder(index).numberOfReplicas(1).settingsVersion(index.getSettingsVersion() + 1))
+            .build();
+        assertThat(DocSchemaInfo.tableChanged(prevMetadata, settingsChanged, relation)).isTrue();
+
+        Metadata dropped = Metadata.builder(prevMetadata).remove("t1").build();
+        assertThat(DocSchemaInfo.tableChanged(prevMetadata, dropped, relation)).isTrue();
+    }
+
     private PublicationsMetadata publicationsMetadata(String name, boolean allTables, List<String> tables) {
         var relationNames = Lists.map(tables, x -> new RelationName(Schemas.DOC_SCHEMA_NAME, x));
         var publications = Map.of(name, new Publication("user1", allTables, relationNames));
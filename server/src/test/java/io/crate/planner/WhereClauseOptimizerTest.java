@@ -27,6 +27,7 @@ import static java.util.Collections.singletonList;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import java.util.List;
+import java.util.function.Predicate;
 
 import org.junit.Before;
 import org.junit.Test;
@@ -38,6 +39,7 @@ import io.crate.analyze.relations.DocTableRelation;
 import io.crate.expression.eval.EvaluatingNormalizer;
 import io.crate.expression.symbol.Symbol;
 import io.crate.metadata.PartitionName;
+import io.crate.metadata.Reference;
 import io.crate.metadata.RelationName;
 import io.crate.metadata.RowGranularity;
 import io.crate.test.integration.CrateDummyClusterServiceUnitTest;
@@ -98,9 +100,21 @@ public class WhereClauseOptimizerTest extends CrateDummyClusterServiceUnitTest {
                 """,
                 new PartitionName(new RelationName("doc", "partcast"), List.of("1676352000000")).asIndexName(),
                 new PartitionName(new RelationName("doc", "partcast"), List.of("1687767893000")).asIndexName()
+            )
+            .addTable("""
+                create table partdiv (
+                    x bigint,
+                    bucket as x / 10
+                ) partitioned by (bucket)
+                """,
+                new PartitionName(new RelationName("doc", "partdiv"), List.of("1")).asIndexName(),
+                new PartitionName(new RelationName("doc", "partdiv"), List.of("5")).asIndexName()
             );
     }
 
+    private static final Predicate<Symbol> IS_TS_MONTH =
+        s -> s instanceof Reference ref && ref.column().name().equals("ts_month");
+
     private WhereClauseOptimizer.DetailedQuery optimize(String statement) {
         AnalyzedStatement stmt = e.analyze(statement);
         DocTableRelation table;
@@ -257,4 +271,26 @@ public class WhereClauseOptimizerTest extends CrateDummyClusterServiceUnitTest {
         query = optimize("delete from t_pk where _id = 10 OR _id = true");
         assertThat(query.docKeys()).hasToString("Optional[DocKeys{'10'; 't'}]");
     }
+
+    @Test
+    public void test_expands_any_filter_on_date_trunc_generated_column() {
+        WhereClauseOptimizer.DetailedQuery query = optimize(
+            "select * from partdatetrunc where ts in ('2023-05-01', '2023-05-17')");
+        assertThat(query.query().any(IS_TS_MONTH)).isTrue();
+    }
+
+    @Test
+    public void test_expands_filter_within_or_on_date_trunc_generated_column() {
+        WhereClauseOptimizer.DetailedQuery query = optimize(
+            "select * from partdatetrunc where (ts >= '2023-01-01' and ts < '2023-01-15') or ts > '2023-05-01'");
+        assertThat(query.query().any(IS_TS_MONTH)).isTrue();
+    }
+
+    @Test
+    public void test_expands_range_filter_on_generated_column_dividing_by_positive_constant() {
+        WhereClauseOptimizer.DetailedQuery query = optimize("select * from partdiv where x > 25");
+        assertThat(query.query()).isSQL(
+            "((doc.partdiv.x > 25::bigint) AND (bucket >= 2::bigint))"
+        );
+    }
 }
@@ -28,6 +28,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 import java.io.IOException;
 import java.util.List;
+import java.util.Map;
 
 import org.junit.Test;
 
@@ -48,6 +49,7 @@ import io.crate.expression.symbol.Function;
 import io.crate.expression.symbol.InputColumn;
 import io.crate.expression.symbol.Symbol;
 import io.crate.expression.symbol.SymbolType;
+import io.crate.metadata.ColumnIdent;
 import io.crate.metadata.PartitionName;
 import io.crate.metadata.Reference;
 import io.crate.metadata.RelationName;
@@ -55,7 +57,12 @@ import io.crate.metadata.RowGranularity;
 import io.crate.planner.ExecutionPlan;
 import io.crate.planner.Merge;
 import io.crate.planner.PositionalOrderBy;
+import io.crate.planner.distribution.DistributionType;
 import io.crate.planner.node.dql.Collect;
+import io.crate.planner.node.dql.join.Join;
+import io.crate.statistics.ColumnStats;
+import io.crate.statistics.MostCommonValues;
+import io.crate.statistics.Stats;
 import io.crate.test.integration.CrateDummyClusterServiceUnitTest;
 import io.crate.testing.Asserts;
 import io.crate.testing.SQLExecutor;
@@ -128,6 +135,43 @@ public class GroupByPlannerTest extends CrateDummyClusterServiceUnitTest {
         assertThat(localMerge.projections()).isEmpty();
     }
 
+    @Test
+    public void test_merge_of_partial_states_pushed_beneath_distributed_join_stays_distributed() throws Exception {
+        var e = SQLExecutor.builder(clusterService)
+            .setNumNodes(2)
+            .build()
+            .addTable("create table t1 (fk int, v bigint)")
+            .addTable("create table t2 (id int, name text)");
+        ColumnStats<Integer> fkStats = new ColumnStats<>(
+            0.0,
+            DataTypes.INTEGER.fixedSize(),
+            10,
+            DataTypes.INTEGER,
+            MostCommonValues.empty(),
+            List.of()
+        );
+        e.updateTableStats(Map.of(
+            new RelationName("doc", "t1"),
+            new Stats(10_000, 0, Map.of(ColumnIdent.of("fk"), fkStats))
+        ));
+
+        Merge handlerMerge = e.plan(
+            "select t2.name, sum(t1.v) from t1 inner join t2 on t1.fk = t2.id group by t2.name");
+        assertThat(handlerMerge.mergePhase().nodeIds()).containsExactly(NODE_ID);
+
+        Merge distributedMerge = (Merge) handlerMerge.subPlan();
+        MergePhase mergePhase = distributedMerge.mergePhase();
+        assertThat(mergePhase.nodeIds()).hasSize(2);
+        assertThat(mergePhase.projections().getFirst()).isExactlyInstanceOf(GroupProjection.class);
+        GroupProjection mergeStates = (GroupProjection) mergePhase.projections().getFirst();
+        assertThat(mergeStates.mode()).isEqualTo(AggregateMode.PARTIAL_FINAL);
+
+        assertThat(distributedMerge.subPlan()).isExactlyInstanceOf(Join.class);
+        Join join = (Join) distributedMerge.subPlan();
+        assertThat(join.joinPhase().nodeIds()).hasSize(2);
+        assertThat(join.joinPhase().distributionInfo().distributionType()).isEqualTo(DistributionType.MODULO);
+    }
+
     @Test
     public void testGroupByWithAggregationAndLimit() throws Exception {
         var e = SQLExecutor.builder(clusterService)
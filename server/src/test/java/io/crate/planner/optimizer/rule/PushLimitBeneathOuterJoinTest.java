@@ -0,0 +1,119 @@
+/*
+ * Licensed to Crate.io GmbH ("Crate") under one or more contributor
+ * license agreements.  See the NOTICE file distributed with this work for
+ * additional information regarding copyright ownership.  Crate licenses
+ * this file to you under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.  You may
+ * obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * However, if you have executed another commercial license agreement
+ * with Crate these terms will supersede the license and you may use the
+ * software solely pursuant to the terms of the relevant commercial agreement.
+ */
+
+package io.crate.planner.optimizer.rule;
+
+import static io.crate.testing.Asserts.assertThat;
+
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import io.crate.analyze.OrderBy;
+import io.crate.expression.symbol.Literal;
+import io.crate.planner.operators.JoinPlan;
+import io.crate.planner.operators.Limit;
+import io.crate.planner.operators.LogicalPlan;
+import io.crate.planner.operators.Order;
+import io.crate.planner.operators.PrintContext;
+import io.crate.planner.optimizer.matcher.Captures;
+import io.crate.sql.tree.JoinType;
+import io.crate.test.integration.CrateDummyClusterServiceUnitTest;
+import io.crate.testing.SQLExecutor;
+
+public class PushLimitBeneathOuterJoinTest extends CrateDummyClusterServiceUnitTest {
+
+    private LogicalPlan t1;
+    private LogicalPlan t2;
+    private SQLExecutor e;
+
+    @Before
+    public void prepare() throws Exception {
+        e = SQLExecutor.of(clusterService)
+            .addTable("create table t1 (a int)")
+            .addTable("create table t2 (b int)");
+        t1 = e.logicalPlan("SELECT a FROM t1");
+        t2 = e.logicalPlan("SELECT b FROM t2");
+    }
+
+    private Limit limitOrderedJoin(JoinType joinType, OrderBy orderBy) {
+        var join = new JoinPlan(t1, t2, joinType, e.asSymbol("doc.t1.a = doc.t2.b"));
+        return new Limit(new Order(join, orderBy), Literal.of(10L), Literal.of(5L));
+    }
+
+    @Test
+    public void test_pushes_order_and_limit_to_preserved_side_of_left_join() {
+        Limit limit = limitOrderedJoin(JoinType.LEFT, new OrderBy(List.of(t1.outputs().get(0))));
+
+        var rule = new PushLimitBeneathOuterJoin();
+        var match = rule.pattern().accept(limit, Captures.empty());
+        assertThat(match.isPresent()).isTrue();
+
+        LogicalPlan result = rule.apply(match.value(), match.captures(), e.ruleContext());
+        assertThat(result).hasOperators(
+            "Limit[10::bigint;5::bigint]",
+            "  └ OrderBy[a ASC]",
+            "    └ Join[LEFT | (a = b)]",
+            "      ├ Limit[15::bigint;0::bigint]",
+            "      │  └ OrderBy[a ASC]",
+            "      │    └ Collect[doc.t1 | [a] | true]",
+            "      └ Collect[doc.t2 | [b] | true]"
+        );
+
+        // Must not be applied again
+        var secondMatch = rule.pattern().accept(result, Captures.empty());
+        assertThat(secondMatch.isPresent()).isTrue();
+        assertThat(rule.apply(secondMatch.value(), secondMatch.captures(), e.ruleContext())).isNull();
+    }
+
+    @Test
+    public void test_does_not_push_down_if_order_by_uses_non_preserved_side() {
+        Limit limit = limitOrderedJoin(JoinType.LEFT, new OrderBy(List.of(t2.outputs().get(0))));
+
+        var rule = new PushLimitBeneathOuterJoin();
+        var match = rule.pattern().accept(limit, Captures.empty());
+        assertThat(match.isPresent()).isTrue();
+        assertThat(rule.apply(match.value(), match.captures(), e.ruleContext())).isNull();
+    }
+
+    @Test
+    public void test_does_not_match_inner_join() {
+        Limit limit = limitOrderedJoin(JoinType.INNER, new OrderBy(List.of(t1.outputs().get(0))));
+
+        var rule = new PushLimitBeneathOuterJoin();
+        var match = rule.pattern().accept(limit, Captures.empty());
+        assertThat(match.isPresent()).isFalse();
+    }
+
+    @Test
+    public void test_optimizer_pushes_order_and_limit_beneath_outer_join_once() {
+        LogicalPlan plan = e.logicalPlan(
+            "SELECT x.a, y.b FROM t1 x LEFT JOIN t2 y ON x.a = y.b ORDER BY x.a LIMIT 10 OFFSET 5");
+
+        var printContext = new PrintContext(e.planStats());
+        plan.print(printContext);
+        String printedPlan = printContext.toString();
+        assertThat(printedPlan).containsOnlyOnce("Limit[15::bigint;0::bigint]");
+        assertThat(printedPlan).containsOnlyOnce("Limit[10::bigint;5::bigint]");
+        assertThat(printedPlan.split("OrderBy\\[a ASC\\]", -1)).hasSize(3);
+    }
+}
@@ -0,0 +1,158 @@
+/*
+ * Licensed to Crate.io GmbH ("Crate") under one or more contributor
+ * license agreements.  See the NOTICE file distributed with this work for
+ * additional information regarding copyright ownership.  Crate licenses
+ * this file to you under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.  You may
+ * obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * However, if you have executed another commercial license agreement
+ * with Crate these terms will supersede the license and you may use the
+ * software solely pursuant to the terms of the relevant commercial agreement.
+ */
+
+package io.crate.planner.optimizer.rule;
+
+import static io.crate.testing.Asserts.assertThat;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import io.crate.expression.symbol.Function;
+import io.crate.metadata.ColumnIdent;
+import io.crate.metadata.RelationName;
+import io.crate.planner.operators.GroupHashAggregate;
+import io.crate.planner.operators.JoinPlan;
+import io.crate.planner.operators.LogicalPlan;
+import io.crate.planner.optimizer.matcher.Captures;
+import io.crate.sql.tree.JoinType;
+import io.crate.statistics.ColumnStats;
+import io.crate.statistics.MostCommonValues;
+import io.crate.statistics.Stats;
+import io.crate.test.integration.CrateDummyClusterServiceUnitTest;
+import io.crate.testing.SQLExecutor;
+import io.crate.types.DataTypes;
+
+public class PushPartialAggregateBeneathJoinTest extends CrateDummyClusterServiceUnitTest {
+
+    private SQLExecutor e;
+    private JoinPlan join;
+
+    @Before
+    public void prepare() throws Exception {
+        e = SQLExecutor.of(clusterService)
+            .addTable("create table t1 (fk int, v bigint)")
+            .addTable("create table t2 (id int, name text)");
+        LogicalPlan t1 = e.logicalPlan("SELECT fk, v FROM t1");
+        LogicalPlan t2 = e.logicalPlan("SELECT id, name FROM t2");
+        join = new JoinPlan(t1, t2, JoinType.INNER, e.asSymbol("doc.t1.fk = doc.t2.id"));
+    }
+
+    private void updateFactTableStats(long numDocs, double distinctForeignKeys) {
+        ColumnStats<Integer> fkStats = new ColumnStats<>(
+            0.0,
+            DataTypes.INTEGER.fixedSize(),
+            distinctForeignKeys,
+            DataTypes.INTEGER,
+            MostCommonValues.empty(),
+            List.of()
+        );
+        e.updateTableStats(Map.of(
+            new RelationName("doc", "t1"),
+            new Stats(numDocs, 0, Map.of(ColumnIdent.of("fk"), fkStats))
+        ));
+    }
+
+    private LogicalPlan applyRule(GroupHashAggregate groupBy) {
+        var rule = new PushPartialAggregateBeneathJoin();
+        var match = rule.pattern().accept(groupBy, Captures.empty());
+        assertThat(match.isPresent()).isTrue();
+        return rule.apply(match.value(), match.captures(), e.ruleContext());
+    }
+
+    @Test
+    public void test_pre_aggregates_side_of_join_used_by_aggregates() {
+        updateFactTableStats(10_000, 10);
+        GroupHashAggregate groupBy = new GroupHashAggregate(
+            join,
+            List.of(e.asSymbol("doc.t2.name")),
+            List.of((Function) e.asSymbol("sum(doc.t1.v)"), (Function) e.asSymbol("max(doc.t1.v)"))
+        );
+
+        LogicalPlan result = applyRule(groupBy);
+        assertThat(result).hasOperators(
+            "GroupHashAggregate[name | sum(v), max(v) | PARTIAL_FINAL]",
+            "  └ Join[INNER | (fk = id)]",
+            "    ├ GroupHashAggregate[fk | sum(v), max(v) | ITER_PARTIAL]",
+            "    │  └ Collect[doc.t1 | [fk, v] | true]",
+            "    └ Collect[doc.t2 | [id, name] | true]"
+        );
+
+        // Must not be applied again
+        var rule = new PushPartialAggregateBeneathJoin();
+        assertThat(rule.pattern().accept(result, Captures.empty()).isPresent()).isFalse();
+    }
+
+    @Test
+    public void test_group_keys_of_aggregated_side_are_included_in_partial_group_keys() {
+        updateFactTableStats(10_000, 10);
+        GroupHashAggregate groupBy = new GroupHashAggregate(
+            join,
+            List.of(e.asSymbol("doc.t2.name"), e.asSymbol("doc.t1.v")),
+            List.of((Function) e.asSymbol("min(doc.t1.v)"))
+        );
+
+        LogicalPlan result = applyRule(groupBy);
+        assertThat(result).hasOperators(
+            "GroupHashAggregate[name, v | min(v) | PARTIAL_FINAL]",
+            "  └ Join[INNER | (fk = id)]",
+            "    ├ GroupHashAggregate[fk, v | min(v) | ITER_PARTIAL]",
+            "    │  └ Collect[doc.t1 | [fk, v] | true]",
+            "    └ Collect[doc.t2 | [id, name] | true]"
+        );
+    }
+
+    @Test
+    public void test_is_not_applied_if_pre_aggregation_does_not_reduce_rows() {
+        updateFactTableStats(10_000, 9_000);
+        GroupHashAggregate groupBy = new GroupHashAggregate(
+            join,
+            List.of(e.asSymbol("doc.t2.name")),
+            List.of((Function) e.asSymbol("sum(doc.t1.v)"))
+        );
+        assertThat(applyRule(groupBy)).isNull();
+    }
+
+    @Test
+    public void test_is_not_applied_if_partial_state_differs_from_final_value() {
+        updateFactTableStats(10_000, 10);
+        GroupHashAggregate groupBy = new GroupHashAggregate(
+            join,
+            List.of(e.asSymbol("doc.t2.name")),
+            List.of((Function) e.asSymbol("count(doc.t1.v)"))
+        );
+        assertThat(applyRule(groupBy)).isNull();
+    }
+
+    @Test
+    public void test_is_not_applied_if_aggregates_use_both_sides() {
+        updateFactTableStats(10_000, 10);
+        GroupHashAggregate groupBy = new GroupHashAggregate(
+            join,
+            List.of(e.asSymbol("doc.t2.name")),
+            List.of((Function) e.asSymbol("sum(doc.t1.v)"), (Function) e.asSymbol("max(doc.t2.id)"))
+        );
+        assertThat(applyRule(groupBy)).isNull();
+    }
+}
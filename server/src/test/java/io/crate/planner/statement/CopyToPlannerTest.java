@@ -31,12 +31,15 @@ import java.io.IOException;
 import java.util.List;
 import java.util.stream.Collectors;
 
+import org.elasticsearch.Version;
+import org.elasticsearch.cluster.metadata.Metadata;
 import org.elasticsearch.common.settings.Settings;
 import org.junit.Before;
 import org.junit.Test;
 
 import io.crate.analyze.TableDefinitions;
 import io.crate.data.Row;
+import io.crate.exceptions.UnsupportedFeatureException;
 import io.crate.execution.dsl.phases.RoutedCollectPhase;
 import io.crate.execution.dsl.projection.WriterProjection;
 import io.crate.execution.dsl.projection.builder.ProjectionBuilder;
@@ -193,4 +196,18 @@ public class CopyToPlannerTest extends CrateDummyClusterServiceUnitTest {
             .isExactlyInstanceOf(IllegalArgumentException.class)
             .hasMessage("Setting 'dummy' is not supported");
     }
+
+    @Test
+    public void test_copy_to_csv_is_rejected_with_nodes_before_6_0() throws Exception {
+        // Make sure the former initialized cluster service is shutdown
+        cleanup();
+        clusterService = createClusterService(additionalClusterSettings(), Metadata.EMPTY_METADATA, Version.V_5_10_0);
+        e = SQLExecutor.builder(clusterService)
+            .build()
+            .addTable(TableDefinitions.USER_TABLE_DEFINITION);
+
+        assertThatThrownBy(() -> plan("copy users (name) to directory '/tmp' with (format = 'csv')"))
+            .isExactlyInstanceOf(UnsupportedFeatureException.class)
+            .hasMessage(CopyToPlan.CSV_VERSION_ERROR_MSG);
+    }
 }
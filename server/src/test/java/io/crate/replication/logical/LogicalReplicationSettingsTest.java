@@ -21,7 +21,9 @@
 
 package io.crate.replication.logical;
 
+import static io.crate.replication.logical.LogicalReplicationSettings.REPLICATION_CHANGE_BATCH_MAX_BYTES;
 import static io.crate.replication.logical.LogicalReplicationSettings.REPLICATION_CHANGE_BATCH_SIZE;
+import static io.crate.replication.logical.LogicalReplicationSettings.REPLICATION_MAX_CONCURRENT_READS;
 import static io.crate.replication.logical.LogicalReplicationSettings.REPLICATION_READ_POLL_DURATION;
 import static io.crate.replication.logical.LogicalReplicationSettings.REPLICATION_RECOVERY_CHUNK_SIZE;
 import static io.crate.replication.logical.LogicalReplicationSettings.REPLICATION_RECOVERY_MAX_CONCURRENT_FILE_CHUNKS;
@@ -47,6 +49,8 @@ public class LogicalReplicationSettingsTest extends CrateDummyClusterServiceUnit
             .metadata(Metadata.builder().transientSettings(
                 Settings.builder()
                     .put(REPLICATION_CHANGE_BATCH_SIZE.getKey(), 20)
+                    .put(REPLICATION_CHANGE_BATCH_MAX_BYTES.getKey(), "1MB")
+                    .put(REPLICATION_MAX_CONCURRENT_READS.getKey(), 4)
                     .put(REPLICATION_READ_POLL_DURATION.getKey(), "1s")
                     .put(REPLICATION_RECOVERY_CHUNK_SIZE.getKey(), "10MB")
                     .put(REPLICATION_RECOVERY_MAX_CONCURRENT_FILE_CHUNKS.getKey(), 3)
@@ -55,6 +59,8 @@ public class LogicalReplicationSettingsTest extends CrateDummyClusterServiceUnit
             .build();
         ClusterServiceUtils.setState(clusterService, newState);
         assertThat(replicationSettings.batchSize()).isEqualTo(20);
+        assertThat(replicationSettings.batchMaxBytes()).isEqualTo(new ByteSizeValue(1, ByteSizeUnit.MB));
+        assertThat(replicationSettings.maxConcurrentReads()).isEqualTo(4);
         assertThat(replicationSettings.pollDelay().millis()).isEqualTo(1000L);
         assertThat(replicationSettings.recoveryChunkSize()).isEqualTo(new ByteSizeValue(10, ByteSizeUnit.MB));
         assertThat(replicationSettings.maxConcurrentFileChunks()).isEqualTo(3);
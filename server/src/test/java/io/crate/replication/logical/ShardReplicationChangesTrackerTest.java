@@ -0,0 +1,131 @@
+/*
+ * Licensed to Crate.io GmbH ("Crate") under one or more contributor
+ * license agreements.  See the NOTICE file distributed with this work for
+ * additional information regarding copyright ownership.  Crate licenses
+ * this file to you under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.  You may
+ * obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * However, if you have executed another commercial license agreement
+ * with Crate these terms will supersede the license and you may use the
+ * software solely pursuant to the terms of the relevant commercial agreement.
+ */
+
+package io.crate.replication.logical;
+
+import static io.crate.replication.logical.LogicalReplicationSettings.REPLICATION_CHANGE_BATCH_SIZE;
+import static io.crate.replication.logical.LogicalReplicationSettings.REPLICATION_MAX_CONCURRENT_READS;
+import static io.crate.replication.logical.LogicalReplicationSettings.REPLICATION_READ_POLL_DURATION;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.elasticsearch.client.Client;
+import org.elasticsearch.common.settings.Settings;
+import org.elasticsearch.index.seqno.SeqNoStats;
+import org.elasticsearch.index.shard.IndexShard;
+import org.elasticsearch.index.shard.ShardId;
+import org.junit.Test;
+
+import io.crate.replication.logical.action.ShardChangesAction;
+import io.crate.test.integration.CrateDummyClusterServiceUnitTest;
+
+public class ShardReplicationChangesTrackerTest extends CrateDummyClusterServiceUnitTest {
+
+    private record PendingRequest(ShardChangesAction.Request request,
+                                  CompletableFuture<ShardChangesAction.Response> response) {
+    }
+
+    @Test
+    public void test_concurrent_readers_request_disjoint_ranges_and_stop_on_close() throws Exception {
+        Settings settings = Settings.builder()
+            .put(REPLICATION_MAX_CONCURRENT_READS.getKey(), 3)
+            .put(REPLICATION_CHANGE_BATCH_SIZE.getKey(), 10)
+            .put(REPLICATION_READ_POLL_DURATION.getKey(), "10ms")
+            .build();
+        var replicationSettings = new LogicalReplicationSettings(settings, clusterService);
+
+        ShardId shardId = new ShardId("t1", "_na_", 0);
+        IndexShard indexShard = mock(IndexShard.class);
+        when(indexShard.shardId()).thenReturn(shardId);
+        when(indexShard.seqNoStats()).thenReturn(new SeqNoStats(-1, -1, -1));
+
+        List<PendingRequest> pendingRequests = new ArrayList<>();
+        Client remoteClient = mock(Client.class);
+        when(remoteClient.execute(any(), any())).thenAnswer(invocation -> {
+            if (invocation.getArgument(0) == ShardChangesAction.INSTANCE) {
+                CompletableFuture<ShardChangesAction.Response> response = new CompletableFuture<>();
+                synchronized (pendingRequests) {
+                    pendingRequests.add(new PendingRequest(invocation.getArgument(1), response));
+                }
+                return response;
+            }
+            // Retention lease renewals never complete
+            return new CompletableFuture<>();
+        });
+        ShardReplicationService shardReplicationService = mock(ShardReplicationService.class);
+        when(shardReplicationService.getRemoteClusterClient(shardId.getIndex(), "sub1"))
+            .thenReturn(CompletableFuture.completedFuture(remoteClient));
+
+        var tracker = new ShardReplicationChangesTracker(
+            "sub1",
+            indexShard,
+            THREAD_POOL,
+            replicationSettings,
+            shardReplicationService,
+            "publisher",
+            mock(Client.class)
+        );
+        tracker.start();
+
+        // Nothing is known about the publisher yet, only one reader requests a batch
+        assertBusy(() -> {
+            synchronized (pendingRequests) {
+                assertThat(pendingRequests).hasSize(1);
+            }
+        });
+        PendingRequest first;
+        synchronized (pendingRequests) {
+            first = pendingRequests.remove(0);
+        }
+        assertThat(first.request().fromSeqNo()).isEqualTo(0L);
+        assertThat(first.request().toSeqNo()).isEqualTo(9L);
+
+        // The publisher has operations up to seqNo 100, all readers request batches concurrently
+        first.response().complete(new ShardChangesAction.Response(List.of(), 0, -1, 100, 1));
+        assertBusy(() -> {
+            synchronized (pendingRequests) {
+                assertThat(pendingRequests)
+                    .extracting(p -> p.request().fromSeqNo())
+                    .containsExactlyInAnyOrder(0L, 10L, 20L);
+            }
+        });
+
+        tracker.close();
+        List<PendingRequest> inFlight;
+        synchronized (pendingRequests) {
+            inFlight = List.copyOf(pendingRequests);
+            pendingRequests.clear();
+        }
+        for (PendingRequest pendingRequest : inFlight) {
+            pendingRequest.response().complete(new ShardChangesAction.Response(List.of(), 0, -1, 100, 1));
+        }
+        Thread.sleep(50);
+        synchronized (pendingRequests) {
+            assertThat(pendingRequests).isEmpty();
+        }
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * Licensed to Crate.io GmbH ("Crate") under one or more contributor
+ * license agreements.  See the NOTICE file distributed with this work for
+ * additional information regarding copyright ownership.  Crate licenses
+ * this file to you under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.  You may
+ * obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * However, if you have executed another commercial license agreement
+ * with Crate these terms will supersede the license and you may use the
+ * software solely pursuant to the terms of the relevant commercial agreement.
+ */
+
+package io.crate.replication.logical.action;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import org.elasticsearch.index.translog.Translog;
+import org.elasticsearch.test.ESTestCase;
+import org.junit.Test;
+
+public class ShardChangesActionTest extends ESTestCase {
+
+    private static Translog.Snapshot snapshot(List<Translog.Operation> operations) {
+        Iterator<Translog.Operation> it = operations.iterator();
+        return new Translog.Snapshot() {
+
+            @Override
+            public int totalOperations() {
+                return operations.size();
+            }
+
+            @Override
+            public Translog.Operation next() {
+                return it.hasNext() ? it.next() : null;
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+    }
+
+    private static List<Translog.Operation> operations(int numOps, int sourceSize) {
+        List<Translog.Operation> operations = new ArrayList<>(numOps);
+        for (int i = 0; i < numOps; i++) {
+            operations.add(new Translog.Index(Integer.toString(i), i, 1, new byte[sourceSize]));
+        }
+        return operations;
+    }
+
+    @Test
+    public void test_read_changes_stops_once_batch_max_bytes_is_reached() throws IOException {
+        List<Translog.Operation> operations = operations(10, 1024);
+        long opSize = operations.get(0).estimateSize();
+
+        List<Translog.Operation> changes = ShardChangesAction.TransportAction.readChanges(
+            snapshot(operations),
+            3 * opSize - 1
+        );
+        assertThat(changes).containsExactlyElementsOf(operations.subList(0, 3));
+
+        changes = ShardChangesAction.TransportAction.readChanges(snapshot(operations), 3 * opSize);
+        assertThat(changes).containsExactlyElementsOf(operations.subList(0, 3));
+    }
+
+    @Test
+    public void test_read_changes_returns_at_least_one_operation_larger_than_batch_max_bytes() throws IOException {
+        List<Translog.Operation> operations = operations(2, 4096);
+
+        List<Translog.Operation> changes = ShardChangesAction.TransportAction.readChanges(snapshot(operations), 1024);
+        assertThat(changes).containsExactlyElementsOf(operations.subList(0, 1));
+    }
+
+    @Test
+    public void test_read_changes_reads_all_operations_below_batch_max_bytes() throws IOException {
+        List<Translog.Operation> operations = operations(10, 16);
+
+        List<Translog.Operation> changes = ShardChangesAction.TransportAction.readChanges(
+            snapshot(operations),
+            Long.MAX_VALUE
+        );
+        assertThat(changes).containsExactlyElementsOf(operations);
+    }
+}
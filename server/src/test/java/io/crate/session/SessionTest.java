@@ -30,21 +30,28 @@ import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 
 import org.elasticsearch.client.ElasticsearchClient;
+import org.elasticsearch.common.CheckedConsumer;
+import org.elasticsearch.common.settings.Settings;
+import org.elasticsearch.common.util.concurrent.EsRejectedExecutionException;
+import org.elasticsearch.rest.RestStatus;
 import org.elasticsearch.threadpool.ThreadPool;
 import org.junit.Test;
 import org.mockito.Answers;
@@ -60,8 +67,10 @@ import io.crate.data.InMemoryBatchIterator;
 import io.crate.data.Row;
 import io.crate.data.RowConsumer;
 import io.crate.exceptions.JobKilledException;
+import io.crate.exceptions.SQLExceptions;
 import io.crate.execution.dml.BulkResponse;
 import io.crate.execution.engine.collect.stats.QueueSink;
+import io.crate.execution.jobs.ResourceGroup;
 import io.crate.execution.jobs.kill.KillJobsNodeAction;
 import io.crate.execution.jobs.kill.KillJobsNodeRequest;
 import io.crate.planner.DependencyCarrier;
@@ -530,4 +539,123 @@ public class SessionTest extends CrateDummyClusterServiceUnitTest {
             );
         }
     }
+
+    @Test
+    public void test_select_is_rejected_with_429_if_queue_of_resource_group_is_full() throws Exception {
+        Planner planner = mock(Planner.class, Answers.RETURNS_MOCKS);
+        SQLExecutor sqlExecutor = SQLExecutor.builder(clusterService)
+            .setPlanner(planner)
+            .build();
+        clusterService.getClusterSettings().applySettings(Settings.builder()
+            .put("workload.groups.default.max_concurrent_queries", 1)
+            .put("workload.groups.default.queue_size", 0)
+            .build()
+        );
+        when(planner.plan(any(AnalyzedStatement.class), any(PlannerContext.class)))
+            .thenReturn(selectPlan(consumer -> {}));
+        ResourceGroup group = sqlExecutor.resourceGroups.get(null, null);
+
+        CompletableFuture<Void> running = execute(sqlExecutor.createSession(), "SELECT 1");
+        CompletableFuture<Void> rejected = execute(sqlExecutor.createSession(), "SELECT 2");
+
+        assertThat(running).isNotDone();
+        assertThat(rejected).failsWithin(5, TimeUnit.SECONDS)
+            .withThrowableOfType(ExecutionException.class)
+            .withCauseExactlyInstanceOf(EsRejectedExecutionException.class);
+        RestStatus status = rejected
+            .handle((result, err) -> SQLExceptions.status(SQLExceptions.unwrap(err)))
+            .get(5, TimeUnit.SECONDS);
+        assertThat(status).isEqualTo(RestStatus.TOO_MANY_REQUESTS);
+        assertThat(group.running()).isEqualTo(1);
+        assertThat(group.rejected()).isEqualTo(1L);
+    }
+
+    @Test
+    public void test_permit_of_resource_group_is_released_if_select_fails() throws Exception {
+        Planner planner = mock(Planner.class, Answers.RETURNS_MOCKS);
+        SQLExecutor sqlExecutor = SQLExecutor.builder(clusterService)
+            .setPlanner(planner)
+            .build();
+        clusterService.getClusterSettings().applySettings(Settings.builder()
+            .put("workload.groups.default.max_concurrent_queries", 1)
+            .build()
+        );
+        when(planner.plan(any(AnalyzedStatement.class), any(PlannerContext.class)))
+            .thenReturn(selectPlan(consumer -> {
+                throw new IllegalStateException("execution failed");
+            }));
+        ResourceGroup group = sqlExecutor.resourceGroups.get(null, null);
+
+        Session session = sqlExecutor.createSession();
+        for (int i = 0; i < 2; i++) {
+            assertThat(execute(session, "SELECT 1")).failsWithin(5, TimeUnit.SECONDS)
+                .withThrowableOfType(ExecutionException.class)
+                .withCauseExactlyInstanceOf(IllegalStateException.class);
+            assertThat(group.running()).isEqualTo(0);
+        }
+        assertThat(group.admitted()).isEqualTo(2L);
+    }
+
+    @Test
+    public void test_cancel_removes_select_from_queue_of_resource_group() throws Exception {
+        Planner planner = mock(Planner.class, Answers.RETURNS_MOCKS);
+        SQLExecutor sqlExecutor = SQLExecutor.builder(clusterService)
+            .setPlanner(planner)
+            .build();
+        clusterService.getClusterSettings().applySettings(Settings.builder()
+            .put("workload.groups.default.max_concurrent_queries", 1)
+            .build()
+        );
+        List<RowConsumer> executed = new ArrayList<>();
+        when(planner.plan(any(AnalyzedStatement.class), any(PlannerContext.class)))
+            .thenReturn(selectPlan(executed::add));
+        ElasticsearchClient client = mock(ElasticsearchClient.class);
+        when(sqlExecutor.dependencyMock.client()).thenReturn(client);
+        ResourceGroup group = sqlExecutor.resourceGroups.get(null, null);
+
+        CompletableFuture<Void> running = execute(sqlExecutor.createSession(), "SELECT 1");
+        Session queuedSession = sqlExecutor.createSession();
+        CompletableFuture<Void> queued = execute(queuedSession, "SELECT 2");
+        assertThat(group.queued()).isEqualTo(1);
+
+        queuedSession.cancelCurrentJob();
+
+        assertThat(queued).failsWithin(5, TimeUnit.SECONDS)
+            .withThrowableOfType(ExecutionException.class)
+            .withCauseExactlyInstanceOf(JobKilledException.class);
+        assertThat(group.queued()).isEqualTo(0);
+        assertThat(executed).hasSize(1);
+        verify(client, never()).execute(eq(KillJobsNodeAction.INSTANCE), any(KillJobsNodeRequest.class));
+
+        executed.get(0).accept(InMemoryBatchIterator.empty(null), null);
+        assertThat(running).succeedsWithin(5, TimeUnit.SECONDS);
+        assertThat(group.running()).isEqualTo(0);
+    }
+
+    private static CompletableFuture<Void> execute(Session session, String statement) {
+        BaseResultReceiver resultReceiver = new BaseResultReceiver();
+        session.parse("S_1", statement, List.of());
+        session.bind("P_1", "S_1", List.of(), null);
+        session.execute("P_1", 0, resultReceiver);
+        session.sync();
+        return resultReceiver.completionFuture();
+    }
+
+    private static Plan selectPlan(CheckedConsumer<RowConsumer, Exception> execute) {
+        return new Plan() {
+            @Override
+            public StatementType type() {
+                return StatementType.SELECT;
+            }
+
+            @Override
+            public void executeOrFail(DependencyCarrier dependencies,
+                                      PlannerContext plannerContext,
+                                      RowConsumer consumer,
+                                      Row params,
+                                      SubQueryResults subQueryResults) throws Exception {
+                execute.accept(consumer);
+            }
+        };
+    }
 }
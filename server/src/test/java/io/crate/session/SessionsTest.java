@@ -46,6 +46,7 @@ import io.crate.common.unit.TimeValue;
 import io.crate.data.InMemoryBatchIterator;
 import io.crate.data.Row;
 import io.crate.execution.engine.collect.stats.JobsLogs;
+import io.crate.execution.jobs.ResourceGroups;
 import io.crate.execution.jobs.transport.CancelRequest;
 import io.crate.execution.jobs.transport.TransportCancelAction;
 import io.crate.metadata.NodeContext;
@@ -81,7 +82,8 @@ public class SessionsTest extends CrateDummyClusterServiceUnitTest {
             new JobsLogs(() -> false),
             Settings.EMPTY,
             clusterService,
-            sessionSettingRegistry
+            sessionSettingRegistry,
+            new ResourceGroups(Settings.EMPTY, clusterService.getClusterSettings(), THREAD_POOL)
         );
 
         KeyData keyData = new KeyData(10, 20);
@@ -145,7 +147,8 @@ public class SessionsTest extends CrateDummyClusterServiceUnitTest {
                 .put("statement_timeout", "30s")
                 .build(),
             clusterService,
-            sessionSettingRegistry
+            sessionSettingRegistry,
+            new ResourceGroups(Settings.EMPTY, clusterService.getClusterSettings(), THREAD_POOL)
         );
         Session session = sessions.newSession(connectionProperties(), "doc", Role.CRATE_USER);
         assertThat(session.sessionSettings().statementTimeout())
@@ -189,7 +192,8 @@ public class SessionsTest extends CrateDummyClusterServiceUnitTest {
                 .put("statement_max_length", 512)
                 .build(),
             clusterService,
-            sessionSettingRegistry
+            sessionSettingRegistry,
+            new ResourceGroups(Settings.EMPTY, clusterService.getClusterSettings(), THREAD_POOL)
         );
         return sessions;
     }
@@ -0,0 +1,142 @@
+/*
+ * Licensed to Crate.io GmbH ("Crate") under one or more contributor
+ * license agreements.  See the NOTICE file distributed with this work for
+ * additional information regarding copyright ownership.  Crate licenses
+ * this file to you under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.  You may
+ * obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * However, if you have executed another commercial license agreement
+ * with Crate these terms will supersede the license and you may use the
+ * software solely pursuant to the terms of the relevant commercial agreement.
+ */
+
+
+package org.elasticsearch.cluster.routing.allocation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.elasticsearch.cluster.metadata.IndexMetadata.SETTING_INDEX_UUID;
+import static org.elasticsearch.cluster.routing.ShardRoutingState.RELOCATING;
+import static org.elasticsearch.cluster.routing.ShardRoutingState.STARTED;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.elasticsearch.Version;
+import org.elasticsearch.cluster.ClusterInfo;
+import org.elasticsearch.cluster.ClusterName;
+import org.elasticsearch.cluster.ClusterState;
+import org.elasticsearch.cluster.ESAllocationTestCase;
+import org.elasticsearch.cluster.metadata.AutoExpandReplicas;
+import org.elasticsearch.cluster.metadata.IndexMetadata;
+import org.elasticsearch.cluster.metadata.Metadata;
+import org.elasticsearch.cluster.node.DiscoveryNodes;
+import org.elasticsearch.cluster.routing.RoutingTable;
+import org.elasticsearch.cluster.routing.ShardRouting;
+import org.elasticsearch.cluster.routing.allocation.allocator.BalancedShardsAllocator;
+import org.elasticsearch.cluster.routing.allocation.decider.ClusterRebalanceAllocationDecider;
+import org.elasticsearch.common.UUIDs;
+import org.elasticsearch.common.collect.ImmutableOpenMap;
+import org.elasticsearch.common.settings.ClusterSettings;
+import org.elasticsearch.common.settings.Settings;
+import org.elasticsearch.index.shard.ShardId;
+import org.elasticsearch.snapshots.EmptySnapshotsInfoService;
+import org.elasticsearch.test.gateway.TestGatewayAllocator;
+
+public class LoadAwareBalanceTests extends ESAllocationTestCase {
+
+    private final AtomicReference<ClusterInfo> clusterInfo = new AtomicReference<>(ClusterInfo.EMPTY);
+
+    private MockAllocationService createAllocationService(Settings.Builder settings) {
+        Settings allSettings = settings
+            .put(ClusterRebalanceAllocationDecider.CLUSTER_ROUTING_ALLOCATION_ALLOW_REBALANCE_SETTING.getKey(), "always")
+            .put("cluster.routing.allocation.cluster_concurrent_rebalance", -1)
+            .build();
+        ClusterSettings clusterSettings = new ClusterSettings(allSettings, ClusterSettings.BUILT_IN_CLUSTER_SETTINGS);
+        return new MockAllocationService(
+            randomAllocationDeciders(allSettings, clusterSettings, random()),
+            new TestGatewayAllocator(),
+            new BalancedShardsAllocator(allSettings),
+            clusterInfo::get,
+            EmptySnapshotsInfoService.INSTANCE
+        );
+    }
+
+    private static ClusterState startCluster(AllocationService allocationService) {
+        Metadata metadata = Metadata.builder()
+            .put(IndexMetadata.builder("test")
+                .settings(settings(Version.CURRENT)
+                    .put(SETTING_INDEX_UUID, UUIDs.randomBase64UUID())
+                    .put(AutoExpandReplicas.SETTING.getKey(), "false"))
+                .numberOfShards(4)
+                .numberOfReplicas(0))
+            .build();
+        ClusterState clusterState = ClusterState.builder(ClusterName.CLUSTER_NAME_SETTING.getDefault(Settings.EMPTY))
+            .metadata(metadata)
+            .routingTable(RoutingTable.builder().addAsNew(metadata.index("test")).build())
+            .nodes(DiscoveryNodes.builder().add(newNode("node1")).add(newNode("node2")))
+            .build();
+        clusterState = allocationService.reroute(clusterState, "reroute");
+        clusterState = startInitializingShardsAndReroute(allocationService, clusterState);
+        assertThat(clusterState.getRoutingNodes().node("node1").numberOfShardsWithState(STARTED)).isEqualTo(2);
+        assertThat(clusterState.getRoutingNodes().node("node2").numberOfShardsWithState(STARTED)).isEqualTo(2);
+        return clusterState;
+    }
+
+    /**
+     * Assigns a write load to all shards of node1, the shards of node2 have no write load
+     */
+    private Set<ShardId> makeShardsOfNode1Hot(ClusterState clusterState) {
+        Set<ShardId> hotShards = new HashSet<>();
+        ImmutableOpenMap.Builder<String, Double> writeLoads = ImmutableOpenMap.builder();
+        for (ShardRouting shard : clusterState.getRoutingNodes().node("node1")) {
+            hotShards.add(shard.shardId());
+            writeLoads.put(shard.shardId() + "[p]", 100.0);
+        }
+        clusterInfo.set(new ClusterInfo(
+            ImmutableOpenMap.of(),
+            ImmutableOpenMap.of(),
+            ImmutableOpenMap.of(),
+            ImmutableOpenMap.of(),
+            ImmutableOpenMap.of(),
+            writeLoads.build()
+        ));
+        return hotShards;
+    }
+
+    public void testHotShardsAreSpreadAcrossNodes() {
+        MockAllocationService allocationService = createAllocationService(Settings.builder()
+            .put(BalancedShardsAllocator.WRITE_LOAD_BALANCE_FACTOR_SETTING.getKey(), 1.0f));
+        ClusterState clusterState = startCluster(allocationService);
+        Set<ShardId> hotShards = makeShardsOfNode1Hot(clusterState);
+
+        clusterState = allocationService.reroute(clusterState, "reroute");
+        assertThat(clusterState.getRoutingNodes().shardsWithState(RELOCATING)).hasSize(1);
+        clusterState = startInitializingShardsAndReroute(allocationService, clusterState);
+        assertThat(clusterState.getRoutingNodes().shardsWithState(RELOCATING)).isEmpty();
+
+        for (String nodeId : new String[] { "node1", "node2" }) {
+            assertThat(clusterState.getRoutingNodes().node(nodeId).copyShards())
+                .filteredOn(shard -> hotShards.contains(shard.shardId()))
+                .hasSize(1);
+        }
+    }
+
+    public void testWriteLoadIsIgnoredByDefault() {
+        MockAllocationService allocationService = createAllocationService(Settings.builder());
+        ClusterState clusterState = startCluster(allocationService);
+        makeShardsOfNode1Hot(clusterState);
+
+        clusterState = allocationService.reroute(clusterState, "reroute");
+        assertThat(clusterState.getRoutingNodes().shardsWithState(RELOCATING)).isEmpty();
+    }
+}
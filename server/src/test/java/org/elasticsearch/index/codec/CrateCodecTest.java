@@ -0,0 +1,64 @@
+/*
+ * Licensed to Crate.io GmbH ("Crate") under one or more contributor
+ * license agreements.  See the NOTICE file distributed with this work for
+ * additional information regarding copyright ownership.  Crate licenses
+ * this file to you under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.  You may
+ * obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * However, if you have executed another commercial license agreement
+ * with Crate these terms will supersede the license and you may use the
+ * software solely pursuant to the terms of the relevant commercial agreement.
+ */
+
+package org.elasticsearch.index.codec;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.apache.lucene.codecs.KnnVectorsFormat;
+import org.elasticsearch.common.settings.Settings;
+import org.junit.Test;
+
+public class CrateCodecTest {
+
+    @Test
+    public void test_default_vectors_format_is_hnsw_without_quantization() {
+        KnnVectorsFormat format = CrateCodec.knnVectorsFormat(Settings.EMPTY);
+        assertThat(format.getName()).isEqualTo("Lucene99HnswVectorsFormat");
+        assertThat(format.toString()).contains("maxConn=16", "beamWidth=100");
+    }
+
+    @Test
+    public void test_vectors_format_uses_hnsw_parameters_and_quantization_of_settings() {
+        Settings settings = Settings.builder()
+            .put(CrateCodec.INDEX_VECTOR_HNSW_M_SETTING.getKey(), 32)
+            .put(CrateCodec.INDEX_VECTOR_HNSW_EF_CONSTRUCTION_SETTING.getKey(), 200)
+            .put(CrateCodec.INDEX_VECTOR_QUANTIZATION_SETTING.getKey(), "int4")
+            .build();
+        KnnVectorsFormat format = CrateCodec.knnVectorsFormat(settings);
+        assertThat(format.getName()).isEqualTo("Lucene99HnswScalarQuantizedVectorsFormat");
+        assertThat(format.toString()).contains("maxConn=32", "beamWidth=200", "bits=4");
+
+        CrateCodec codec = new CrateCodec(CrateCodec.Mode.BEST_SPEED, format);
+        assertThat(codec.getKnnVectorsFormatForField("x").getName()).isEqualTo(format.getName());
+    }
+
+    @Test
+    public void test_invalid_quantization_is_rejected() {
+        Settings settings = Settings.builder()
+            .put(CrateCodec.INDEX_VECTOR_QUANTIZATION_SETTING.getKey(), "int2")
+            .build();
+        assertThatThrownBy(() -> CrateCodec.knnVectorsFormat(settings))
+            .isExactlyInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("unknown value for [index.vector.quantization] must be one of [none, int8, int4] but was: int2");
+    }
+}
@@ -690,6 +690,50 @@ public class InternalEngineTests extends EngineTestCase {
         latestGetResult.get().close();
     }
 
+    @Test
+    public void test_multi_get_resolves_docs_of_all_segments_in_order_of_gets() throws Exception {
+        final BiFunction<String, Engine.SearcherScope, Searcher> searcherFactory = engine::acquireSearcher;
+        List<ParsedDocument> docs = new ArrayList<>();
+        long[] seqNos = new long[10];
+        for (int i = 0; i < 10; i++) {
+            ParsedDocument doc = testParsedDocument(Integer.toString(i), testDocumentWithTextField(), B_1);
+            seqNos[i] = engine.index(indexForDoc(doc)).getSeqNo();
+            docs.add(doc);
+            if (i % 3 == 0) {
+                engine.refresh("test");
+            }
+        }
+        engine.refresh("test");
+
+        // not refreshed, so it is resolved through the version map
+        ParsedDocument updated = testParsedDocument("4", testDocumentWithTextField(), B_2);
+        long updatedSeqNo = engine.index(indexForDoc(updated)).getSeqNo();
+
+        List<Engine.Get> gets = List.of(
+            newGet(docs.get(7)),
+            new Engine.Get("missing", newUid("missing")),
+            newGet(docs.get(2)),
+            newGet(updated),
+            newGet(docs.get(0))
+        );
+        try (Engine.MultiGetResult result = engine.multiGet(gets, searcherFactory)) {
+            assertThat(result.size()).isEqualTo(5);
+            assertThat(result.get(0).docIdAndVersion().seqNo).isEqualTo(seqNos[7]);
+            assertThat(result.get(1).docIdAndVersion()).isNull();
+            assertThat(result.get(2).docIdAndVersion().seqNo).isEqualTo(seqNos[2]);
+            assertThat(result.get(3).docIdAndVersion().seqNo).isEqualTo(updatedSeqNo);
+            assertThat(result.get(3).docIdAndVersion().version).isEqualTo(2L);
+            assertThat(result.get(4).docIdAndVersion().seqNo).isEqualTo(seqNos[0]);
+            assertThat(result.get(4).docIdAndVersion().primaryTerm).isEqualTo(primaryTerm.get());
+        }
+
+        Engine.Get conflictingGet = newGet(docs.get(5))
+            .setIfSeqNo(seqNos[5] + 100)
+            .setIfPrimaryTerm(primaryTerm.get());
+        assertThatThrownBy(() -> engine.multiGet(List.of(newGet(updated), conflictingGet), searcherFactory))
+            .isExactlyInstanceOf(VersionConflictEngineException.class);
+    }
+
     @Test
     public void testSimpleOperations() throws Exception {
         engine.refresh("warm_up");
@@ -3023,7 +3067,8 @@ public class InternalEngineTests extends EngineTestCase {
             () -> UNASSIGNED_SEQ_NO,
             () -> RetentionLeases.EMPTY,
             primaryTerm::get,
-            tombstoneDocSupplier()
+            tombstoneDocSupplier(),
+            null
         );
         assertThatThrownBy(() -> new InternalEngine(brokenConfig))
             .isExactlyInstanceOf(EngineCreationFailureException.class);
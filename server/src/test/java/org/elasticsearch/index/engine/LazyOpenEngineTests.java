@@ -0,0 +1,68 @@
+/*
+ * Licensed to Crate.io GmbH ("Crate") under one or more contributor
+ * license agreements.  See the NOTICE file distributed with this work for
+ * additional information regarding copyright ownership.  Crate licenses
+ * this file to you under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.  You may
+ * obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * However, if you have executed another commercial license agreement
+ * with Crate these terms will supersede the license and you may use the
+ * software solely pursuant to the terms of the relevant commercial agreement.
+ */
+
+
+package org.elasticsearch.index.engine;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.elasticsearch.common.bytes.BytesArray;
+import org.elasticsearch.index.mapper.ParsedDocument;
+import org.elasticsearch.index.seqno.SequenceNumbers;
+import org.elasticsearch.index.store.Store;
+import org.junit.Test;
+
+import io.crate.common.io.IOUtils;
+
+public class LazyOpenEngineTests extends EngineTestCase {
+
+    @Test
+    public void test_reader_is_opened_on_first_searcher_acquisition() throws Exception {
+        IOUtils.close(engine, store);
+        AtomicLong globalCheckpoint = new AtomicLong(SequenceNumbers.NO_OPS_PERFORMED);
+        try (Store store = createStore()) {
+            EngineConfig config = config(defaultSettings, store, createTempDir(), newMergePolicy(), null, null, globalCheckpoint::get);
+            int numDocs = scaledRandomIntBetween(10, 100);
+            try (InternalEngine engine = createEngine(config)) {
+                for (int i = 0; i < numDocs; i++) {
+                    ParsedDocument doc = testParsedDocument(Integer.toString(i), testDocument(), new BytesArray("{}"));
+                    engine.index(indexForDoc(doc));
+                }
+                engine.syncTranslog();
+                globalCheckpoint.set(engine.getPersistedLocalCheckpoint());
+                engine.flush();
+            }
+            try (LazyOpenEngine lazyEngine = new LazyOpenEngine(config)) {
+                assertThat(lazyEngine.isReaderOpen()).isFalse();
+                assertThat(lazyEngine.docStats().getCount()).isEqualTo(numDocs);
+                assertThat(lazyEngine.isReaderOpen()).isFalse();
+
+                try (Engine.Searcher searcher = lazyEngine.acquireSearcher("test")) {
+                    assertThat(searcher.getIndexReader().numDocs()).isEqualTo(numDocs);
+                }
+                assertThat(lazyEngine.isReaderOpen()).isTrue();
+                assertThat(lazyEngine.docStats().getCount()).isEqualTo(numDocs);
+            }
+        }
+    }
+}
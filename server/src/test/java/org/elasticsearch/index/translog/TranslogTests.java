@@ -105,6 +105,9 @@ import org.elasticsearch.common.unit.ByteSizeUnit;
 import org.elasticsearch.common.unit.ByteSizeValue;
 import org.elasticsearch.common.util.concurrent.RejectableRunnable;
 import org.elasticsearch.common.util.concurrent.ReleasableLock;
+import org.elasticsearch.common.xcontent.XContentBuilder;
+import org.elasticsearch.common.xcontent.XContentFactory;
+import org.elasticsearch.common.xcontent.XContentType;
 import org.elasticsearch.index.IndexSettings;
 import org.elasticsearch.index.VersionType;
 import org.elasticsearch.index.engine.Engine;
@@ -2945,6 +2948,29 @@ public class TranslogTests extends ESTestCase {
         return new Translog.Location(randomLong(), randomLong(), randomInt());
     }
 
+    @Test
+    public void test_smile_source_is_sent_as_json_to_nodes_before_6_0() throws Exception {
+        XContentBuilder builder = XContentFactory.builder(XContentType.SMILE, new BytesStreamOutput());
+        builder.startObject().field("1", 10).field("2", "foo").endObject();
+        Translog.Index index = new Translog.Index("1", 0, primaryTerm.get(), BytesReference.toBytes(BytesReference.bytes(builder)));
+
+        BytesStreamOutput out = new BytesStreamOutput();
+        out.setVersion(Version.V_5_10_5);
+        Translog.Operation.writeOperation(out, index);
+        StreamInput in = out.bytes().streamInput();
+        in.setVersion(Version.V_5_10_5);
+        Translog.Index serializedIndex = (Translog.Index) Translog.Operation.readOperation(in);
+        assertThat(serializedIndex.getSource().utf8ToString()).isEqualTo("{\"1\":10,\"2\":\"foo\"}");
+        assertThat(serializedIndex.id()).isEqualTo("1");
+
+        out = new BytesStreamOutput();
+        out.setVersion(Version.V_6_0_0);
+        Translog.Operation.writeOperation(out, index);
+        in = out.bytes().streamInput();
+        in.setVersion(Version.V_6_0_0);
+        assertThat(Translog.Operation.readOperation(in)).isEqualTo(index);
+    }
+
     @Test
     public void testTranslogOpSerialization() throws Exception {
         BytesReference B_1 = new BytesArray(new byte[]{1});
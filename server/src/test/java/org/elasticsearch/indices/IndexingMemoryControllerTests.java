@@ -393,7 +393,7 @@ public class IndexingMemoryControllerTests extends IndexShardTestCase {
                                 config.getQueryCachingPolicy(), config.getTranslogConfig(), config.getFlushMergesAfter(),
                                 config.getExternalRefreshListeners(), internalRefreshListeners,
                                 config.getCircuitBreakerService(), config.getGlobalCheckpointSupplier(), config.retentionLeasesSupplier(),
-                                config.getPrimaryTermSupplier(), config.getTombstoneDocSupplier());
+                                config.getPrimaryTermSupplier(), config.getTombstoneDocSupplier(), config.getIndexSort());
     }
 
     ThreadPoolStats.Stats getRefreshThreadPoolStats() {
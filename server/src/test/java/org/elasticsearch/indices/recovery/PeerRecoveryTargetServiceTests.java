@@ -20,17 +20,23 @@
 package org.elasticsearch.indices.recovery;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.elasticsearch.index.seqno.SequenceNumbers.UNASSIGNED_SEQ_NO;
 
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 import java.util.stream.LongStream;
 
@@ -50,6 +56,7 @@ import org.elasticsearch.common.settings.Settings;
 import org.elasticsearch.common.util.concurrent.FutureUtils;
 import org.elasticsearch.common.xcontent.XContentType;
 import org.elasticsearch.index.engine.NoOpEngine;
+import org.elasticsearch.index.mapper.MapperException;
 import org.elasticsearch.index.mapper.SourceToParse;
 import org.elasticsearch.index.seqno.SeqNoStats;
 import org.elasticsearch.index.seqno.SequenceNumbers;
@@ -362,4 +369,106 @@ public class PeerRecoveryTargetServiceTests extends IndexShardTestCase {
         recoveryTarget.decRef();
         closeShards(shard);
     }
+
+    @Test
+    public void test_partition_operations_by_id_keeps_order_per_document() {
+        List<Translog.Operation> operations = new ArrayList<>();
+        int numOps = randomIntBetween(10, 200);
+        for (int seqNo = 0; seqNo < numOps; seqNo++) {
+            if (rarely()) {
+                operations.add(new Translog.NoOp(seqNo, 1, "test"));
+            } else {
+                String id = Integer.toString(randomIntBetween(0, 20));
+                operations.add(new Translog.Index(id, seqNo, 1, new byte[] {'{', '}'}));
+            }
+        }
+        int numPartitions = randomIntBetween(2, 8);
+        List<List<Translog.Operation>> partitions = PeerRecoveryTargetService.partitionById(operations, numPartitions);
+
+        assertThat(partitions).hasSizeLessThanOrEqualTo(numPartitions);
+        assertThat(partitions).allSatisfy(partition -> assertThat(partition).isNotEmpty());
+        assertThat(partitions.stream().mapToInt(List::size).sum()).isEqualTo(numOps);
+        for (List<Translog.Operation> partition : partitions) {
+            assertThat(partition).isSortedAccordingTo((a, b) -> Long.compare(a.seqNo(), b.seqNo()));
+        }
+        for (Translog.Operation operation : operations) {
+            if (operation instanceof Translog.Index index) {
+                long partitionsWithId = partitions.stream()
+                    .filter(p -> p.stream().anyMatch(op -> op instanceof Translog.Index i && i.id().equals(index.id())))
+                    .count();
+                assertThat(partitionsWithId).isEqualTo(1L);
+            }
+        }
+        assertThat(PeerRecoveryTargetService.partitionById(operations, 1)).containsExactly(operations);
+    }
+
+    @Test
+    public void test_apply_partitions_retries_only_the_partition_failing_on_mapping_update() throws Exception {
+        List<List<Translog.Operation>> partitions = List.of(
+            List.of(new Translog.Index("1", 0, 1, new byte[] {'{', '}'})),
+            List.of(new Translog.Index("2", 1, 1, new byte[] {'{', '}'})),
+            List.of(new Translog.Index("3", 2, 1, new byte[] {'{', '}'}))
+        );
+        List<Translog.Operation> failingPartition = partitions.get(1);
+        Map<List<Translog.Operation>, AtomicInteger> applied = new ConcurrentHashMap<>();
+        AtomicLong mappingVersionOnTarget = new AtomicLong(1L);
+        AtomicInteger mappingWaits = new AtomicInteger();
+        AtomicInteger responses = new AtomicInteger();
+        List<Exception> failures = new ArrayList<>();
+
+        PeerRecoveryTargetService.applyPartitions(
+            partitions,
+            Runnable::run,
+            partition -> {
+                int attempt = applied.computeIfAbsent(partition, p -> new AtomicInteger()).incrementAndGet();
+                if (partition == failingPartition && attempt == 1) {
+                    throw new MapperException("mapping update required");
+                }
+            },
+            mappingVersionOnTarget::get,
+            2L,
+            (e, retryListener) -> {
+                mappingWaits.incrementAndGet();
+                mappingVersionOnTarget.set(2L);
+                retryListener.onResponse(null);
+            },
+            ActionListener.wrap(ignored -> responses.incrementAndGet(), failures::add)
+        );
+
+        assertThat(failures).isEmpty();
+        assertThat(responses.get()).isEqualTo(1);
+        assertThat(mappingWaits.get()).isEqualTo(1);
+        assertThat(applied.get(partitions.get(0)).get()).isEqualTo(1);
+        assertThat(applied.get(failingPartition).get()).isEqualTo(2);
+        assertThat(applied.get(partitions.get(2)).get()).isEqualTo(1);
+    }
+
+    @Test
+    public void test_apply_partitions_fails_on_mapping_exception_if_target_mapping_is_up_to_date() throws Exception {
+        List<List<Translog.Operation>> partitions = List.of(
+            List.of(new Translog.Index("1", 0, 1, new byte[] {'{', '}'})),
+            List.of(new Translog.Index("2", 1, 1, new byte[] {'{', '}'}))
+        );
+        AtomicInteger mappingWaits = new AtomicInteger();
+        PlainFuture<Void> future = new PlainFuture<>();
+
+        PeerRecoveryTargetService.applyPartitions(
+            partitions,
+            Runnable::run,
+            partition -> {
+                if (partition == partitions.get(0)) {
+                    throw new MapperException("mapping update required");
+                }
+            },
+            () -> 2L,
+            2L,
+            (e, retryListener) -> mappingWaits.incrementAndGet(),
+            future
+        );
+
+        assertThatThrownBy(future::get)
+            .isExactlyInstanceOf(ExecutionException.class)
+            .hasCauseExactlyInstanceOf(MapperException.class);
+        assertThat(mappingWaits.get()).isEqualTo(0);
+    }
 }
@@ -0,0 +1,75 @@
+/*
+ * Licensed to Crate.io GmbH ("Crate") under one or more contributor
+ * license agreements.  See the NOTICE file distributed with this work for
+ * additional information regarding copyright ownership.  Crate licenses
+ * this file to you under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.  You may
+ * obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * However, if you have executed another commercial license agreement
+ * with Crate these terms will supersede the license and you may use the
+ * software solely pursuant to the terms of the relevant commercial agreement.
+ */
+
+
+package org.elasticsearch.indices.recovery;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import java.util.concurrent.TimeUnit;
+
+import org.elasticsearch.common.settings.ClusterSettings;
+import org.elasticsearch.common.settings.Settings;
+import org.elasticsearch.test.ESTestCase;
+import org.junit.Test;
+
+public class RecoverySettingsTests extends ESTestCase {
+
+    private static final long FAST = TimeUnit.MILLISECONDS.toNanos(10);
+    private static final long SLOW = TimeUnit.SECONDS.toNanos(1);
+
+    @Test
+    public void test_adaptive_throttle_adjusts_rate_to_file_chunk_round_trips() {
+        ClusterSettings clusterSettings = new ClusterSettings(Settings.EMPTY, ClusterSettings.BUILT_IN_CLUSTER_SETTINGS);
+        RecoverySettings recoverySettings = new RecoverySettings(
+            Settings.builder()
+                .put(RecoverySettings.INDICES_RECOVERY_MAX_BYTES_PER_SEC_SETTING.getKey(), "40mb")
+                .put(RecoverySettings.INDICES_RECOVERY_ADAPTIVE_THROTTLE_SETTING.getKey(), true)
+                .build(),
+            clusterSettings
+        );
+        double base = recoverySettings.rateLimiter().getMBPerSec();
+
+        recoverySettings.onFileChunkRoundTrip(FAST);
+        assertThat(recoverySettings.rateLimiter().getMBPerSec()).isCloseTo(base * 1.05, within(0.001));
+
+        recoverySettings.onFileChunkRoundTrip(SLOW);
+        assertThat(recoverySettings.rateLimiter().getMBPerSec()).isCloseTo(base * 1.05 * 0.75, within(0.001));
+
+        for (int i = 0; i < 20; i++) {
+            recoverySettings.onFileChunkRoundTrip(SLOW);
+        }
+        assertThat(recoverySettings.rateLimiter().getMBPerSec()).isCloseTo(base / 4, within(0.001));
+
+        for (int i = 0; i < 500; i++) {
+            recoverySettings.onFileChunkRoundTrip(FAST);
+        }
+        assertThat(recoverySettings.rateLimiter().getMBPerSec()).isCloseTo(base * 10, within(0.001));
+
+        clusterSettings.applySettings(Settings.builder()
+            .put(RecoverySettings.INDICES_RECOVERY_ADAPTIVE_THROTTLE_SETTING.getKey(), false)
+            .build());
+        assertThat(recoverySettings.rateLimiter().getMBPerSec()).isCloseTo(base, within(0.001));
+        recoverySettings.onFileChunkRoundTrip(SLOW);
+        assertThat(recoverySettings.rateLimiter().getMBPerSec()).isCloseTo(base, within(0.001));
+    }
+}
@@ -40,6 +40,7 @@ import org.elasticsearch.cluster.routing.ShardRouting;
 import org.elasticsearch.cluster.routing.ShardRoutingHelper;
 import org.elasticsearch.cluster.service.ClusterService;
 import org.elasticsearch.common.UUIDs;
+import org.elasticsearch.common.blobstore.BlobContainer;
 import org.elasticsearch.common.settings.ClusterSettings;
 import org.elasticsearch.common.settings.Settings;
 import org.elasticsearch.common.util.concurrent.TestFutureUtils;
@@ -153,6 +154,66 @@ public class BlobStoreRepositoryRestoreTests extends IndexShardTestCase {
         }
     }
 
+    @Test
+    public void test_restore_snapshot_of_files_uploaded_concurrently_in_several_parts() throws Exception {
+        final IndexId indexId = new IndexId(randomAlphaOfLength(10), UUIDs.randomBase64UUID());
+        final ShardId shardId = new ShardId(indexId.getName(), indexId.getId(), 0);
+
+        IndexShard shard = newShard(shardId, true);
+        try {
+            recoverShardFromStore(shard);
+            final int numDocs = scaledRandomIntBetween(100, 500);
+            for (int i = 0; i < numDocs; i++) {
+                indexDoc(shard, Integer.toString(i));
+            }
+            flushShard(shard, true);
+            assertDocCount(shard, numDocs);
+
+            final Repository repository = createRepository(Settings.builder()
+                .put(FsRepository.CHUNK_SIZE_SETTING.getKey(), "256b")
+                .put(BlobStoreRepository.MAX_CONCURRENT_TRANSFERS_SETTING.getKey(), 4)
+                .build());
+            final Snapshot snapshot = new Snapshot(repository.getMetadata().name(), new SnapshotId(randomAlphaOfLength(10), "_uuid"));
+            snapshotShard(shard, snapshot, repository);
+
+            final BlobContainer shardContainer = ((BlobStoreRepository) repository).shardContainer(indexId, shardId.id());
+            assertThat(shardContainer.listBlobs().keySet()).anyMatch(name -> name.endsWith(".part1"));
+
+            final Store.MetadataSnapshot storeFiles = shard.snapshotStoreMetadata();
+            closeShards(shard);
+            for (StoreFileMetadata storeFile : storeFiles) {
+                Files.delete(shard.shardPath().resolveIndex().resolve(storeFile.name()));
+            }
+
+            ShardRouting shardRouting = ShardRoutingHelper.initWithSameId(shard.routingEntry(),
+                                                                          RecoverySource.ExistingStoreRecoverySource.INSTANCE);
+            shard = newShard(
+                shardRouting,
+                shard.shardPath(),
+                shard.indexSettings().getIndexMetadata(),
+                null,
+                List.of(),
+                () -> {},
+                RetentionLeaseSyncer.EMPTY,
+                EMPTY_EVENT_LISTENER
+            );
+            recoverShardFromSnapshot(shard, snapshot, repository);
+
+            TestUtil.checkIndex(shard.store().directory());
+            for (StoreFileMetadata storeFile : storeFiles) {
+                assertThat(shard.store().directory().fileLength(storeFile.name())).isEqualTo(storeFile.length());
+            }
+        } finally {
+            if (shard != null && shard.state() != IndexShardState.CLOSED) {
+                try {
+                    shard.close("test", false);
+                } finally {
+                    IOUtils.close(shard.store());
+                }
+            }
+        }
+    }
+
     public void testSnapshotWithConflictingName() throws Exception {
         final IndexId indexId = new IndexId(randomAlphaOfLength(10), UUIDs.randomBase64UUID());
         final ShardId shardId = new ShardId(indexId.getName(), indexId.getId(), 0);
@@ -203,7 +264,14 @@ public class BlobStoreRepositoryRestoreTests extends IndexShardTestCase {
 
     /** Create a {@link Repository} with a random name **/
     private Repository createRepository() {
-        Settings settings = Settings.builder().put("location", randomAlphaOfLength(10)).build();
+        return createRepository(Settings.EMPTY);
+    }
+
+    private Repository createRepository(Settings repositorySettings) {
+        Settings settings = Settings.builder()
+            .put("location", randomAlphaOfLength(10))
+            .put(repositorySettings)
+            .build();
         RepositoryMetadata repositoryMetadata = new RepositoryMetadata(randomAlphaOfLength(10), FsRepository.TYPE, settings);
         final ClusterService clusterService = BlobStoreTestUtil.mockClusterService(repositoryMetadata);
         final FsRepository repository = new FsRepository(repositoryMetadata, createEnvironment(), writableRegistry(), xContentRegistry(), clusterService,
@@ -0,0 +1,176 @@
+/*
+ * Licensed to Crate.io GmbH ("Crate") under one or more contributor
+ * license agreements.  See the NOTICE file distributed with this work for
+ * additional information regarding copyright ownership.  Crate licenses
+ * this file to you under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.  You may
+ * obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * However, if you have executed another commercial license agreement
+ * with Crate these terms will supersede the license and you may use the
+ * software solely pursuant to the terms of the relevant commercial agreement.
+ */
+
+
+package org.elasticsearch.repositories.blobstore;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.zip.CRC32;
+
+import org.apache.lucene.codecs.CodecUtil;
+import org.apache.lucene.index.CorruptIndexException;
+import org.apache.lucene.store.ByteArrayDataInput;
+import org.apache.lucene.store.ByteBuffersDataOutput;
+import org.apache.lucene.store.ByteBuffersIndexOutput;
+import org.apache.lucene.store.IndexOutput;
+import org.elasticsearch.Version;
+import org.elasticsearch.common.unit.ByteSizeUnit;
+import org.elasticsearch.common.unit.ByteSizeValue;
+import org.elasticsearch.index.snapshots.blobstore.BlobStoreIndexShardSnapshot.FileInfo;
+import org.elasticsearch.index.store.Store;
+import org.elasticsearch.index.store.StoreFileMetadata;
+import org.elasticsearch.test.ESTestCase;
+import org.junit.Test;
+
+public class FilePartsChecksumTest extends ESTestCase {
+
+    private static byte[] luceneFile(int numBytes) throws IOException {
+        ByteBuffersDataOutput dataOutput = new ByteBuffersDataOutput();
+        try (IndexOutput output = new ByteBuffersIndexOutput(dataOutput, "test", "foo.bar")) {
+            byte[] bytes = randomByteArrayOfLength(numBytes);
+            output.writeBytes(bytes, bytes.length);
+            CodecUtil.writeFooter(output);
+        }
+        return dataOutput.toArrayCopy();
+    }
+
+    private static FileInfo fileInfo(byte[] file, long partSize) throws IOException {
+        long checksum = CodecUtil.readBELong(new ByteArrayDataInput(file, file.length - 8, 8));
+        StoreFileMetadata metadata = new StoreFileMetadata(
+            "foo.bar",
+            file.length,
+            Store.digestToString(checksum),
+            Version.CURRENT.luceneVersion
+        );
+        return new FileInfo("_0", metadata, new ByteSizeValue(partSize, ByteSizeUnit.BYTES));
+    }
+
+    /**
+     * Reads the parts in random order, re-reading some bytes of each part after a mark/reset
+     */
+    private static void readParts(byte[] file, FileInfo fileInfo, FilePartsChecksum checksum) throws IOException {
+        List<Integer> parts = new ArrayList<>();
+        for (int part = 0; part < fileInfo.numberOfParts(); part++) {
+            parts.add(part);
+        }
+        Collections.shuffle(parts, random());
+        int remaining = parts.size();
+        for (int part : parts) {
+            int offset = (int) (fileInfo.partBytes(0) * part);
+            int partBytes = (int) fileInfo.partBytes(part);
+            InputStream in = checksum.wrap(part, new ByteArrayInputStream(file, offset, partBytes));
+            in.mark(partBytes);
+            in.readNBytes(randomIntBetween(0, partBytes));
+            in.reset();
+            if (randomBoolean()) {
+                in.skip(randomIntBetween(0, partBytes));
+            }
+            while (in.read() >= 0 && randomBoolean()) {
+                // read some bytes one by one
+            }
+            in.readAllBytes();
+            remaining--;
+            assertThat(checksum.onPartUploaded()).isEqualTo(remaining == 0);
+        }
+    }
+
+    @Test
+    public void test_checksum_of_parts_uploaded_in_any_order_is_verified() throws IOException {
+        byte[] file = luceneFile(randomIntBetween(100, 10_000));
+        // Covers parts which only contain a piece of the footer checksum
+        long partSize = randomFrom(7L, 13L, (long) randomIntBetween(1, file.length - 1));
+        FileInfo fileInfo = fileInfo(file, partSize);
+        FilePartsChecksum checksum = new FilePartsChecksum(fileInfo);
+
+        readParts(file, fileInfo, checksum);
+
+        checksum.verify();
+    }
+
+    @Test
+    public void test_corrupted_part_fails_verification() throws IOException {
+        byte[] file = luceneFile(randomIntBetween(100, 10_000));
+        FileInfo fileInfo = fileInfo(file, randomIntBetween(1, file.length - 1));
+        byte[] corrupted = file.clone();
+        corrupted[randomIntBetween(0, file.length - 1)] ^= 1;
+        FilePartsChecksum checksum = new FilePartsChecksum(fileInfo);
+
+        readParts(corrupted, fileInfo, checksum);
+
+        assertThatThrownBy(checksum::verify)
+            .isExactlyInstanceOf(CorruptIndexException.class)
+            .hasMessageContaining("checksum failed");
+    }
+
+    @Test
+    public void test_incompletely_uploaded_part_fails_verification() throws IOException {
+        byte[] file = luceneFile(100);
+        FileInfo fileInfo = fileInfo(file, 40);
+        FilePartsChecksum checksum = new FilePartsChecksum(fileInfo);
+        for (int part = 0; part < fileInfo.numberOfParts(); part++) {
+            int offset = (int) (fileInfo.partBytes(0) * part);
+            int partBytes = (int) fileInfo.partBytes(part);
+            int bytesToRead = part == 1 ? partBytes - 1 : partBytes;
+            checksum.wrap(part, new ByteArrayInputStream(file, offset, partBytes)).readNBytes(bytesToRead);
+            checksum.onPartUploaded();
+        }
+
+        assertThatThrownBy(checksum::verify)
+            .isExactlyInstanceOf(CorruptIndexException.class)
+            .hasMessageContaining("expected to upload 40 bytes of part 1 but got 39");
+    }
+
+    @Test
+    public void test_failed_file_is_only_accounted_once() {
+        FilePartsChecksum checksum = new FilePartsChecksum(new FileInfo(
+            "_0",
+            new StoreFileMetadata("foo.bar", 100, "abc", Version.CURRENT.luceneVersion),
+            new ByteSizeValue(10, ByteSizeUnit.BYTES)
+        ));
+        assertThat(checksum.onPartUploaded()).isFalse();
+        assertThat(checksum.onPartFailed()).isTrue();
+        assertThat(checksum.onPartFailed()).isFalse();
+        assertThat(checksum.onPartUploaded()).isFalse();
+    }
+
+    @Test
+    public void test_crc32_combine() {
+        byte[] bytes = randomByteArrayOfLength(randomIntBetween(0, 10_000));
+        int split = randomIntBetween(0, bytes.length);
+        CRC32 all = new CRC32();
+        all.update(bytes);
+        CRC32 first = new CRC32();
+        first.update(bytes, 0, split);
+        CRC32 second = new CRC32();
+        second.update(bytes, split, bytes.length - split);
+
+        long combined = FilePartsChecksum.crc32Combine(first.getValue(), second.getValue(), bytes.length - split);
+        assertThat(combined).isEqualTo(all.getValue());
+    }
+}
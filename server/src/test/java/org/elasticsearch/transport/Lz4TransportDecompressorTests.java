@@ -0,0 +1,153 @@
+/*
+ * Licensed to Crate.io GmbH ("Crate") under one or more contributor
+ * license agreements.  See the NOTICE file distributed with this work for
+ * additional information regarding copyright ownership.  Crate licenses
+ * this file to you under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.  You may
+ * obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * However, if you have executed another commercial license agreement
+ * with Crate these terms will supersede the license and you may use the
+ * software solely pursuant to the terms of the relevant commercial agreement.
+ */
+
+package org.elasticsearch.transport;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.elasticsearch.common.bytes.BytesArray;
+import org.elasticsearch.common.bytes.BytesReference;
+import org.elasticsearch.common.bytes.CompositeBytesReference;
+import org.elasticsearch.common.bytes.ReleasableBytesReference;
+import org.elasticsearch.common.io.Streams;
+import org.elasticsearch.common.io.stream.BytesStreamOutput;
+import org.elasticsearch.common.io.stream.OutputStreamStreamOutput;
+import org.elasticsearch.common.io.stream.StreamInput;
+import org.elasticsearch.common.io.stream.StreamOutput;
+import org.elasticsearch.common.lease.Releasables;
+import org.elasticsearch.common.util.PageCacheRecycler;
+import org.elasticsearch.test.ESTestCase;
+import org.junit.Test;
+
+public class Lz4TransportDecompressorTests extends ESTestCase {
+
+    @Test
+    public void test_simple_compression() throws IOException {
+        try (BytesStreamOutput output = new BytesStreamOutput()) {
+            byte randomByte = randomByte();
+            try (OutputStream lz4Stream = Lz4BlockOutputStream.threadLocalOutputStream(Streams.flushOnCloseStream(output))) {
+                lz4Stream.write(randomByte);
+            }
+
+            BytesReference bytes = output.bytes();
+
+            TransportDecompressor decompressor = TransportDecompressor.getDecompressor(
+                PageCacheRecycler.NON_RECYCLING_INSTANCE,
+                bytes
+            );
+            assertThat(decompressor).isExactlyInstanceOf(Lz4TransportDecompressor.class);
+            int bytesConsumed = decompressor.decompress(bytes);
+            assertThat(bytesConsumed).isEqualTo(bytes.length());
+            assertThat(decompressor.isEOS()).isTrue();
+            ReleasableBytesReference releasableBytesReference = decompressor.pollDecompressedPage();
+            assertThat(releasableBytesReference.length()).isEqualTo(1);
+            assertThat(releasableBytesReference.get(0)).isEqualTo(randomByte);
+            releasableBytesReference.close();
+            decompressor.close();
+        }
+    }
+
+    @Test
+    public void test_multi_block_compression() throws IOException {
+        int numInts = 100_000;
+        BytesReference bytes = compressInts(numInts);
+
+        Lz4TransportDecompressor decompressor = new Lz4TransportDecompressor(PageCacheRecycler.NON_RECYCLING_INSTANCE);
+        int bytesConsumed = decompressor.decompress(bytes);
+        assertThat(bytesConsumed).isEqualTo(bytes.length());
+        assertThat(decompressor.isEOS()).isTrue();
+        assertDecompressedInts(decompressor, numInts);
+    }
+
+    @Test
+    public void test_incremental_multi_block_compression() throws IOException {
+        int numInts = 100_000;
+        BytesReference bytes = compressInts(numInts);
+
+        Lz4TransportDecompressor decompressor = new Lz4TransportDecompressor(PageCacheRecycler.NON_RECYCLING_INSTANCE);
+        int offset = 0;
+        while (offset < bytes.length()) {
+            int length = Math.min(randomIntBetween(1, 20_000), bytes.length() - offset);
+            BytesReference inbound = bytes.slice(offset, length);
+            assertThat(decompressor.isEOS()).isFalse();
+            assertThat(decompressor.decompress(inbound)).isEqualTo(length);
+            offset += length;
+        }
+        assertThat(decompressor.isEOS()).isTrue();
+        assertDecompressedInts(decompressor, numInts);
+    }
+
+    @Test
+    public void test_detects_scheme_by_header() throws IOException {
+        assertThat(TransportDecompressor.getDecompressor(
+            PageCacheRecycler.NON_RECYCLING_INSTANCE,
+            new BytesArray(new byte[] { 'L', 'Z' })
+        )).isNull();
+
+        BytesStreamOutput output = new BytesStreamOutput();
+        try (OutputStream stream = Compression.Scheme.DEFLATE.outputStream(Streams.flushOnCloseStream(output))) {
+            stream.write(1);
+        }
+        assertThat(TransportDecompressor.getDecompressor(PageCacheRecycler.NON_RECYCLING_INSTANCE, output.bytes()))
+            .isExactlyInstanceOf(DeflateTransportDecompressor.class);
+
+        assertThatThrownBy(() -> TransportDecompressor.getDecompressor(
+                PageCacheRecycler.NON_RECYCLING_INSTANCE,
+                new BytesArray(new byte[] { 1, 2, 3, 4 })))
+            .isExactlyInstanceOf(IllegalStateException.class)
+            .hasMessageStartingWith("stream marked as compressed, but no compressor found");
+    }
+
+    private static BytesReference compressInts(int numInts) throws IOException {
+        BytesStreamOutput output = new BytesStreamOutput();
+        try (StreamOutput lz4Stream = new OutputStreamStreamOutput(
+                Lz4BlockOutputStream.threadLocalOutputStream(Streams.flushOnCloseStream(output)))) {
+            for (int i = 0; i < numInts; ++i) {
+                lz4Stream.writeInt(i);
+            }
+        }
+        BytesReference bytes = output.bytes();
+        assertThat(bytes.length()).isLessThan(4 * numInts);
+        return bytes;
+    }
+
+    private static void assertDecompressedInts(TransportDecompressor decompressor, int numInts) throws IOException {
+        List<ReleasableBytesReference> pages = new ArrayList<>();
+        ReleasableBytesReference page;
+        while ((page = decompressor.pollDecompressedPage()) != null) {
+            pages.add(page);
+        }
+        BytesReference composite = CompositeBytesReference.of(pages.toArray(new BytesReference[0]));
+        assertThat(composite.length()).isEqualTo(4 * numInts);
+        StreamInput streamInput = composite.streamInput();
+        for (int i = 0; i < numInts; ++i) {
+            assertThat(streamInput.readInt()).isEqualTo(i);
+        }
+        Releasables.close(pages);
+        decompressor.close();
+    }
+}
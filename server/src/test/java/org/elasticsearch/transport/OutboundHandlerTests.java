@@ -42,6 +42,7 @@ import org.elasticsearch.common.bytes.BytesReference;
 import org.elasticsearch.common.bytes.ReleasableBytesReference;
 import org.elasticsearch.common.io.stream.BytesStreamOutput;
 import org.elasticsearch.common.network.CloseableChannel;
+import org.elasticsearch.common.settings.Settings;
 import org.elasticsearch.common.transport.TransportAddress;
 import org.elasticsearch.common.util.BigArrays;
 import org.elasticsearch.common.util.PageCacheRecycler;
@@ -279,4 +280,50 @@ public class OutboundHandlerTests extends ESTestCase {
         assertThat(remoteException.action()).isEqualTo(action);
         assertThat(remoteException.address().address()).isEqualTo(channel.getLocalAddress());
     }
+
+    @Test
+    public void test_compression_policy_compresses_matching_actions_above_min_size() throws IOException {
+        Settings settings = Settings.builder()
+            .put(TransportSettings.TRANSPORT_COMPRESSION_SCHEME.getKey(), "lz4")
+            .putList(TransportSettings.TRANSPORT_COMPRESS_ACTIONS.getKey(), "internal:test/*")
+            .put(TransportSettings.TRANSPORT_COMPRESS_MIN_SIZE.getKey(), "1kb")
+            .build();
+        handler = new OutboundHandler(
+            "node",
+            Version.CURRENT,
+            new StatsTracker(),
+            threadPool,
+            BigArrays.NON_RECYCLING_INSTANCE,
+            new Compression.Policy(settings)
+        );
+        String largeValue = randomAlphaOfLength(4096);
+
+        Tuple<Header, BytesReference> tuple = sendAndReceive("internal:test/action", "message");
+        assertThat(tuple.v1().isCompressed()).isFalse();
+        assertThat(new TestRequest(tuple.v2().streamInput()).value).isEqualTo("message");
+
+        tuple = sendAndReceive("internal:other/action", largeValue);
+        assertThat(tuple.v1().isCompressed()).isFalse();
+        assertThat(new TestRequest(tuple.v2().streamInput()).value).isEqualTo(largeValue);
+
+        tuple = sendAndReceive("internal:test/action", largeValue);
+        assertThat(tuple.v1().isCompressed()).isTrue();
+        assertThat(new TestRequest(tuple.v2().streamInput()).value).isEqualTo(largeValue);
+    }
+
+    private Tuple<Header, BytesReference> sendAndReceive(String action, String value) throws IOException {
+        Version version = Version.CURRENT;
+        handler.sendRequest(node, channel, randomLongBetween(0, 300), action, new TestRequest(value), options, version, false, false);
+
+        ByteBuf msg = (ByteBuf) embeddedChannel.outboundMessages().poll();
+        BytesReference reference = Netty4Utils.toBytesReference(msg);
+        byte status = reference.get(TcpHeader.BYTES_REQUIRED_FOR_MESSAGE_SIZE + TcpHeader.REQUEST_ID_SIZE);
+        if (TransportStatus.isCompress(status)) {
+            int contentStart = TcpHeader.headerSize(version) + reference.getInt(TcpHeader.VARIABLE_HEADER_SIZE_POSITION);
+            assertThat(Compression.Scheme.isLZ4(reference.slice(contentStart, reference.length() - contentStart))).isTrue();
+        }
+        pipeline.handleBytes(channel, new ReleasableBytesReference(reference, () -> {
+        }));
+        return message.get();
+    }
 }
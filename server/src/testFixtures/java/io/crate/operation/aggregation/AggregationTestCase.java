@@ -560,6 +560,7 @@ public abstract class AggregationTestCase extends ESTestCase {
                 queryCache,
                 testAnalysis.indexAnalyzers.getDefaultIndexAnalyzer(),
                 () -> null,
+                () -> null,
                 List.of(),
                 EMPTY_EVENT_LISTENER,
                 threadPool,
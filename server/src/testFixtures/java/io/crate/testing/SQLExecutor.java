@@ -126,6 +126,7 @@ import io.crate.data.testing.TestingRowConsumer;
 import io.crate.execution.ddl.RepositoryService;
 import io.crate.execution.dsl.projection.builder.ProjectionBuilder;
 import io.crate.execution.engine.collect.stats.JobsLogs;
+import io.crate.execution.jobs.ResourceGroups;
 import io.crate.execution.engine.pipeline.LimitAndOffset;
 import io.crate.expression.symbol.SelectSymbol;
 import io.crate.expression.symbol.Symbol;
@@ -215,6 +216,7 @@ public class SQLExecutor {
     public final Cursors cursors = new Cursors();
     public final JobsLogs jobsLogs;
     public final DependencyCarrier dependencyMock;
+    public final ResourceGroups resourceGroups;
     private final PlanStats planStats;
     private final TableStats tableStats;
     public final ForeignDataWrappers foreignDataWrappers;
@@ -484,6 +486,8 @@ public class SQLExecutor {
         this.dependencyMock = mock(DependencyCarrier.class, Answers.RETURNS_MOCKS);
         when(dependencyMock.clusterService()).thenReturn(clusterService);
         when(dependencyMock.schemas()).thenReturn(schemas);
+        this.resourceGroups =
+            new ResourceGroups(clusterService.getSettings(), clusterService.getClusterSettings(), mock(ThreadPool.class));
         this.sqlOperations = new Sessions(
             nodeCtx,
             analyzer,
@@ -492,7 +496,8 @@ public class SQLExecutor {
             jobsLogs,
             clusterService.getSettings(),
             clusterService,
-            sessionSettingRegistry
+            sessionSettingRegistry,
+            resourceGroups
         );
         this.analyzer = analyzer;
         this.planner = planner;
@@ -217,7 +217,8 @@ public abstract class EngineTestCase extends ESTestCase {
             globalCheckpointSupplier,
             config.retentionLeasesSupplier(),
             config.getPrimaryTermSupplier(),
-            tombstoneDocSupplier()
+            tombstoneDocSupplier(),
+            config.getIndexSort()
         );
     }
 
@@ -241,7 +242,8 @@ public abstract class EngineTestCase extends ESTestCase {
             config.getGlobalCheckpointSupplier(),
             config.retentionLeasesSupplier(),
             config.getPrimaryTermSupplier(),
-            config.getTombstoneDocSupplier());
+            config.getTombstoneDocSupplier(),
+            config.getIndexSort());
     }
 
     public EngineConfig copy(EngineConfig config, MergePolicy mergePolicy) {
@@ -264,7 +266,8 @@ public abstract class EngineTestCase extends ESTestCase {
             config.getGlobalCheckpointSupplier(),
             config.retentionLeasesSupplier(),
             config.getPrimaryTermSupplier(),
-            config.getTombstoneDocSupplier()
+            config.getTombstoneDocSupplier(),
+            config.getIndexSort()
         );
     }
 
@@ -703,7 +706,8 @@ public abstract class EngineTestCase extends ESTestCase {
             globalCheckpointSupplier,
             retentionLeasesSupplier,
             primaryTerm,
-            tombstoneDocSupplier());
+            tombstoneDocSupplier(),
+            null);
     }
 
     protected EngineConfig config(EngineConfig config,
@@ -735,7 +739,8 @@ public abstract class EngineTestCase extends ESTestCase {
             config.getGlobalCheckpointSupplier(),
             config.retentionLeasesSupplier(),
             config.getPrimaryTermSupplier(),
-            tombstoneDocSupplier);
+            tombstoneDocSupplier,
+            config.getIndexSort());
     }
 
     protected EngineConfig noOpConfig(IndexSettings indexSettings, Store store, Path translogPath) {
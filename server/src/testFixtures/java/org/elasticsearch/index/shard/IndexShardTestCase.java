@@ -528,6 +528,7 @@ public abstract class IndexShardTestCase extends ESTestCase {
                 queryCache,
                 testAnalysis.indexAnalyzers.getDefaultIndexAnalyzer(),
                 () -> new TranslogIndexer(getDocTable(indexSettings::getIndexMetadata), Version.CURRENT),
+                () -> null,
                 engineFactoryProviders,
                 indexEventListener,
                 threadPool,